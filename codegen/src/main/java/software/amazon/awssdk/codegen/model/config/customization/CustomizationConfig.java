@@ -73,6 +73,12 @@ public class CustomizationConfig {
      */
     private boolean calculateCrc32FromCompressedData;
 
+    /**
+     * Service sends requests to hosts derived from each request rather than to the client's endpoint, like S3 does with
+     * virtual-hosted-style bucket addressing.
+     */
+    private boolean endpointHostVariesPerRequest;
+
     /**
      * Exclude the create() method on a client. This is useful for global services that will need a global region configured to
      * work.
@@ -247,6 +253,14 @@ public class CustomizationConfig {
         this.calculateCrc32FromCompressedData = calculateCrc32FromCompressedData;
     }
 
+    public boolean isEndpointHostVariesPerRequest() {
+        return endpointHostVariesPerRequest;
+    }
+
+    public void setEndpointHostVariesPerRequest(boolean endpointHostVariesPerRequest) {
+        this.endpointHostVariesPerRequest = endpointHostVariesPerRequest;
+    }
+
     public boolean isExcludeClientCreateMethod() {
         return excludeClientCreateMethod;
     }
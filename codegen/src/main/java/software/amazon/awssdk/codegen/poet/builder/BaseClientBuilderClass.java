@@ -154,6 +154,10 @@ public class BaseClientBuilderClass implements ClassSpec {
                                                         + ".CRC32_FROM_COMPRESSED_DATA_ENABLED, $L)",
                                                         SdkClientOption.class, crc32FromCompressedDataEnabled);
 
+        if (model.getCustomizationConfig().isEndpointHostVariesPerRequest()) {
+            builder.addCode(".option($T.ENDPOINT_HOST_VARIES_PER_REQUEST, true)", SdkClientOption.class);
+        }
+
         if (StringUtils.isNotBlank(model.getCustomizationConfig().getCustomRetryPolicy())) {
             builder.addCode(".option($T.RETRY_POLICY, $T.defaultPolicy())", SdkClientOption.class,
                             PoetUtils.classNameFromFqcn(model.getCustomizationConfig().getCustomRetryPolicy()));
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.auth.credentials.internal;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -26,9 +28,13 @@ import software.amazon.awssdk.utils.ToString;
 /**
  * A wrapper for {@link AwsCredentialsProvider} that defers creation of the underlying provider until the first time the
  * {@link AwsCredentialsProvider#resolveCredentials()} method is invoked.
+ *
+ * <p>Creating the delegate may perform I/O, so it is guarded by a {@link ReentrantLock} rather than a monitor, which would pin
+ * the carrier threads of virtual threads waiting for it.
  */
 @SdkInternalApi
 public class LazyAwsCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
+    private final Lock delegateLock = new ReentrantLock();
     private final Supplier<AwsCredentialsProvider> delegateConstructor;
     private volatile AwsCredentialsProvider delegate;
 
@@ -43,10 +49,13 @@ public class LazyAwsCredentialsProvider implements AwsCredentialsProvider, SdkAu
     @Override
     public AwsCredentials resolveCredentials() {
         if (delegate == null) {
-            synchronized (this) {
+            delegateLock.lock();
+            try {
                 if (delegate == null) {
                     delegate = delegateConstructor.get();
                 }
+            } finally {
+                delegateLock.unlock();
             }
         }
         return delegate.resolveCredentials();
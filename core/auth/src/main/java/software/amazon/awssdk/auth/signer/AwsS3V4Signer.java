@@ -19,25 +19,37 @@ import static software.amazon.awssdk.auth.signer.internal.SignerConstant.X_AMZ_C
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Clock;
+import java.time.ZoneOffset;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.CredentialUtils;
 import software.amazon.awssdk.auth.signer.internal.AbstractAws4Signer;
 import software.amazon.awssdk.auth.signer.internal.Aws4SignerRequestParams;
+import software.amazon.awssdk.auth.signer.internal.Aws4SignerUtils;
+import software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingAsyncRequestBody;
 import software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream;
 import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
 import software.amazon.awssdk.auth.signer.params.AwsS3V4SignerParams;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.signer.AsyncRequestBodySigner;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * AWS4 signer implementation for AWS S3
+ * <p>
+ * Request bodies that are streamed asynchronously are never buffered to be signed: when their payload must be signed, they
+ * are sent in aws-chunked encoding with each chunk signed as it is streamed, and when it needn't, they are sent unsigned,
+ * optionally in aws-chunked encoding followed by a trailing checksum of the payload.
  */
 @SdkPublicApi
-public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams, Aws4PresignerParams> {
+public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams, Aws4PresignerParams>
+    implements AsyncRequestBodySigner {
 
     private static final String CONTENT_SHA_256 = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
 
@@ -45,7 +57,18 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
      * Sent to S3 in lieu of a payload hash when unsigned payloads are enabled
      */
     private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    /**
+     * Sent to S3 in lieu of a payload hash when an unsigned payload is sent in aws-chunked encoding with a trailing checksum
+     */
+    private static final String STREAMING_UNSIGNED_PAYLOAD_TRAILER = "STREAMING-UNSIGNED-PAYLOAD-TRAILER";
+
     private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String AWS_CHUNKED = "aws-chunked";
+    private static final String X_AMZ_DATE = "X-Amz-Date";
+    private static final String X_AMZ_DECODED_CONTENT_LENGTH = "x-amz-decoded-content-length";
+    private static final String X_AMZ_TRAILER = "x-amz-trailer";
 
     private AwsS3V4Signer() {
     }
@@ -81,6 +104,10 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
     }
 
     private AwsS3V4SignerParams constructAwsS3SignerParams(ExecutionAttributes executionAttributes) {
+        return awsS3SignerParamsBuilder(executionAttributes).build();
+    }
+
+    private AwsS3V4SignerParams.Builder awsS3SignerParamsBuilder(ExecutionAttributes executionAttributes) {
         AwsS3V4SignerParams.Builder signerParams = extractSignerParams(AwsS3V4SignerParams.builder(),
                                                                              executionAttributes);
 
@@ -90,7 +117,65 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
         Optional.ofNullable(executionAttributes.getAttribute(S3SignerExecutionAttribute.ENABLE_PAYLOAD_SIGNING))
                 .ifPresent(signerParams::enablePayloadSigning);
 
-        return signerParams.build();
+        Optional.ofNullable(executionAttributes.getAttribute(S3SignerExecutionAttribute.TRAILING_CHECKSUM_ALGORITHM))
+                .ifPresent(signerParams::trailingChecksumAlgorithm);
+
+        return signerParams;
+    }
+
+    /**
+     * Encodes an asynchronously streamed request body in aws-chunked encoding if {@link #sign(SdkHttpFullRequest,
+     * ExecutionAttributes)} signed the request for it, with each chunk signed if the payload is signed, or with a trailing
+     * checksum otherwise. Other request bodies are returned as they are.
+     *
+     * @param request The signed request
+     * @param asyncRequestBody Data publisher of the request body
+     * @param executionAttributes Contains the attributes required for signing the request
+     * @return The request body to send
+     */
+    @Override
+    public AsyncRequestBody signAsyncRequestBody(SdkHttpFullRequest request, AsyncRequestBody asyncRequestBody,
+                                                 ExecutionAttributes executionAttributes) {
+        // A request body that isn't streamed asynchronously is chunk-encoded by processRequestPayload, if need be
+        if (asyncRequestBody == null || request.contentStreamProvider().isPresent()) {
+            return asyncRequestBody;
+        }
+
+        String contentSha256 = request.firstMatchingHeader(X_AMZ_CONTENT_SHA256).orElse(null);
+        if (STREAMING_UNSIGNED_PAYLOAD_TRAILER.equals(contentSha256)) {
+            Algorithm checksumAlgorithm = constructAwsS3SignerParams(executionAttributes).trailingChecksumAlgorithm();
+            return AwsChunkedEncodingAsyncRequestBody.unsignedChunksWithTrailingChecksum(asyncRequestBody,
+                                                                                         decodedContentLength(request),
+                                                                                         checksumAlgorithm);
+        }
+        if (!CONTENT_SHA_256.equals(contentSha256)) {
+            return asyncRequestBody;
+        }
+
+        // The chunks must be signed with the date time and the key the request headers were signed with
+        Clock signingClock = request.firstMatchingHeader(X_AMZ_DATE)
+                                    .map(Aws4SignerUtils::parseTimestamp)
+                                    .map(instant -> Clock.fixed(instant, ZoneOffset.UTC))
+                                    .orElseThrow(() -> SdkClientException.create("X-Amz-Date is missing in the signed request."));
+        AwsS3V4SignerParams signingParams = awsS3SignerParamsBuilder(executionAttributes).signingClockOverride(signingClock)
+                                                                                          .build();
+        Aws4SignerRequestParams signerRequestParams = new Aws4SignerRequestParams(signingParams);
+        byte[] signingKey = deriveSigningKey(sanitizeCredentials(signingParams.awsCredentials()), signerRequestParams);
+
+        return AwsChunkedEncodingAsyncRequestBody.signedChunks(asyncRequestBody,
+                                                               decodedContentLength(request),
+                                                               signingKey,
+                                                               signerRequestParams.getFormattedRequestSigningDateTime(),
+                                                               signerRequestParams.getScope(),
+                                                               Aws4SignerUtils.headerSignature(request),
+                                                               this);
+    }
+
+    private static long decodedContentLength(SdkHttpFullRequest request) {
+        return request.firstMatchingHeader(X_AMZ_DECODED_CONTENT_LENGTH)
+                      .map(Long::parseLong)
+                      .orElseThrow(() -> SdkClientException.create(X_AMZ_DECODED_CONTENT_LENGTH
+                                                                   + " is missing in the signed request."));
     }
 
     @Override
@@ -179,6 +264,9 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
                 long originalContentLength;
                 if (contentLength != null) {
                     originalContentLength = Long.parseLong(contentLength);
+                } else if (mutableRequest.contentStreamProvider() == null) {
+                    // An asynchronously streamed request body can't be read ahead of sending it to get its length
+                    throw SdkClientException.create("The length of the request content must be known to sign it in chunks.");
                 } else {
                     /**
                      * "Content-Length" header could be missing if the caller is
@@ -198,7 +286,7 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
                                                 .build();
                     }
                 }
-                mutableRequest.putHeader("x-amz-decoded-content-length", Long.toString(originalContentLength));
+                mutableRequest.putHeader(X_AMZ_DECODED_CONTENT_LENGTH, Long.toString(originalContentLength));
                 // Make sure "Content-Length" header is not empty so that HttpClient
                 // won't cache the stream again to recover Content-Length
                 mutableRequest.putHeader(CONTENT_LENGTH, Long.toString(
@@ -209,6 +297,23 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
             }
         }
 
+        Algorithm trailingChecksumAlgorithm = signerParams.trailingChecksumAlgorithm();
+        Optional<Long> asyncContentLength = asyncContentLength(mutableRequest);
+        if (trailingChecksumAlgorithm != null && asyncContentLength.isPresent()) {
+            long originalContentLength = asyncContentLength.get();
+            String contentEncoding = mutableRequest.firstMatchingHeader(CONTENT_ENCODING)
+                                                   .map(encoding -> AWS_CHUNKED + "," + encoding)
+                                                   .orElse(AWS_CHUNKED);
+            mutableRequest.putHeader(CONTENT_ENCODING, contentEncoding);
+            mutableRequest.putHeader(X_AMZ_TRAILER,
+                                     AwsChunkedEncodingAsyncRequestBody.trailingChecksumHeaderName(trailingChecksumAlgorithm));
+            mutableRequest.putHeader(X_AMZ_DECODED_CONTENT_LENGTH, Long.toString(originalContentLength));
+            mutableRequest.putHeader(CONTENT_LENGTH, Long.toString(
+                AwsChunkedEncodingAsyncRequestBody.calculateUnsignedStreamContentLength(originalContentLength,
+                                                                                        trailingChecksumAlgorithm)));
+            return STREAMING_UNSIGNED_PAYLOAD_TRAILER;
+        }
+
         return UNSIGNED_PAYLOAD;
     }
 
@@ -233,9 +338,12 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
      */
     private boolean isPayloadSigningEnabled(SdkHttpFullRequest.Builder request, AwsS3V4SignerParams signerParams) {
         /**
-         * If we aren't using https we should always sign the payload unless there is no payload
+         * If we aren't using https we should always sign the payload unless there is no payload, or unless the payload is
+         * streamed asynchronously and can't be signed in chunks, since it can't be read ahead of sending it to be hashed
          */
-        if (!request.protocol().equals("https") && request.contentStreamProvider() != null) {
+        if (!request.protocol().equals("https") &&
+            (request.contentStreamProvider() != null
+             || asyncContentLength(request).isPresent() && isChunkedEncodingEnabled(signerParams))) {
             return true;
         }
 
@@ -243,6 +351,19 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
         return isPayloadSigningEnabled != null && isPayloadSigningEnabled;
     }
 
+    /**
+     * Returns the length of the request content if it is not empty and is streamed asynchronously, in which case the request
+     * has no content stream provider and the length of the content can only be known from the Content-Length header.
+     */
+    private static Optional<Long> asyncContentLength(SdkHttpFullRequest.Builder request) {
+        if (request.contentStreamProvider() != null) {
+            return Optional.empty();
+        }
+        return request.firstMatchingHeader(CONTENT_LENGTH)
+                      .map(Long::parseLong)
+                      .filter(length -> length > 0);
+    }
+
     /**
      * Read the content of the request to get the length of the stream.
      */
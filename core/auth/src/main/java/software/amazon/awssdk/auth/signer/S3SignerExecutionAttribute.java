@@ -16,6 +16,7 @@
 package software.amazon.awssdk.auth.signer;
 
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 
@@ -35,6 +36,12 @@ public final class S3SignerExecutionAttribute extends SdkExecutionAttribute {
      */
     public static final ExecutionAttribute<Boolean> ENABLE_PAYLOAD_SIGNING = new ExecutionAttribute<>("PayloadSigning");
 
+    /**
+     * The key to specify the algorithm of the checksum sent in a trailer after unsigned streaming payloads, if any
+     */
+    public static final ExecutionAttribute<Algorithm> TRAILING_CHECKSUM_ALGORITHM =
+        new ExecutionAttribute<>("TrailingChecksumAlgorithm");
+
     private S3SignerExecutionAttribute() {
     }
 }
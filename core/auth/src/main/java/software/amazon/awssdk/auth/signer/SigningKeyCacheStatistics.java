@@ -0,0 +1,67 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.signer.internal.SigningKeyCache;
+import software.amazon.awssdk.core.SdkSystemSetting;
+
+/**
+ * Statistics of the cache of SigV4 signing keys shared by the {@link Aws4Signer}, {@link AwsS3V4Signer} and other SigV4
+ * signers of the JVM.
+ *
+ * <p>Deriving a signing key takes four HMAC computations, so a cache that is too small for the number of credentials,
+ * regions and services in use shows up as a high {@link #missCount()}. The size of the cache can be configured with the
+ * {@link SdkSystemSetting#AWS_SIGNING_KEY_CACHE_SIZE} system property or environment variable, which is read once when the
+ * first signer is loaded.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class SigningKeyCacheStatistics {
+
+    private SigningKeyCacheStatistics() {
+    }
+
+    /**
+     * @return The number of signing key lookups that found a cached key for the signing date.
+     */
+    public static long hitCount() {
+        return SigningKeyCache.shared().hitCount();
+    }
+
+    /**
+     * @return The number of signing key lookups that did not find a cached key for the signing date, causing a new key to be
+     * derived. This includes lookups that found a key cached for an earlier date.
+     */
+    public static long missCount() {
+        return SigningKeyCache.shared().missCount();
+    }
+
+    /**
+     * @return The number of signing keys currently cached.
+     */
+    public static int size() {
+        return SigningKeyCache.shared().size();
+    }
+
+    /**
+     * @return The maximum number of signing keys that are cached.
+     */
+    public static int maxSize() {
+        return SigningKeyCache.shared().maxSize();
+    }
+}
@@ -20,7 +20,6 @@ import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
 import java.io.InputStream;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -52,11 +51,12 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     public static final String EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(hash(""));
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final SigningKeyCache SIGNER_CACHE = SigningKeyCache.shared();
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
+    private static final int CANONICAL_REQUEST_BUILDER_MAX_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> CANONICAL_REQUEST_BUILDER =
+        ThreadLocal.withInitial(() -> new StringBuilder(512));
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
@@ -76,16 +76,19 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                       .filter(h -> h.equals("required"))
                       .ifPresent(h -> mutableRequest.putHeader(SignerConstant.X_AMZ_CONTENT_SHA256, contentSha256));
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        SignedHeaders signedHeaders = SignedHeaders.from(mutableRequest.headers());
 
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        byte[] canonicalRequestHash = hashCanonicalRequest(mutableRequest, signedHeaders, contentSha256,
+                                                           signingParams.doubleUrlEncode());
+
+        String stringToSign = createStringToSign(canonicalRequestHash, requestParams);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
         byte[] signature = computeSignature(stringToSign, signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
-                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, mutableRequest));
+                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, signedHeaders));
 
         processRequestPayload(mutableRequest, signature, signingKey, requestParams, signingParams);
 
@@ -115,9 +118,10 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
         String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        byte[] canonicalRequestHash = hashCanonicalRequest(mutableRequest, SignedHeaders.from(mutableRequest.headers()),
+                                                           contentSha256, signingParams.doubleUrlEncode());
 
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        String stringToSign = createStringToSign(canonicalRequestHash, requestParams);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
@@ -162,12 +166,13 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      */
     protected byte[] deriveSigningKey(AwsCredentials credentials, Aws4SignerRequestParams signerRequestParams) {
 
-        String cacheKey = computeSigningCacheKeyName(credentials, signerRequestParams);
+        String regionName = signerRequestParams.getRegionName();
+        String serviceName = signerRequestParams.getServiceSigningName();
         long daysSinceEpochSigningDate = numberOfDaysSinceEpoch(signerRequestParams.getRequestSigningDateTimeMilli());
 
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        SignerKey signerKey = SIGNER_CACHE.get(credentials, regionName, serviceName, daysSinceEpochSigningDate);
 
-        if (signerKey != null && daysSinceEpochSigningDate == signerKey.getNumberOfDaysSinceEpoch()) {
+        if (signerKey != null) {
             return signerKey.getSigningKey();
         }
 
@@ -175,9 +180,9 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
             TimeUnit.DAYS.toMillis(daysSinceEpochSigningDate));
         byte[] signingKey = newSigningKey(credentials,
             signerRequestParams.getFormattedRequestSigningDate(),
-            signerRequestParams.getRegionName(),
-            signerRequestParams.getServiceSigningName());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(daysSinceEpochSigningDate, signingKey));
+            regionName,
+            serviceName);
+        SIGNER_CACHE.put(credentials, regionName, serviceName, new SignerKey(daysSinceEpochSigningDate, signingKey));
         return signingKey;
     }
 
@@ -186,26 +191,42 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-canonical-request.html to
      * generate the canonical request.
+     *
+     * <p>The canonical request is only needed for its hash, so it is written into a reusable per-thread builder and
+     * streamed into the digest rather than being materialized as a String.
      */
-    private String createCanonicalRequest(SdkHttpFullRequest.Builder request,
-                                          String contentSha256,
-                                          boolean doubleUrlEncode) {
-
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getSignedHeadersString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
+    private byte[] hashCanonicalRequest(SdkHttpFullRequest.Builder request,
+                                        SignedHeaders signedHeaders,
+                                        String contentSha256,
+                                        boolean doubleUrlEncode) {
+
+        StringBuilder canonicalRequest = canonicalRequestBuilder();
+        canonicalRequest.append(request.method().name())
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        // This would optionally double url-encode the resource path
+                        .append(getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode))
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .append(getCanonicalizedQueryString(request.rawQueryParameters()))
+                        .append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedHeaders(canonicalRequest, request.headers(), signedHeaders);
+        canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
+                        .append(signedHeaders.signedHeadersString())
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .append(contentSha256);
 
         LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
-        return canonicalRequest;
+        return hash(canonicalRequest);
+    }
+
+    private static StringBuilder canonicalRequestBuilder() {
+        StringBuilder builder = CANONICAL_REQUEST_BUILDER.get();
+        if (builder.capacity() > CANONICAL_REQUEST_BUILDER_MAX_CAPACITY) {
+            // Don't hold on to the memory of an unusually large request for the lifetime of the thread.
+            builder = new StringBuilder(512);
+            CANONICAL_REQUEST_BUILDER.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
     }
 
     /**
@@ -213,7 +234,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
      */
-    private String createStringToSign(String canonicalRequest,
+    private String createStringToSign(byte[] canonicalRequestHash,
                                       Aws4SignerRequestParams requestParams) {
 
         String stringToSign = requestParams.getSigningAlgorithm() +
@@ -222,22 +243,13 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                     SignerConstant.LINE_SEPARATOR +
                                     requestParams.getScope() +
                                     SignerConstant.LINE_SEPARATOR +
-                                    BinaryUtils.toHex(hash(canonicalRequest));
+                                    BinaryUtils.toHex(canonicalRequestHash);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
     }
 
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private String computeSigningCacheKeyName(AwsCredentials credentials,
-                                              Aws4SignerRequestParams signerRequestParams) {
-        return credentials.secretAccessKey() + "-" + signerRequestParams.getRegionName() + "-" +
-               signerRequestParams.getServiceSigningName();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -255,12 +267,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private String buildAuthorizationHeader(byte[] signature,
                                             AwsCredentials credentials,
                                             Aws4SignerRequestParams signerParams,
-                                            SdkHttpFullRequest.Builder mutableRequest) {
+                                            SignedHeaders signedHeaders) {
 
         String signingCredentials = credentials.accessKeyId() + "/" + signerParams.getScope();
         String credential = "Credential=" + signingCredentials;
-        String signerHeaders = "SignedHeaders=" +
-                               getSignedHeadersString(mutableRequest.headers());
+        String signerHeaders = "SignedHeaders=" + signedHeaders.signedHeadersString();
         String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
 
         return SignerConstant.AWS4_SIGNING_ALGORITHM + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
@@ -279,35 +290,28 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_ALGORITHM, SignerConstant.AWS4_SIGNING_ALGORITHM);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_DATE, signerParams.getFormattedRequestSigningDateTime());
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER,
-                                            getSignedHeadersString(mutableRequest.headers()));
+                                            SignedHeaders.from(mutableRequest.headers()).signedHeadersString());
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES,
                                             Long.toString(expirationInSeconds));
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, signingCredentials);
     }
 
 
-    private String getCanonicalizedHeaderString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
+    private void appendCanonicalizedHeaders(StringBuilder buffer,
+                                            Map<String, List<String>> headers,
+                                            SignedHeaders signedHeaders) {
+        for (int i = 0; i < signedHeaders.size(); i++) {
+            String key = signedHeaders.lowerCaseName(i);
 
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            String key = lowerCase(header);
-
-            for (String headerValue : headers.get(header)) {
+            for (String headerValue : headers.get(signedHeaders.name(i))) {
                 appendCompactedString(buffer, key);
-                buffer.append(":");
+                buffer.append(':');
                 if (headerValue != null) {
                     appendCompactedString(buffer, headerValue);
                 }
-                buffer.append("\n");
+                buffer.append('\n');
             }
         }
-
-        return buffer.toString();
     }
 
     /**
@@ -351,26 +355,8 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
     }
 
-    private String getSignedHeadersString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            if (buffer.length() > 0) {
-                buffer.append(";");
-            }
-            buffer.append(lowerCase(header));
-        }
-
-        return buffer.toString();
-    }
-
-    private boolean shouldExcludeHeaderFromSigning(String header) {
-        return LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCase(header));
+    private static boolean shouldExcludeHeaderFromSigning(String lowerCaseHeader) {
+        return LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader);
     }
 
     private void addHostHeader(SdkHttpFullRequest.Builder mutableRequest) {
@@ -447,4 +433,65 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
         return paramsBuilder;
     }
+
+    /**
+     * The headers of a request that are included in its signature, sorted case-insensitively. Each name is lower-cased
+     * once and the "SignedHeaders" value is built once, so both can be shared between the canonical request and the
+     * authorization header.
+     */
+    private static final class SignedHeaders {
+        private final String[] names;
+        private final String[] lowerCaseNames;
+        private final int size;
+        private final String signedHeadersString;
+
+        private SignedHeaders(String[] names, String[] lowerCaseNames, int size) {
+            this.names = names;
+            this.lowerCaseNames = lowerCaseNames;
+            this.size = size;
+
+            StringBuilder buffer = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    buffer.append(';');
+                }
+                buffer.append(lowerCaseNames[i]);
+            }
+            this.signedHeadersString = buffer.toString();
+        }
+
+        private static SignedHeaders from(Map<String, List<String>> headers) {
+            String[] sortedHeaders = headers.keySet().toArray(new String[0]);
+            Arrays.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+
+            String[] lowerCaseNames = new String[sortedHeaders.length];
+            int size = 0;
+            for (String header : sortedHeaders) {
+                String lowerCaseHeader = lowerCase(header);
+                if (shouldExcludeHeaderFromSigning(lowerCaseHeader)) {
+                    continue;
+                }
+                sortedHeaders[size] = header;
+                lowerCaseNames[size] = lowerCaseHeader;
+                size++;
+            }
+            return new SignedHeaders(sortedHeaders, lowerCaseNames, size);
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private String name(int index) {
+            return names[index];
+        }
+
+        private String lowerCaseName(int index) {
+            return lowerCaseNames[index];
+        }
+
+        private String signedHeadersString() {
+            return signedHeadersString;
+        }
+    }
 }
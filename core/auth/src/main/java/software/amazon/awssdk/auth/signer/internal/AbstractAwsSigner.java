@@ -17,6 +17,11 @@ package software.amazon.awssdk.auth.signer.internal;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
@@ -53,6 +58,11 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 public abstract class AbstractAwsSigner implements Signer {
 
     private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
+    private static final ThreadLocal<CharsetEncoder> UTF8_ENCODER =
+        ThreadLocal.withInitial(() -> StandardCharsets.UTF_8.newEncoder()
+                                                            .onMalformedInput(CodingErrorAction.REPLACE)
+                                                            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    private static final ThreadLocal<ByteBuffer> UTF8_ENCODE_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(1024));
 
     static {
         SHA256_MESSAGE_DIGEST = ThreadLocal.withInitial(() -> {
@@ -164,6 +174,44 @@ public abstract class AbstractAwsSigner implements Signer {
         return AbstractAwsSigner.doHash(text);
     }
 
+    /**
+     * Hashes the UTF-8 encoding of the given characters using the SHA-256 algorithm. Unlike {@link #hash(String)} the text
+     * is encoded into a reusable per-thread buffer and streamed into the digest, so no intermediate String or byte array
+     * is created.
+     *
+     * @param text The characters to hash.
+     * @return The hashed bytes from the specified characters.
+     * @throws SdkClientException If the hash cannot be computed.
+     */
+    static byte[] hash(CharSequence text) throws SdkClientException {
+        try {
+            MessageDigest md = getMessageDigestInstance();
+            CharsetEncoder encoder = UTF8_ENCODER.get().reset();
+            ByteBuffer buffer = UTF8_ENCODE_BUFFER.get();
+            CharBuffer chars = CharBuffer.wrap(text);
+            CoderResult result;
+            do {
+                buffer.clear();
+                result = encoder.encode(chars, buffer, true);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                buffer.flip();
+                md.update(buffer);
+            } while (result.isOverflow());
+            buffer.clear();
+            encoder.flush(buffer);
+            buffer.flip();
+            md.update(buffer);
+            return md.digest();
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to compute hash while signing request: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
     byte[] hash(InputStream input) throws SdkClientException {
         try {
             MessageDigest md = getMessageDigestInstance();
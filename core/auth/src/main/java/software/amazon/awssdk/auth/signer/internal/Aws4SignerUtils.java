@@ -18,7 +18,12 @@ package software.amazon.awssdk.auth.signer.internal;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
 
 /**
  * Utility methods that is used by the different AWS Signer implementations.
@@ -33,6 +38,10 @@ public final class Aws4SignerUtils {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter
             .ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneId.of("UTC"));
 
+    private static final Pattern AUTHENTICATION_HEADER_PATTERN = Pattern.compile(
+        SignerConstant.AWS4_SIGNING_ALGORITHM + "\\s" + "Credential=(\\S+)" + "\\s" + "SignedHeaders=(\\S+)" + "\\s"
+        + "Signature=(\\S+)");
+
     private Aws4SignerUtils() {
     }
 
@@ -60,4 +69,30 @@ public final class Aws4SignerUtils {
     public static String formatTimestamp(Instant instant) {
         return TIME_FORMATTER.format(instant);
     }
+
+    /**
+     * Parses a date time in yyyyMMdd'T'HHmmss'Z' format, such as the value of the X-Amz-Date header of a signed request.
+     */
+    public static Instant parseTimestamp(String timestamp) {
+        return TIME_FORMATTER.parse(timestamp, Instant::from);
+    }
+
+    /**
+     * Extract the signature from the Authorization header of a signed request.
+     *
+     * @param request signed request with Authorization header
+     * @return signature (Hex) string
+     */
+    public static String headerSignature(SdkHttpFullRequest request) {
+        Optional<String> authHeader = request.firstMatchingHeader(SignerConstant.AUTHORIZATION);
+        if (authHeader.isPresent()) {
+            Matcher matcher = AUTHENTICATION_HEADER_PATTERN.matcher(authHeader.get());
+            if (matcher.matches()) {
+                return matcher.group(3);
+            }
+        }
+
+        // Without header signature, signer can not proceed. Thus throw out exception
+        throw SdkClientException.builder().message("Signature is missing in AUTHORIZATION header!").build();
+    }
 }
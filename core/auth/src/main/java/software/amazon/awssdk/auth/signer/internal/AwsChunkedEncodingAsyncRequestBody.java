@@ -0,0 +1,374 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+
+/**
+ * The asynchronous counterpart of {@link AwsChunkedEncodingInputStream}: an {@link AsyncRequestBody} that encodes the bytes of
+ * another one with the aws-chunked content encoding as they are published.
+ * <p>
+ * The chunks are either signed with chained signatures, like {@link AwsChunkedEncodingInputStream} does, in which case one
+ * chunk of the body at most is buffered so that its signature can be sent ahead of it; or left unsigned and followed by a
+ * trailer with the checksum of the whole body, in which case the bytes of the body are published without being copied.
+ * <p>
+ * The length of the body must be known, because it determines the length of the encoded body and of its last chunk.
+ */
+@SdkInternalApi
+public final class AwsChunkedEncodingAsyncRequestBody implements AsyncRequestBody {
+
+    private static final String CRLF = "\r\n";
+    private static final byte[] CRLF_BYTES = CRLF.getBytes(StandardCharsets.UTF_8);
+    private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
+    private static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
+    private static final String FINAL_CHUNK = "0" + CRLF;
+    private static final String TRAILING_CHECKSUM_HEADER_PREFIX = "x-amz-checksum-";
+
+    private final AsyncRequestBody delegate;
+    private final long decodedContentLength;
+    private final long encodedContentLength;
+    private final Supplier<Function<ByteBuffer, Iterable<ByteBuffer>>> chunkEncoderSupplier;
+
+    private AwsChunkedEncodingAsyncRequestBody(AsyncRequestBody delegate,
+                                               long decodedContentLength,
+                                               long encodedContentLength,
+                                               Supplier<Function<ByteBuffer, Iterable<ByteBuffer>>> chunkEncoderSupplier) {
+        this.delegate = delegate;
+        this.decodedContentLength = decodedContentLength;
+        this.encodedContentLength = encodedContentLength;
+        this.chunkEncoderSupplier = chunkEncoderSupplier;
+    }
+
+    /**
+     * Encode the given body in chunks signed with chained signatures, starting from the signature of the request headers.
+     *
+     * @param delegate The body to encode.
+     * @param decodedContentLength The length of the body to encode.
+     * @param signingKey The key the request was signed with.
+     * @param dateTime The date time the request was signed at, in yyyyMMdd'T'HHmmss'Z' format.
+     * @param keyPath The scope of the signature of the request.
+     * @param headerSignature The signature of the request headers.
+     * @param aws4Signer The signer of the request.
+     */
+    public static AwsChunkedEncodingAsyncRequestBody signedChunks(AsyncRequestBody delegate,
+                                                                  long decodedContentLength,
+                                                                  byte[] signingKey,
+                                                                  String dateTime,
+                                                                  String keyPath,
+                                                                  String headerSignature,
+                                                                  AwsS3V4Signer aws4Signer) {
+        return new AwsChunkedEncodingAsyncRequestBody(
+            delegate, decodedContentLength,
+            AwsChunkedEncodingInputStream.calculateStreamContentLength(decodedContentLength),
+            () -> new SignedChunkEncoder(decodedContentLength, signingKey, dateTime, keyPath, headerSignature, aws4Signer));
+    }
+
+    /**
+     * Encode the given body in unsigned chunks, followed by a trailer with the checksum of the body calculated with the given
+     * algorithm.
+     *
+     * @param delegate The body to encode.
+     * @param decodedContentLength The length of the body to encode.
+     * @param checksumAlgorithm The algorithm of the trailing checksum.
+     */
+    public static AwsChunkedEncodingAsyncRequestBody unsignedChunksWithTrailingChecksum(AsyncRequestBody delegate,
+                                                                                        long decodedContentLength,
+                                                                                        Algorithm checksumAlgorithm) {
+        return new AwsChunkedEncodingAsyncRequestBody(
+            delegate, decodedContentLength,
+            calculateUnsignedStreamContentLength(decodedContentLength, checksumAlgorithm),
+            () -> new UnsignedChunkEncoder(decodedContentLength, checksumAlgorithm));
+    }
+
+    /**
+     * Returns the name of the trailer that carries a checksum calculated with the given algorithm, which is also the value of
+     * the x-amz-trailer header of the request.
+     */
+    public static String trailingChecksumHeaderName(Algorithm checksumAlgorithm) {
+        switch (checksumAlgorithm) {
+            case CRC32C:
+            case CRC32:
+            case SHA256:
+                return TRAILING_CHECKSUM_HEADER_PREFIX + checksumAlgorithm.name().toLowerCase(Locale.ENGLISH);
+            default:
+                throw new IllegalArgumentException(checksumAlgorithm + " can't be used as a trailing checksum.");
+        }
+    }
+
+    /**
+     * Returns the length of a body of the given length once encoded in unsigned chunks followed by a trailing checksum
+     * calculated with the given algorithm.
+     */
+    public static long calculateUnsignedStreamContentLength(long originalLength, Algorithm checksumAlgorithm) {
+        if (originalLength < 0) {
+            throw new IllegalArgumentException("Nonnegative content length expected.");
+        }
+
+        long maxSizeChunks = originalLength / DEFAULT_CHUNK_SIZE;
+        long remainingBytes = originalLength % DEFAULT_CHUNK_SIZE;
+        int checksumLength = SdkChecksum.forAlgorithm(checksumAlgorithm).getChecksumBytes().length;
+        return maxSizeChunks * calculateUnsignedChunkLength(DEFAULT_CHUNK_SIZE)
+               + (remainingBytes > 0 ? calculateUnsignedChunkLength(remainingBytes) : 0)
+               + FINAL_CHUNK.length()
+               + trailingChecksumHeaderName(checksumAlgorithm).length()
+               + 1
+               + (checksumLength + 2) / 3 * 4
+               + CRLF.length()
+               + CRLF.length();
+    }
+
+    private static long calculateUnsignedChunkLength(long chunkDataSize) {
+        return Long.toHexString(chunkDataSize).length()
+               + CRLF.length()
+               + chunkDataSize
+               + CRLF.length();
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of(encodedContentLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        Publisher<ByteBuffer> lengthValidatingPublisher =
+            subscriber -> delegate.subscribe(new LengthValidatingSubscriber(subscriber, decodedContentLength));
+
+        SdkPublisher.adapt(lengthValidatingPublisher)
+                    .flatMapIterable(chunkEncoderSupplier.get())
+                    .subscribe(s);
+    }
+
+    private static ByteBuffer utf8(String string) {
+        return ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Fails the stream if the body publishes more or fewer bytes than its declared length, which the length of the encoded
+     * body, already sent in the Content-Length header of the request, depends on.
+     */
+    private static final class LengthValidatingSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+        private final long expectedLength;
+        private Subscription subscription;
+        private long length;
+        private boolean done;
+
+        private LengthValidatingSubscriber(Subscriber<? super ByteBuffer> subscriber, long expectedLength) {
+            super(subscriber);
+            this.expectedLength = expectedLength;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            super.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (done) {
+                return;
+            }
+            length += byteBuffer.remaining();
+            if (length > expectedLength) {
+                subscription.cancel();
+                onError(lengthMismatch());
+                return;
+            }
+            subscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                super.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            if (length != expectedLength) {
+                onError(lengthMismatch());
+                return;
+            }
+            done = true;
+            super.onComplete();
+        }
+
+        private SdkClientException lengthMismatch() {
+            return SdkClientException.create("The request body was expected to be " + expectedLength + " bytes long, but "
+                                             + (length > expectedLength ? "more" : "only " + length)
+                                             + " bytes were published.");
+        }
+    }
+
+    /**
+     * Buffers each chunk of the body, then publishes it after a header carrying its signature, which is chained to the
+     * signature of the previous chunk.
+     */
+    private static final class SignedChunkEncoder implements Function<ByteBuffer, Iterable<ByteBuffer>> {
+        private final String dateTime;
+        private final String keyPath;
+        private final AwsS3V4Signer aws4Signer;
+        private final MessageDigest sha256;
+        private final Mac hmacSha256;
+        private String priorChunkSignature;
+        private long bytesRemaining;
+        private ByteBuffer chunk;
+
+        private SignedChunkEncoder(long decodedContentLength, byte[] signingKey, String dateTime, String keyPath,
+                                   String headerSignature, AwsS3V4Signer aws4Signer) {
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+                String signingAlgo = SigningAlgorithm.HmacSHA256.toString();
+                this.hmacSha256 = Mac.getInstance(signingAlgo);
+                hmacSha256.init(new SecretKeySpec(signingKey, signingAlgo));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            } catch (InvalidKeyException e) {
+                throw new IllegalArgumentException(e);
+            }
+            this.bytesRemaining = decodedContentLength;
+            this.dateTime = dateTime;
+            this.keyPath = keyPath;
+            this.priorChunkSignature = headerSignature;
+            this.aws4Signer = aws4Signer;
+        }
+
+        @Override
+        public Iterable<ByteBuffer> apply(ByteBuffer byteBuffer) {
+            List<ByteBuffer> encoded = new ArrayList<>();
+            ByteBuffer source = byteBuffer.duplicate();
+            while (source.hasRemaining()) {
+                if (chunk == null) {
+                    chunk = ByteBuffer.allocate((int) Math.min(DEFAULT_CHUNK_SIZE, bytesRemaining));
+                }
+                int length = Math.min(chunk.remaining(), source.remaining());
+                ByteBuffer slice = source.duplicate();
+                slice.limit(slice.position() + length);
+                chunk.put(slice);
+                source.position(source.position() + length);
+                bytesRemaining -= length;
+
+                if (!chunk.hasRemaining()) {
+                    chunk.flip();
+                    encoded.add(chunkHeader(chunk.remaining(), sha256.digest(chunk.array())));
+                    encoded.add(chunk);
+                    encoded.add(ByteBuffer.wrap(CRLF_BYTES));
+                    chunk = null;
+
+                    if (bytesRemaining == 0) {
+                        encoded.add(chunkHeader(0, sha256.digest()));
+                        encoded.add(ByteBuffer.wrap(CRLF_BYTES));
+                    }
+                }
+            }
+            return encoded;
+        }
+
+        private ByteBuffer chunkHeader(int chunkSize, byte[] chunkDigest) {
+            String chunkStringToSign =
+                CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
+                dateTime + "\n" +
+                keyPath + "\n" +
+                priorChunkSignature + "\n" +
+                AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n" +
+                BinaryUtils.toHex(chunkDigest);
+            String chunkSignature = BinaryUtils.toHex(aws4Signer.signWithMac(chunkStringToSign, hmacSha256));
+            priorChunkSignature = chunkSignature;
+            return utf8(Integer.toHexString(chunkSize) + CHUNK_SIGNATURE_HEADER + chunkSignature + CRLF);
+        }
+    }
+
+    /**
+     * Publishes the bytes of the body as they are, framed in chunks, and checksums them for the trailer sent after the last
+     * chunk.
+     */
+    private static final class UnsignedChunkEncoder implements Function<ByteBuffer, Iterable<ByteBuffer>> {
+        private final String trailingChecksumHeaderName;
+        private final SdkChecksum checksum;
+        private long bytesRemaining;
+        private long chunkBytesRemaining;
+
+        private UnsignedChunkEncoder(long decodedContentLength, Algorithm checksumAlgorithm) {
+            this.trailingChecksumHeaderName = trailingChecksumHeaderName(checksumAlgorithm);
+            this.checksum = SdkChecksum.forAlgorithm(checksumAlgorithm);
+            this.bytesRemaining = decodedContentLength;
+        }
+
+        @Override
+        public Iterable<ByteBuffer> apply(ByteBuffer byteBuffer) {
+            List<ByteBuffer> encoded = new ArrayList<>();
+            ByteBuffer source = byteBuffer.duplicate();
+            while (source.hasRemaining()) {
+                if (chunkBytesRemaining == 0) {
+                    chunkBytesRemaining = Math.min(DEFAULT_CHUNK_SIZE, bytesRemaining);
+                    encoded.add(utf8(Long.toHexString(chunkBytesRemaining) + CRLF));
+                }
+                int length = (int) Math.min(chunkBytesRemaining, source.remaining());
+                ByteBuffer slice = source.slice();
+                slice.limit(length);
+                source.position(source.position() + length);
+                checksum.update(slice.duplicate());
+                encoded.add(slice);
+                chunkBytesRemaining -= length;
+                bytesRemaining -= length;
+
+                if (chunkBytesRemaining == 0) {
+                    encoded.add(ByteBuffer.wrap(CRLF_BYTES));
+
+                    if (bytesRemaining == 0) {
+                        encoded.add(utf8(FINAL_CHUNK
+                                         + trailingChecksumHeaderName + ":"
+                                         + BinaryUtils.toBase64(checksum.getChecksumBytes()) + CRLF
+                                         + CRLF));
+                    }
+                }
+            }
+            return encoded;
+        }
+    }
+}
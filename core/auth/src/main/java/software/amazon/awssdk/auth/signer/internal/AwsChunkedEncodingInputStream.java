@@ -37,7 +37,7 @@ import software.amazon.awssdk.utils.Logger;
 @SdkInternalApi
 public final class AwsChunkedEncodingInputStream extends SdkInputStream {
 
-    private static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+    static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
     private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
 
     private static final String CRLF = "\r\n";
@@ -15,15 +15,11 @@
 
 package software.amazon.awssdk.auth.signer.internal;
 
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
-import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.signer.AsyncRequestBodySigner;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -34,10 +30,6 @@ import software.amazon.awssdk.utils.Logger;
 public abstract class BaseAsyncAws4Signer extends BaseAws4Signer implements AsyncRequestBodySigner {
     private static final Logger LOG = Logger.loggerFor(BaseAsyncAws4Signer.class);
 
-    private static final Pattern AUTHENTICATION_HEADER_PATTERN = Pattern.compile(
-        SignerConstant.AWS4_SIGNING_ALGORITHM + "\\s" + "Credential=(\\S+)" + "\\s" + "SignedHeaders=(\\S+)" + "\\s"
-        + "Signature=(\\S+)");
-
     protected BaseAsyncAws4Signer() {
     }
 
@@ -60,7 +52,7 @@ public abstract class BaseAsyncAws4Signer extends BaseAws4Signer implements Asyn
         AwsCredentials sanitizedCredentials = sanitizeCredentials(signingParams.awsCredentials());
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        String headerSignature = getHeaderSignature(request);
+        String headerSignature = Aws4SignerUtils.headerSignature(request);
         return transformRequestProvider(headerSignature, signingKey, requestParams, signingParams, asyncRequestBody);
     }
 
@@ -74,24 +66,4 @@ public abstract class BaseAsyncAws4Signer extends BaseAws4Signer implements Asyn
                                                                  Aws4SignerRequestParams signerRequestParams,
                                                                  Aws4SignerParams signerParams,
                                                                  AsyncRequestBody asyncRequestBody);
-
-    /**
-     * Extract signature from Authentication header
-     *
-     * @param request signed request with Authentication header
-     * @return signature (Hex) string
-     */
-    private String getHeaderSignature(SdkHttpFullRequest request) {
-        Optional<String> authHeader = request.firstMatchingHeader(SignerConstant.AUTHORIZATION);
-        if (authHeader.isPresent()) {
-            Matcher matcher = AUTHENTICATION_HEADER_PATTERN.matcher(authHeader.get());
-            if (matcher.matches()) {
-                String headerSignature = matcher.group(3);
-                return headerSignature;
-            }
-        }
-
-        // Without header signature, signer can not proceed. Thus throw out exception
-        throw SdkClientException.builder().message("Signature is missing in AUTHORIZATION header!").build();
-    }
 }
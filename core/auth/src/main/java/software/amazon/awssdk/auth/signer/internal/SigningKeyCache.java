@@ -0,0 +1,188 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Bounded cache of SigV4 signing keys, keyed on the secret key, region and service the signing key was derived for.
+ *
+ * <p>Lookups never block: entries are held in a {@link ConcurrentHashMap} and the key is a small value object rather than a
+ * concatenated string. When the cache grows past its maximum size the earliest inserted entries are evicted first.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+
+    private static final Logger LOG = Logger.loggerFor(SigningKeyCache.class);
+
+    private static final SigningKeyCache SHARED = new SigningKeyCache(sharedCacheSize());
+
+    private final int maxSize;
+    private final ConcurrentHashMap<CacheKey, SignerKey> entries;
+    private final Queue<CacheKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of entries of the cache
+     */
+    public SigningKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(maxSize);
+    }
+
+    /**
+     * Returns the cache shared by all SigV4 signers, sized by {@link SdkSystemSetting#AWS_SIGNING_KEY_CACHE_SIZE}.
+     */
+    public static SigningKeyCache shared() {
+        return SHARED;
+    }
+
+    private static int sharedCacheSize() {
+        SdkSystemSetting setting = SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE;
+        int defaultSize = Integer.parseInt(setting.defaultValue());
+        String configuredSize = setting.getStringValue().orElse(null);
+        try {
+            int size = configuredSize == null ? defaultSize : Integer.parseInt(configuredSize.trim());
+            if (size >= 1) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the warning below
+        }
+        LOG.warn(() -> "Ignoring invalid " + setting.property() + " of '" + configuredSize + "', it must be a positive "
+                       + "integer. Using the default of " + defaultSize + ".");
+        return defaultSize;
+    }
+
+    /**
+     * Returns the cached signing key for the given credentials, region and service if it was derived for the given signing
+     * date; or null otherwise. A cached key for another date counts as a miss, as a new key has to be derived for the date.
+     */
+    public SignerKey get(AwsCredentials credentials, String regionName, String serviceName, long daysSinceEpoch) {
+        SignerKey signerKey = entries.get(new CacheKey(credentials.secretAccessKey(), regionName, serviceName));
+        if (signerKey == null || signerKey.getNumberOfDaysSinceEpoch() != daysSinceEpoch) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return signerKey;
+    }
+
+    /**
+     * Adds an entry to the cache, evicting the earliest entries if necessary.
+     */
+    public void put(AwsCredentials credentials, String regionName, String serviceName, SignerKey signerKey) {
+        CacheKey key = new CacheKey(credentials.secretAccessKey(), regionName, serviceName);
+        if (entries.put(key, signerKey) == null) {
+            insertionOrder.offer(key);
+            if (size.incrementAndGet() > maxSize) {
+                evict();
+            }
+        }
+    }
+
+    private void evict() {
+        while (size.get() > maxSize) {
+            CacheKey eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (entries.remove(eldest) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached signing key for the signing date.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached signing key for the signing date.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private static final class CacheKey {
+        private final String secretAccessKey;
+        private final String regionName;
+        private final String serviceName;
+        private final int hashCode;
+
+        private CacheKey(String secretAccessKey, String regionName, String serviceName) {
+            this.secretAccessKey = secretAccessKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            int result = Objects.hashCode(secretAccessKey);
+            result = 31 * result + Objects.hashCode(regionName);
+            this.hashCode = 31 * result + Objects.hashCode(serviceName);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return hashCode == that.hashCode &&
+                   Objects.equals(secretAccessKey, that.secretAccessKey) &&
+                   Objects.equals(regionName, that.regionName) &&
+                   Objects.equals(serviceName, that.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
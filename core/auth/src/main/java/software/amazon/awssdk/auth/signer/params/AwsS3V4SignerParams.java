@@ -16,17 +16,20 @@
 package software.amazon.awssdk.auth.signer.params;
 
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.checksums.Algorithm;
 
 @SdkPublicApi
 public final class AwsS3V4SignerParams extends Aws4SignerParams {
 
     private final Boolean enableChunkedEncoding;
     private final Boolean enablePayloadSigning;
+    private final Algorithm trailingChecksumAlgorithm;
 
     private AwsS3V4SignerParams(BuilderImpl builder) {
         super(builder);
         this.enableChunkedEncoding = builder.enableChunkedEncoding;
         this.enablePayloadSigning = builder.enablePayloadSigning;
+        this.trailingChecksumAlgorithm = builder.trailingChecksumAlgorithm;
     }
 
     public Boolean enableChunkedEncoding() {
@@ -37,6 +40,10 @@ public final class AwsS3V4SignerParams extends Aws4SignerParams {
         return enablePayloadSigning;
     }
 
+    public Algorithm trailingChecksumAlgorithm() {
+        return trailingChecksumAlgorithm;
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -82,6 +89,22 @@ public final class AwsS3V4SignerParams extends Aws4SignerParams {
          */
         Builder enablePayloadSigning(Boolean enablePayloadSigning);
 
+        /**
+         * <p>
+         * Configures the client to send a checksum of unsigned payloads, calculated with the given algorithm, in a trailer
+         * after the payload.
+         * </p>
+         * <p>
+         * This only applies to request bodies of a known length that are streamed asynchronously and whose payload is not
+         * signed. Such a body is sent in aws-chunked encoding, and its checksum is calculated as it is streamed, so that the
+         * integrity of the payload is protected without the body having to be read twice. CRC32C, CRC32 and SHA256 can be used.
+         * </p>
+         *
+         * @param trailingChecksumAlgorithm The algorithm of the trailing checksum. Default value is null, which sends no
+         * trailing checksum.
+         */
+        Builder trailingChecksumAlgorithm(Algorithm trailingChecksumAlgorithm);
+
         @Override
         AwsS3V4SignerParams build();
     }
@@ -92,6 +115,7 @@ public final class AwsS3V4SignerParams extends Aws4SignerParams {
 
         private Boolean enableChunkedEncoding = DEFAULT_CHUNKED_ENCODING_ENABLED;
         private Boolean enablePayloadSigning = DEFAULT_PAYLOAD_SIGNING_ENABLED;
+        private Algorithm trailingChecksumAlgorithm;
 
         private BuilderImpl() {
         }
@@ -116,6 +140,16 @@ public final class AwsS3V4SignerParams extends Aws4SignerParams {
             enablePayloadSigning(enablePayloadSigning);
         }
 
+        @Override
+        public Builder trailingChecksumAlgorithm(Algorithm trailingChecksumAlgorithm) {
+            this.trailingChecksumAlgorithm = trailingChecksumAlgorithm;
+            return this;
+        }
+
+        public void setTrailingChecksumAlgorithm(Algorithm trailingChecksumAlgorithm) {
+            trailingChecksumAlgorithm(trailingChecksumAlgorithm);
+        }
+
         @Override
         public AwsS3V4SignerParams build() {
             return new AwsS3V4SignerParams(this);
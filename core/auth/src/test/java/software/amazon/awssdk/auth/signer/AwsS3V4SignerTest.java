@@ -0,0 +1,241 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.signer.params.AwsS3V4SignerParams;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Unit tests for the signing of asynchronously streamed request bodies by the {@link AwsS3V4Signer}.
+ */
+public class AwsS3V4SignerTest {
+
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("access", "secret");
+    private static final Clock SIGNING_CLOCK = Clock.fixed(Instant.parse("1981-01-16T06:30:00Z"), ZoneOffset.UTC);
+    private static final int CONTENT_LENGTH = 300_000;
+
+    private final AwsS3V4Signer signer = AwsS3V4Signer.create();
+    private final byte[] content = randomBytes(CONTENT_LENGTH);
+
+    @Test
+    public void asyncBodyOverHttp_isSignedInChunks_likeSyncBody() throws IOException {
+        AwsS3V4SignerParams params = signerParams().enableChunkedEncoding(true).build();
+
+        SdkHttpFullRequest syncRequest = signer.sign(request("http").contentStreamProvider(() -> new ByteArrayInputStream(content))
+                                                                    .build(), params);
+        SdkHttpFullRequest asyncRequest = signer.sign(request("http").build(), params);
+
+        assertThat(asyncRequest.headers()).isEqualTo(syncRequest.headers());
+        assertThat(asyncRequest.firstMatchingHeader("x-amz-content-sha256")).hasValue("STREAMING-AWS4-HMAC-SHA256-PAYLOAD");
+
+        AsyncRequestBody signedBody = signer.signAsyncRequestBody(asyncRequest, randomlySplitBody(), executionAttributes());
+
+        byte[] encoded = toByteArray(signedBody);
+        assertThat(encoded).isEqualTo(toByteArray(syncRequest.contentStreamProvider().get().newStream()));
+        assertThat(signedBody.contentLength()).hasValue((long) encoded.length);
+        assertThat(asyncRequest.firstMatchingHeader("Content-Length")).hasValue(Integer.toString(encoded.length));
+    }
+
+    @Test
+    public void asyncBodyOverHttp_payloadSigningNotRequested_isSignedInChunks() {
+        // Async bodies over HTTP used to be sent as UNSIGNED-PAYLOAD, unlike sync bodies. They are now signed like sync bodies
+        // whenever chunked encoding allows signing them without reading them ahead.
+        SdkHttpFullRequest signedRequest = signer.sign(request("http").build(), signerParams().enableChunkedEncoding(true)
+                                                                                              .build());
+
+        assertThat(signedRequest.firstMatchingHeader("x-amz-content-sha256")).hasValue("STREAMING-AWS4-HMAC-SHA256-PAYLOAD");
+        assertThat(signedRequest.firstMatchingHeader("x-amz-decoded-content-length")).hasValue(Integer.toString(CONTENT_LENGTH));
+        // The content length is now the length of the body with the signed chunk headers
+        assertThat(Long.parseLong(signedRequest.firstMatchingHeader("Content-Length").get())).isGreaterThan(CONTENT_LENGTH);
+    }
+
+    @Test
+    public void asyncBodyOverHttp_chunkedEncodingDisabled_isSentUnsigned() {
+        SdkHttpFullRequest signedRequest = signer.sign(request("http").build(), signerParams().build());
+
+        assertThat(signedRequest.firstMatchingHeader("x-amz-content-sha256")).hasValue("UNSIGNED-PAYLOAD");
+        assertThat(signedRequest.firstMatchingHeader("Content-Encoding")).isEmpty();
+        assertThat(signedRequest.firstMatchingHeader("Content-Length")).hasValue(Integer.toString(CONTENT_LENGTH));
+    }
+
+    @Test
+    public void asyncBodyOverHttp_unknownLength_isSentUnsigned() {
+        SdkHttpFullRequest signedRequest = signer.sign(request("http").removeHeader("Content-Length").build(),
+                                                       signerParams().enableChunkedEncoding(true).build());
+
+        assertThat(signedRequest.firstMatchingHeader("x-amz-content-sha256")).hasValue("UNSIGNED-PAYLOAD");
+        assertThat(signedRequest.firstMatchingHeader("Content-Encoding")).isEmpty();
+    }
+
+    @Test
+    public void asyncBodyOverHttps_isSentUnsignedWithTrailingChecksum() {
+        SdkHttpFullRequest signedRequest =
+            signer.sign(request("https").build(), signerParams().trailingChecksumAlgorithm(Algorithm.CRC32C).build());
+
+        assertThat(signedRequest.firstMatchingHeader("x-amz-content-sha256")).hasValue("STREAMING-UNSIGNED-PAYLOAD-TRAILER");
+        assertThat(signedRequest.firstMatchingHeader("Content-Encoding")).hasValue("aws-chunked");
+        assertThat(signedRequest.firstMatchingHeader("x-amz-trailer")).hasValue("x-amz-checksum-crc32c");
+        assertThat(signedRequest.firstMatchingHeader("x-amz-decoded-content-length")).hasValue(Integer.toString(CONTENT_LENGTH));
+
+        ExecutionAttributes executionAttributes = executionAttributes();
+        executionAttributes.putAttribute(S3SignerExecutionAttribute.TRAILING_CHECKSUM_ALGORITHM, Algorithm.CRC32C);
+        byte[] encoded = toByteArray(signer.signAsyncRequestBody(signedRequest, randomlySplitBody(), executionAttributes));
+
+        assertThat(signedRequest.firstMatchingHeader("Content-Length")).hasValue(Integer.toString(encoded.length));
+
+        SdkChecksum crc32c = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+        crc32c.update(content, 0, content.length);
+        String encodedString = new String(encoded, StandardCharsets.ISO_8859_1);
+        assertThat(encodedString).startsWith("20000\r\n")
+                                 .endsWith("\r\n0\r\nx-amz-checksum-crc32c:"
+                                           + BinaryUtils.toBase64(crc32c.getChecksumBytes()) + "\r\n\r\n");
+        assertThat(decodeUnsignedChunks(encoded)).isEqualTo(content);
+    }
+
+    @Test
+    public void asyncBodyOverHttps_withoutTrailingChecksum_isSentUnsignedAsItIs() {
+        SdkHttpFullRequest signedRequest = signer.sign(request("https").build(), signerParams().enableChunkedEncoding(true)
+                                                                                               .build());
+        AsyncRequestBody body = AsyncRequestBody.fromBytes(content);
+
+        assertThat(signedRequest.firstMatchingHeader("x-amz-content-sha256")).hasValue("UNSIGNED-PAYLOAD");
+        assertThat(signedRequest.firstMatchingHeader("Content-Length")).hasValue(Integer.toString(CONTENT_LENGTH));
+        assertThat(signer.signAsyncRequestBody(signedRequest, body, executionAttributes())).isSameAs(body);
+    }
+
+    @Test
+    public void asyncBodyShorterThanContentLength_failsTheStream() {
+        SdkHttpFullRequest signedRequest = signer.sign(request("http").build(), signerParams().enableChunkedEncoding(true)
+                                                                                              .build());
+        AsyncRequestBody shortBody = AsyncRequestBody.fromBytes(Arrays.copyOf(content, CONTENT_LENGTH - 1));
+
+        TestSubscriber<ByteBuffer> subscriber = new TestSubscriber<>();
+        signer.signAsyncRequestBody(signedRequest, shortBody, executionAttributes()).subscribe(subscriber);
+
+        subscriber.awaitTerminalEvent();
+        subscriber.assertError(SdkClientException.class);
+    }
+
+    private SdkHttpFullRequest.Builder request(String protocol) {
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.PUT)
+                                 .uri(URI.create(protocol + "://demo.us-east-1.amazonaws.com"))
+                                 .encodedPath("/bucket/key")
+                                 .putHeader("Host", "demo.us-east-1.amazonaws.com")
+                                 .putHeader("x-amz-archive-description", "test  test")
+                                 .putHeader("Content-Length", Integer.toString(CONTENT_LENGTH));
+    }
+
+    private static AwsS3V4SignerParams.Builder signerParams() {
+        return AwsS3V4SignerParams.builder()
+                                  .awsCredentials(CREDENTIALS)
+                                  .signingName("s3")
+                                  .signingRegion(Region.US_EAST_1)
+                                  .signingClockOverride(SIGNING_CLOCK);
+    }
+
+    private static ExecutionAttributes executionAttributes() {
+        return new ExecutionAttributes().putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, CREDENTIALS)
+                                        .putAttribute(AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME, "s3")
+                                        .putAttribute(AwsSignerExecutionAttribute.SIGNING_REGION, Region.US_EAST_1);
+    }
+
+    /**
+     * Publishes the content in buffers of random sizes, so that chunk boundaries fall within buffers.
+     */
+    private AsyncRequestBody randomlySplitBody() {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        Random random = new Random(5);
+        int offset = 0;
+        while (offset < content.length) {
+            int length = Math.min(content.length - offset, 1 + random.nextInt(50_000));
+            buffers.add(ByteBuffer.wrap(content, offset, length).slice());
+            offset += length;
+        }
+        return AsyncRequestBody.fromPublisher(Flowable.fromIterable(buffers));
+    }
+
+    private static byte[] decodeUnsignedChunks(byte[] encoded) {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        String encodedString = new String(encoded, StandardCharsets.ISO_8859_1);
+        int offset = 0;
+        while (true) {
+            int headerEnd = encodedString.indexOf("\r\n", offset);
+            int chunkSize = Integer.parseInt(encodedString.substring(offset, headerEnd), 16);
+            if (chunkSize == 0) {
+                return decoded.toByteArray();
+            }
+            decoded.write(encoded, headerEnd + 2, chunkSize);
+            offset = headerEnd + 2 + chunkSize + 2;
+        }
+    }
+
+    private static byte[] toByteArray(AsyncRequestBody body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Flowable.fromPublisher(body)
+                .blockingForEach(buffer -> {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    output.write(bytes);
+                });
+        return output.toByteArray();
+    }
+
+    private static byte[] toByteArray(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(1).nextBytes(bytes);
+        return bytes;
+    }
+}
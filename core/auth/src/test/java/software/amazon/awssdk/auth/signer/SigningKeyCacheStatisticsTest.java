@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+public class SigningKeyCacheStatisticsTest {
+
+    @Test
+    public void signingWithSameCredentials_missesOnceThenHits() {
+        Aws4SignerParams params = Aws4SignerParams.builder()
+                                                  .awsCredentials(AwsBasicCredentials.create("akid", UUID.randomUUID().toString()))
+                                                  .signingName("demo")
+                                                  .signingRegion(Region.US_EAST_1)
+                                                  .build();
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .uri(URI.create("https://demo.us-east-1.amazonaws.com"))
+                                                       .build();
+        long hits = SigningKeyCacheStatistics.hitCount();
+        long misses = SigningKeyCacheStatistics.missCount();
+
+        Aws4Signer.create().sign(request, params);
+        Aws4Signer.create().sign(request, params);
+
+        // Other tests may sign concurrently, so only a lower bound can be asserted
+        assertThat(SigningKeyCacheStatistics.missCount()).isGreaterThanOrEqualTo(misses + 1);
+        assertThat(SigningKeyCacheStatistics.hitCount()).isGreaterThanOrEqualTo(hits + 1);
+        assertThat(SigningKeyCacheStatistics.size()).isBetween(1, SigningKeyCacheStatistics.maxSize());
+        assertThat(SigningKeyCacheStatistics.maxSize()).isEqualTo(300);
+    }
+
+    @Test
+    public void signingOnTheNextDay_missesAgain() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create("akid", UUID.randomUUID().toString());
+        Instant today = Instant.parse("2019-08-01T12:00:00Z");
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .uri(URI.create("https://demo.us-east-1.amazonaws.com"))
+                                                       .build();
+        long misses = SigningKeyCacheStatistics.missCount();
+
+        Aws4Signer.create().sign(request, params(credentials, today));
+        Aws4Signer.create().sign(request, params(credentials, today.plus(1, ChronoUnit.DAYS)));
+
+        // The key cached for the first day cannot be used on the second, so both lookups derive a new key
+        assertThat(SigningKeyCacheStatistics.missCount()).isGreaterThanOrEqualTo(misses + 2);
+    }
+
+    private static Aws4SignerParams params(AwsBasicCredentials credentials, Instant signingTime) {
+        return Aws4SignerParams.builder()
+                               .awsCredentials(credentials)
+                               .signingName("demo")
+                               .signingRegion(Region.US_EAST_1)
+                               .signingClockOverride(Clock.fixed(signingTime, ZoneOffset.UTC))
+                               .build();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+public class AbstractAwsSignerTest {
+
+    @Test
+    public void hashCharSequence_matchesHashOfString() {
+        assertHashesMatch("");
+        assertHashesMatch("GET\n/\n\nhost:example.com\n");
+        assertHashesMatch("café ☃ 😀");
+    }
+
+    @Test
+    public void hashCharSequence_longerThanEncodeBuffer_matchesHashOfString() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append("x-amz-meta-").append(i).append(":é\n");
+        }
+        assertHashesMatch(text.toString());
+    }
+
+    @Test
+    public void hashCharSequence_unpairedSurrogate_matchesHashOfString() {
+        assertHashesMatch("a\ud83db");
+    }
+
+    private static void assertHashesMatch(String text) {
+        assertArrayEquals(AbstractAwsSigner.hash(text), AbstractAwsSigner.hash(new StringBuilder(text)));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+
+public class SigningKeyCacheTest {
+
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("akid", "skid");
+
+    @Test
+    public void lookupUsesCredentialValueRegionAndService() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put(CREDENTIALS, "us-east-1", "s3", new SignerKey(1, new byte[] {1}));
+
+        SignerKey found = cache.get(AwsBasicCredentials.create("akid", "skid"), "us-east-1", "s3", 1);
+        assertNotNull(found);
+        assertArrayEquals(new byte[] {1}, found.getSigningKey());
+
+        assertNull(cache.get(AwsBasicCredentials.create("akid", "other"), "us-east-1", "s3", 1));
+        assertNull(cache.get(CREDENTIALS, "us-west-2", "s3", 1));
+        assertNull(cache.get(CREDENTIALS, "us-east-1", "sqs", 1));
+        assertEquals(1, cache.hitCount());
+        assertEquals(3, cache.missCount());
+    }
+
+    @Test
+    public void keyCachedForAnotherDate_isAMiss() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put(CREDENTIALS, "us-east-1", "s3", new SignerKey(1, new byte[] {1}));
+
+        assertNull(cache.get(CREDENTIALS, "us-east-1", "s3", 2));
+        assertEquals(0, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    public void replacingEntryDoesNotGrowCache() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put(CREDENTIALS, "us-east-1", "s3", new SignerKey(1, new byte[] {1}));
+        cache.put(CREDENTIALS, "us-east-1", "s3", new SignerKey(2, new byte[] {2}));
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.get(CREDENTIALS, "us-east-1", "s3", 2).getNumberOfDaysSinceEpoch());
+    }
+
+    @Test
+    public void evictsEarliestEntryWhenFull() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put(CREDENTIALS, "r1", "s3", new SignerKey(1, new byte[] {1}));
+        cache.put(CREDENTIALS, "r2", "s3", new SignerKey(1, new byte[] {2}));
+        cache.put(CREDENTIALS, "r3", "s3", new SignerKey(1, new byte[] {3}));
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.maxSize());
+        assertNull(cache.get(CREDENTIALS, "r1", "s3", 1));
+        assertNotNull(cache.get(CREDENTIALS, "r2", "s3", 1));
+        assertNotNull(cache.get(CREDENTIALS, "r3", "s3", 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroSize() {
+        new SigningKeyCache(0);
+    }
+}
@@ -39,7 +39,6 @@ import software.amazon.awssdk.protocols.core.ExceptionMetadata;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
-import software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser;
 import software.amazon.awssdk.protocols.json.internal.marshall.JsonProtocolMarshallerBuilder;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.AwsJsonErrorMessageParser;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.AwsJsonProtocolErrorUnmarshaller;
@@ -70,7 +69,7 @@ public abstract class BaseAwsJsonProtocolFactory {
         this.clientConfiguration = builder.clientConfiguration;
         this.protocolUnmarshaller = JsonProtocolUnmarshaller
             .builder()
-            .parser(JsonDomParser.create(getSdkFactory().getJsonFactory()))
+            .jsonFactory(getSdkFactory().getJsonFactory())
             .defaultTimestampFormats(getDefaultTimestampFormats())
             .build();
     }
@@ -17,6 +17,7 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.HashMap;
@@ -38,7 +39,6 @@ import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
-import software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser;
 import software.amazon.awssdk.protocols.json.internal.dom.SdkJsonNode;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -54,12 +54,12 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonUnmarshallerRegistry registry;
 
-    private final JsonDomParser parser;
+    private final StreamingJsonPayloadUnmarshaller payloadUnmarshaller;
 
     private JsonProtocolUnmarshaller(Builder builder) {
-        this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(new HashMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.payloadUnmarshaller = new StreamingJsonPayloadUnmarshaller(builder.jsonFactory, instantStringToValue);
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -161,11 +161,16 @@ public final class JsonProtocolUnmarshaller {
         }
     }
 
+    /**
+     * Unmarshalls the given response into the POJO. The JSON payload, if any, is bound onto the POJO as it is parsed rather
+     * than being read into an intermediate {@link SdkJsonNode} tree first.
+     */
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
         if (hasPayloadMembers(sdkPojo) && !hasExplicitBlobPayloadMember(sdkPojo)) {
-            SdkJsonNode jsonNode = parser.parse(ReleasableInputStream.wrap(response.content().orElse(null)).disableClose());
-            return unmarshall(sdkPojo, response, jsonNode);
+            payloadUnmarshaller.unmarshallPayload(sdkPojo,
+                                                  ReleasableInputStream.wrap(response.content().orElse(null)).disableClose());
+            return unmarshallNonPayloadMembers(sdkPojo, createContext(response));
         } else {
             return unmarshall(sdkPojo, response, null);
         }
@@ -190,11 +195,26 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             SdkJsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TypeT extends SdkPojo> TypeT unmarshallNonPayloadMembers(SdkPojo sdkPojo,
+                                                                             JsonUnmarshallerContext context) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
     }
 
     @SuppressWarnings("unchecked")
@@ -232,18 +252,18 @@ public final class JsonProtocolUnmarshaller {
      */
     public static final class Builder {
 
-        private JsonDomParser parser;
+        private JsonFactory jsonFactory;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
 
         private Builder() {
         }
 
         /**
-         * @param parser JSON parser to use.
+         * @param jsonFactory Factory for the JSON parsers used to read response payloads.
          * @return This builder for method chaining.
          */
-        public Builder parser(JsonDomParser parser) {
-            this.parser = parser;
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
             return this;
         }
 
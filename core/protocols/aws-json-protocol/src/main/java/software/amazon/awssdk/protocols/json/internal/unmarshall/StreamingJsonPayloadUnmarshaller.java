@@ -0,0 +1,286 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Binds the JSON payload of a response directly onto the {@link SdkField}s of a POJO builder as tokens are read from the
+ * {@link JsonParser}, without first materializing the document as an {@link
+ * software.amazon.awssdk.protocols.json.internal.dom.SdkJsonNode} tree. Produces the same results as the DOM based
+ * unmarshalling in {@link JsonProtocolUnmarshaller}.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StreamingJsonPayloadUnmarshaller {
+
+    /**
+     * Index of the payload members of each POJO builder class. Held in a {@link ClassValue} so that the index does not keep
+     * builder classes, and the class loaders that loaded them, reachable.
+     */
+    private static final ClassValue<AtomicReference<PayloadFields>> PAYLOAD_FIELDS =
+        new ClassValue<AtomicReference<PayloadFields>>() {
+            @Override
+            protected AtomicReference<PayloadFields> computeValue(Class<?> type) {
+                return new AtomicReference<>();
+            }
+        };
+
+    private final JsonFactory jsonFactory;
+
+    private final Map<MarshallingType<?>, TokenUnmarshaller<?>> unmarshallers;
+
+    StreamingJsonPayloadUnmarshaller(JsonFactory jsonFactory,
+                                     StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+        this.unmarshallers = createUnmarshallers(instantStringToValue);
+    }
+
+    private Map<MarshallingType<?>, TokenUnmarshaller<?>> createUnmarshallers(
+        StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+
+        Map<MarshallingType<?>, TokenUnmarshaller<?>> result = new HashMap<>();
+        result.put(MarshallingType.STRING, new SimpleTypeTokenUnmarshaller<>(StringToValueConverter.TO_STRING));
+        result.put(MarshallingType.INTEGER, new SimpleTypeTokenUnmarshaller<>(StringToValueConverter.TO_INTEGER));
+        result.put(MarshallingType.LONG, new SimpleTypeTokenUnmarshaller<>(StringToValueConverter.TO_LONG));
+        result.put(MarshallingType.FLOAT, new SimpleTypeTokenUnmarshaller<>(StringToValueConverter.TO_FLOAT));
+        result.put(MarshallingType.DOUBLE, new SimpleTypeTokenUnmarshaller<>(StringToValueConverter.TO_DOUBLE));
+        result.put(MarshallingType.BIG_DECIMAL, new SimpleTypeTokenUnmarshaller<>(StringToValueConverter.TO_BIG_DECIMAL));
+        result.put(MarshallingType.BOOLEAN, new SimpleTypeTokenUnmarshaller<>(StringToValueConverter.TO_BOOLEAN));
+        result.put(MarshallingType.INSTANT, new SimpleTypeTokenUnmarshaller<>(instantStringToValue));
+        result.put(MarshallingType.SDK_BYTES, (TokenUnmarshaller<SdkBytes>) this::unmarshallSdkBytes);
+        result.put(MarshallingType.SDK_POJO, (TokenUnmarshaller<SdkPojo>) this::unmarshallStructured);
+        result.put(MarshallingType.LIST, (TokenUnmarshaller<List<?>>) this::unmarshallList);
+        result.put(MarshallingType.MAP, (TokenUnmarshaller<Map<String, ?>>) this::unmarshallMap);
+        return result;
+    }
+
+    /**
+     * Reads the JSON document from the given content and sets every payload member of the POJO that is present in the
+     * document. Members located elsewhere in the response (headers, status code) are left untouched, as are payload
+     * members that are absent from the document.
+     *
+     * @param sdkPojo Builder of the POJO to populate.
+     * @param content JSON document. Not closed by this method.
+     */
+    void unmarshallPayload(SdkPojo sdkPojo, InputStream content) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(content)
+                                            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return;
+            }
+            SdkField<?> explicitPayloadMember = explicitPayloadMember(sdkPojo);
+            if (explicitPayloadMember != null) {
+                explicitPayloadMember.set(sdkPojo, unmarshallValue(parser, token, explicitPayloadMember));
+            } else {
+                unmarshallFields(sdkPojo, parser, token);
+            }
+        }
+    }
+
+    private static SdkField<?> explicitPayloadMember(SdkPojo sdkPojo) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.containsTrait(PayloadTrait.class)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(JsonParser parser, JsonToken token, SdkField<?> field) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        TokenUnmarshaller<Object> unmarshaller = (TokenUnmarshaller<Object>) unmarshallers.get(field.marshallingType());
+        if (unmarshaller == null) {
+            throw SdkClientException.create(String.format("No marshaller/unmarshaller of type %s registered for location %s.",
+                                                          field.marshallingType(),
+                                                          MarshallLocation.PAYLOAD.name()));
+        }
+        return unmarshaller.unmarshall(parser, token, (SdkField<Object>) field);
+    }
+
+    private void unmarshallFields(SdkPojo sdkPojo, JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            // Nothing can be bound from a non-object value, mirrors a missing member lookup in the DOM.
+            parser.skipChildren();
+            return;
+        }
+        Map<String, SdkField<?>> payloadFields = payloadFields(sdkPojo);
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            SdkField<?> field = payloadFields.get(parser.getCurrentName());
+            JsonToken valueToken = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, unmarshallValue(parser, valueToken, field));
+            }
+        }
+    }
+
+    private static Map<String, SdkField<?>> payloadFields(SdkPojo sdkPojo) {
+        // The fields are only reachable from an instance, so the index is populated on first use and rebuilt if the instance
+        // reports a different field list than the one indexed. Racing threads compute equal indexes and either may win.
+        AtomicReference<PayloadFields> reference = PAYLOAD_FIELDS.get(sdkPojo.getClass());
+        List<SdkField<?>> sdkFields = sdkPojo.sdkFields();
+        PayloadFields fields = reference.get();
+        if (fields == null || fields.sdkFields != sdkFields) {
+            fields = new PayloadFields(sdkFields);
+            reference.set(fields);
+        }
+        return fields.byLocationName;
+    }
+
+    /**
+     * The payload members of a field list keyed by their location name.
+     */
+    private static final class PayloadFields {
+
+        private final List<SdkField<?>> sdkFields;
+        private final Map<String, SdkField<?>> byLocationName = new HashMap<>();
+
+        private PayloadFields(List<SdkField<?>> sdkFields) {
+            this.sdkFields = sdkFields;
+            for (SdkField<?> field : sdkFields) {
+                if (field.location() == MarshallLocation.PAYLOAD && !field.containsTrait(PayloadTrait.class)) {
+                    byLocationName.put(field.locationName(), field);
+                }
+            }
+        }
+    }
+
+    private SdkPojo unmarshallStructured(JsonParser parser, JsonToken token, SdkField<SdkPojo> field) throws IOException {
+        SdkPojo sdkPojo = field.constructor().get();
+        unmarshallFields(sdkPojo, parser, token);
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private List<?> unmarshallList(JsonParser parser, JsonToken token, SdkField<List<?>> field) throws IOException {
+        expectToken(JsonToken.START_ARRAY, token, field);
+        SdkField<?> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken currentToken = parser.nextToken();
+        while (currentToken != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(parser, currentToken, memberInfo));
+            currentToken = parser.nextToken();
+        }
+        return list;
+    }
+
+    private Map<String, ?> unmarshallMap(JsonParser parser, JsonToken token, SdkField<Map<String, ?>> field)
+            throws IOException {
+        expectToken(JsonToken.START_OBJECT, token, field);
+        SdkField<?> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getCurrentName();
+            map.put(key, unmarshallValue(parser, parser.nextToken(), valueInfo));
+        }
+        return map;
+    }
+
+    private SdkBytes unmarshallSdkBytes(JsonParser parser, JsonToken token, SdkField<SdkBytes> field) throws IOException {
+        // Binary protocols like CBOR may already have the raw bytes extracted.
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+        }
+        // Otherwise decode the JSON string as Base64
+        return TO_SDK_BYTES.convert(scalarText(parser, token), field);
+    }
+
+    private static void expectToken(JsonToken expected, JsonToken actual, SdkField<?> field) {
+        if (actual != expected) {
+            throw SdkClientException.create(String.format("Unexpected JSON token %s for member %s, expected %s",
+                                                          actual, field.locationName(), expected));
+        }
+    }
+
+    /**
+     * Text of the current scalar token, rendered the same way as {@link
+     * software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser} renders scalar nodes.
+     */
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_FALSE:
+                return "false";
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue().toString();
+            case VALUE_EMBEDDED_OBJECT:
+                return null;
+            case START_OBJECT:
+            case START_ARRAY:
+                throw SdkClientException.create("Unexpected JSON token " + token + " for member " + parser.getCurrentName()
+                                                + ", expected a scalar value");
+            default:
+                throw SdkClientException.create("Unexpected JSON token - " + token);
+        }
+    }
+
+    /**
+     * Unmarshalls the value starting at the current token of the parser. Implementations must leave the parser positioned
+     * on the last token of the value.
+     */
+    @FunctionalInterface
+    private interface TokenUnmarshaller<T> {
+        T unmarshall(JsonParser parser, JsonToken token, SdkField<T> field) throws IOException;
+    }
+
+    private static final class SimpleTypeTokenUnmarshaller<T> implements TokenUnmarshaller<T> {
+
+        private final StringToValueConverter.StringToValue<T> stringToValue;
+
+        private SimpleTypeTokenUnmarshaller(StringToValueConverter.StringToValue<T> stringToValue) {
+            this.stringToValue = stringToValue;
+        }
+
+        @Override
+        public T unmarshall(JsonParser parser, JsonToken token, SdkField<T> field) throws IOException {
+            return stringToValue.convert(scalarText(parser, token), field);
+        }
+    }
+}
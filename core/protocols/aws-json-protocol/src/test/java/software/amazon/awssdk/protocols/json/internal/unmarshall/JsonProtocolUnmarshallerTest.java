@@ -0,0 +1,322 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Verifies that the streaming payload unmarshalling of {@link JsonProtocolUnmarshaller} produces the same POJOs as the
+ * {@link software.amazon.awssdk.protocols.json.internal.dom.SdkJsonNode} based unmarshalling.
+ */
+public class JsonProtocolUnmarshallerTest {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "Name"),
+        field(MarshallingType.INTEGER, "Count"));
+
+    private static final List<SdkField<?>> ALL_TYPES_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "String"),
+        field(MarshallingType.INTEGER, "Integer"),
+        field(MarshallingType.LONG, "Long"),
+        field(MarshallingType.FLOAT, "Float"),
+        field(MarshallingType.DOUBLE, "Double"),
+        field(MarshallingType.BIG_DECIMAL, "BigDecimal"),
+        field(MarshallingType.BOOLEAN, "Boolean"),
+        field(MarshallingType.INSTANT, "Timestamp"),
+        field(MarshallingType.SDK_BYTES, "Blob"),
+        structField("Nested", NESTED_FIELDS),
+        listField("ListOfStrings", field(MarshallingType.STRING, "member")),
+        listField("ListOfStructs", structField("member", NESTED_FIELDS)),
+        listField("ListOfLists", listField("member", field(MarshallingType.INTEGER, "member"))),
+        mapField("MapOfStrings", field(MarshallingType.STRING, "value")),
+        mapField("MapOfStructs", structField("value", NESTED_FIELDS)),
+        mapField("MapOfLists", listField("value", field(MarshallingType.LONG, "member"))));
+
+    @Test
+    public void nestedStructuresListsAndMaps_matchDomUnmarshalling() throws IOException {
+        assertMatchesDomUnmarshalling(ALL_TYPES_FIELDS,
+                                      "{\"String\":\"foo\",\"Integer\":42,\"Long\":9007199254740993,\"Float\":1.5,"
+                                      + "\"Double\":-2.25E10,\"BigDecimal\":123456789.987654321,\"Boolean\":true,"
+                                      + "\"Timestamp\":1398796238.123,\"Blob\":\"aGVsbG8=\","
+                                      + "\"Nested\":{\"Name\":\"nested\",\"Count\":7},"
+                                      + "\"ListOfStrings\":[\"a\",\"b\",\"\"],"
+                                      + "\"ListOfStructs\":[{\"Name\":\"first\"},{\"Count\":2},{}],"
+                                      + "\"ListOfLists\":[[1,2],[],[3]],"
+                                      + "\"MapOfStrings\":{\"k1\":\"v1\",\"k2\":\"v2\"},"
+                                      + "\"MapOfStructs\":{\"k\":{\"Name\":\"in map\",\"Count\":1}},"
+                                      + "\"MapOfLists\":{\"k\":[1,2,3],\"empty\":[]}}");
+    }
+
+    @Test
+    public void explicitNulls_matchDomUnmarshalling() throws IOException {
+        assertMatchesDomUnmarshalling(ALL_TYPES_FIELDS,
+                                      "{\"String\":null,\"Integer\":null,\"Timestamp\":null,\"Blob\":null,\"Nested\":null,"
+                                      + "\"ListOfStrings\":[\"a\",null],\"ListOfStructs\":[null,{\"Name\":null}],"
+                                      + "\"MapOfStrings\":{\"k\":null},\"MapOfLists\":null}");
+    }
+
+    @Test
+    public void unknownMembers_areSkipped_likeDomUnmarshalling() throws IOException {
+        assertMatchesDomUnmarshalling(ALL_TYPES_FIELDS,
+                                      "{\"Unknown\":\"x\",\"String\":\"foo\",\"UnknownObject\":{\"String\":\"bar\",\"a\":[1,{}]},"
+                                      + "\"Nested\":{\"Unknown\":[[],{\"Name\":\"no\"}],\"Name\":\"yes\"},"
+                                      + "\"UnknownArray\":[{\"Integer\":1},[2]],\"Integer\":3,\"UnknownNull\":null}");
+    }
+
+    @Test
+    public void explicitPayloadMember_matchesDomUnmarshalling() throws IOException {
+        List<SdkField<?>> fields = Collections.singletonList(
+            SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                .getter(TestPojo.getter("Payload"))
+                .setter(TestPojo.setter("Payload"))
+                .constructor(() -> new TestPojo(NESTED_FIELDS))
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("Payload").build(),
+                        PayloadTrait.create())
+                .build());
+
+        TestPojo result = assertMatchesDomUnmarshalling(fields, "{\"Name\":\"payload\",\"Count\":5}");
+
+        assertThat(((TestPojo) result.values.get("Payload")).values).containsEntry("Name", "payload");
+    }
+
+    @Test
+    public void cborEmbeddedBytesAndNumericTimestamps_matchDomUnmarshalling() throws IOException {
+        byte[] bytes = "binary".getBytes(StandardCharsets.UTF_8);
+        TokenBuffer tokens = new TokenBuffer((ObjectCodec) null, false);
+        tokens.writeStartObject();
+        tokens.writeFieldName("Blob");
+        tokens.writeBinary(bytes);
+        tokens.writeFieldName("Timestamp");
+        tokens.writeNumber(1398796238123L);
+        tokens.writeFieldName("ListOfStrings");
+        tokens.writeStartArray();
+        tokens.writeString("a");
+        tokens.writeEndArray();
+        tokens.writeFieldName("MapOfStructs");
+        tokens.writeStartObject();
+        tokens.writeFieldName("k");
+        tokens.writeStartObject();
+        tokens.writeFieldName("Count");
+        tokens.writeNumber(1);
+        tokens.writeEndObject();
+        tokens.writeEndObject();
+        tokens.writeEndObject();
+
+        TestPojo result = assertMatchesDomUnmarshalling(new TokenBufferJsonFactory(tokens),
+                                                        TimestampFormatTrait.Format.UNIX_TIMESTAMP_MILLIS,
+                                                        ALL_TYPES_FIELDS, new byte[0]);
+
+        assertThat(result.values).containsEntry("Blob", SdkBytes.fromByteArray(bytes))
+                                 .containsEntry("Timestamp", Instant.ofEpochMilli(1398796238123L));
+    }
+
+    @Test
+    public void objectForScalarMember_throwsException() {
+        assertThatThrownBy(() -> unmarshallStreaming("{\"String\":{\"a\":\"b\"}}"))
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void arrayForScalarMember_throwsException() {
+        assertThatThrownBy(() -> unmarshallStreaming("{\"Integer\":[1]}"))
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    private static TestPojo assertMatchesDomUnmarshalling(List<SdkField<?>> fields, String json) throws IOException {
+        return assertMatchesDomUnmarshalling(JSON_FACTORY, TimestampFormatTrait.Format.UNIX_TIMESTAMP, fields, utf8(json));
+    }
+
+    private static TestPojo assertMatchesDomUnmarshalling(JsonFactory jsonFactory,
+                                                          TimestampFormatTrait.Format timestampFormat,
+                                                          List<SdkField<?>> fields,
+                                                          byte[] content) throws IOException {
+        JsonProtocolUnmarshaller unmarshaller = unmarshaller(jsonFactory, timestampFormat);
+        TestPojo streamed = unmarshaller.unmarshall(new TestPojo(fields), response(content));
+        TestPojo parsed = unmarshaller.unmarshall(new TestPojo(fields), response(content),
+                                                  JsonDomParser.create(jsonFactory).parse(new ByteArrayInputStream(content)));
+        assertThat(streamed).isEqualTo(parsed);
+        return streamed;
+    }
+
+    private static void unmarshallStreaming(String json) throws IOException {
+        unmarshaller(JSON_FACTORY, TimestampFormatTrait.Format.UNIX_TIMESTAMP)
+            .unmarshall(new TestPojo(ALL_TYPES_FIELDS), response(utf8(json)));
+    }
+
+    private static JsonProtocolUnmarshaller unmarshaller(JsonFactory jsonFactory, TimestampFormatTrait.Format format) {
+        Map<MarshallLocation, TimestampFormatTrait.Format> formats = new HashMap<>();
+        formats.put(MarshallLocation.PAYLOAD, format);
+        return JsonProtocolUnmarshaller.builder()
+                                       .jsonFactory(jsonFactory)
+                                       .defaultTimestampFormats(formats)
+                                       .build();
+    }
+
+    private static SdkHttpFullResponse response(byte[] content) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                                  .build();
+    }
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<T> type, String name) {
+        return SdkField.<T>builder(type)
+            .getter(TestPojo.getter(name))
+            .setter(TestPojo.setter(name))
+            .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+            .build();
+    }
+
+    private static SdkField<SdkPojo> structField(String name, List<SdkField<?>> fields) {
+        return SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+            .getter(TestPojo.getter(name))
+            .setter(TestPojo.setter(name))
+            .constructor(() -> new TestPojo(fields))
+            .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+            .build();
+    }
+
+    private static SdkField<List<?>> listField(String name, SdkField<?> member) {
+        return SdkField.<List<?>>builder(MarshallingType.LIST)
+            .getter(TestPojo.getter(name))
+            .setter(TestPojo.setter(name))
+            .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build(),
+                    ListTrait.builder().memberLocationName(member.locationName()).memberFieldInfo(member).build())
+            .build();
+    }
+
+    private static SdkField<Map<String, ?>> mapField(String name, SdkField<?> value) {
+        return SdkField.<Map<String, ?>>builder(MarshallingType.MAP)
+            .getter(TestPojo.getter(name))
+            .setter(TestPojo.setter(name))
+            .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build(),
+                    MapTrait.builder().keyLocationName("key").valueLocationName("value").valueFieldInfo(value).build())
+            .build();
+    }
+
+    /**
+     * A POJO, and its own builder, that holds the values of any set of fields. A null value is not recorded so that a member
+     * explicitly set to null compares equal to an absent one, as with generated builders.
+     */
+    private static final class TestPojo implements SdkPojo, Buildable {
+
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        private TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Function<Object, T> getter(String name) {
+            return pojo -> (T) ((TestPojo) pojo).values.get(name);
+        }
+
+        private static <T> BiConsumer<Object, T> setter(String name) {
+            return (pojo, value) -> {
+                if (value == null) {
+                    ((TestPojo) pojo).values.remove(name);
+                } else {
+                    ((TestPojo) pojo).values.put(name, value);
+                }
+            };
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestPojo && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+
+    /**
+     * Stands in for a binary JSON format such as CBOR, whose parsers report blobs as embedded objects. Every parser it
+     * creates replays the same tokens, regardless of the input stream.
+     */
+    private static final class TokenBufferJsonFactory extends JsonFactory {
+
+        private final TokenBuffer tokens;
+
+        private TokenBufferJsonFactory(TokenBuffer tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public JsonParser createParser(InputStream in) {
+            return tokens.asParser();
+        }
+    }
+}
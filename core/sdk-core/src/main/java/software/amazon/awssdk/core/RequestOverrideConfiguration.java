@@ -24,9 +24,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Validate;
@@ -44,6 +46,7 @@ public abstract class RequestOverrideConfiguration {
     private final Duration apiCallTimeout;
     private final Duration apiCallAttemptTimeout;
     private final Signer signer;
+    private final Executor futureCompletionExecutor;
 
     protected RequestOverrideConfiguration(Builder<?> builder) {
         this.headers = CollectionUtils.deepUnmodifiableMap(builder.headers(), () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
@@ -52,6 +55,7 @@ public abstract class RequestOverrideConfiguration {
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
         this.apiCallAttemptTimeout = Validate.isPositiveOrNull(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
         this.signer = builder.signer();
+        this.futureCompletionExecutor = builder.futureCompletionExecutor();
     }
 
     /**
@@ -127,6 +131,17 @@ public abstract class RequestOverrideConfiguration {
         return Optional.ofNullable(signer);
     }
 
+    /**
+     * The executor used to complete the {@link java.util.concurrent.CompletableFuture} returned by an async client for this
+     * request. This takes priority over the {@link SdkAdvancedAsyncClientOption#FUTURE_COMPLETION_EXECUTOR} and
+     * {@link SdkAdvancedAsyncClientOption#DIRECT_FUTURE_COMPLETION} options of the client. Sync clients ignore this value.
+     *
+     * @see Builder#futureCompletionExecutor(Executor)
+     */
+    public Optional<Executor> futureCompletionExecutor() {
+        return Optional.ofNullable(futureCompletionExecutor);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -141,7 +156,8 @@ public abstract class RequestOverrideConfiguration {
                Objects.equals(apiNames, that.apiNames) &&
                Objects.equals(apiCallTimeout, that.apiCallTimeout) &&
                Objects.equals(apiCallAttemptTimeout, that.apiCallAttemptTimeout) &&
-               Objects.equals(signer, that.signer);
+               Objects.equals(signer, that.signer) &&
+               Objects.equals(futureCompletionExecutor, that.futureCompletionExecutor);
     }
 
     @Override
@@ -153,6 +169,7 @@ public abstract class RequestOverrideConfiguration {
         hashCode = 31 * hashCode + Objects.hashCode(apiCallTimeout);
         hashCode = 31 * hashCode + Objects.hashCode(apiCallAttemptTimeout);
         hashCode = 31 * hashCode + Objects.hashCode(signer);
+        hashCode = 31 * hashCode + Objects.hashCode(futureCompletionExecutor);
         return hashCode;
     }
 
@@ -327,6 +344,22 @@ public abstract class RequestOverrideConfiguration {
 
         Signer signer();
 
+        /**
+         * Configure the executor used to complete the {@link java.util.concurrent.CompletableFuture} returned by an async client
+         * for this request, for example the event loop of the caller. This takes priority over the executor configured on the
+         * client. Sync clients ignore this value.
+         *
+         * <p>{@link Executor#execute(Runnable)} is invoked by the thread of the async HTTP client that received the response, so
+         * the executor must not block. If it rejects the task, the returned future is completed exceptionally.
+         *
+         * @param futureCompletionExecutor The executor that completes the future returned for this request.
+         * @return This object for method chaining
+         * @see SdkAdvancedAsyncClientOption#FUTURE_COMPLETION_EXECUTOR
+         */
+        B futureCompletionExecutor(Executor futureCompletionExecutor);
+
+        Executor futureCompletionExecutor();
+
         /**
          * Create a new {@code SdkRequestOverrideConfiguration} with the properties set on this builder.
          *
@@ -342,6 +375,7 @@ public abstract class RequestOverrideConfiguration {
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
         private Signer signer;
+        private Executor futureCompletionExecutor;
 
         protected BuilderImpl() {
         }
@@ -350,6 +384,7 @@ public abstract class RequestOverrideConfiguration {
             headers(sdkRequestOverrideConfig.headers);
             rawQueryParameters(sdkRequestOverrideConfig.rawQueryParameters);
             sdkRequestOverrideConfig.apiNames.forEach(this::addApiName);
+            futureCompletionExecutor(sdkRequestOverrideConfig.futureCompletionExecutor);
         }
 
         @Override
@@ -458,5 +493,20 @@ public abstract class RequestOverrideConfiguration {
         public Signer signer() {
             return signer;
         }
+
+        @Override
+        public B futureCompletionExecutor(Executor futureCompletionExecutor) {
+            this.futureCompletionExecutor = futureCompletionExecutor;
+            return (B) this;
+        }
+
+        public void setFutureCompletionExecutor(Executor futureCompletionExecutor) {
+            futureCompletionExecutor(futureCompletionExecutor);
+        }
+
+        @Override
+        public Executor futureCompletionExecutor() {
+            return futureCompletionExecutor;
+        }
     }
 }
@@ -142,7 +142,13 @@ public enum SdkSystemSetting implements SystemSetting {
     /**
      * Whether endpoint discovery should be enabled.
      */
-    AWS_ENDPOINT_DISCOVERY_ENABLED("aws.endpointDiscoveryEnabled", "false");
+    AWS_ENDPOINT_DISCOVERY_ENABLED("aws.endpointDiscoveryEnabled", "false"),
+
+    /**
+     * The maximum number of SigV4 signing keys cached by the signers of the JVM. A signing key is derived for each
+     * combination of credentials, region and service, and is valid for a day.
+     */
+    AWS_SIGNING_KEY_CACHE_SIZE("aws.signingKeyCacheSize", "300");
 
     private final String systemProperty;
     private final String defaultValue;
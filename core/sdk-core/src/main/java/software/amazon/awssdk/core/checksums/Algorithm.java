@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The checksum algorithms the SDK can calculate with an {@link SdkChecksum}.
+ *
+ * @see SdkChecksum#forAlgorithm(Algorithm)
+ */
+@SdkPublicApi
+public enum Algorithm {
+
+    /**
+     * CRC-32C (Castagnoli). It is calculated with {@code java.util.zip.CRC32C} when the JVM provides it, which uses the CRC32
+     * instructions of the CPU where available, and with a table-driven implementation otherwise. The checksums of consecutive
+     * parts of a payload can be combined into the checksum of the whole payload.
+     */
+    CRC32C,
+
+    /**
+     * CRC-32, as calculated by {@link java.util.zip.CRC32}. The checksums of consecutive parts of a payload can be combined
+     * into the checksum of the whole payload.
+     */
+    CRC32,
+
+    /**
+     * SHA-256.
+     */
+    SHA256,
+
+    /**
+     * MD5.
+     */
+    MD5
+}
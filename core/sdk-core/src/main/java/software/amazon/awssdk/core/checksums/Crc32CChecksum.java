@@ -0,0 +1,69 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.checksums;
+
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC-32C checksum.
+ * <p>
+ * {@code java.util.zip.CRC32C}, which the JVM implements with the CRC32 instructions of the CPU where available, is used
+ * when the JVM provides it, from Java 9 on. Otherwise the checksum is calculated by {@link SdkCrc32C}.
+ */
+@SdkInternalApi
+public class Crc32CChecksum extends CrcChecksum {
+
+    private static final long POLYNOMIAL = 0x82F63B78L;
+
+    private static final Supplier<Checksum> CRC32C_FACTORY = crc32cFactory();
+
+    public Crc32CChecksum() {
+        super(POLYNOMIAL, CRC32C_FACTORY);
+    }
+
+    /**
+     * Combine the CRC-32C checksums of two consecutive sequences of bytes into the checksum of their concatenation.
+     *
+     * @param crc1 the checksum of the first sequence.
+     * @param crc2 the checksum of the second sequence.
+     * @param length2 the length of the second sequence.
+     * @return the checksum of the first sequence followed by the second one.
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return combine(crc1, crc2, length2, POLYNOMIAL);
+    }
+
+    private static Supplier<Checksum> crc32cFactory() {
+        Constructor<?> constructor;
+        try {
+            constructor = Class.forName("java.util.zip.CRC32C").getConstructor();
+        } catch (ClassNotFoundException | NoSuchMethodException | RuntimeException e) {
+            return SdkCrc32C::new;
+        }
+
+        return () -> {
+            try {
+                return (Checksum) constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unexpected error creating CRC32C checksum", e);
+            }
+        };
+    }
+}
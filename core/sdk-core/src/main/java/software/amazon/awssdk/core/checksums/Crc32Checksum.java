@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC-32 checksum with {@link CRC32}.
+ */
+@SdkInternalApi
+public class Crc32Checksum extends CrcChecksum {
+
+    private static final long POLYNOMIAL = 0xEDB88320L;
+
+    public Crc32Checksum() {
+        super(POLYNOMIAL, CRC32::new);
+    }
+
+    /**
+     * Combine the CRC-32 checksums of two consecutive sequences of bytes into the checksum of their concatenation.
+     *
+     * @param crc1 the checksum of the first sequence.
+     * @param crc2 the checksum of the second sequence.
+     * @param length2 the length of the second sequence.
+     * @return the checksum of the first sequence followed by the second one.
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return combine(crc1, crc2, length2, POLYNOMIAL);
+    }
+
+    @Override
+    void updateCrc(Checksum crc, ByteBuffer buffer) {
+        ((CRC32) crc).update(buffer);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Implementation of {@link SdkChecksum} for the 32-bit cyclic redundancy checks.
+ * <p>
+ * A CRC can't be restored to an earlier state, so the CRC of the bytes read up to the mark is kept, the bytes read after
+ * it are checksummed on their own, and the two are combined when the value is read. Likewise, the CRC of the bytes read
+ * since the mark that precede a combined sequence is kept as a value, so that the bytes read afterwards can be appended.
+ */
+@SdkInternalApi
+abstract class CrcChecksum implements SdkChecksum {
+
+    private final long polynomial;
+
+    private final Checksum crc;
+
+    private long crcLastMarked;
+
+    private long crcCombinedSinceMark;
+
+    private long lengthCombinedSinceMark;
+
+    private long lengthSinceMark;
+
+    /**
+     * @param polynomial the polynomial of the CRC, in reversed bit order.
+     * @param crcFactory creates the checksum the bytes are updated into.
+     */
+    CrcChecksum(long polynomial, Supplier<Checksum> crcFactory) {
+        this.polynomial = polynomial;
+        this.crc = crcFactory.get();
+    }
+
+    @Override
+    public void update(int b) {
+        crc.update(b);
+        lengthSinceMark++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc.update(b, off, len);
+        lengthSinceMark += len;
+    }
+
+    @Override
+    public void update(ByteBuffer buffer) {
+        lengthSinceMark += buffer.remaining();
+        updateCrc(crc, buffer);
+    }
+
+    /**
+     * Update the CRC with the remaining bytes of the buffer, for the CRCs that can read buffers natively.
+     */
+    void updateCrc(Checksum crc, ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            crc.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(buffer.remaining(), 8192)];
+        while (buffer.hasRemaining()) {
+            int chunkLength = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, chunkLength);
+            crc.update(chunk, 0, chunkLength);
+        }
+    }
+
+    @Override
+    public long getValue() {
+        long crcSinceMark = combine(crcCombinedSinceMark, crc.getValue(), lengthSinceMark, polynomial);
+        return combine(crcLastMarked, crcSinceMark, lengthCombinedSinceMark + lengthSinceMark, polynomial);
+    }
+
+    @Override
+    public void reset() {
+        // Without a preceding mark, the CRC of the bytes up to the mark is the one of no bytes, which is 0.
+        crc.reset();
+        lengthSinceMark = 0;
+        crcCombinedSinceMark = 0;
+        lengthCombinedSinceMark = 0;
+    }
+
+    @Override
+    public void combine(long otherValue, long otherLength) {
+        long crcSinceMark = combine(crcCombinedSinceMark, crc.getValue(), lengthSinceMark, polynomial);
+        crcCombinedSinceMark = combine(crcSinceMark, otherValue, otherLength, polynomial);
+        lengthCombinedSinceMark += lengthSinceMark + otherLength;
+        crc.reset();
+        lengthSinceMark = 0;
+    }
+
+    @Override
+    public byte[] getChecksumBytes() {
+        long value = getValue();
+        return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        crcLastMarked = getValue();
+        reset();
+    }
+
+    /**
+     * Combine the CRCs of two consecutive sequences of bytes into the CRC of their concatenation, by applying to the first
+     * CRC the operator that appends as many zero bytes as the second sequence has, as zlib's crc32_combine does.
+     *
+     * @param crc1 the CRC of the first sequence.
+     * @param crc2 the CRC of the second sequence.
+     * @param length2 the length of the second sequence.
+     * @param polynomial the polynomial of the CRC, in reversed bit order.
+     */
+    static long combine(long crc1, long crc2, long length2, long polynomial) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        // The operator for one zero bit.
+        odd[0] = polynomial;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        // The operators for two, then four zero bits.
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+
+        // Apply the operators for one zero byte, two, four and so on for each bit set in the length.
+        long crc = crc1;
+        long remaining = length2;
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(even, crc);
+            }
+            remaining >>>= 1;
+            if (remaining == 0) {
+                break;
+            }
+
+            gf2MatrixSquare(odd, even);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(odd, crc);
+            }
+            remaining >>>= 1;
+        } while (remaining != 0);
+
+        return crc ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(long[] matrix, long vector) {
+        long sum = 0;
+        long remaining = vector;
+        for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] matrix) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2MatrixTimes(matrix, matrix[n]);
+        }
+    }
+}
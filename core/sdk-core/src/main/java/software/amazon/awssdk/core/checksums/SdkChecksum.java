@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.checksums;
 
+import java.nio.ByteBuffer;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
@@ -25,6 +26,27 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 public interface SdkChecksum extends Checksum {
 
+    /**
+     * Creates a new checksum calculated with the given algorithm.
+     *
+     * @param algorithm the algorithm of the checksum.
+     * @return a new {@link SdkChecksum}, which is not thread safe.
+     */
+    static SdkChecksum forAlgorithm(Algorithm algorithm) {
+        switch (algorithm) {
+            case CRC32C:
+                return new Crc32CChecksum();
+            case CRC32:
+                return new Crc32Checksum();
+            case SHA256:
+                return new Sha256Checksum();
+            case MD5:
+                return new Md5Checksum();
+            default:
+                throw new IllegalArgumentException("Unsupported checksum algorithm: " + algorithm);
+        }
+    }
+
     /**
      * Returns the computed checksum in a byte array rather than the long provided by
      * {@link #getValue()}.
@@ -39,4 +61,43 @@ public interface SdkChecksum extends Checksum {
      * @param readLimit the maximum limit of bytes that can be read before the mark position becomes invalid.
      */
     void mark(int readLimit);
+
+    /**
+     * Updates the checksum with a sequence of bytes that was checksummed separately, given its checksum and length, as if the
+     * bytes themselves had been read. This allows the checksum of a payload to be calculated from the checksums of its
+     * parts, such as the parts of a multipart upload, in the order the parts appear in the payload.
+     * <p>
+     * Only the CRC algorithms, {@link Algorithm#CRC32C} and {@link Algorithm#CRC32}, support this.
+     *
+     * @param otherValue the checksum of the bytes, as returned by {@link #getValue()} for them.
+     * @param otherLength the number of bytes.
+     * @throws UnsupportedOperationException if the algorithm of the checksum can't be combined, as is the case for digests.
+     */
+    default void combine(long otherValue, long otherLength) {
+        throw new UnsupportedOperationException("Checksums of " + getClass().getSimpleName() + " can't be combined.");
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the buffer, from its position to its limit. Upon return, the position
+     * of the buffer is its limit.
+     * <p>
+     * Implementations read heap buffers in place, so that the bytes of a buffer don't have to be copied to be checksummed.
+     *
+     * @param buffer the bytes to update the checksum with.
+     */
+    default void update(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(length, 8192)];
+        while (buffer.hasRemaining()) {
+            int chunkLength = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, chunkLength);
+            update(chunk, 0, chunkLength);
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.checksums;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Table-driven implementation of CRC-32C (Castagnoli) for the JVMs that don't provide {@code java.util.zip.CRC32C}. It
+ * processes eight bytes per step with the "slicing-by-8" tables.
+ */
+@SdkInternalApi
+final class SdkCrc32C implements Checksum {
+
+    private static final int POLYNOMIAL = 0x82F63B78;
+
+    /**
+     * TABLES[k][b] is the CRC of byte b followed by k zero bytes.
+     */
+    private static final int[][] TABLES = new int[8][256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            }
+            TABLES[0][i] = crc;
+        }
+        for (int i = 0; i < 256; i++) {
+            for (int k = 1; k < 8; k++) {
+                int previous = TABLES[k - 1][i];
+                TABLES[k][i] = (previous >>> 8) ^ TABLES[0][previous & 0xFF];
+            }
+        }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ TABLES[0][(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        int[] t0 = TABLES[0];
+        int[] t1 = TABLES[1];
+        int[] t2 = TABLES[2];
+        int[] t3 = TABLES[3];
+        int[] t4 = TABLES[4];
+        int[] t5 = TABLES[5];
+        int[] t6 = TABLES[6];
+        int[] t7 = TABLES[7];
+
+        int value = crc;
+        int position = off;
+        int end = off + len;
+        for (; end - position >= 8; position += 8) {
+            value ^= (b[position] & 0xFF)
+                     | (b[position + 1] & 0xFF) << 8
+                     | (b[position + 2] & 0xFF) << 16
+                     | (b[position + 3] & 0xFF) << 24;
+            value = t7[value & 0xFF]
+                    ^ t6[(value >>> 8) & 0xFF]
+                    ^ t5[(value >>> 16) & 0xFF]
+                    ^ t4[value >>> 24]
+                    ^ t3[b[position + 4] & 0xFF]
+                    ^ t2[b[position + 5] & 0xFF]
+                    ^ t1[b[position + 6] & 0xFF]
+                    ^ t0[b[position + 7] & 0xFF];
+        }
+        for (; position < end; position++) {
+            value = (value >>> 8) ^ t0[(value ^ b[position]) & 0xFF];
+        }
+        crc = value;
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFF;
+    }
+}
@@ -50,4 +50,27 @@ public interface SdkClientBuilder<B extends SdkClientBuilder<B, C>, C> extends S
      * Configure the endpoint with which the SDK should communicate.
      */
     B endpointOverride(URI endpointOverride);
+
+    /**
+     * Configure the number of connections the HTTP client opens to the client's endpoint when the client is built, so that
+     * the first requests made after startup do not pay for the TCP and TLS handshakes. The connections are opened in the
+     * background and building the client does not wait for them. If the HTTP client is shared with other SDK clients,
+     * connections that are already open to the endpoint count towards this number.
+     *
+     * <p>Services that send requests to hosts derived from each request, like S3 with virtual-hosted-style bucket
+     * addressing, do not warm up the client's endpoint. Warm up the HTTP client with the hosts the requests are sent to
+     * instead.</p>
+     *
+     * <p>By default, connections are only opened when requests need them.</p>
+     *
+     * <p>The builders of the SDK clients all support this option. Builders implemented outside of the SDK that do not override
+     * this method ignore it, and their clients open connections when requests need them.</p>
+     *
+     * @see software.amazon.awssdk.http.SdkHttpClient#warmUp(URI, int)
+     * @see software.amazon.awssdk.http.async.SdkAsyncHttpClient#warmUp(URI, int)
+     */
+    @SuppressWarnings("unchecked")
+    default B warmUpConnections(Integer warmUpConnections) {
+        return (B) this;
+    }
 }
@@ -17,6 +17,7 @@ package software.amazon.awssdk.core.client.builder;
 
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.DIRECT_FUTURE_COMPLETION;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
@@ -27,9 +28,12 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_HOST_VARIES_PER_REQUEST;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.WARM_UP_CONNECTIONS;
 import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
@@ -45,6 +49,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -65,6 +70,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -88,6 +94,7 @@ import software.amazon.awssdk.utils.Validate;
 @SdkProtectedApi
 public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>, C> implements SdkClientBuilder<B, C> {
 
+    private static final Logger log = Logger.loggerFor(SdkDefaultClientBuilder.class);
     private static final SdkHttpClient.Builder DEFAULT_HTTP_CLIENT_BUILDER = new DefaultSdkHttpClientBuilder();
     private static final SdkAsyncHttpClient.Builder DEFAULT_ASYNC_HTTP_CLIENT_BUILDER = new DefaultSdkAsyncHttpClientBuilder();
 
@@ -191,7 +198,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                                          .option(RETRY_POLICY, RetryPolicy.defaultRetryPolicy())
                                          .option(USER_AGENT_PREFIX, UserAgentUtils.getUserAgent())
                                          .option(USER_AGENT_SUFFIX, "")
-                                         .option(CRC32_FROM_COMPRESSED_DATA_ENABLED, false));
+                                         .option(CRC32_FROM_COMPRESSED_DATA_ENABLED, false)
+                                         .option(ENDPOINT_HOST_VARIES_PER_REQUEST, false));
     }
 
     /**
@@ -206,8 +214,10 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize sync-specific configuration from the default-applied configuration.
      */
     private SdkClientConfiguration finalizeSyncConfiguration(SdkClientConfiguration config) {
+        SdkHttpClient httpClient = resolveSyncHttpClient(config);
+        warmUpConnections(config, httpClient::warmUp);
         return config.toBuilder()
-                     .option(SdkClientOption.SYNC_HTTP_CLIENT, resolveSyncHttpClient(config))
+                     .option(SdkClientOption.SYNC_HTTP_CLIENT, httpClient)
                      .option(SdkClientOption.CLIENT_TYPE, SYNC)
                      .build();
     }
@@ -216,9 +226,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize async-specific configuration from the default-applied configuration.
      */
     private SdkClientConfiguration finalizeAsyncConfiguration(SdkClientConfiguration config) {
+        SdkAsyncHttpClient httpClient = resolveAsyncHttpClient(config);
+        warmUpConnections(config, httpClient::warmUp);
         return config.toBuilder()
                      .option(FUTURE_COMPLETION_EXECUTOR, resolveAsyncFutureCompletionExecutor(config))
-                     .option(ASYNC_HTTP_CLIENT, resolveAsyncHttpClient(config))
+                     .option(ASYNC_HTTP_CLIENT, httpClient)
                      .option(SdkClientOption.CLIENT_TYPE, ASYNC)
                      .build();
     }
@@ -256,6 +268,30 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                      .orElseGet(() -> defaultAsyncHttpClientBuilder.buildWithDefaults(childHttpConfig()));
     }
 
+    /**
+     * Start opening the configured number of connections to the client's endpoint, without waiting for them.
+     */
+    private void warmUpConnections(SdkClientConfiguration config, BiFunction<URI, Integer, CompletableFuture<Void>> warmUp) {
+        Integer connections = config.option(WARM_UP_CONNECTIONS);
+        URI endpoint = config.option(SdkClientOption.ENDPOINT);
+        if (connections == null || connections <= 0 || endpoint == null) {
+            return;
+        }
+
+        if (config.option(ENDPOINT_HOST_VARIES_PER_REQUEST)) {
+            // Connections to the client's endpoint would not be used by the requests
+            log.debug(() -> "Not warming up connections to " + endpoint + " as requests are not sent to its host.");
+            return;
+        }
+
+        warmUp.apply(endpoint, connections).whenComplete((r, t) -> {
+            if (t != null) {
+                // Not fatal, requests will open the connections they need themselves
+                log.debug(() -> "Unable to warm up connections to " + endpoint, t);
+            }
+        });
+    }
+
     /**
      * Optionally overridden by child implementations to provide implementation-specific default HTTP configuration.
      */
@@ -268,6 +304,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private Executor resolveAsyncFutureCompletionExecutor(SdkClientConfiguration config) {
         Supplier<Executor> defaultExecutor = () -> {
+            // Futures are completed on the HTTP client's threads, so don't create a thread pool that would never be used.
+            if (Boolean.TRUE.equals(config.option(DIRECT_FUTURE_COMPLETION))) {
+                return Runnable::run;
+            }
+
             ThreadPoolExecutor executor = new ThreadPoolExecutor(50, 50,
                                                                  10, TimeUnit.SECONDS,
                                                                  new LinkedBlockingQueue<>(10_000),
@@ -312,8 +353,19 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         endpointOverride(endpointOverride);
     }
 
+    @Override
+    public final B warmUpConnections(Integer warmUpConnections) {
+        clientConfiguration.option(WARM_UP_CONNECTIONS, warmUpConnections);
+        return thisBuilder();
+    }
+
+    public final void setWarmUpConnections(Integer warmUpConnections) {
+        warmUpConnections(warmUpConnections);
+    }
+
     public final B asyncConfiguration(ClientAsyncConfiguration asyncConfiguration) {
         clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR, asyncConfiguration.advancedOption(FUTURE_COMPLETION_EXECUTOR));
+        clientConfiguration.option(DIRECT_FUTURE_COMPLETION, asyncConfiguration.advancedOption(DIRECT_FUTURE_COMPLETION));
         return thisBuilder();
     }
 
@@ -333,6 +385,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         clientConfiguration.option(API_CALL_ATTEMPT_TIMEOUT, overrideConfig.apiCallAttemptTimeout().orElse(null));
         clientConfiguration.option(DISABLE_HOST_PREFIX_INJECTION,
                                    overrideConfig.advancedOption(DISABLE_HOST_PREFIX_INJECTION).orElse(null));
+        clientConfiguration.option(METRIC_PUBLISHER, overrideConfig.metricPublisher().orElse(null));
         return thisBuilder();
     }
 
@@ -395,6 +448,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         public String clientName() {
             return delegate.clientName();
         }
+
+        @Override
+        public CompletableFuture<Void> warmUp(URI endpoint, int connections) {
+            return delegate.warmUp(endpoint, connections);
+        }
     }
 
     /**
@@ -415,6 +473,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return delegate.execute(request);
         }
 
+        @Override
+        public CompletableFuture<Void> warmUp(URI endpoint, int connections) {
+            return delegate.warmUp(endpoint, connections);
+        }
+
         @Override
         public void close() {
             // Do nothing, this client is managed by the customer.
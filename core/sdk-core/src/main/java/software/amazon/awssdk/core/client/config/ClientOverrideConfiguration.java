@@ -26,6 +26,7 @@ import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -50,6 +51,7 @@ public final class ClientOverrideConfiguration
     private final AttributeMap advancedOptions;
     private final Duration apiCallAttemptTimeout;
     private final Duration apiCallTimeout;
+    private final MetricPublisher metricPublisher;
 
     /**
      * Initialize this configuration. Private to require use of {@link #builder()}.
@@ -61,6 +63,7 @@ public final class ClientOverrideConfiguration
         this.advancedOptions = builder.advancedOptions();
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
         this.apiCallAttemptTimeout = Validate.isPositiveOrNull(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
+        this.metricPublisher = builder.metricPublisher();
     }
 
     @Override
@@ -70,7 +73,8 @@ public final class ClientOverrideConfiguration
                                                               .retryPolicy(retryPolicy)
                                                               .apiCallTimeout(apiCallTimeout)
                                                               .apiCallAttemptTimeout(apiCallAttemptTimeout)
-                                                              .executionInterceptors(executionInterceptors);
+                                                              .executionInterceptors(executionInterceptors)
+                                                              .metricPublisher(metricPublisher);
     }
 
     /**
@@ -157,6 +161,15 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(apiCallAttemptTimeout);
     }
 
+    /**
+     * The publisher that receives the metrics of every API call made by the client, if metrics collection is enabled.
+     *
+     * @see Builder#metricPublisher(MetricPublisher)
+     */
+    public Optional<MetricPublisher> metricPublisher() {
+        return Optional.ofNullable(metricPublisher);
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -166,6 +179,7 @@ public final class ClientOverrideConfiguration
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout)
                        .add("executionInterceptors", executionInterceptors)
                        .add("advancedOptions", advancedOptions)
+                       .add("metricPublisher", metricPublisher)
                        .build();
     }
 
@@ -325,6 +339,17 @@ public final class ClientOverrideConfiguration
         Builder apiCallAttemptTimeout(Duration apiCallAttemptTimeout);
 
         Duration apiCallAttemptTimeout();
+
+        /**
+         * Configure a publisher that receives the metrics of every API call made by the client, including the time spent
+         * marshalling, signing, waiting for the response and unmarshalling in each attempt. Metrics are only collected when a
+         * publisher is configured.
+         *
+         * @see ClientOverrideConfiguration#metricPublisher()
+         */
+        Builder metricPublisher(MetricPublisher metricPublisher);
+
+        MetricPublisher metricPublisher();
     }
 
     /**
@@ -337,6 +362,7 @@ public final class ClientOverrideConfiguration
         private AttributeMap.Builder advancedOptions = AttributeMap.builder();
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
+        private MetricPublisher metricPublisher;
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
@@ -456,6 +482,21 @@ public final class ClientOverrideConfiguration
             return apiCallAttemptTimeout;
         }
 
+        @Override
+        public Builder metricPublisher(MetricPublisher metricPublisher) {
+            this.metricPublisher = metricPublisher;
+            return this;
+        }
+
+        public void setMetricPublisher(MetricPublisher metricPublisher) {
+            metricPublisher(metricPublisher);
+        }
+
+        @Override
+        public MetricPublisher metricPublisher() {
+            return metricPublisher;
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(this);
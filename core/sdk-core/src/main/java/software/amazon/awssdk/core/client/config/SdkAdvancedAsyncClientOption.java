@@ -37,10 +37,37 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
      * clients. By default, this is an the {@link ExecutorService} managed by the SDK. {@link Executor#execute(Runnable)} is
      * invoked by the async HTTP client's thread, so {@code Runnable::run} will complete the future on a non-blocking async
      * thread.
+     *
+     * <p>If the executor rejects the completion of a future, for example because its queue is full, that future is completed
+     * exceptionally with an {@link software.amazon.awssdk.core.exception.SdkClientException}.
+     *
+     * <p>The executor can be overridden for a single request with
+     * {@link software.amazon.awssdk.core.RequestOverrideConfiguration.Builder#futureCompletionExecutor(Executor)}.
      */
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Complete the {@link CompletableFuture} that is returned by the service clients directly on the thread of the async HTTP
+     * client that received the response, instead of handing it off to the {@link #FUTURE_COMPLETION_EXECUTOR}. This avoids a
+     * context switch and an executor queue per call, and when no {@link #FUTURE_COMPLETION_EXECUTOR} is configured the SDK
+     * does not create its default completion thread pool at all. Disabled by default.
+     *
+     * <p>When enabled, every callback chained onto a returned future without an explicit executor runs on an I/O thread of the
+     * HTTP client (for the Netty client, an event loop that is shared by many connections). These callbacks:
+     * <ul>
+     *     <li>must not block, for example by calling {@code join()} on another future returned by an SDK client, as that may
+     *     deadlock or stall every request served by the same thread;</li>
+     *     <li>should be short, as the HTTP client can not read or write on any of the thread's connections until they
+     *     return.</li>
+     * </ul>
+     * Callers that can not guarantee this should keep the default, or configure a completion executor for the requests that
+     * need it with {@link software.amazon.awssdk.core.RequestOverrideConfiguration.Builder#futureCompletionExecutor(Executor)},
+     * which takes priority over this option.
+     */
+    public static final SdkAdvancedAsyncClientOption<Boolean> DIRECT_FUTURE_COMPLETION =
+            new SdkAdvancedAsyncClientOption<>(Boolean.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
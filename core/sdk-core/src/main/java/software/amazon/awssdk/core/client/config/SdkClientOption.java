@@ -25,6 +25,7 @@ import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
@@ -56,6 +57,17 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<URI> ENDPOINT = new SdkClientOption<>(URI.class);
 
+    /**
+     * @see SdkClientBuilder#warmUpConnections(Integer)
+     */
+    public static final SdkClientOption<Integer> WARM_UP_CONNECTIONS = new SdkClientOption<>(Integer.class);
+
+    /**
+     * Whether the service sends requests to hosts derived from each request rather than to the client's endpoint, like S3
+     * does with virtual-hosted-style bucket addressing. By default, this is false.
+     */
+    public static final SdkClientOption<Boolean> ENDPOINT_HOST_VARIES_PER_REQUEST = new SdkClientOption<>(Boolean.class);
+
     /**
      * Service-specific configuration used by some services, like S3.
      */
@@ -112,6 +124,13 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<Boolean> ENDPOINT_DISCOVERY_ENABLED = new SdkClientOption<>(Boolean.class);
 
+    /**
+     * The publisher that receives the metrics of every API call, or null if metrics are not collected.
+     *
+     * @see ClientOverrideConfiguration#metricPublisher()
+     */
+    public static final SdkClientOption<MetricPublisher> METRIC_PUBLISHER = new SdkClientOption<>(MetricPublisher.class);
+
     private SdkClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -26,16 +26,19 @@ import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.Crc32Validation;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.AsyncAfterTransmissionInterceptorCallingResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.AsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.AsyncStreamingResponseHandler;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -99,6 +102,10 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         ExecutionContext executionContext,
         TransformingAsyncResponseHandler<ReturnT> asyncResponseHandler) {
 
+        ExecutionAttributes executionAttributes = executionContext.executionAttributes();
+        ApiCallMetricsCollector metricsCollector =
+            ApiCallMetricsCollector.startIfEnabled(clientConfiguration.option(SdkClientOption.METRIC_PUBLISHER),
+                                                   executionAttributes);
         try {
 
             // Running beforeExecution interceptors and modifyRequest interceptors.
@@ -144,12 +151,19 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
                 return resp;
             });
 
+            if (metricsCollector != null) {
+                exceptionTranslatedFuture.whenComplete((r, t) -> metricsCollector.publish(executionAttributes, t == null));
+            }
+
             return CompletableFutureUtils.forwardExceptionTo(exceptionTranslatedFuture, invokeFuture);
         } catch (Throwable t) {
             runAndLogError(
                 log.logger(),
                 "Error thrown from TransformingAsyncResponseHandler#onError, ignoring.",
                 () -> asyncResponseHandler.onError(t));
+            if (metricsCollector != null) {
+                metricsCollector.publish(executionAttributes, false);
+            }
             return CompletableFutureUtils.failedFuture(ThrowableUtils.asSdkException(t));
         }
     }
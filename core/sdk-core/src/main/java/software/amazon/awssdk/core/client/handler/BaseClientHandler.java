@@ -28,6 +28,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.StringUtils;
 
@@ -60,7 +61,7 @@ public abstract class BaseClientHandler {
         SdkClientConfiguration clientConfiguration) {
 
         runBeforeMarshallingInterceptors(executionContext);
-        SdkHttpFullRequest request = executionParams.getMarshaller().marshall(inputT);
+        SdkHttpFullRequest request = marshall(executionParams, executionContext, inputT);
         request = modifyEndpointHostIfNeeded(request, clientConfiguration, executionParams);
 
         addHttpRequest(executionContext, request);
@@ -68,6 +69,20 @@ public abstract class BaseClientHandler {
         return runModifyHttpRequestAndHttpContentInterceptors(executionContext);
     }
 
+    private static <InputT extends SdkRequest, OutputT> SdkHttpFullRequest marshall(
+        ClientExecutionParams<InputT, OutputT> executionParams, ExecutionContext executionContext, InputT inputT) {
+
+        ApiCallMetricsCollector metricsCollector = ApiCallMetricsCollector.forCall(executionContext.executionAttributes());
+        if (metricsCollector == null) {
+            return executionParams.getMarshaller().marshall(inputT);
+        }
+
+        long startNanos = System.nanoTime();
+        SdkHttpFullRequest request = executionParams.getMarshaller().marshall(inputT);
+        metricsCollector.marshallingDuration(ApiCallMetricsCollector.elapsedSince(startNanos));
+        return request;
+    }
+
     private static void runBeforeExecutionInterceptors(ExecutionContext executionContext) {
         executionContext.interceptorChain().beforeExecution(executionContext.interceptorContext(),
                                                             executionContext.executionAttributes());
@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.NonRetryableException;
 import software.amazon.awssdk.core.exception.RetryableException;
@@ -29,6 +30,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.internal.http.AmazonSyncHttpClient;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -101,6 +103,29 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
         ExecutionContext executionContext,
         HttpResponseHandler<ReturnT> responseHandler) {
 
+        ExecutionAttributes executionAttributes = executionContext.executionAttributes();
+        ApiCallMetricsCollector metricsCollector =
+            ApiCallMetricsCollector.startIfEnabled(clientConfiguration.option(SdkClientOption.METRIC_PUBLISHER),
+                                                   executionAttributes);
+        if (metricsCollector == null) {
+            return doExecute(executionParams, executionContext, responseHandler);
+        }
+
+        boolean successful = false;
+        try {
+            ReturnT result = doExecute(executionParams, executionContext, responseHandler);
+            successful = true;
+            return result;
+        } finally {
+            metricsCollector.publish(executionAttributes, successful);
+        }
+    }
+
+    private <InputT extends SdkRequest, OutputT, ReturnT> ReturnT doExecute(
+        ClientExecutionParams<InputT, OutputT> executionParams,
+        ExecutionContext executionContext,
+        HttpResponseHandler<ReturnT> responseHandler) {
+
         InputT inputT = (InputT) finalizeSdkRequest(executionContext).request();
 
         InterceptorContext sdkHttpFullRequestContext = finalizeSdkHttpFullRequest(executionParams,
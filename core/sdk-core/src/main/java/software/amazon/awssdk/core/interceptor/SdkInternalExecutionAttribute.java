@@ -18,6 +18,8 @@ package software.amazon.awssdk.core.interceptor;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
 
 /**
  * Attributes that can be applied to all sdk requests. Only SDK is allowed to set these values.
@@ -39,6 +41,13 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<CompletableFuture<?>> ASYNC_RESPONSE_TRANSFORMER_FUTURE =
         new ExecutionAttribute<>("AsyncResponseTransformerFuture");
 
+    /**
+     * The key to store the {@link ApiCallMetricsCollector} of a request. This is only present if a
+     * {@link MetricPublisher} is configured.
+     */
+    public static final ExecutionAttribute<ApiCallMetricsCollector> API_CALL_METRICS_COLLECTOR =
+        new ExecutionAttribute<>("ApiCallMetricsCollector");
+
     private SdkInternalExecutionAttribute() {
     }
 }
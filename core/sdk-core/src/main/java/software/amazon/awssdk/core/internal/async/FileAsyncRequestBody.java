@@ -35,6 +35,10 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
 /**
  * Implementation of {@link AsyncRequestBody} that reads data from a file.
  *
+ * <p>By default the file is read into heap buffers. The file can instead be read into direct buffers, see
+ * {@link Builder#directBuffers(Boolean)}. Each chunk is read into a buffer of its own, as the subscriber may hold on to the
+ * chunks it receives, so the buffers cannot be pooled.
+ *
  * @see AsyncRequestBody#fromFile(Path)
  * @see AsyncRequestBody#fromFile(java.io.File)
  */
@@ -56,9 +60,15 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
      */
     private final int chunkSizeInBytes;
 
+    /**
+     * Whether chunks are read into direct buffers rather than heap buffers.
+     */
+    private final boolean directBuffers;
+
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
+        this.directBuffers = builder.directBuffers != null && builder.directBuffers;
     }
 
     @Override
@@ -74,11 +84,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     public void subscribe(Subscriber<? super ByteBuffer> s) {
         try {
             AsynchronousFileChannel channel = openInputChannel(this.path);
+            long fileSize;
+            try {
+                fileSize = channel.size();
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
 
             // We need to synchronize here because the subscriber could call
             // request() from within onSubscribe which would potentially
             // trigger onNext before onSubscribe is finished.
-            Subscription subscription = new FileSubscription(channel, s, chunkSizeInBytes);
+            Subscription subscription = new FileSubscription(channel, fileSize, s, chunkSizeInBytes, directBuffers);
             synchronized (subscription) {
                 s.onSubscribe(subscription);
             }
@@ -122,12 +139,30 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          */
         Builder chunkSizeInBytes(Integer chunkSize);
 
+        /**
+         * Sets whether the file is read into direct buffers rather than heap buffers. Reading a file into a heap buffer makes
+         * the JDK read it into a temporary direct buffer and copy it over, and HTTP clients that write to the socket through
+         * NIO, like the Netty client, copy heap buffers into direct buffers again before writing them. Direct buffers avoid both
+         * copies.
+         *
+         * <p>Each chunk is allocated a direct buffer of its own, which is only freed once it is garbage collected. Large
+         * uploads can reach the JVM's limit on direct memory ({@code -XX:MaxDirectMemorySize}) and stall on garbage collection
+         * until older chunks are freed, so only enable this when that limit leaves room for the chunks in flight.</p>
+         *
+         * <p>Heap buffers are used by default.</p>
+         *
+         * @param directBuffers Whether to read the file into direct buffers.
+         * @return This builder for method chaining.
+         */
+        Builder directBuffers(Boolean directBuffers);
+
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Path path;
         private Integer chunkSizeInBytes;
+        private Boolean directBuffers;
 
         @Override
         public Builder path(Path path) {
@@ -149,6 +184,16 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             chunkSizeInBytes(chunkSizeInBytes);
         }
 
+        @Override
+        public Builder directBuffers(Boolean directBuffers) {
+            this.directBuffers = directBuffers;
+            return this;
+        }
+
+        public void setDirectBuffers(Boolean directBuffers) {
+            directBuffers(directBuffers);
+        }
+
         @Override
         public FileAsyncRequestBody build() {
             return new FileAsyncRequestBody(this);
@@ -162,16 +207,21 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private final AsynchronousFileChannel inputChannel;
         private final Subscriber<? super ByteBuffer> subscriber;
         private final int chunkSize;
+        private final long fileSize;
+        private final boolean directBuffers;
 
         private long position = 0;
         private AtomicLong outstandingDemand = new AtomicLong(0);
         private boolean writeInProgress = false;
         private volatile boolean done = false;
 
-        private FileSubscription(AsynchronousFileChannel inputChannel, Subscriber<? super ByteBuffer> subscriber, int chunkSize) {
+        private FileSubscription(AsynchronousFileChannel inputChannel, long fileSize, Subscriber<? super ByteBuffer> subscriber,
+                                 int chunkSize, boolean directBuffers) {
             this.inputChannel = inputChannel;
+            this.fileSize = fileSize;
             this.subscriber = subscriber;
             this.chunkSize = chunkSize;
+            this.directBuffers = directBuffers;
         }
 
         @Override
@@ -225,7 +275,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                 return;
             }
 
-            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+            // Don't allocate more than the rest of the file, as direct memory is only freed once the buffer is garbage collected
+            long remaining = fileSize - position;
+            int bufferSize = remaining > 0 ? (int) Math.min(chunkSize, remaining) : chunkSize;
+            ByteBuffer buffer = directBuffers ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
             inputChannel.read(buffer, position, buffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
@@ -92,6 +92,14 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
      * {@link Subscriber} implementation that writes chunks to a file.
      */
     static class FileSubscriber implements Subscriber<ByteBuffer> {
+        /**
+         * Largest chunk that is copied into the reused direct write buffer. Larger chunks are copied into a buffer of their own
+         * rather than growing the write buffer without bound.
+         */
+        private static final int MAX_WRITE_BUFFER_SIZE = 1024 * 1024;
+
+        private static final int MIN_WRITE_BUFFER_SIZE = 16 * 1024;
+
         private final AtomicLong position = new AtomicLong();
 
         private final AsynchronousFileChannel fileChannel;
@@ -103,6 +111,14 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         private volatile boolean closeOnLastWrite = false;
         private Subscription subscription;
 
+        /**
+         * Direct buffer reused for every write of up to {@link #MAX_WRITE_BUFFER_SIZE}. Writing a heap buffer to a file
+         * channel makes the JDK copy it into a temporary direct buffer anyway, so copying into our own saves that allocation,
+         * and because the copy happens before onNext returns the publisher is free to reuse or release the chunk it gave us.
+         * Only one write is in flight at a time, as the next chunk is not requested until the previous write completes.
+         */
+        private ByteBuffer writeBuffer;
+
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
                        Consumer<Throwable> onErrorMethod) {
             this.fileChannel = fileChannel;
@@ -128,7 +144,25 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            performWrite(stage(byteBuffer));
+        }
+
+        private ByteBuffer stage(ByteBuffer byteBuffer) {
+            int size = byteBuffer.remaining();
+            if (size > MAX_WRITE_BUFFER_SIZE) {
+                // Still copied, the publisher may reuse or release the chunk as soon as onNext returns.
+                ByteBuffer copy = ByteBuffer.allocate(size);
+                copy.put(byteBuffer);
+                copy.flip();
+                return copy;
+            }
+            if (writeBuffer == null || writeBuffer.capacity() < size) {
+                writeBuffer = ByteBuffer.allocateDirect(Math.max(size, MIN_WRITE_BUFFER_SIZE));
+            }
+            writeBuffer.clear();
+            writeBuffer.put(byteBuffer);
+            writeBuffer.flip();
+            return writeBuffer;
         }
 
         private void performWrite(ByteBuffer byteBuffer) {
@@ -17,13 +17,18 @@ package software.amazon.awssdk.core.internal.http;
 
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.SdkGlobalTime;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
+import software.amazon.awssdk.core.retry.RetryBudget;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -33,8 +38,11 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 @SdkInternalApi
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final ClockSkewAdjuster clockSkewAdjuster = new ClockSkewAdjuster();
+    private final RateLimitingTokenBucket rateLimitingTokenBucket = new RateLimitingTokenBucket();
     private final SdkClientConfiguration clientConfiguration;
-    private final CapacityManager capacityManager;
+    private final RetryBudget retryBudget;
+    private final HashedWheelTimer timeoutTimer;
+    private final Executor timeoutExecutor;
 
     /**
      * Time offset may be mutated by {@link RequestPipeline} implementations if a clock skew is detected.
@@ -43,7 +51,17 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
 
     private HttpClientDependencies(Builder builder) {
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
-        this.capacityManager = paramNotNull(builder.capacityManager, "CapacityManager");
+        this.retryBudget = paramNotNull(builder.retryBudget, "RetryBudget");
+        this.timeoutTimer = builder.timeoutTimer != null ? builder.timeoutTimer : HashedWheelTimer.shared();
+        this.timeoutExecutor = timeoutExecutor(clientConfiguration);
+    }
+
+    /**
+     * Expired timeouts are handed off to the client's scheduled executor, which is also used to schedule retries.
+     */
+    private static Executor timeoutExecutor(SdkClientConfiguration clientConfiguration) {
+        Executor executor = clientConfiguration.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        return executor != null ? executor : Runnable::run;
     }
 
     public static Builder builder() {
@@ -55,10 +73,32 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     }
 
     /**
-     * @return CapacityManager object used for retry throttling.
+     * @return The budget retries of this client draw from. This may be shared with other clients.
+     */
+    public RetryBudget retryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * @return The token bucket that paces the requests of this client when the retry policy is in adaptive mode.
      */
-    public CapacityManager retryCapacity() {
-        return capacityManager;
+    public RateLimitingTokenBucket rateLimitingTokenBucket() {
+        return rateLimitingTokenBucket;
+    }
+
+    /**
+     * @return The timer used to enforce the API call and API call attempt timeouts of this client. Unless overridden in
+     * tests, this is the timer shared by all clients.
+     */
+    public HashedWheelTimer timeoutTimer() {
+        return timeoutTimer;
+    }
+
+    /**
+     * @return The executor the expired timeouts of this client are run on.
+     */
+    public Executor timeoutExecutor() {
+        return timeoutExecutor;
     }
 
     /**
@@ -93,7 +133,8 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
      */
     public static class Builder {
         private SdkClientConfiguration clientConfiguration;
-        private CapacityManager capacityManager;
+        private RetryBudget retryBudget;
+        private HashedWheelTimer timeoutTimer;
 
         private Builder() {}
 
@@ -102,8 +143,14 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             return this;
         }
 
-        public Builder capacityManager(CapacityManager capacityManager) {
-            this.capacityManager = capacityManager;
+        public Builder retryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        @SdkTestInternalApi
+        public Builder timeoutTimer(HashedWheelTimer timeoutTimer) {
+            this.timeoutTimer = timeoutTimer;
             return this;
         }
 
@@ -15,10 +15,9 @@
 
 package software.amazon.awssdk.core.internal.http.async;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
@@ -28,6 +27,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.io.ByteBuffersInputStream;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -40,14 +40,15 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
  *
  * <p>
  * Adapts an {@link HttpResponseHandler} to the asynchronous {@link TransformingAsyncResponseHandler}. Buffers
- * all content into a {@link ByteArrayInputStream} then invokes the {@link HttpResponseHandler#handle}
- * method.
+ * all content as a list of chunks, then invokes the {@link HttpResponseHandler#handle} method with a
+ * {@link ByteBuffersInputStream} over those chunks. Each chunk is copied exactly once as it arrives and the
+ * content is never assembled into a single contiguous array.
  *
  * @param <T> Type that the response handler produces.
  */
 @SdkInternalApi
 public final class AsyncResponseHandler<T> implements TransformingAsyncResponseHandler<T> {
-    private volatile CompletableFuture<ByteArrayOutputStream> streamFuture;
+    private volatile CompletableFuture<List<ByteBuffer>> streamFuture;
     private final HttpResponseHandler<T> responseHandler;
     private final ExecutionAttributes executionAttributes;
     private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
@@ -68,7 +69,7 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
     @Override
     public void onStream(Publisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(streamFuture));
+        publisher.subscribe(new BufferingSubscriber(streamFuture));
     }
 
     @Override
@@ -79,8 +80,8 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
     @Override
     public CompletableFuture<T> prepare() {
         streamFuture = new CompletableFuture<>();
-        return streamFuture.thenCompose(baos -> {
-            ByteArrayInputStream content = new ByteArrayInputStream(baos.toByteArray());
+        return streamFuture.thenCompose(chunks -> {
+            ByteBuffersInputStream content = ByteBuffersInputStream.create(chunks);
             // Ignore aborts - we already have all of the content.
             AbortableInputStream abortableContent = AbortableInputStream.create(content);
             httpResponse.content(abortableContent);
@@ -93,12 +94,12 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
         });
     }
 
-    private static class BaosSubscriber implements Subscriber<ByteBuffer> {
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        private final CompletableFuture<ByteArrayOutputStream> streamFuture;
+    private static class BufferingSubscriber implements Subscriber<ByteBuffer> {
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private final CompletableFuture<List<ByteBuffer>> streamFuture;
         private Subscription subscription;
 
-        private BaosSubscriber(CompletableFuture<ByteArrayOutputStream> streamFuture) {
+        private BufferingSubscriber(CompletableFuture<List<ByteBuffer>> streamFuture) {
             this.streamFuture = streamFuture;
         }
 
@@ -110,13 +111,9 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            try {
-                baos.write(BinaryUtils.copyBytesFrom(byteBuffer));
-                this.subscription.request(Long.MAX_VALUE);
-            } catch (IOException e) {
-                // Should never happen
-                streamFuture.completeExceptionally(e);
-            }
+            // The publisher may reuse the buffer once onNext returns, so take a copy of just the readable bytes.
+            chunks.add(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(byteBuffer)));
+            this.subscription.request(Long.MAX_VALUE);
         }
 
         @Override
@@ -126,7 +123,7 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
         @Override
         public void onComplete() {
-            streamFuture.complete(baos);
+            streamFuture.complete(chunks);
         }
     }
 }
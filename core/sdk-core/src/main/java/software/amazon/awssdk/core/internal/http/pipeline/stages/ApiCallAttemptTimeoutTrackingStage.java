@@ -19,7 +19,7 @@ import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolv
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.timeSyncTaskIfNeeded;
 
 import java.time.Duration;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.internal.Response;
@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
@@ -38,12 +39,14 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
 
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final Duration apiCallAttemptTimeout;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final HashedWheelTimer timeoutTimer;
+    private final Executor timeoutExecutor;
 
     public ApiCallAttemptTimeoutTrackingStage(HttpClientDependencies dependencies, RequestPipeline<SdkHttpFullRequest,
         Response<OutputT>> wrapped) {
         this.wrapped = wrapped;
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
+        this.timeoutExecutor = dependencies.timeoutExecutor();
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
     }
 
@@ -57,7 +60,8 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
     public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
         long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout);
 
-        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutTimer, timeoutExecutor, timeoutInMillis,
+                                                             Thread.currentThread());
 
         try {
             context.apiCallAttemptTimeoutTracker(timeoutTracker);
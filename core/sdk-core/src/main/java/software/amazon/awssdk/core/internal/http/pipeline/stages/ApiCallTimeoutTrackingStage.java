@@ -20,7 +20,7 @@ import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.timeSy
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.time.Duration;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.SyncTimeoutTask;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -43,14 +44,16 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResponsePipeline<OutputT> {
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final SdkClientConfiguration clientConfig;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final HashedWheelTimer timeoutTimer;
+    private final Executor timeoutExecutor;
     private final Duration apiCallTimeout;
 
     public ApiCallTimeoutTrackingStage(HttpClientDependencies dependencies,
                                        RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped) {
         this.wrapped = wrapped;
         this.clientConfig = dependencies.clientConfiguration();
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
+        this.timeoutExecutor = dependencies.timeoutExecutor();
         this.apiCallTimeout = clientConfig.option(SdkClientOption.API_CALL_TIMEOUT);
     }
 
@@ -73,7 +76,8 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
 
         long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallTimeout, apiCallTimeout);
 
-        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutTimer, timeoutExecutor, timeoutInMillis,
+                                                             Thread.currentThread());
 
         try {
             context.apiCallTimeoutTracker(timeoutTracker);
@@ -19,7 +19,7 @@ import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolv
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.timeAsyncTaskIfNeeded;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -38,12 +39,14 @@ public class AsyncApiCallTimeoutTrackingStage<OutputT>
     implements RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> {
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> requestPipeline;
     private final SdkClientConfiguration clientConfig;
-    private final ScheduledExecutorService scheduledExecutor;
+    private final HashedWheelTimer timeoutTimer;
+    private final Executor timeoutExecutor;
 
     public AsyncApiCallTimeoutTrackingStage(HttpClientDependencies dependencies,
                                             RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> requestPipeline) {
         this.requestPipeline = requestPipeline;
-        this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
+        this.timeoutExecutor = dependencies.timeoutExecutor();
         this.clientConfig = dependencies.clientConfiguration();
     }
 
@@ -56,7 +59,8 @@ public class AsyncApiCallTimeoutTrackingStage<OutputT>
 
         Supplier<SdkClientException> exceptionSupplier = () -> ApiCallTimeoutException.create(apiCallTimeoutInMillis);
         TimeoutTracker timeoutTracker = timeAsyncTaskIfNeeded(future,
-                                                              scheduledExecutor,
+                                                              timeoutTimer,
+                                                              timeoutExecutor,
                                                               exceptionSupplier,
                                                               apiCallTimeoutInMillis);
         context.apiCallTimeoutTracker(timeoutTracker);
@@ -35,11 +35,13 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
+import software.amazon.awssdk.core.retry.RetryBudget;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -57,7 +59,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline;
     private final ScheduledExecutorService scheduledExecutor;
     private final HttpClientDependencies dependencies;
-    private final CapacityManager retryCapacity;
+    private final RetryBudget retryBudget;
     private final RetryPolicy retryPolicy;
 
     public AsyncRetryableStage(TransformingAsyncResponseHandler<OutputT> responseHandler,
@@ -67,7 +69,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         this.dependencies = dependencies;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
-        this.retryCapacity = dependencies.retryCapacity();
+        this.retryBudget = dependencies.retryBudget();
         this.requestPipeline = requestPipeline;
     }
 
@@ -88,12 +90,13 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         private final AsyncRequestBody originalRequestBody;
 
         private int requestCount = 0;
+        private Duration backoffDelay = Duration.ZERO;
 
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
             this.originalRequestBody = context.requestProvider();
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryBudget, dependencies.rateLimitingTokenBucket());
         }
 
         public CompletableFuture<Response<OutputT>> execute() throws Exception {
@@ -103,6 +106,26 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         public CompletableFuture<Response<OutputT>> execute(CompletableFuture<Response<OutputT>> future) throws Exception {
             beforeExecute();
+
+            Duration sendTokenDelay = retryHandler.acquireSendToken();
+            if (sendTokenDelay.isZero()) {
+                return attempt(future);
+            }
+
+            backoffDelay = backoffDelay.plus(sendTokenDelay);
+            SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client is being throttled, delaying request by "
+                                                         + sendTokenDelay.toMillis() + "ms");
+            scheduledExecutor.schedule(() -> {
+                try {
+                    attempt(future);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }, sendTokenDelay.toNanos(), TimeUnit.NANOSECONDS);
+            return future;
+        }
+
+        private CompletableFuture<Response<OutputT>> attempt(CompletableFuture<Response<OutputT>> future) throws Exception {
             CompletableFuture<Response<OutputT>> executeFuture = doExecute();
             executeFuture.whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
             return CompletableFutureUtils.forwardExceptionTo(future, executeFuture);
@@ -117,12 +140,14 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
             try {
                 if (resp != null) {
+                    retryHandler.updateSendingRate(RetryUtils.isThrottlingException(resp.exception()));
                     retryResponseIfNeeded(resp, future);
                 } else {
                     if (err instanceof CompletionException) {
                         err = err.getCause();
                     }
                     SdkException sdkException = ThrowableUtils.asSdkException(err);
+                    retryHandler.updateSendingRate(RetryUtils.isThrottlingException(sdkException));
                     retryErrorIfNeeded(sdkException, future);
                 }
             } catch (Throwable t) {
@@ -182,6 +207,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         private void executeRetry(CompletableFuture<Response<OutputT>> future) {
             Duration delay = retryHandler.computeDelayBeforeNextRetry();
+            backoffDelay = delay;
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + requestCount);
@@ -200,6 +226,11 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") +
                                                          "Request: " + request);
 
+            ApiCallMetricsCollector metricsCollector = ApiCallMetricsCollector.forCall(context.executionAttributes());
+            if (metricsCollector != null) {
+                metricsCollector.startAttempt(backoffDelay).retryBudgetAvailableCapacity(retryBudget.availableCapacity());
+            }
+
             // Before each attempt, Modify the context to use original request body provider
             context.requestProvider(originalRequestBody);
 
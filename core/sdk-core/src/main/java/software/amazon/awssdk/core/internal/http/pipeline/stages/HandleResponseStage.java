@@ -28,6 +28,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.internal.Response;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.IoUtils;
 
@@ -53,6 +54,8 @@ public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFull
 
     @Override
     public Response<OutputT> execute(SdkHttpFullResponse httpResponse, RequestExecutionContext context) throws Exception {
+        ApiCallMetricsCollector metricsCollector = ApiCallMetricsCollector.forCall(context.executionAttributes());
+        long startNanos = System.nanoTime();
         boolean didRequestFail = true;
         try {
             Response<OutputT> response = handleResponse(httpResponse, context);
@@ -60,6 +63,9 @@ public class HandleResponseStage<OutputT> implements RequestPipeline<SdkHttpFull
             return response;
         } finally {
             closeInputStreamIfNeeded(httpResponse, didRequestFail);
+            if (metricsCollector != null) {
+                metricsCollector.currentAttempt().unmarshallingDuration(ApiCallMetricsCollector.elapsedSince(startNanos));
+            }
         }
     }
 
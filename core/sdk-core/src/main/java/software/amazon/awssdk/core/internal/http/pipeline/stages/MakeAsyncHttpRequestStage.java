@@ -23,7 +23,7 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -43,8 +43,10 @@ import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -67,7 +69,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final TransformingAsyncResponseHandler<OutputT> responseHandler;
     private final TransformingAsyncResponseHandler<? extends SdkException> errorResponseHandler;
     private final Executor futureCompletionExecutor;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final boolean directFutureCompletion;
+    private final HashedWheelTimer timeoutTimer;
+    private final Executor timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<OutputT> responseHandler,
@@ -77,9 +81,12 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         this.errorResponseHandler = errorResponseHandler;
         this.futureCompletionExecutor =
             dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
+        this.directFutureCompletion = Boolean.TRUE.equals(
+            dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.DIRECT_FUTURE_COMPLETION));
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
+        this.timeoutExecutor = dependencies.timeoutExecutor();
     }
 
     @Override
@@ -102,7 +109,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         //FIXME(dongie): We need to be careful to only call responseHandler.prepare() exactly once per execute() call
         //because it calls prepare() under the hood and we guarantee that we call that once per execution. It would be good
         //to find a way to prevent multiple calls to prepare() within a single execution to only call prepare() once.
-        ResponseHandler handler = new ResponseHandler(responseFuture, preparedTransformFuture, preparedErrorTransformFuture);
+        ApiCallMetricsCollector metricsCollector = ApiCallMetricsCollector.forCall(context.executionAttributes());
+        ResponseHandler handler = new ResponseHandler(responseFuture, preparedTransformFuture, preparedErrorTransformFuture,
+                                                      metricsCollector == null ? null : metricsCollector.currentAttempt());
 
         CompletableFuture<Response<OutputT>> preparedWrapperTransformFuture = handler.prepare();
 
@@ -112,14 +121,17 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
-        AsyncExecuteRequest executeRequest = AsyncExecuteRequest.builder()
-                                                                .request(requestWithContentLength)
-                                                                .requestContentPublisher(requestProvider)
-                                                                .responseHandler(handler)
-                                                                .fullDuplex(isFullDuplex(context.executionAttributes()))
-                                                                .build();
+        AsyncExecuteRequest.Builder executeRequest = AsyncExecuteRequest.builder()
+                                                                        .request(requestWithContentLength)
+                                                                        .requestContentPublisher(requestProvider)
+                                                                        .responseHandler(handler)
+                                                                        .fullDuplex(isFullDuplex(context.executionAttributes()));
+        if (handler.attemptMetrics != null) {
+            executeRequest.connectionAcquireListener(handler.attemptMetrics::connectionAcquireDuration);
+        }
 
-        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        handler.requestStartNanos = System.nanoTime();
+        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest.build());
 
         TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
         context.apiCallAttemptTimeoutTracker(timeoutTracker);
@@ -131,19 +143,45 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             }
         });
 
-        // Offload the completion of the future returned from this stage onto
-        // the future completion executor
-        preparedWrapperTransformFuture.whenCompleteAsync((r, t) -> {
-            if (t == null) {
-                responseFuture.complete(r);
-            } else {
-                responseFuture.completeExceptionally(t);
-            }
-        }, futureCompletionExecutor);
+        Executor completionExecutor = context.requestConfig()
+                                             .futureCompletionExecutor()
+                                             .orElse(directFutureCompletion ? null : futureCompletionExecutor);
+        preparedWrapperTransformFuture.whenComplete((r, t) -> completeResponseFuture(responseFuture, r, t, completionExecutor));
 
         return responseFuture;
     }
 
+    /**
+     * Complete the future returned from this stage, offloading the completion onto the given executor so that callbacks
+     * chained onto it don't run on the HTTP client's thread. If the executor is null, the future is completed directly.
+     */
+    private void completeResponseFuture(CompletableFuture<Response<OutputT>> responseFuture, Response<OutputT> response,
+                                        Throwable throwable, Executor executor) {
+        if (executor == null) {
+            complete(responseFuture, response, throwable);
+            return;
+        }
+
+        try {
+            executor.execute(() -> complete(responseFuture, response, throwable));
+        } catch (RejectedExecutionException e) {
+            // Don't leave the future incomplete forever if the executor is saturated or has been shut down.
+            responseFuture.completeExceptionally(
+                SdkClientException.builder()
+                                  .message("The future completion executor rejected the completion of the request.")
+                                  .cause(e)
+                                  .build());
+        }
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, T result, Throwable throwable) {
+        if (throwable == null) {
+            future.complete(result);
+        } else {
+            future.completeExceptionally(throwable);
+        }
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
@@ -173,6 +211,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         Supplier<SdkClientException> exceptionSupplier = () -> ApiCallAttemptTimeoutException.create(timeoutMillis);
 
         return TimerUtils.timeAsyncTaskIfNeeded(executeFuture,
+                                                timeoutTimer,
                                                 timeoutExecutor,
                                                 exceptionSupplier,
                                                 timeoutMillis);
@@ -209,8 +248,11 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         private final CompletableFuture<Response<OutputT>> responseFuture;
         private final CompletableFuture<OutputT> transformFuture;
         private final CompletableFuture<? extends SdkException> errorTransformFuture;
+        private final ApiCallMetricsCollector.AttemptCollector attemptMetrics;
         private CompletableFuture<SdkHttpResponse> headersFuture;
         private volatile SdkHttpFullResponse response;
+        private volatile long requestStartNanos;
+        private volatile long streamStartNanos;
 
         /**
          * @param responseFuture the response future to be returned from
@@ -218,17 +260,24 @@ public final class MakeAsyncHttpRequestStage<OutputT>
          * @param transformFuture the transformFuture returned from {@link MakeAsyncHttpRequestStage#responseHandler#prepare()}
          * @param errorTransformFuture the error transform future returned from
          * {@link MakeAsyncHttpRequestStage#errorResponseHandler#prepare()}
+         * @param attemptMetrics the collector for the metrics of this attempt, or null if metrics are not collected
          */
         ResponseHandler(CompletableFuture<Response<OutputT>> responseFuture,
                         CompletableFuture<OutputT> transformFuture,
-                        CompletableFuture<? extends SdkException> errorTransformFuture) {
+                        CompletableFuture<? extends SdkException> errorTransformFuture,
+                        ApiCallMetricsCollector.AttemptCollector attemptMetrics) {
             this.responseFuture = responseFuture;
             this.transformFuture = transformFuture;
             this.errorTransformFuture = errorTransformFuture;
+            this.attemptMetrics = attemptMetrics;
         }
 
         @Override
         public void onHeaders(SdkHttpResponse response) {
+            if (attemptMetrics != null) {
+                attemptMetrics.timeToFirstByte(ApiCallMetricsCollector.elapsedSince(requestStartNanos));
+                attemptMetrics.httpStatusCode(response.statusCode());
+            }
             headersFuture.complete(response);
             if (response.isSuccessful()) {
                 SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Received successful response: " + response.statusCode());
@@ -252,6 +301,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
         @Override
         public void onStream(Publisher<ByteBuffer> publisher) {
+            streamStartNanos = System.nanoTime();
             if (response.isSuccessful()) {
                 responseHandler.onStream(publisher);
             } else {
@@ -264,15 +314,27 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             headersFuture = new CompletableFuture<>();
             return headersFuture.thenCompose(headers -> {
                 if (headers.isSuccessful()) {
-                    return transformFuture.thenApply(r -> Response.fromSuccess(r, response));
+                    return transformFuture.whenComplete((r, t) -> unmarshallingCompleted())
+                                          .thenApply(r -> Response.fromSuccess(r, response));
                 }
 
                 if (errorTransformFuture != null) {
-                    return errorTransformFuture.thenApply(e -> Response.fromFailure(e, response));
+                    return errorTransformFuture.whenComplete((e, t) -> unmarshallingCompleted())
+                                               .thenApply(e -> Response.fromFailure(e, response));
                 }
                 return CompletableFuture.completedFuture(Response.fromFailure(null, response));
             });
         }
+
+        /**
+         * Records the time from the response content being handed to the response handlers until they produced the result.
+         */
+        private void unmarshallingCompleted() {
+            long startNanos = streamStartNanos;
+            if (attemptMetrics != null && startNanos != 0) {
+                attemptMetrics.unmarshallingDuration(ApiCallMetricsCollector.elapsedSince(startNanos));
+            }
+        }
     }
 
     private static SdkHttpFullResponse toFullResponse(SdkHttpResponse response) {
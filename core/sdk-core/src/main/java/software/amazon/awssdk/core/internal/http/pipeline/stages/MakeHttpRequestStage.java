@@ -21,6 +21,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
@@ -55,14 +56,29 @@ public class MakeHttpRequestStage
     }
 
     private HttpExecuteResponse executeHttpRequest(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
-        ExecutableHttpRequest requestCallable = sdkHttpClient
-            .prepareRequest(HttpExecuteRequest.builder()
-                                              .request(request)
-                                              .contentStreamProvider(request.contentStreamProvider().orElse(null))
-                                              .build());
+        ApiCallMetricsCollector metricsCollector = ApiCallMetricsCollector.forCall(context.executionAttributes());
+        ApiCallMetricsCollector.AttemptCollector attempt = metricsCollector == null ? null : metricsCollector.currentAttempt();
+
+        HttpExecuteRequest.Builder executeRequest =
+            HttpExecuteRequest.builder()
+                              .request(request)
+                              .contentStreamProvider(request.contentStreamProvider().orElse(null));
+        if (attempt != null) {
+            executeRequest.connectionAcquireListener(attempt::connectionAcquireDuration);
+        }
+        ExecutableHttpRequest requestCallable = sdkHttpClient.prepareRequest(executeRequest.build());
 
         context.apiCallTimeoutTracker().abortable(requestCallable);
         context.apiCallAttemptTimeoutTracker().abortable(requestCallable);
-        return requestCallable.call();
+
+        if (attempt == null) {
+            return requestCallable.call();
+        }
+
+        long startNanos = System.nanoTime();
+        HttpExecuteResponse response = requestCallable.call();
+        attempt.timeToFirstByte(ApiCallMetricsCollector.elapsedSince(startNanos));
+        attempt.httpStatusCode(response.httpResponse().statusCode());
+        return response;
     }
 }
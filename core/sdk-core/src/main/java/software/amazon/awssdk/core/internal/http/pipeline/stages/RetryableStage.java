@@ -29,10 +29,13 @@ import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.internal.util.ThrowableUtils;
+import software.amazon.awssdk.core.retry.RetryBudget;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.Logger;
 
@@ -47,13 +50,13 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline;
 
     private final HttpClientDependencies dependencies;
-    private final CapacityManager retryCapacity;
+    private final RetryBudget retryBudget;
     private final RetryPolicy retryPolicy;
 
     public RetryableStage(HttpClientDependencies dependencies,
                           RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
         this.dependencies = dependencies;
-        this.retryCapacity = dependencies.retryCapacity();
+        this.retryBudget = dependencies.retryBudget();
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
         this.requestPipeline = requestPipeline;
     }
@@ -76,7 +79,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryBudget, dependencies.rateLimitingTokenBucket());
         }
 
         public Response<OutputT> execute() throws Exception {
@@ -84,6 +87,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                 try {
                     beforeExecute();
                     Response<OutputT> response = doExecute();
+                    retryHandler.updateSendingRate(RetryUtils.isThrottlingException(response.exception()));
                     if (response.isSuccess()) {
                         retryHandler.releaseRetryCapacity();
                         return response;
@@ -91,6 +95,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                         retryHandler.setLastRetriedException(handleUnmarshalledException(response));
                     }
                 } catch (SdkClientException | IOException e) {
+                    retryHandler.updateSendingRate(RetryUtils.isThrottlingException(ThrowableUtils.asSdkException(e)));
                     retryHandler.setLastRetriedException(handleThrownException(e));
                 }
             }
@@ -103,8 +108,12 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         }
 
         private Response<OutputT> doExecute() throws Exception {
-            if (retryHandler.isRetry()) {
-                doPauseBeforeRetry();
+            Duration backoffDelay = retryHandler.isRetry() ? doPauseBeforeRetry() : Duration.ZERO;
+            backoffDelay = backoffDelay.plus(doPauseForSendToken());
+
+            ApiCallMetricsCollector metricsCollector = ApiCallMetricsCollector.forCall(context.executionAttributes());
+            if (metricsCollector != null) {
+                metricsCollector.startAttempt(backoffDelay).retryBudgetAvailableCapacity(retryBudget.availableCapacity());
             }
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") + "Request: " +
@@ -147,14 +156,32 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
 
         /**
          * Sleep for a period of time on failed request to avoid flooding a service with retries.
+         *
+         * @return The time slept for.
          */
-        private void doPauseBeforeRetry() throws InterruptedException {
+        private Duration doPauseBeforeRetry() throws InterruptedException {
             int retriesAttempted = requestCount - 2;
             Duration delay = retryHandler.computeDelayBeforeNextRetry();
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + retriesAttempted);
             TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+            return delay;
+        }
+
+        /**
+         * Sleep until the client's sending rate allows another attempt, if the retry policy is rate limiting the client.
+         *
+         * @return The time slept for.
+         */
+        private Duration doPauseForSendToken() throws InterruptedException {
+            Duration delay = retryHandler.acquireSendToken();
+            if (!delay.isZero()) {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client is being throttled, delaying request by "
+                                                             + delay.toMillis() + "ms");
+                TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+            }
+            return delay;
         }
     }
 }
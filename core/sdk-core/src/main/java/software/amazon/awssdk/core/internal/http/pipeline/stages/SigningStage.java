@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToRequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricsCollector;
 import software.amazon.awssdk.core.signer.AsyncRequestBodySigner;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -60,7 +61,12 @@ public class SigningStage implements RequestToRequestPipeline {
         if (shouldSign(signer)) {
             adjustForClockSkew(context.executionAttributes());
 
+            long signingStartNanos = System.nanoTime();
             SdkHttpFullRequest signedRequest = signer.sign(request, context.executionAttributes());
+            ApiCallMetricsCollector metricsCollector = ApiCallMetricsCollector.forCall(context.executionAttributes());
+            if (metricsCollector != null) {
+                metricsCollector.currentAttempt().signingDuration(ApiCallMetricsCollector.elapsedSince(signingStartNanos));
+            }
 
             if (signer instanceof AsyncRequestBodySigner) {
                 //Transform request body provider with signing operator
@@ -15,8 +15,8 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
-import java.util.concurrent.ScheduledFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer.Timeout;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
@@ -28,11 +28,11 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     private final TimeoutTask timeoutTask;
 
-    private final ScheduledFuture<?> future;
+    private final Timeout timeout;
 
-    public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
-        this.timeoutTask = Validate.paramNotNull(timeout, "timeoutTask");
-        this.future = Validate.paramNotNull(future, "scheduledFuture");
+    public ApiCallTimeoutTracker(TimeoutTask timeoutTask, Timeout timeout) {
+        this.timeoutTask = Validate.paramNotNull(timeoutTask, "timeoutTask");
+        this.timeout = Validate.paramNotNull(timeout, "timeout");
     }
 
     @Override
@@ -47,7 +47,7 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     @Override
     public void cancel() {
-        future.cancel(false);
+        timeout.cancel();
     }
 
     @Override
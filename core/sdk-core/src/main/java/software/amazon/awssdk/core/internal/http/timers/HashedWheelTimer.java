@@ -0,0 +1,444 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A timer for the API call and API call attempt timeouts of a client, optimized for a large number of timeouts that are
+ * almost always cancelled before they expire.
+ *
+ * <p>Timeouts are kept in a hashed wheel: an array of buckets, each holding the timeouts that expire within one tick. A
+ * single worker thread advances the wheel once per tick and expires the due timeouts of the current bucket. Unlike a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}, whose delay queue is a heap guarded by a lock, scheduling and
+ * cancelling a timeout only appends it to a lock-free queue that the worker drains on its next tick, so both are constant
+ * time and callers never contend with each other. In exchange timeouts fire up to one tick late.
+ *
+ * <p>Expired tasks are handed off to the executor they were scheduled with, so that a slow task (or the callbacks of a future
+ * it completes) can not delay the wheel. The worker thread is only started when the first timeout is scheduled.
+ *
+ * <p>Every tick wakes the worker thread, so clients should not create a timer of their own but schedule their timeouts on the
+ * {@link #shared()} timer.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HashedWheelTimer implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /**
+     * Bound the number of timeouts moved onto the wheel in one tick, so that a burst of new timeouts can not delay expiry.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Ticker ticker;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread workerThread;
+
+    private volatile long startTime;
+
+    /**
+     * @param tickDuration The precision of the timer.
+     * @param unit The unit of the tick duration.
+     * @param ticksPerWheel The number of buckets in the wheel, rounded up to a power of two.
+     * @param ticker The source of time of the timer.
+     */
+    @SdkTestInternalApi
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel, Ticker ticker) {
+        this.ticker = Validate.paramNotNull(ticker, "ticker");
+        this.tickNanos = Validate.isPositive(unit.toNanos(tickDuration), "tickDuration");
+        Validate.isTrue(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30, "ticksPerWheel must be between 1 and 2^30.");
+
+        int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[Math.max(wheelSize, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.workerThread = new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-timer")
+                                                      .build()
+                                                      .newThread(new Worker());
+    }
+
+    /**
+     * @return The timer with a 10 millisecond tick and 512 buckets that is shared by all clients. Its worker thread is started
+     * when the first timeout is scheduled and runs until the JVM exits.
+     */
+    public static HashedWheelTimer shared() {
+        return SharedTimerHolder.INSTANCE;
+    }
+
+    /**
+     * Schedule a task to run once the given delay has elapsed, unless the returned {@link Timeout} is cancelled first.
+     *
+     * @param task The task to run when the timeout expires.
+     * @param taskExecutor The executor the task is run on.
+     * @param delay The delay after which the timeout expires.
+     * @param unit The unit of the delay.
+     * @throws IllegalStateException If the timer has been closed.
+     */
+    public Timeout schedule(Runnable task, Executor taskExecutor, long delay, TimeUnit unit) {
+        Validate.paramNotNull(task, "task");
+        Validate.paramNotNull(taskExecutor, "taskExecutor");
+        Validate.paramNotNull(unit, "unit");
+        start();
+
+        long deadline = ticker.nanoTime() + unit.toNanos(delay) - startTime;
+        // Guard against overflow of very long delays.
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+
+        WheelTimeout timeout = new WheelTimeout(this, task, taskExecutor, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stop the worker thread. Timeouts that have not expired yet are discarded without running their tasks. The
+     * {@link #shared()} timer can not be closed.
+     */
+    @Override
+    public void close() {
+        if (this == shared()) {
+            return;
+        }
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            workerThread.interrupt();
+        }
+        pendingTimeouts.clear();
+        cancelledTimeouts.clear();
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("The timer has been closed.");
+        }
+
+        // The deadline of a timeout is relative to the start time, so wait for the worker to initialize it.
+        while (startTimeInitialized.getCount() != 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the timer to start.", e);
+            }
+        }
+    }
+
+    private void expire(WheelTimeout timeout) {
+        try {
+            timeout.taskExecutor.execute(timeout.task);
+        } catch (RejectedExecutionException e) {
+            // The executor has been shut down along with the client, run the task on the worker rather than dropping it.
+            runTask(timeout.task);
+        } catch (Throwable t) {
+            // The task ran on the worker thread and failed, which must not stop the wheel.
+            log.warn(() -> "A timeout task threw an exception.", t);
+        }
+    }
+
+    private static void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            log.warn(() -> "A timeout task threw an exception.", t);
+        }
+    }
+
+    /**
+     * A handle to a task scheduled with {@link #schedule(Runnable, Executor, long, TimeUnit)}.
+     */
+    public interface Timeout {
+        /**
+         * Cancel the task if it has not expired yet.
+         *
+         * @return True if the task was cancelled, false if it already expired or was already cancelled.
+         */
+        boolean cancel();
+
+        /**
+         * @return True if the task was cancelled before it expired.
+         */
+        boolean isCancelled();
+
+        /**
+         * @return True if the timeout expired and its task was handed off for execution.
+         */
+        boolean isExpired();
+    }
+
+    /**
+     * The source of time of a timer, which tests may replace to drive the timer deterministically.
+     */
+    public interface Ticker {
+        /**
+         * A ticker backed by {@link System#nanoTime()} and {@link Thread#sleep(long)}.
+         */
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleep(long nanos) throws InterruptedException {
+                // Round up, so that the worker does not wake up before the tick and spin.
+                Thread.sleep(TimeUnit.NANOSECONDS.toMillis(nanos + 999_999));
+            }
+        };
+
+        /**
+         * @return The current time in nanoseconds, relative to an arbitrary origin.
+         */
+        long nanoTime();
+
+        /**
+         * Block the calling thread for at least the given number of nanoseconds.
+         */
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private static final class SharedTimerHolder {
+        private static final HashedWheelTimer INSTANCE =
+            new HashedWheelTimer(DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_TICKS_PER_WHEEL, Ticker.SYSTEM);
+    }
+
+    private final class Worker implements Runnable {
+        private long tick;
+
+        @Override
+        public void run() {
+            startTime = ticker.nanoTime();
+            startTimeInitialized.countDown();
+
+            while (workerState.get() == WORKER_STARTED) {
+                long currentTime = waitForNextTick();
+                if (currentTime < 0) {
+                    continue;
+                }
+                removeCancelledTimeouts();
+                transferPendingTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts(currentTime);
+                tick++;
+            }
+        }
+
+        /**
+         * Sleep until the start of the next tick.
+         *
+         * @return The current time relative to the start time, or a negative number if the sleep was interrupted.
+         */
+        private long waitForNextTick() {
+            long tickDeadline = tickNanos * (tick + 1);
+            while (true) {
+                long currentTime = ticker.nanoTime() - startTime;
+                long sleepNanos = tickDeadline - currentTime;
+                if (sleepNanos <= 0) {
+                    return currentTime;
+                }
+                try {
+                    ticker.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (workerState.get() == WORKER_SHUTDOWN) {
+                        return -1;
+                    }
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+                WheelTimeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    return;
+                }
+                if (timeout.state() != WheelTimeout.ST_INIT) {
+                    // Cancelled before it reached the wheel.
+                    continue;
+                }
+
+                long expiryTick = timeout.deadline / tickNanos;
+                timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+
+                // A timeout that is already due is put in the current bucket, so that it expires on this tick.
+                long ticks = Math.max(expiryTick, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+
+        private void removeCancelledTimeouts() {
+            WheelTimeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                timeout.remove();
+            }
+        }
+    }
+
+    private static final class WheelTimeout implements Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final Executor taskExecutor;
+        private final long deadline;
+
+        private volatile int state = ST_INIT;
+
+        // Only accessed by the worker thread.
+        private long remainingRounds;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+        private Bucket bucket;
+
+        private WheelTimeout(HashedWheelTimer timer, Runnable task, Executor taskExecutor, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.taskExecutor = taskExecutor;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // Let the worker unlink the timeout from its bucket, so that the wheel is only ever mutated by one thread.
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private int state() {
+            return state;
+        }
+
+        private void expire() {
+            if (STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                timer.expire(this);
+            }
+        }
+
+        private void remove() {
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of the timeouts that fall into one slot of the wheel. Only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts(long currentTime) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= currentTime) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -27,7 +27,7 @@ public final class SyncTimeoutTask implements TimeoutTask {
     private final Thread threadToInterrupt;
     private volatile boolean hasExecuted;
 
-    private Abortable abortable;
+    private volatile Abortable abortable;
 
     SyncTimeoutTask(Thread threadToInterrupt) {
         this.threadToInterrupt = Validate.paramNotNull(threadToInterrupt, "threadToInterrupt");
@@ -18,12 +18,12 @@ package software.amazon.awssdk.core.internal.http.timers;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer.Timeout;
 import software.amazon.awssdk.utils.OptionalUtils;
 
 @SdkInternalApi
@@ -37,14 +37,16 @@ public final class TimerUtils {
      * if not otherwise completed before the given timeout.
      *
      * @param completableFuture the completableFuture to be timed
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutTimer the timer to schedule the {@link TimeoutTask} on
+     * @param timeoutExecutor the executor to run the {@link TimeoutTask} on when it expires
      * @param exceptionSupplier the exception to thrown after timeout
      * @param timeoutInMills the timeout in milliseconds.
      * @param <T> the type of the {@link CompletableFuture}
      * @return a {@link TimeoutTracker}
      */
     public static <T> TimeoutTracker timeAsyncTaskIfNeeded(CompletableFuture<T> completableFuture,
-                                                           ScheduledExecutorService timeoutExecutor,
+                                                           HashedWheelTimer timeoutTimer,
+                                                           Executor timeoutExecutor,
                                                            Supplier<SdkClientException> exceptionSupplier,
                                                            long timeoutInMills) {
         if (timeoutInMills <= 0) {
@@ -53,11 +55,8 @@ public final class TimerUtils {
 
         TimeoutTask timeoutTask = new AsyncTimeoutTask(completableFuture, exceptionSupplier);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        Timeout timeout = timeoutTimer.schedule(timeoutTask, timeoutExecutor, timeoutInMills, TimeUnit.MILLISECONDS);
+        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, timeout);
 
         completableFuture.whenComplete((o, t) -> timeoutTracker.cancel());
 
@@ -67,12 +66,14 @@ public final class TimerUtils {
     /**
      * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
      *
-     * @param timeoutExecutor the executor to execute the {@link TimeoutTask}
+     * @param timeoutTimer the timer to schedule the {@link TimeoutTask} on
+     * @param timeoutExecutor the executor to run the {@link TimeoutTask} on when it expires
      * @param timeoutInMills the timeout in milliseconds.
      * @param threadToInterrupt the thread to interrupt
      * @return a {@link TimeoutTracker}
      */
-    public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
+    public static TimeoutTracker timeSyncTaskIfNeeded(HashedWheelTimer timeoutTimer,
+                                                      Executor timeoutExecutor,
                                                       long timeoutInMills,
                                                       Thread threadToInterrupt) {
         if (timeoutInMills <= 0) {
@@ -81,11 +82,8 @@ public final class TimerUtils {
 
         SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        return new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        Timeout timeout = timeoutTimer.schedule(timeoutTask, timeoutExecutor, timeoutInMills, TimeUnit.MILLISECONDS);
+        return new ApiCallTimeoutTracker(timeoutTask, timeout);
     }
 
     public static long resolveTimeoutInMillis(Supplier<Optional<Duration>> supplier, Duration fallback) {
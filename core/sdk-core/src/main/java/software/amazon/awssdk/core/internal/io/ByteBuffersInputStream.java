@@ -0,0 +1,137 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An {@link InputStream} that reads sequentially through a list of {@link ByteBuffer}s without first copying them into a
+ * single contiguous array. Reading advances the position of the buffers, which are owned by this stream once it is
+ * created. Supports {@link #mark(int)} and {@link #reset()} like {@link java.io.ByteArrayInputStream}.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class ByteBuffersInputStream extends InputStream {
+
+    private final List<ByteBuffer> buffers;
+    private final int[] startPositions;
+    private int index;
+    private int markIndex;
+    private int markPosition;
+
+    private ByteBuffersInputStream(List<ByteBuffer> buffers) {
+        this.buffers = buffers;
+        this.startPositions = new int[buffers.size()];
+        for (int i = 0; i < startPositions.length; i++) {
+            startPositions[i] = buffers.get(i).position();
+        }
+        this.markPosition = startPositions.length == 0 ? 0 : startPositions[0];
+    }
+
+    /**
+     * @param buffers Buffers to read, in order. Each buffer is read from its current position to its limit.
+     * @return A new stream over the given buffers.
+     */
+    public static ByteBuffersInputStream create(List<ByteBuffer> buffers) {
+        return new ByteBuffersInputStream(buffers);
+    }
+
+    @Override
+    public int read() {
+        ByteBuffer current = currentBuffer();
+        return current == null ? -1 : current.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int read = 0;
+        ByteBuffer current = currentBuffer();
+        while (current != null && read < len) {
+            int toRead = Math.min(len - read, current.remaining());
+            current.get(b, off + read, toRead);
+            read += toRead;
+            current = currentBuffer();
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = 0;
+        ByteBuffer current = currentBuffer();
+        while (current != null && skipped < n) {
+            int toSkip = (int) Math.min(n - skipped, current.remaining());
+            current.position(current.position() + toSkip);
+            skipped += toSkip;
+            current = currentBuffer();
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long available = 0;
+        for (int i = index; i < buffers.size(); i++) {
+            available += buffers.get(i).remaining();
+        }
+        return (int) Math.min(available, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+        markIndex = index;
+        markPosition = index < buffers.size() ? buffers.get(index).position() : 0;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = index; i > markIndex; i--) {
+            if (i < buffers.size()) {
+                buffers.get(i).position(startPositions[i]);
+            }
+        }
+        index = markIndex;
+        if (index < buffers.size()) {
+            buffers.get(index).position(markPosition);
+        }
+    }
+
+    /**
+     * @return The first buffer at or after the current index with remaining bytes, or null if all have been read.
+     */
+    private ByteBuffer currentBuffer() {
+        while (index < buffers.size()) {
+            ByteBuffer buffer = buffers.get(index);
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+}
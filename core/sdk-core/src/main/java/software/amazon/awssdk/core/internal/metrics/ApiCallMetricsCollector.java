@@ -0,0 +1,205 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Collects the {@link ApiCallMetrics} of a single API call as it passes through the client handler and the request pipeline.
+ * One collector is created per API call when a {@link MetricPublisher} is configured, and is stored in the
+ * {@link SdkInternalExecutionAttribute#API_CALL_METRICS_COLLECTOR} execution attribute. The pipeline stages record into it
+ * only if it is present.
+ *
+ * <p>The phases of a call happen one after another, but for asynchronous calls they may be recorded on different threads, so
+ * recorded values are published safely.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ApiCallMetricsCollector {
+    private static final Logger log = Logger.loggerFor(ApiCallMetricsCollector.class);
+
+    private final MetricPublisher publisher;
+    private final long startNanos = System.nanoTime();
+    private final List<AttemptCollector> attempts = new ArrayList<>();
+    private volatile Duration marshallingDuration;
+
+    private ApiCallMetricsCollector(MetricPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Starts collecting the metrics of an API call, if a publisher is configured.
+     *
+     * @param publisher The configured publisher, or null if there is none.
+     * @param executionAttributes The execution attributes of the call, to which the collector is added.
+     * @return The collector, or null if no publisher is configured.
+     */
+    public static ApiCallMetricsCollector startIfEnabled(MetricPublisher publisher, ExecutionAttributes executionAttributes) {
+        if (publisher == null) {
+            return null;
+        }
+        ApiCallMetricsCollector collector = new ApiCallMetricsCollector(publisher);
+        executionAttributes.putAttribute(SdkInternalExecutionAttribute.API_CALL_METRICS_COLLECTOR, collector);
+        return collector;
+    }
+
+    /**
+     * @return The collector of the API call with the given attributes, or null if metrics are not being collected.
+     */
+    public static ApiCallMetricsCollector forCall(ExecutionAttributes executionAttributes) {
+        return executionAttributes.getAttribute(SdkInternalExecutionAttribute.API_CALL_METRICS_COLLECTOR);
+    }
+
+    /**
+     * @return The duration from the given {@link System#nanoTime()} value until now.
+     */
+    public static Duration elapsedSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    public void marshallingDuration(Duration marshallingDuration) {
+        this.marshallingDuration = marshallingDuration;
+    }
+
+    /**
+     * Starts a new attempt, which becomes the {@link #currentAttempt()}.
+     *
+     * @param backoffDelay The delay applied before the attempt.
+     */
+    public AttemptCollector startAttempt(Duration backoffDelay) {
+        AttemptCollector attempt = new AttemptCollector(backoffDelay);
+        synchronized (attempts) {
+            attempts.add(attempt);
+        }
+        return attempt;
+    }
+
+    /**
+     * @return The most recently started attempt. If no attempt has been started, one is started without a backoff delay.
+     */
+    public AttemptCollector currentAttempt() {
+        synchronized (attempts) {
+            if (!attempts.isEmpty()) {
+                return attempts.get(attempts.size() - 1);
+            }
+        }
+        return startAttempt(Duration.ZERO);
+    }
+
+    /**
+     * Completes the API call and hands its metrics to the publisher. Exceptions thrown by the publisher are logged.
+     */
+    public void publish(ExecutionAttributes executionAttributes, boolean successful) {
+        List<ApiCallAttemptMetrics> attemptMetrics = new ArrayList<>();
+        synchronized (attempts) {
+            for (AttemptCollector attempt : attempts) {
+                attemptMetrics.add(attempt.build());
+            }
+        }
+
+        ApiCallMetrics metrics =
+            ApiCallMetrics.builder()
+                          .serviceName(executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME))
+                          .operationName(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME))
+                          .successful(successful)
+                          .apiCallDuration(elapsedSince(startNanos))
+                          .marshallingDuration(marshallingDuration)
+                          .attempts(attemptMetrics)
+                          .build();
+        try {
+            publisher.publish(metrics);
+        } catch (RuntimeException e) {
+            log.warn(() -> "Metric publisher " + publisher + " failed to publish " + metrics, e);
+        }
+    }
+
+    /**
+     * Collects the {@link ApiCallAttemptMetrics} of a single attempt.
+     */
+    @ThreadSafe
+    public static final class AttemptCollector {
+        private final Duration backoffDelay;
+        private volatile Duration signingDuration;
+        private volatile Duration connectionAcquireDuration;
+        private volatile Duration timeToFirstByte;
+        private volatile Duration unmarshallingDuration;
+        private volatile Integer httpStatusCode;
+        private volatile Integer retryBudgetAvailableCapacity;
+
+        private AttemptCollector(Duration backoffDelay) {
+            this.backoffDelay = backoffDelay;
+        }
+
+        public void signingDuration(Duration signingDuration) {
+            this.signingDuration = signingDuration;
+        }
+
+        /**
+         * Called by the HTTP client, possibly on one of its threads, once it has a connection for the attempt's request.
+         */
+        public void connectionAcquireDuration(Duration connectionAcquireDuration) {
+            this.connectionAcquireDuration = connectionAcquireDuration;
+        }
+
+        /**
+         * Records the time to first byte, excluding the time taken to acquire the connection if the HTTP client reported it.
+         *
+         * @param sinceRequestStart The time from handing the request to the HTTP client until the response headers arrived.
+         */
+        public void timeToFirstByte(Duration sinceRequestStart) {
+            Duration acquireDuration = connectionAcquireDuration;
+            this.timeToFirstByte = acquireDuration == null ? sinceRequestStart : sinceRequestStart.minus(acquireDuration);
+        }
+
+        public void unmarshallingDuration(Duration unmarshallingDuration) {
+            this.unmarshallingDuration = unmarshallingDuration;
+        }
+
+        public void httpStatusCode(int httpStatusCode) {
+            this.httpStatusCode = httpStatusCode;
+        }
+
+        /**
+         * @param availableCapacity The available capacity of the retry budget, negative if the budget is unlimited.
+         */
+        public void retryBudgetAvailableCapacity(int availableCapacity) {
+            this.retryBudgetAvailableCapacity = availableCapacity < 0 ? null : availableCapacity;
+        }
+
+        private ApiCallAttemptMetrics build() {
+            return ApiCallAttemptMetrics.builder()
+                                        .backoffDelay(backoffDelay)
+                                        .signingDuration(signingDuration)
+                                        .connectionAcquireDuration(connectionAcquireDuration)
+                                        .timeToFirstByte(timeToFirstByte)
+                                        .unmarshallingDuration(unmarshallingDuration)
+                                        .httpStatusCode(httpStatusCode)
+                                        .retryBudgetAvailableCapacity(retryBudgetAvailableCapacity)
+                                        .build();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.RetryMode;
+
+/**
+ * The client scoped token bucket used by {@link RetryMode#ADAPTIVE}. The bucket is inactive until the first throttling error
+ * is seen. From then on its fill rate (in requests per second) is adjusted after every attempt using the CUBIC congestion
+ * control algorithm: a throttling error multiplies the rate by {@link #BETA}, and successes grow it back along a cubic
+ * curve centered on the rate at which the last throttling error was seen. The rate is also capped at twice the rate the
+ * client has actually been sending at, so that it cannot grow without bound while the client is idle.
+ *
+ * <p>Tokens are reserved rather than waited for: {@link #acquire()} always takes a token, and returns how long the caller
+ * must wait before sending if the bucket was overdrawn. This lets the asynchronous client schedule the request instead of
+ * blocking a thread.
+ *
+ * <p>The bucket is shared by every request of the client, so it is guarded by a {@link ReentrantLock} rather than a monitor,
+ * which would pin the carrier thread of a virtual thread that contends for it.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RateLimitingTokenBucket {
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+
+    private final Lock lock = new ReentrantLock();
+    private final LongSupplier nanoClock;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastRefillTime = Double.NaN;
+    private boolean enabled;
+
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    public RateLimitingTokenBucket() {
+        this(System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    RateLimitingTokenBucket(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastTxRateBucket = Math.floor(now());
+        this.lastThrottleTime = now();
+    }
+
+    /**
+     * Take a token for a request attempt.
+     *
+     * @return How long the attempt must be delayed for, which is zero unless the bucket is enabled and has been drained.
+     */
+    public Duration acquire() {
+        lock.lock();
+        try {
+            if (!enabled) {
+                return Duration.ZERO;
+            }
+            refill();
+            currentCapacity -= 1;
+            if (currentCapacity >= 0) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((long) (-currentCapacity / fillRate * 1_000_000_000));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adjust the fill rate of the bucket after an attempt completes.
+     *
+     * @param throttled Whether the attempt failed with a throttling error.
+     */
+    public void updateSendingRate(boolean throttled) {
+        lock.lock();
+        try {
+            updateMeasuredRate();
+
+            double calculatedRate;
+            if (throttled) {
+                double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+                lastMaxRate = rateToUse;
+                calculateTimeWindow();
+                lastThrottleTime = now();
+                calculatedRate = rateToUse * BETA;
+                enabled = true;
+            } else {
+                calculateTimeWindow();
+                calculatedRate = SCALE_CONSTANT * Math.pow(now() - lastThrottleTime - timeWindow, 3) + lastMaxRate;
+            }
+
+            updateFillRate(Math.min(calculatedRate, 2 * measuredTxRate));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SdkTestInternalApi
+    double fillRate() {
+        lock.lock();
+        try {
+            return fillRate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SdkTestInternalApi
+    boolean isEnabled() {
+        lock.lock();
+        try {
+            return enabled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        double timestamp = now();
+        if (!Double.isNaN(lastRefillTime)) {
+            currentCapacity = Math.min(maxCapacity, currentCapacity + (timestamp - lastRefillTime) * fillRate);
+        }
+        lastRefillTime = timestamp;
+    }
+
+    private void updateFillRate(double newRate) {
+        refill();
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    /**
+     * Track the rate at which attempts complete, smoothed over half-second buckets.
+     */
+    private void updateMeasuredRate() {
+        double timeBucket = Math.floor(now() * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    /**
+     * @return The current time in seconds.
+     */
+    private double now() {
+        return nanoClock.getAsLong() / 1_000_000_000.0;
+    }
+}
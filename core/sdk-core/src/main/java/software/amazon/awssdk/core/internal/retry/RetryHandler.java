@@ -21,7 +21,8 @@ import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryBudget;
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicyContext;
 import software.amazon.awssdk.core.retry.RetryUtils;
@@ -34,17 +35,21 @@ public final class RetryHandler {
     public static final String HEADER_SDK_RETRY_INFO = "amz-sdk-retry";
 
     private final RetryPolicy retryPolicy;
-    private final CapacityManager retryCapacity;
+    private final RetryBudget retryBudget;
+    private final RateLimitingTokenBucket rateLimitingTokenBucket;
 
     private Duration lastBackoffDelay = Duration.ZERO;
     private boolean retryCapacityConsumed;
+    private int retryCost;
     private RetryPolicyContext retryPolicyContext;
     private SdkException lastRetriedException;
 
     public RetryHandler(RetryPolicy retryPolicy,
-                        CapacityManager retryCapacity) {
+                        RetryBudget retryBudget,
+                        RateLimitingTokenBucket rateLimitingTokenBucket) {
         this.retryPolicy = retryPolicy;
-        this.retryCapacity = retryCapacity;
+        this.retryBudget = retryBudget;
+        this.rateLimitingTokenBucket = rateLimitingTokenBucket;
     }
 
     public boolean shouldRetry(SdkHttpFullResponse httpResponse,
@@ -55,13 +60,14 @@ public final class RetryHandler {
 
         int retriesAttempted = requestCount - 1;
 
-        // Do not use retry capacity for throttling exceptions
-        if (!RetryUtils.isThrottlingException(exception)) {
-            // See if we have enough available retry capacity to be able to execute this retry attempt.
-            if (!retryCapacity.acquire(SdkDefaultRetrySetting.RETRY_THROTTLING_COST)) {
+        // See if we have enough available retry capacity to be able to execute this retry attempt.
+        int cost = retryBudget.retryCost(exception);
+        if (cost > 0) {
+            if (!retryBudget.tryAcquire(cost)) {
                 return false;
             }
             this.retryCapacityConsumed = true;
+            this.retryCost = cost;
         }
 
         this.retryPolicyContext = RetryPolicyContext.builder()
@@ -76,7 +82,7 @@ public final class RetryHandler {
         if (!retryPolicy.retryCondition().shouldRetry(retryPolicyContext)) {
             // If the retry policy fails we immediately return consumed capacity to the pool.
             if (retryCapacityConsumed) {
-                retryCapacity.release(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+                retryBudget.release(retryCost);
             }
             return false;
         }
@@ -90,9 +96,9 @@ public final class RetryHandler {
      */
     public void releaseRetryCapacity() {
         if (isRetry() && retryCapacityConsumed) {
-            retryCapacity.release(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+            retryBudget.release(retryCost);
         } else {
-            retryCapacity.release();
+            retryBudget.release(retryBudget.successRefill());
         }
     }
 
@@ -110,6 +116,31 @@ public final class RetryHandler {
         return lastBackoffDelay;
     }
 
+    /**
+     * Takes a token from the client's rate limiting token bucket for the next attempt, if the retry policy is in
+     * {@link RetryMode#ADAPTIVE} mode.
+     *
+     * @return How long the attempt must be delayed for to stay within the client's sending rate.
+     */
+    public Duration acquireSendToken() {
+        if (retryPolicy.retryMode() != RetryMode.ADAPTIVE) {
+            return Duration.ZERO;
+        }
+        return rateLimitingTokenBucket.acquire();
+    }
+
+    /**
+     * Reports the outcome of an attempt to the client's rate limiting token bucket, if the retry policy is in
+     * {@link RetryMode#ADAPTIVE} mode.
+     *
+     * @param throttled Whether the attempt failed with a throttling error.
+     */
+    public void updateSendingRate(boolean throttled) {
+        if (retryPolicy.retryMode() == RetryMode.ADAPTIVE) {
+            rateLimitingTokenBucket.updateSendingRate(throttled);
+        }
+    }
+
     /**
      * Sets whether retry capacity has been consumed for this request
      */
@@ -124,7 +155,7 @@ public final class RetryHandler {
      * @return Request with retry info header added.
      */
     public SdkHttpFullRequest addRetryInfoHeader(SdkHttpFullRequest request, int requestCount) throws Exception {
-        int availableRetryCapacity = retryCapacity.availableCapacity();
+        int availableRetryCapacity = retryBudget.availableCapacity();
         return request.toBuilder()
                       .putHeader(HEADER_SDK_RETRY_INFO,
                                  singletonList(String.format("%s/%s/%s",
@@ -37,6 +37,12 @@ public final class SdkDefaultRetrySetting {
      */
     public static final int RETRY_THROTTLING_COST = 5;
 
+    /**
+     * The capacity consumed by retrying a request that timed out. This is higher than {@link #RETRY_THROTTLING_COST} because
+     * a timed out attempt may still be consuming resources on the service.
+     */
+    public static final int RETRY_TIMEOUT_COST = 10;
+
     /**
      * When throttled retries are enabled, this is the total number of subsequent failed retries
      * that may be attempted before retry capacity is fully drained.
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * The metrics of a single HTTP request attempt made as part of an API call. Phases that were not reached by the attempt (for
+ * example because an earlier phase failed) are empty.
+ *
+ * @see ApiCallMetrics#attempts()
+ */
+@Immutable
+@SdkPublicApi
+public final class ApiCallAttemptMetrics {
+    private final Duration backoffDelay;
+    private final Duration signingDuration;
+    private final Duration connectionAcquireDuration;
+    private final Duration timeToFirstByte;
+    private final Duration unmarshallingDuration;
+    private final Integer httpStatusCode;
+    private final Integer retryBudgetAvailableCapacity;
+
+    private ApiCallAttemptMetrics(BuilderImpl builder) {
+        this.backoffDelay = Validate.paramNotNull(builder.backoffDelay, "backoffDelay");
+        this.signingDuration = builder.signingDuration;
+        this.connectionAcquireDuration = builder.connectionAcquireDuration;
+        this.timeToFirstByte = builder.timeToFirstByte;
+        this.unmarshallingDuration = builder.unmarshallingDuration;
+        this.httpStatusCode = builder.httpStatusCode;
+        this.retryBudgetAvailableCapacity = builder.retryBudgetAvailableCapacity;
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * The delay the retry policy applied before this attempt. This is zero for the first attempt.
+     */
+    public Duration backoffDelay() {
+        return backoffDelay;
+    }
+
+    /**
+     * The time taken to sign the request, or empty if the request was not signed.
+     */
+    public Optional<Duration> signingDuration() {
+        return Optional.ofNullable(signingDuration);
+    }
+
+    /**
+     * The time the HTTP client took to provide a connection for the request, including waiting for the pool and establishing a
+     * new connection if one was needed. This is empty if the HTTP client does not report it, or if no connection was acquired.
+     */
+    public Optional<Duration> connectionAcquireDuration() {
+        return Optional.ofNullable(connectionAcquireDuration);
+    }
+
+    /**
+     * The time from sending the request until the response status and headers were received, including sending the request
+     * content. When the HTTP client reports the {@link #connectionAcquireDuration()}, this starts once the connection was
+     * acquired; otherwise it starts when the request is handed to the HTTP client and includes acquiring the connection.
+     */
+    public Optional<Duration> timeToFirstByte() {
+        return Optional.ofNullable(timeToFirstByte);
+    }
+
+    /**
+     * The time taken to read and unmarshall the response (or error response) into its result type.
+     */
+    public Optional<Duration> unmarshallingDuration() {
+        return Optional.ofNullable(unmarshallingDuration);
+    }
+
+    /**
+     * The HTTP status code of the response, or empty if no response was received.
+     */
+    public OptionalInt httpStatusCode() {
+        return httpStatusCode == null ? OptionalInt.empty() : OptionalInt.of(httpStatusCode);
+    }
+
+    /**
+     * The capacity of the client's {@link software.amazon.awssdk.core.retry.RetryBudget} that was available when the attempt
+     * started, or empty if the budget is unlimited. Together with {@link
+     * software.amazon.awssdk.core.retry.RetryBudget#maxCapacity()} this shows how much of the budget retries occupy.
+     */
+    public OptionalInt retryBudgetAvailableCapacity() {
+        return retryBudgetAvailableCapacity == null ? OptionalInt.empty() : OptionalInt.of(retryBudgetAvailableCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ApiCallAttemptMetrics")
+                       .add("backoffDelay", backoffDelay)
+                       .add("signingDuration", signingDuration)
+                       .add("connectionAcquireDuration", connectionAcquireDuration)
+                       .add("timeToFirstByte", timeToFirstByte)
+                       .add("unmarshallingDuration", unmarshallingDuration)
+                       .add("httpStatusCode", httpStatusCode)
+                       .add("retryBudgetAvailableCapacity", retryBudgetAvailableCapacity)
+                       .build();
+    }
+
+    /**
+     * A builder for {@link ApiCallAttemptMetrics}.
+     *
+     * <p>All implementations of this interface are mutable and not thread safe.</p>
+     */
+    public interface Builder extends SdkBuilder<Builder, ApiCallAttemptMetrics> {
+        Builder backoffDelay(Duration backoffDelay);
+
+        Builder signingDuration(Duration signingDuration);
+
+        Builder connectionAcquireDuration(Duration connectionAcquireDuration);
+
+        Builder timeToFirstByte(Duration timeToFirstByte);
+
+        Builder unmarshallingDuration(Duration unmarshallingDuration);
+
+        Builder httpStatusCode(Integer httpStatusCode);
+
+        Builder retryBudgetAvailableCapacity(Integer retryBudgetAvailableCapacity);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private Duration backoffDelay = Duration.ZERO;
+        private Duration signingDuration;
+        private Duration connectionAcquireDuration;
+        private Duration timeToFirstByte;
+        private Duration unmarshallingDuration;
+        private Integer httpStatusCode;
+        private Integer retryBudgetAvailableCapacity;
+
+        @Override
+        public Builder backoffDelay(Duration backoffDelay) {
+            this.backoffDelay = backoffDelay;
+            return this;
+        }
+
+        @Override
+        public Builder signingDuration(Duration signingDuration) {
+            this.signingDuration = signingDuration;
+            return this;
+        }
+
+        @Override
+        public Builder connectionAcquireDuration(Duration connectionAcquireDuration) {
+            this.connectionAcquireDuration = connectionAcquireDuration;
+            return this;
+        }
+
+        @Override
+        public Builder timeToFirstByte(Duration timeToFirstByte) {
+            this.timeToFirstByte = timeToFirstByte;
+            return this;
+        }
+
+        @Override
+        public Builder unmarshallingDuration(Duration unmarshallingDuration) {
+            this.unmarshallingDuration = unmarshallingDuration;
+            return this;
+        }
+
+        @Override
+        public Builder httpStatusCode(Integer httpStatusCode) {
+            this.httpStatusCode = httpStatusCode;
+            return this;
+        }
+
+        @Override
+        public Builder retryBudgetAvailableCapacity(Integer retryBudgetAvailableCapacity) {
+            this.retryBudgetAvailableCapacity = retryBudgetAvailableCapacity;
+            return this;
+        }
+
+        @Override
+        public ApiCallAttemptMetrics build() {
+            return new ApiCallAttemptMetrics(this);
+        }
+    }
+}
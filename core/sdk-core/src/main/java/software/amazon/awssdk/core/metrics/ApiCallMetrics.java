@@ -0,0 +1,187 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * The metrics of a single API call, including one {@link ApiCallAttemptMetrics} for every HTTP request attempt that was made
+ * on its behalf. Delivered to a {@link MetricPublisher}.
+ */
+@Immutable
+@SdkPublicApi
+public final class ApiCallMetrics {
+    private final String serviceName;
+    private final String operationName;
+    private final boolean successful;
+    private final Duration apiCallDuration;
+    private final Duration marshallingDuration;
+    private final List<ApiCallAttemptMetrics> attempts;
+
+    private ApiCallMetrics(BuilderImpl builder) {
+        this.serviceName = builder.serviceName;
+        this.operationName = builder.operationName;
+        this.successful = builder.successful;
+        this.apiCallDuration = Validate.paramNotNull(builder.apiCallDuration, "apiCallDuration");
+        this.marshallingDuration = builder.marshallingDuration;
+        this.attempts = Collections.unmodifiableList(new ArrayList<>(builder.attempts));
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * The name of the service that was called, if known.
+     */
+    public Optional<String> serviceName() {
+        return Optional.ofNullable(serviceName);
+    }
+
+    /**
+     * The name of the operation that was called, if known.
+     */
+    public Optional<String> operationName() {
+        return Optional.ofNullable(operationName);
+    }
+
+    /**
+     * Whether the API call completed successfully.
+     */
+    public boolean successful() {
+        return successful;
+    }
+
+    /**
+     * The time from the start of the API call until it succeeded or failed, including marshalling, every attempt and every
+     * backoff delay between attempts.
+     */
+    public Duration apiCallDuration() {
+        return apiCallDuration;
+    }
+
+    /**
+     * The time taken to marshall the request into an HTTP request, or empty if the call failed before marshalling completed.
+     */
+    public Optional<Duration> marshallingDuration() {
+        return Optional.ofNullable(marshallingDuration);
+    }
+
+    /**
+     * The HTTP request attempts made for this API call, in the order they were made.
+     */
+    public List<ApiCallAttemptMetrics> attempts() {
+        return attempts;
+    }
+
+    /**
+     * The number of times the request was retried. This is one less than the number of attempts, or zero if no attempt was
+     * made.
+     */
+    public int retryCount() {
+        return Math.max(0, attempts.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ApiCallMetrics")
+                       .add("serviceName", serviceName)
+                       .add("operationName", operationName)
+                       .add("successful", successful)
+                       .add("apiCallDuration", apiCallDuration)
+                       .add("marshallingDuration", marshallingDuration)
+                       .add("attempts", attempts)
+                       .build();
+    }
+
+    /**
+     * A builder for {@link ApiCallMetrics}.
+     *
+     * <p>All implementations of this interface are mutable and not thread safe.</p>
+     */
+    public interface Builder extends SdkBuilder<Builder, ApiCallMetrics> {
+        Builder serviceName(String serviceName);
+
+        Builder operationName(String operationName);
+
+        Builder successful(boolean successful);
+
+        Builder apiCallDuration(Duration apiCallDuration);
+
+        Builder marshallingDuration(Duration marshallingDuration);
+
+        Builder attempts(List<ApiCallAttemptMetrics> attempts);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private String serviceName;
+        private String operationName;
+        private boolean successful;
+        private Duration apiCallDuration;
+        private Duration marshallingDuration;
+        private List<ApiCallAttemptMetrics> attempts = Collections.emptyList();
+
+        @Override
+        public Builder serviceName(String serviceName) {
+            this.serviceName = serviceName;
+            return this;
+        }
+
+        @Override
+        public Builder operationName(String operationName) {
+            this.operationName = operationName;
+            return this;
+        }
+
+        @Override
+        public Builder successful(boolean successful) {
+            this.successful = successful;
+            return this;
+        }
+
+        @Override
+        public Builder apiCallDuration(Duration apiCallDuration) {
+            this.apiCallDuration = apiCallDuration;
+            return this;
+        }
+
+        @Override
+        public Builder marshallingDuration(Duration marshallingDuration) {
+            this.marshallingDuration = marshallingDuration;
+            return this;
+        }
+
+        @Override
+        public Builder attempts(List<ApiCallAttemptMetrics> attempts) {
+            this.attempts = Validate.paramNotNull(attempts, "attempts");
+            return this;
+        }
+
+        @Override
+        public ApiCallMetrics build() {
+            return new ApiCallMetrics(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+
+/**
+ * Receives the {@link ApiCallMetrics} of every API call made by a client. A publisher is configured with
+ * {@link ClientOverrideConfiguration.Builder#metricPublisher(MetricPublisher)}. Metrics are only collected when a publisher is
+ * configured.
+ *
+ * <p>{@link #publish(ApiCallMetrics)} is invoked once per API call, after the call has succeeded or failed, on the thread that
+ * completed the call. For asynchronous clients this may be an SDK or HTTP client thread, so implementations should hand the
+ * metrics off (for example to a queue) rather than perform blocking work. Exceptions thrown by the publisher are logged and
+ * otherwise ignored; they do not affect the result of the API call.
+ */
+@SdkPublicApi
+@ThreadSafe
+@FunctionalInterface
+public interface MetricPublisher {
+
+    /**
+     * Publish the metrics of a completed API call.
+     *
+     * @param metrics The metrics collected during the API call.
+     */
+    void publish(ApiCallMetrics metrics);
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * A budget of capacity that retries must draw from, which caps how much load retries can add to a service that is failing.
+ * Each retry consumes capacity depending on the error that caused it, and each successful request refills some of it. Once
+ * the budget is drained, failed requests are no longer retried until enough requests succeed again.
+ *
+ * <p>Unless one is configured with {@link RetryPolicy.Builder#retryBudget(RetryBudget)}, every client has a budget of its
+ * own. Because a budget is stateful, configuring the same instance on several clients makes them share it, so that a single
+ * budget caps the retries of all of them.
+ *
+ * <p>By default a budget allows 100 consecutive failed retries of ordinary errors. Retries of timeouts cost twice as much,
+ * as a timed out attempt may still be consuming resources on the service. Retries of throttling errors are free, as they are
+ * already paced by the throttling backoff strategy.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class RetryBudget {
+    private final int maxCapacity;
+    private final int retryCost;
+    private final int timeoutRetryCost;
+    private final int throttlingRetryCost;
+    private final int successRefill;
+    private final AtomicInteger availableCapacity;
+
+    private RetryBudget(BuilderImpl builder) {
+        this.maxCapacity = builder.maxCapacity;
+        this.retryCost = Validate.isNotNegative(builder.retryCost, "retryCost");
+        this.timeoutRetryCost = Validate.isNotNegative(builder.timeoutRetryCost, "timeoutRetryCost");
+        this.throttlingRetryCost = Validate.isNotNegative(builder.throttlingRetryCost, "throttlingRetryCost");
+        this.successRefill = Validate.isNotNegative(builder.successRefill, "successRefill");
+        this.availableCapacity = new AtomicInteger(maxCapacity);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Create a budget with the default capacity and costs.
+     */
+    public static RetryBudget create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a budget that never runs out, so that only the {@link RetryPolicy#retryCondition()} limits retries.
+     */
+    public static RetryBudget unlimited() {
+        return builder().maxCapacity(-1).build();
+    }
+
+    /**
+     * The capacity of the budget when it is full, or a negative number if the budget is unlimited.
+     */
+    public int maxCapacity() {
+        return maxCapacity;
+    }
+
+    /**
+     * The capacity currently available for retries, or a negative number if the budget is unlimited.
+     */
+    public int availableCapacity() {
+        return availableCapacity.get();
+    }
+
+    /**
+     * The capacity currently consumed by retries that have not been paid back by successful requests.
+     */
+    public int consumedCapacity() {
+        return isUnlimited() ? 0 : maxCapacity - availableCapacity.get();
+    }
+
+    /**
+     * The capacity a retry of a request that failed with the given exception consumes.
+     */
+    public int retryCost(SdkException exception) {
+        if (RetryUtils.isThrottlingException(exception)) {
+            return throttlingRetryCost;
+        }
+        if (RetryUtils.isTimeoutException(exception)) {
+            return timeoutRetryCost;
+        }
+        return retryCost;
+    }
+
+    /**
+     * The capacity a successful request refills if it was not a retry. A successful retry refills the capacity it consumed.
+     */
+    public int successRefill() {
+        return successRefill;
+    }
+
+    /**
+     * Attempt to consume the given capacity for a retry. Only the SDK's retry handling may consume capacity, as the budget may
+     * be shared by several clients.
+     *
+     * @return True if the capacity was available and has been consumed, false if the retry should not be made.
+     */
+    @SdkInternalApi
+    public boolean tryAcquire(int capacity) {
+        Validate.isNotNegative(capacity, "capacity");
+        if (isUnlimited()) {
+            return true;
+        }
+
+        int current;
+        do {
+            current = availableCapacity.get();
+            if (current < capacity) {
+                return false;
+            }
+        } while (!availableCapacity.compareAndSet(current, current - capacity));
+        return true;
+    }
+
+    /**
+     * Return capacity to the budget, up to its {@link #maxCapacity()}.
+     */
+    @SdkInternalApi
+    public void release(int capacity) {
+        Validate.isNotNegative(capacity, "capacity");
+        if (isUnlimited()) {
+            return;
+        }
+
+        // In the common case where the budget is already full, avoid contending on the counter.
+        if (availableCapacity.get() != maxCapacity) {
+            availableCapacity.accumulateAndGet(capacity, (current, c) -> Math.min(current + c, maxCapacity));
+        }
+    }
+
+    private boolean isUnlimited() {
+        return maxCapacity < 0;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("RetryBudget")
+                       .add("maxCapacity", maxCapacity)
+                       .add("availableCapacity", availableCapacity.get())
+                       .add("retryCost", retryCost)
+                       .add("timeoutRetryCost", timeoutRetryCost)
+                       .add("throttlingRetryCost", throttlingRetryCost)
+                       .add("successRefill", successRefill)
+                       .build();
+    }
+
+    /**
+     * A builder for {@link RetryBudget}.
+     *
+     * <p>All implementations of this interface are mutable and not thread safe.</p>
+     */
+    public interface Builder extends SdkBuilder<Builder, RetryBudget> {
+        /**
+         * The capacity of the budget when it is full. A negative value makes the budget unlimited.
+         */
+        Builder maxCapacity(int maxCapacity);
+
+        /**
+         * The capacity consumed by retrying an error that is neither a throttling error nor a timeout.
+         */
+        Builder retryCost(int retryCost);
+
+        /**
+         * The capacity consumed by retrying a request that timed out.
+         *
+         * @see RetryUtils#isTimeoutException(SdkException)
+         */
+        Builder timeoutRetryCost(int timeoutRetryCost);
+
+        /**
+         * The capacity consumed by retrying a throttling error.
+         *
+         * @see RetryUtils#isThrottlingException(SdkException)
+         */
+        Builder throttlingRetryCost(int throttlingRetryCost);
+
+        /**
+         * The capacity refilled by a request that succeeds on its first attempt.
+         */
+        Builder successRefill(int successRefill);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private int maxCapacity = SdkDefaultRetrySetting.RETRY_THROTTLING_COST * SdkDefaultRetrySetting.THROTTLED_RETRIES;
+        private int retryCost = SdkDefaultRetrySetting.RETRY_THROTTLING_COST;
+        private int timeoutRetryCost = SdkDefaultRetrySetting.RETRY_TIMEOUT_COST;
+        private int throttlingRetryCost = 0;
+        private int successRefill = 1;
+
+        @Override
+        public Builder maxCapacity(int maxCapacity) {
+            this.maxCapacity = maxCapacity;
+            return this;
+        }
+
+        @Override
+        public Builder retryCost(int retryCost) {
+            this.retryCost = retryCost;
+            return this;
+        }
+
+        @Override
+        public Builder timeoutRetryCost(int timeoutRetryCost) {
+            this.timeoutRetryCost = timeoutRetryCost;
+            return this;
+        }
+
+        @Override
+        public Builder throttlingRetryCost(int throttlingRetryCost) {
+            this.throttlingRetryCost = throttlingRetryCost;
+            return this;
+        }
+
+        @Override
+        public Builder successRefill(int successRefill) {
+            this.successRefill = successRefill;
+            return this;
+        }
+
+        @Override
+        public RetryBudget build() {
+            return new RetryBudget(this);
+        }
+    }
+}
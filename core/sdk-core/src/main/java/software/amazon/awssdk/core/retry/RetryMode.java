@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How a {@link RetryPolicy} paces the requests made by a client.
+ *
+ * @see RetryPolicy.Builder#retryMode(RetryMode)
+ */
+@SdkPublicApi
+public enum RetryMode {
+
+    /**
+     * Each request is retried independently, delayed only by the policy's backoff strategies.
+     */
+    DEFAULT,
+
+    /**
+     * In addition to the backoff strategies, the client maintains a token bucket that is shared by all of its requests. Once
+     * the service throttles the client, the bucket's fill rate follows the rate the service accepts: it is cut on each
+     * throttling error and grows back along a cubic curve while requests succeed. Initial requests as well as retries wait
+     * for a token, so that a throttled client settles at a sustainable request rate instead of alternating between bursts
+     * and backoff.
+     *
+     * <p>Throttling is detected with {@link RetryUtils#isThrottlingException}.
+     */
+    ADAPTIVE
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.retry;
 
+import java.util.Objects;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
@@ -24,6 +25,7 @@ import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
 import software.amazon.awssdk.core.retry.conditions.MaxNumberOfRetriesCondition;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
@@ -49,11 +51,15 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
     private final BackoffStrategy backoffStrategy;
     private final BackoffStrategy throttlingBackoffStrategy;
     private final Integer numRetries;
+    private final RetryMode retryMode;
+    private final RetryBudget retryBudget;
 
     private RetryPolicy(BuilderImpl builder) {
         this.backoffStrategy = builder.backoffStrategy;
         this.throttlingBackoffStrategy = builder.throttlingBackoffStrategy;
         this.numRetries = builder.numRetries;
+        this.retryMode = builder.retryMode;
+        this.retryBudget = builder.retryBudget;
         this.retryConditionFromBuilder = builder.retryCondition;
         this.retryCondition = AndRetryCondition.create(MaxNumberOfRetriesCondition.create(numRetries),
                                                        retryConditionFromBuilder);
@@ -75,11 +81,24 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         return numRetries;
     }
 
+    public RetryMode retryMode() {
+        return retryMode;
+    }
+
+    /**
+     * @return The retry budget shared by the clients using this policy, or null if each client uses a budget of its own.
+     */
+    public RetryBudget retryBudget() {
+        return retryBudget;
+    }
+
     public Builder toBuilder() {
         return builder().numRetries(numRetries)
                         .retryCondition(retryConditionFromBuilder)
                         .backoffStrategy(backoffStrategy)
-                        .throttlingBackoffStrategy(throttlingBackoffStrategy);
+                        .throttlingBackoffStrategy(throttlingBackoffStrategy)
+                        .retryMode(retryMode)
+                        .retryBudget(retryBudget);
     }
 
     @Override
@@ -89,6 +108,8 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
                        .add("retryCondition", retryCondition)
                        .add("backoffStrategy", backoffStrategy)
                        .add("throttlingBackoffStrategy", throttlingBackoffStrategy)
+                       .add("retryMode", retryMode)
+                       .add("retryBudget", retryBudget)
                        .build();
     }
 
@@ -112,6 +133,12 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         if (!throttlingBackoffStrategy.equals(that.throttlingBackoffStrategy)) {
             return false;
         }
+        if (retryMode != that.retryMode) {
+            return false;
+        }
+        if (!Objects.equals(retryBudget, that.retryBudget)) {
+            return false;
+        }
         return numRetries.equals(that.numRetries);
     }
 
@@ -121,6 +148,8 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         result = 31 * result + backoffStrategy.hashCode();
         result = 31 * result + throttlingBackoffStrategy.hashCode();
         result = 31 * result + numRetries.hashCode();
+        result = 31 * result + retryMode.hashCode();
+        result = 31 * result + Objects.hashCode(retryBudget);
         return result;
     }
 
@@ -163,6 +192,24 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
 
         RetryCondition retryCondition();
 
+        /**
+         * Configure how requests made by the client are paced. Defaults to {@link RetryMode#DEFAULT}.
+         *
+         * @see RetryMode#ADAPTIVE
+         */
+        Builder retryMode(RetryMode retryMode);
+
+        RetryMode retryMode();
+
+        /**
+         * Configure the budget that retries draw from. Configuring the same budget on the retry policies of several clients
+         * makes them share it, capping the retries of all of them together. By default, each client uses a budget of its own
+         * created with {@link RetryBudget#create()}.
+         */
+        Builder retryBudget(RetryBudget retryBudget);
+
+        RetryBudget retryBudget();
+
         RetryPolicy build();
     }
 
@@ -175,6 +222,8 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         private BackoffStrategy backoffStrategy = BackoffStrategy.defaultStrategy();
         private BackoffStrategy throttlingBackoffStrategy = BackoffStrategy.defaultThrottlingStrategy();
         private RetryCondition retryCondition = RetryCondition.defaultRetryCondition();
+        private RetryMode retryMode = RetryMode.DEFAULT;
+        private RetryBudget retryBudget;
 
         private BuilderImpl(){
         }
@@ -239,6 +288,36 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
             return retryCondition;
         }
 
+        @Override
+        public Builder retryMode(RetryMode retryMode) {
+            this.retryMode = Validate.paramNotNull(retryMode, "retryMode");
+            return this;
+        }
+
+        public void setRetryMode(RetryMode retryMode) {
+            retryMode(retryMode);
+        }
+
+        @Override
+        public RetryMode retryMode() {
+            return retryMode;
+        }
+
+        @Override
+        public Builder retryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        public void setRetryBudget(RetryBudget retryBudget) {
+            retryBudget(retryBudget);
+        }
+
+        @Override
+        public RetryBudget retryBudget() {
+            return retryBudget;
+        }
+
         @Override
         public RetryPolicy build() {
             return new RetryPolicy(this);
@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.core.retry;
 
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeoutException;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.http.HttpStatusCode;
@@ -66,4 +69,24 @@ public final class RetryUtils {
     public static boolean isThrottlingException(SdkException exception) {
         return isServiceException(exception) && toServiceException(exception).isThrottlingException();
     }
+
+    /**
+     * Returns true if the specified exception is caused by a request attempt, connection or socket read or write timing out.
+     *
+     * @param exception The exception to test.
+     * @return True if the exception or one of its causes is a timeout, otherwise false.
+     */
+    public static boolean isTimeoutException(SdkException exception) {
+        for (Throwable t = exception; t != null; t = t.getCause()) {
+            if (t instanceof ApiCallAttemptTimeoutException ||
+                t instanceof InterruptedIOException ||
+                t instanceof TimeoutException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
 }
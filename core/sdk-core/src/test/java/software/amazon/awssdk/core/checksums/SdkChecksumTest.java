@@ -0,0 +1,178 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class SdkChecksumTest {
+
+    private static final byte[] CHECK_DATA = "123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void crc32c_matchesCheckValue() {
+        assertThat(checksum(Algorithm.CRC32C, CHECK_DATA).getValue()).isEqualTo(0xE3069283L);
+        assertThat(BinaryUtils.toHex(checksum(Algorithm.CRC32C, CHECK_DATA).getChecksumBytes())).isEqualTo("e3069283");
+    }
+
+    @Test
+    public void crc32_matchesCheckValue() {
+        assertThat(checksum(Algorithm.CRC32, CHECK_DATA).getValue()).isEqualTo(0xCBF43926L);
+    }
+
+    @Test
+    public void sha256_matchesKnownDigest() {
+        assertThat(BinaryUtils.toHex(checksum(Algorithm.SHA256, "abc".getBytes(StandardCharsets.UTF_8)).getChecksumBytes()))
+            .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    public void md5_matchesKnownDigest() {
+        assertThat(BinaryUtils.toHex(checksum(Algorithm.MD5, "abc".getBytes(StandardCharsets.UTF_8)).getChecksumBytes()))
+            .isEqualTo("900150983cd24fb0d6963f7d28e17f72");
+    }
+
+    @Test
+    public void sdkCrc32C_matchesBytewiseCalculation() {
+        byte[] data = new byte[1031];
+        new Random(7).nextBytes(data);
+
+        SdkCrc32C sliced = new SdkCrc32C();
+        sliced.update(data, 3, data.length - 3);
+        SdkCrc32C bytewise = new SdkCrc32C();
+        for (int i = 3; i < data.length; i++) {
+            bytewise.update(data[i]);
+        }
+
+        assertThat(sliced.getValue()).isEqualTo(bytewise.getValue());
+    }
+
+    @Test
+    public void updateWithBuffer_matchesUpdateWithArray() {
+        byte[] data = new byte[20_000];
+        new Random(11).nextBytes(data);
+
+        for (Algorithm algorithm : Algorithm.values()) {
+            ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+            direct.put(data).flip();
+
+            SdkChecksum fromHeapBuffer = SdkChecksum.forAlgorithm(algorithm);
+            fromHeapBuffer.update(ByteBuffer.wrap(data));
+            SdkChecksum fromDirectBuffer = SdkChecksum.forAlgorithm(algorithm);
+            fromDirectBuffer.update(direct);
+
+            assertThat(direct.hasRemaining()).isFalse();
+            assertThat(fromHeapBuffer.getChecksumBytes()).as(algorithm.name())
+                                                         .isEqualTo(checksum(algorithm, data).getChecksumBytes())
+                                                         .isEqualTo(fromDirectBuffer.getChecksumBytes());
+        }
+    }
+
+    @Test
+    public void resetAfterMark_restoresChecksumAtMark() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+            checksum.update(CHECK_DATA, 0, 4);
+            checksum.mark(100);
+            checksum.update(new byte[] {1, 2, 3}, 0, 3);
+            checksum.reset();
+            checksum.update(CHECK_DATA, 4, CHECK_DATA.length - 4);
+
+            assertThat(checksum.getChecksumBytes()).as(algorithm.name())
+                                                   .isEqualTo(checksum(algorithm, CHECK_DATA).getChecksumBytes());
+        }
+    }
+
+    @Test
+    public void combine_ofPartChecksums_isChecksumOfWholePayload() {
+        byte[] data = new byte[10_000];
+        new Random(3).nextBytes(data);
+        int split = 3_333;
+
+        long crc32c1 = crc(Algorithm.CRC32C, data, 0, split);
+        long crc32c2 = crc(Algorithm.CRC32C, data, split, data.length - split);
+        assertThat(Crc32CChecksum.combine(crc32c1, crc32c2, data.length - split))
+            .isEqualTo(checksum(Algorithm.CRC32C, data).getValue());
+
+        long crc321 = crc(Algorithm.CRC32, data, 0, split);
+        long crc322 = crc(Algorithm.CRC32, data, split, data.length - split);
+        assertThat(Crc32Checksum.combine(crc321, crc322, data.length - split))
+            .isEqualTo(checksum(Algorithm.CRC32, data).getValue());
+    }
+
+    @Test
+    public void combineWithChecksumsOfParts_isChecksumOfWholePayload() {
+        byte[] data = new byte[10_000];
+        new Random(5).nextBytes(data);
+        int[] partEnds = {1_000, 1_001, 6_000, data.length};
+
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.CRC32C, Algorithm.CRC32}) {
+            SdkChecksum combined = SdkChecksum.forAlgorithm(algorithm);
+            int partStart = 0;
+            for (int partEnd : partEnds) {
+                combined.combine(crc(algorithm, data, partStart, partEnd - partStart), partEnd - partStart);
+                partStart = partEnd;
+            }
+
+            assertThat(combined.getValue()).as(algorithm.name()).isEqualTo(checksum(algorithm, data).getValue());
+        }
+    }
+
+    @Test
+    public void combine_betweenUpdatesAndMark_keepsOrderOfBytes() {
+        byte[] data = new byte[3_000];
+        new Random(9).nextBytes(data);
+
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.CRC32C, Algorithm.CRC32}) {
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+            checksum.update(data, 0, 500);
+            checksum.mark(100);
+            checksum.combine(crc(algorithm, new byte[] {1, 2, 3}, 0, 3), 3);
+            checksum.reset();
+            checksum.update(data, 500, 500);
+            checksum.combine(crc(algorithm, data, 1_000, 1_500), 1_500);
+            checksum.update(data, 2_500, 500);
+
+            assertThat(checksum.getValue()).as(algorithm.name()).isEqualTo(checksum(algorithm, data).getValue());
+        }
+    }
+
+    @Test
+    public void combine_ofDigests_isUnsupported() {
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.SHA256, Algorithm.MD5}) {
+            assertThatThrownBy(() -> SdkChecksum.forAlgorithm(algorithm).combine(0, 1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    private static SdkChecksum checksum(Algorithm algorithm, byte[] data) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(data, 0, data.length);
+        return checksum;
+    }
+
+    private static long crc(Algorithm algorithm, byte[] data, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(data, offset, length);
+        return checksum.getValue();
+    }
+}
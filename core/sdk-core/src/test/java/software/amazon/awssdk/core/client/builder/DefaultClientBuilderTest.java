@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.client.builder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -33,6 +34,7 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
@@ -98,6 +100,43 @@ public class DefaultClientBuilderTest {
 
     }
 
+    @Test
+    public void warmUpConnectionsConfigured_httpClientWarmsUpEndpoint() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        when(httpClient.warmUp(any(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+        when(defaultHttpClientFactory.buildWithDefaults(any())).thenReturn(httpClient);
+
+        testClientBuilder().endpointOverride(ENDPOINT).warmUpConnections(5).build();
+
+        verify(httpClient).warmUp(ENDPOINT, 5);
+    }
+
+    @Test
+    public void endpointHostVariesPerRequest_httpClientIsNotWarmedUp() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        when(defaultHttpClientFactory.buildWithDefaults(any())).thenReturn(httpClient);
+
+        new TestClientBuilder() {
+            @Override
+            protected SdkClientConfiguration mergeChildDefaults(SdkClientConfiguration configuration) {
+                return super.mergeChildDefaults(configuration)
+                            .merge(c -> c.option(SdkClientOption.ENDPOINT_HOST_VARIES_PER_REQUEST, true));
+            }
+        }.endpointOverride(ENDPOINT).warmUpConnections(5).build();
+
+        verify(httpClient, never()).warmUp(any(), anyInt());
+    }
+
+    @Test
+    public void warmUpConnectionsNotConfigured_httpClientIsNotWarmedUp() {
+        SdkAsyncHttpClient httpClient = mock(SdkAsyncHttpClient.class);
+        when(defaultAsyncHttpClientFactory.buildWithDefaults(any())).thenReturn(httpClient);
+
+        testAsyncClientBuilder().build();
+
+        verify(httpClient, never()).warmUp(any(), anyInt());
+    }
+
     @Test
     public void noClientProvided_DefaultHttpClientIsManagedBySdk() {
         TestClient client = testClientBuilder().build();
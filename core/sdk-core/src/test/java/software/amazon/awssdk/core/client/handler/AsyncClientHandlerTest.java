@@ -21,6 +21,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -41,6 +42,8 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
 import software.amazon.awssdk.core.protocol.VoidSdkResponse;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.runtime.transform.Marshaller;
@@ -129,6 +132,33 @@ public class AsyncClientHandlerTest {
         verifyNoMoreInteractions(responseHandler); // Response handler is not called
     }
 
+    @Test
+    public void metricPublisher_receivesConnectionAcquireAndUnmarshallingDurations() throws Exception {
+        CompletableFuture<ApiCallMetrics> published = new CompletableFuture<>();
+        SdkAsyncClientHandler handler = new SdkAsyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.METRIC_PUBLISHER, published::complete)
+                                 .build());
+        ArgumentCaptor<AsyncExecuteRequest> executeRequest = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+
+        expectRetrievalFromMocks();
+        when(httpClient.execute(executeRequest.capture())).thenReturn(httpClientFuture);
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+
+        CompletableFuture<SdkResponse> responseFuture = handler.execute(clientExecutionParams());
+        executeRequest.getValue().connectionAcquireListener().get().connectionAcquired(Duration.ofMillis(5));
+        SdkAsyncHttpResponseHandler capturedHandler = executeRequest.getValue().responseHandler();
+        capturedHandler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+        capturedHandler.onStream(new EmptyPublisher<>());
+        responseFuture.get(1, TimeUnit.SECONDS);
+
+        ApiCallAttemptMetrics attempt = published.get(1, TimeUnit.SECONDS).attempts().get(0);
+        assertThat(attempt.connectionAcquireDuration()).hasValue(Duration.ofMillis(5));
+        assertThat(attempt.timeToFirstByte()).isPresent();
+        assertThat(attempt.unmarshallingDuration()).isPresent();
+        assertThat(attempt.httpStatusCode()).hasValue(200);
+    }
+
     private void expectRetrievalFromMocks() {
         when(marshaller.marshall(request)).thenReturn(marshalledRequest);
     }
@@ -22,6 +22,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -30,6 +32,7 @@ import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.core.SdkRequest;
@@ -41,11 +44,15 @@ import software.amazon.awssdk.core.exception.NonRetryableException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
 import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.core.retry.RetryBudget;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.runtime.transform.Marshaller;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
@@ -171,6 +178,68 @@ public class SyncClientHandlerTest {
             .hasCauseInstanceOf(NonRetryableException.class);
     }
 
+    @Test
+    public void metricPublisher_receivesMetricsOfEachCall() throws Exception {
+        List<ApiCallMetrics> published = new ArrayList<>();
+        SdkSyncClientHandler handler = new SdkSyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.METRIC_PUBLISHER, published::add)
+                                 .build());
+        mockSuccessfulApiCall();
+
+        handler.execute(clientExecutionParams());
+
+        assertThat(published).hasSize(1);
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.successful()).isTrue();
+        assertThat(metrics.marshallingDuration()).isPresent();
+        assertThat(metrics.attempts()).hasSize(1);
+        ApiCallAttemptMetrics attempt = metrics.attempts().get(0);
+        assertThat(attempt.backoffDelay()).isEqualTo(Duration.ZERO);
+        assertThat(attempt.httpStatusCode()).hasValue(200);
+        assertThat(attempt.timeToFirstByte()).isPresent();
+        assertThat(attempt.unmarshallingDuration()).isPresent();
+        assertThat(attempt.retryBudgetAvailableCapacity()).hasValue(RetryBudget.create().maxCapacity());
+        assertThat(metrics.apiCallDuration()).isGreaterThanOrEqualTo(attempt.timeToFirstByte().get());
+    }
+
+    @Test
+    public void metricPublisher_receivesConnectionAcquireDurationReportedByHttpClient() throws Exception {
+        List<ApiCallMetrics> published = new ArrayList<>();
+        SdkSyncClientHandler handler = new SdkSyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.METRIC_PUBLISHER, published::add)
+                                 .build());
+        mockSuccessfulApiCall();
+        ArgumentCaptor<HttpExecuteRequest> executeRequest = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        when(httpClient.prepareRequest(executeRequest.capture())).thenReturn(httpClientCall);
+        when(httpClientCall.call()).thenAnswer(invocation -> {
+            executeRequest.getValue().connectionAcquireListener().get().connectionAcquired(Duration.ofMillis(5));
+            return HttpExecuteResponse.builder()
+                                      .response(SdkHttpResponse.builder().statusCode(200).build())
+                                      .build();
+        });
+
+        handler.execute(clientExecutionParams());
+
+        ApiCallAttemptMetrics attempt = published.get(0).attempts().get(0);
+        assertThat(attempt.connectionAcquireDuration()).hasValue(Duration.ofMillis(5));
+        assertThat(attempt.timeToFirstByte()).isPresent();
+    }
+
+    @Test
+    public void metricPublisher_failingPublisherDoesNotFailCall() throws Exception {
+        SdkSyncClientHandler handler = new SdkSyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.METRIC_PUBLISHER, m -> {
+                                     throw new IllegalStateException();
+                                 })
+                                 .build());
+        mockSuccessfulApiCall();
+
+        assertThat(handler.execute(clientExecutionParams())).isNotNull();
+    }
+
     private void verifyResponseTransformerPropagateException(Exception exception) throws Exception {
         mockSuccessfulApiCall();
         when(responseTransformer.transform(any(SdkResponse.class), any(AbortableInputStream.class))).thenThrow(
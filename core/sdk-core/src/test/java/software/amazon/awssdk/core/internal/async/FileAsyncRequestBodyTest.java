@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class FileAsyncRequestBodyTest {
+    private static final int CHUNK_SIZE = 1000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void defaultBuffers_areBackedByArraysAndHoldTheFileContent() throws Exception {
+        byte[] content = randomBytes(2500);
+        List<ByteBuffer> chunks = readChunks(FileAsyncRequestBody.builder()
+                                                                 .path(file(content))
+                                                                 .chunkSizeInBytes(CHUNK_SIZE)
+                                                                 .build());
+
+        assertThat(chunks).allMatch(ByteBuffer::hasArray);
+        assertThat(concat(chunks)).isEqualTo(content);
+    }
+
+    @Test
+    public void directBuffersEnabled_buffersAreDirectAndHoldTheFileContent() throws Exception {
+        byte[] content = randomBytes(2500);
+        List<ByteBuffer> chunks = readChunks(FileAsyncRequestBody.builder()
+                                                                 .path(file(content))
+                                                                 .chunkSizeInBytes(CHUNK_SIZE)
+                                                                 .directBuffers(true)
+                                                                 .build());
+
+        assertThat(chunks).allMatch(ByteBuffer::isDirect);
+        // The last chunk is only as large as the rest of the file
+        assertThat(chunks).extracting(ByteBuffer::capacity).containsExactly(1000, 1000, 500);
+        assertThat(concat(chunks)).isEqualTo(content);
+    }
+
+    @Test
+    public void emptyFile_publishesNothing() throws Exception {
+        List<ByteBuffer> chunks = readChunks(FileAsyncRequestBody.builder()
+                                                                 .path(file(new byte[0]))
+                                                                 .chunkSizeInBytes(CHUNK_SIZE)
+                                                                 .build());
+
+        assertThat(chunks).isEmpty();
+    }
+
+    private Path file(byte[] content) throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content);
+        return file;
+    }
+
+    private static List<ByteBuffer> readChunks(AsyncRequestBody body) throws Exception {
+        List<ByteBuffer> chunks = new ArrayList<>();
+        SdkPublisher.adapt(body).subscribe(chunks::add).get(10, TimeUnit.SECONDS);
+        return chunks;
+    }
+
+    private static byte[] concat(List<ByteBuffer> chunks) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer chunk : chunks) {
+            out.write(BinaryUtils.copyBytesFrom(chunk));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(1).nextBytes(bytes);
+        return bytes;
+    }
+}
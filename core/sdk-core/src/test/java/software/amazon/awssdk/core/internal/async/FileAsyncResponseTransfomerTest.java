@@ -18,9 +18,16 @@ package software.amazon.awssdk.core.internal.async;
 import static org.assertj.core.api.Assertions.assertThat;
 import com.google.common.jimfs.Jimfs;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -66,4 +73,79 @@ public class FileAsyncResponseTransfomerTest {
 
         assertThat(prepareFuture.isCompletedExceptionally()).isTrue();
     }
+
+    @Test
+    public void publisherReusesBufferAfterOnNext_fileContainsAllChunks() throws Exception {
+        Path testPath = testFs.getPath("reused_buffer.txt");
+        FileAsyncResponseTransformer<Object> xformer = new FileAsyncResponseTransformer<>(testPath);
+
+        CompletableFuture<Object> prepareFuture = xformer.prepare();
+
+        List<String> chunks = Arrays.asList("first-", "second-", "third");
+        ByteBuffer reused = ByteBuffer.allocate(16);
+        xformer.onResponse(new Object());
+        xformer.onStream(subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int next = 0;
+
+            @Override
+            public void request(long l) {
+                if (next < chunks.size()) {
+                    reused.clear();
+                    reused.put(chunks.get(next++).getBytes(StandardCharsets.UTF_8));
+                    reused.flip();
+                    subscriber.onNext(reused);
+                    // The publisher owns the buffer again as soon as onNext returns
+                    reused.clear();
+                    reused.put(new byte[reused.capacity()]);
+                } else if (next++ == chunks.size()) {
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        }));
+
+        prepareFuture.get(10, TimeUnit.SECONDS);
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo("first-second-third");
+    }
+
+    @Test
+    public void publisherReusesLargeBufferAfterOnNext_fileContainsChunk() throws Exception {
+        Path testPath = testFs.getPath("reused_large_buffer.txt");
+        FileAsyncResponseTransformer<Object> xformer = new FileAsyncResponseTransformer<>(testPath);
+
+        CompletableFuture<Object> prepareFuture = xformer.prepare();
+
+        // Larger than the reused write buffer
+        byte[] content = new byte[3 * 1024 * 1024];
+        new Random(1).nextBytes(content);
+        ByteBuffer reused = ByteBuffer.allocate(content.length);
+        xformer.onResponse(new Object());
+        xformer.onStream(subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean sent = false;
+
+            @Override
+            public void request(long l) {
+                if (!sent) {
+                    sent = true;
+                    reused.put(content);
+                    reused.flip();
+                    subscriber.onNext(reused);
+                    // The publisher owns the buffer again as soon as onNext returns
+                    reused.clear();
+                    reused.put(new byte[reused.capacity()]);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        }));
+
+        prepareFuture.get(10, TimeUnit.SECONDS);
+        assertThat(Files.readAllBytes(testPath)).isEqualTo(content);
+    }
 }
@@ -17,15 +17,12 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,7 +39,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.ApiCallTimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
 import software.amazon.awssdk.core.internal.http.timers.NoOpTimeoutTracker;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryBudget;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -54,9 +51,6 @@ public class ApiCallAttemptTimeoutTrackingStageTest {
     @Mock
     private ScheduledExecutorService timeoutExecutor;
 
-    @Mock
-    private ScheduledFuture scheduledFuture;
-
     private ApiCallAttemptTimeoutTrackingStage<Void> stage;
 
     @Before
@@ -66,7 +60,7 @@ public class ApiCallAttemptTimeoutTrackingStageTest {
                                                                                    SdkClientConfiguration.builder()
                                                                                                          .option(SCHEDULED_EXECUTOR_SERVICE, timeoutExecutor)
                                                                                                          .build())
-                                                                               .capacityManager(mock(CapacityManager.class))
+                                                                               .retryBudget(RetryBudget.create())
                                                                                .build(), wrapped);
     }
 
@@ -74,10 +68,8 @@ public class ApiCallAttemptTimeoutTrackingStageTest {
     public void timeoutEnabled_shouldHaveTracker() throws Exception {
         when(wrapped.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
             .thenAnswer(invocationOnMock -> null);
-        when(timeoutExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(scheduledFuture);
         RequestExecutionContext context = requestContext(500);
         stage.execute(mock(SdkHttpFullRequest.class), context);
-        assertThat(scheduledFuture.isDone()).isFalse();
         assertThat(context.apiCallAttemptTimeoutTracker()).isInstanceOf(ApiCallTimeoutTracker.class);
     }
 
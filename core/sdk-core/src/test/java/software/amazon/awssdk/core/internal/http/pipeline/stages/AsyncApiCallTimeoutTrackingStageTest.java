@@ -15,10 +15,9 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyLong;
-import static org.mockito.Matchers.eq;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,8 +25,8 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -40,8 +39,11 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.ApiCallTimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.ManualTicker;
+import software.amazon.awssdk.core.retry.RetryBudget;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import utils.ValidSdkObjects;
@@ -60,13 +62,14 @@ public class AsyncApiCallTimeoutTrackingStageTest {
     @Mock
     private ScheduledExecutorService executorService;
 
+    private final ManualTicker ticker = new ManualTicker();
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 512, ticker);
+
     private SdkClientConfiguration configuration;
 
     private HttpClientDependencies dependencies;
 
-    @Mock
-    private CapacityManager capacityManager;
-
     private SdkHttpFullRequest httpRequest;
 
     private RequestExecutionContext requestExecutionContext;
@@ -82,7 +85,8 @@ public class AsyncApiCallTimeoutTrackingStageTest {
 
         dependencies = HttpClientDependencies.builder()
                 .clientConfiguration(configuration)
-                .capacityManager(capacityManager)
+                .retryBudget(RetryBudget.create())
+                .timeoutTimer(timer)
                 .build();
 
         httpRequest = SdkHttpFullRequest.builder()
@@ -98,8 +102,11 @@ public class AsyncApiCallTimeoutTrackingStageTest {
 
         when(requestPipeline.execute(any(SdkHttpFullRequest.class), any(RequestExecutionContext.class)))
                 .thenReturn(new CompletableFuture());
+    }
 
-        when(executorService.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(mock(ScheduledFuture.class));
+    @After
+    public void methodTeardown() {
+        timer.close();
     }
 
     @Test
@@ -108,7 +115,13 @@ public class AsyncApiCallTimeoutTrackingStageTest {
         AsyncApiCallTimeoutTrackingStage apiCallTimeoutTrackingStage = new AsyncApiCallTimeoutTrackingStage(dependencies,
                 requestPipeline);
         apiCallTimeoutTrackingStage.execute(httpRequest, requestExecutionContext);
-        verify(executorService)
-                .schedule(any(Runnable.class), eq(TIMEOUT_MILLIS), eq(TimeUnit.MILLISECONDS));
+        assertThat(requestExecutionContext.apiCallTimeoutTracker()).isInstanceOf(ApiCallTimeoutTracker.class);
+
+        ticker.advance(TIMEOUT_MILLIS - 1, TimeUnit.MILLISECONDS);
+        verify(executorService, never()).execute(any(Runnable.class));
+
+        // The timer has a 1 millisecond tick, so the timeout fires by the end of the tick it falls into.
+        ticker.advance(2, TimeUnit.MILLISECONDS);
+        verify(executorService).execute(any(Runnable.class));
     }
 }
@@ -15,10 +15,12 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
@@ -27,24 +29,34 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULE
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.async.EmptyPublisher;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.Response;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ApiCallTimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.http.timers.NoOpTimeoutTracker;
 import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryBudget;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import utils.ValidSdkObjects;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -58,37 +70,104 @@ public class MakeAsyncHttpRequestStageTest {
 
     private CompletableFuture<Void> clientExecuteFuture = CompletableFuture.completedFuture(null);
 
-    @Mock
-    private ScheduledFuture future;
-
     private MakeAsyncHttpRequestStage stage;
 
     @Before
     public void setup() {
         when(sdkAsyncHttpClient.execute(any())).thenReturn(clientExecuteFuture);
-        when(timeoutExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(future);
     }
 
     @Test
-    public void apiCallAttemptTimeoutEnabled_shouldInvokeExecutor() throws Exception {
+    public void apiCallAttemptTimeoutEnabled_shouldScheduleTimeout() throws Exception {
         stage = new MakeAsyncHttpRequestStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler(), AsyncResponseHandlerTestUtils.noOpResponseHandler(),
                                               clientDependencies(Duration.ofMillis(1000)));
-        stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), requestContext());
+        RequestExecutionContext context = requestContext();
+        stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context);
 
-        verify(timeoutExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        assertThat(context.apiCallAttemptTimeoutTracker()).isInstanceOf(ApiCallTimeoutTracker.class);
     }
 
     @Test
-    public void apiCallAttemptTimeoutNotEnabled_shouldNotInvokeExecutor() throws Exception {
+    public void apiCallAttemptTimeoutNotEnabled_shouldNotScheduleTimeout() throws Exception {
         stage = new MakeAsyncHttpRequestStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler(), AsyncResponseHandlerTestUtils.noOpResponseHandler(), clientDependencies(null));
-        stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), requestContext());
+        RequestExecutionContext context = requestContext();
+        stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context);
+
+        assertThat(context.apiCallAttemptTimeoutTracker()).isSameAs(NoOpTimeoutTracker.INSTANCE);
+    }
+
+    @Test
+    public void clientCompletionExecutor_completesResponseFuture() throws Exception {
+        respondSuccessfully();
+        Executor executor = mock(Executor.class);
+        stage = new MakeAsyncHttpRequestStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler(), AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                              clientDependencies(null, executor, false));
+        CompletableFuture<Response<Object>> future = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), requestContext());
 
-        verify(timeoutExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        verify(executor).execute(any(Runnable.class));
+        assertThat(future).isNotDone();
+    }
+
+    @Test
+    public void directFutureCompletion_completesResponseFutureWithoutExecutor() throws Exception {
+        respondSuccessfully();
+        Executor executor = mock(Executor.class);
+        stage = new MakeAsyncHttpRequestStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler(), AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                              clientDependencies(null, executor, true));
+        CompletableFuture<Response<Object>> future = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), requestContext());
+
+        verify(executor, never()).execute(any(Runnable.class));
+        assertThat(future.join().isSuccess()).isTrue();
+    }
+
+    @Test
+    public void requestCompletionExecutor_takesPriorityOverDirectFutureCompletion() throws Exception {
+        respondSuccessfully();
+        Executor executor = mock(Executor.class);
+        stage = new MakeAsyncHttpRequestStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler(), AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                              clientDependencies(null, Runnable::run, true));
+        SdkRequestOverrideConfiguration overrideConfiguration = SdkRequestOverrideConfiguration.builder()
+                                                                                               .futureCompletionExecutor(executor)
+                                                                                               .build();
+        CompletableFuture<Response<Object>> future = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(),
+                                                                   requestContext(overrideConfiguration));
+
+        verify(executor).execute(any(Runnable.class));
+        assertThat(future).isNotDone();
+    }
+
+    @Test
+    public void completionExecutorRejects_completesResponseFutureExceptionally() throws Exception {
+        respondSuccessfully();
+        Executor executor = mock(Executor.class);
+        doThrow(new RejectedExecutionException()).when(executor).execute(any(Runnable.class));
+        stage = new MakeAsyncHttpRequestStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler(), AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                              clientDependencies(null, executor, false));
+        CompletableFuture<Response<Object>> future = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), requestContext());
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(SdkClientException.class)
+                                        .hasRootCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private void respondSuccessfully() {
+        when(sdkAsyncHttpClient.execute(any())).thenAnswer(invocation -> {
+            AsyncExecuteRequest request = (AsyncExecuteRequest) invocation.getArguments()[0];
+            SdkAsyncHttpResponseHandler handler = request.responseHandler();
+            handler.onHeaders(SdkHttpResponse.builder().statusCode(200).build());
+            handler.onStream(new EmptyPublisher<>());
+            return clientExecuteFuture;
+        });
     }
 
     private HttpClientDependencies clientDependencies(Duration timeout) {
+        return clientDependencies(timeout, Runnable::run, false);
+    }
+
+    private HttpClientDependencies clientDependencies(Duration timeout, Executor completionExecutor, boolean directCompletion) {
         SdkClientConfiguration configuration = SdkClientConfiguration.builder()
-                                                                     .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
+                                                                     .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, completionExecutor)
+                                                                     .option(SdkAdvancedAsyncClientOption.DIRECT_FUTURE_COMPLETION, directCompletion)
                                                                      .option(ASYNC_HTTP_CLIENT, sdkAsyncHttpClient)
                                                                      .option(SCHEDULED_EXECUTOR_SERVICE, timeoutExecutor)
                                                                      .option(API_CALL_ATTEMPT_TIMEOUT, timeout)
@@ -97,15 +176,19 @@ public class MakeAsyncHttpRequestStageTest {
 
         return HttpClientDependencies.builder()
                                      .clientConfiguration(configuration)
-                                     .capacityManager(new CapacityManager(2))
+                                     .retryBudget(RetryBudget.builder().maxCapacity(2).build())
                                      .build();
     }
 
     private RequestExecutionContext requestContext() {
+        return requestContext(null);
+    }
+
+    private RequestExecutionContext requestContext(SdkRequestOverrideConfiguration overrideConfiguration) {
         ExecutionContext executionContext = ClientExecutionAndRequestTimerTestUtils.executionContext(ValidSdkObjects.sdkHttpFullRequest().build());
         return RequestExecutionContext.builder()
                                       .executionContext(executionContext)
-                                      .originalRequest(NoopTestRequest.builder().build())
+                                      .originalRequest(NoopTestRequest.builder().overrideConfiguration(overrideConfiguration).build())
                                       .build();
     }
 }
@@ -22,7 +22,6 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.net.SocketException;
-import java.util.concurrent.ScheduledFuture;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -40,8 +39,9 @@ import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.ApiCallTimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTask;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryBudget;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import utils.ValidSdkObjects;
 
@@ -58,7 +58,7 @@ public class TimeoutExceptionHandlingStageTest {
     private TimeoutTask apiCallAttemptTimeoutTask;
 
     @Mock
-    private ScheduledFuture scheduledFuture;
+    private HashedWheelTimer.Timeout timeout;
 
 
     private TimeoutExceptionHandlingStage<String> stage;
@@ -66,7 +66,7 @@ public class TimeoutExceptionHandlingStageTest {
     @Before
     public void setup() {
         stage = new TimeoutExceptionHandlingStage<>(HttpClientDependencies.builder()
-                                                                          .capacityManager(new CapacityManager(1))
+                                                                          .retryBudget(RetryBudget.builder().maxCapacity(1).build())
                                                                           .clientConfiguration(SdkClientConfiguration.builder().build())
                                                                           .build(), requestPipeline);
     }
@@ -177,8 +177,8 @@ public class TimeoutExceptionHandlingStageTest {
 
     private void verifyExceptionThrown(Class exceptionToAssert) {
         RequestExecutionContext context = requestContext();
-        context.apiCallTimeoutTracker(new ApiCallTimeoutTracker(apiCallTimeoutTask, scheduledFuture));
-        context.apiCallAttemptTimeoutTracker(new ApiCallTimeoutTracker(apiCallAttemptTimeoutTask, scheduledFuture));
+        context.apiCallTimeoutTracker(new ApiCallTimeoutTracker(apiCallTimeoutTask, timeout));
+        context.apiCallAttemptTimeoutTracker(new ApiCallTimeoutTracker(apiCallAttemptTimeoutTask, timeout));
 
         assertThatThrownBy(() -> stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context))
             .isExactlyInstanceOf(exceptionToAssert);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer.Timeout;
+
+public class HashedWheelTimerTest {
+    private static final Executor CALLING_THREAD = Runnable::run;
+
+    private final ManualTicker ticker = new ManualTicker();
+    private final HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, ticker);
+
+    @After
+    public void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    public void schedule_taskRunsOnceDelayHasElapsed() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        Timeout timeout = timer.schedule(runs::incrementAndGet, CALLING_THREAD, 5, TimeUnit.MILLISECONDS);
+
+        ticker.advance(4, TimeUnit.MILLISECONDS);
+        assertThat(runs.get()).isZero();
+        assertThat(timeout.isExpired()).isFalse();
+
+        // Timeouts fire at the end of the tick they fall into.
+        ticker.advance(2, TimeUnit.MILLISECONDS);
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void schedule_delayLongerThanOneRotation_taskRunsOnceDelayHasElapsed() throws InterruptedException {
+        // The wheel rotates every 8 milliseconds, so the task must survive several rotations before it is due.
+        AtomicInteger runs = new AtomicInteger();
+        timer.schedule(runs::incrementAndGet, CALLING_THREAD, 100, TimeUnit.MILLISECONDS);
+
+        ticker.advance(99, TimeUnit.MILLISECONDS);
+        assertThat(runs.get()).isZero();
+
+        ticker.advance(2, TimeUnit.MILLISECONDS);
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void schedule_taskRunsOnGivenExecutor() throws InterruptedException {
+        List<Runnable> handedOff = new ArrayList<>();
+        AtomicInteger runs = new AtomicInteger();
+        timer.schedule(runs::incrementAndGet, handedOff::add, 1, TimeUnit.MILLISECONDS);
+
+        ticker.advance(2, TimeUnit.MILLISECONDS);
+        assertThat(handedOff).hasSize(1);
+        assertThat(runs.get()).isZero();
+
+        handedOff.get(0).run();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void cancel_taskDoesNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        List<Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            timeouts.add(timer.schedule(runs::incrementAndGet, CALLING_THREAD, 20, TimeUnit.MILLISECONDS));
+        }
+        timeouts.forEach(t -> assertThat(t.cancel()).isTrue());
+
+        ticker.advance(50, TimeUnit.MILLISECONDS);
+        assertThat(runs.get()).isZero();
+        timeouts.forEach(t -> assertThat(t.isCancelled()).isTrue());
+        timeouts.forEach(t -> assertThat(t.isExpired()).isFalse());
+    }
+
+    @Test
+    public void cancel_afterReachingWheel_taskDoesNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        Timeout timeout = timer.schedule(runs::incrementAndGet, CALLING_THREAD, 20, TimeUnit.MILLISECONDS);
+
+        ticker.advance(10, TimeUnit.MILLISECONDS);
+        assertThat(timeout.cancel()).isTrue();
+
+        ticker.advance(20, TimeUnit.MILLISECONDS);
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    public void taskThrows_timerKeepsRunning() throws InterruptedException {
+        timer.schedule(() -> {
+            throw new RuntimeException("boom");
+        }, CALLING_THREAD, 1, TimeUnit.MILLISECONDS);
+        AtomicInteger runs = new AtomicInteger();
+        timer.schedule(runs::incrementAndGet, CALLING_THREAD, 5, TimeUnit.MILLISECONDS);
+
+        ticker.advance(10, TimeUnit.MILLISECONDS);
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void schedule_afterClose_throwsException() {
+        timer.close();
+
+        assertThatThrownBy(() -> timer.schedule(() -> { }, CALLING_THREAD, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shared_returnsSameTimer_andCanNotBeClosed() {
+        HashedWheelTimer shared = HashedWheelTimer.shared();
+        shared.close();
+
+        assertThat(HashedWheelTimer.shared()).isSameAs(shared);
+        assertThat(shared.schedule(() -> { }, CALLING_THREAD, 1, TimeUnit.HOURS).cancel()).isTrue();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link HashedWheelTimer.Ticker} whose time only moves when {@link #advance(long, TimeUnit)} is called, so that tests can
+ * drive a timer without depending on the speed of the machine they run on.
+ */
+public final class ManualTicker implements HashedWheelTimer.Ticker {
+    private static final long NOT_SLEEPING = -1;
+
+    private final Object lock = new Object();
+
+    private long now;
+    private long wakeUpTime = NOT_SLEEPING;
+
+    @Override
+    public long nanoTime() {
+        synchronized (lock) {
+            return now;
+        }
+    }
+
+    @Override
+    public void sleep(long nanos) throws InterruptedException {
+        synchronized (lock) {
+            wakeUpTime = now + nanos;
+            lock.notifyAll();
+            try {
+                while (now < wakeUpTime) {
+                    lock.wait();
+                }
+            } finally {
+                wakeUpTime = NOT_SLEEPING;
+            }
+        }
+    }
+
+    /**
+     * Move time forward and wait until the timer has processed every tick up to the new time, that is until its worker is
+     * asleep again waiting for a tick that is still in the future. Tasks the timer runs on the calling executor have
+     * completed by the time this returns.
+     */
+    public void advance(long duration, TimeUnit unit) throws InterruptedException {
+        synchronized (lock) {
+            now += unit.toNanos(duration);
+            lock.notifyAll();
+
+            // Only guards against a test hanging forever if the worker never went to sleep, e.g. because the timer was
+            // never started. It does not influence the outcome of a test.
+            long giveUpAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (wakeUpTime == NOT_SLEEPING || wakeUpTime <= now) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(giveUpAt - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new IllegalStateException("The timer did not catch up with the ticker.");
+                }
+                lock.wait(remainingMillis);
+            }
+        }
+    }
+}
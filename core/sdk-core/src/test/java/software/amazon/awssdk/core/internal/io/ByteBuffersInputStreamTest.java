@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ByteBuffersInputStreamTest {
+
+    @Test
+    public void emptyList_returnsEndOfStream() {
+        ByteBuffersInputStream stream = ByteBuffersInputStream.create(Collections.emptyList());
+        assertThat(stream.read()).isEqualTo(-1);
+        assertThat(stream.read(new byte[4], 0, 4)).isEqualTo(-1);
+        assertThat(stream.available()).isZero();
+    }
+
+    @Test
+    public void readsAcrossChunks() throws IOException {
+        ByteBuffersInputStream stream = ByteBuffersInputStream.create(chunks("Hello", "", ", ", "world"));
+        assertThat(stream.available()).isEqualTo(12);
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("Hello, world");
+    }
+
+    @Test
+    public void singleByteReads_returnUnsignedValues() {
+        ByteBuffersInputStream stream = ByteBuffersInputStream.create(
+            new ArrayList<>(Arrays.asList(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), ByteBuffer.wrap(new byte[] {1}))));
+        assertThat(stream.read()).isEqualTo(0xFF);
+        assertThat(stream.read()).isEqualTo(1);
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    @Test
+    public void skip_spansChunks() throws IOException {
+        ByteBuffersInputStream stream = ByteBuffersInputStream.create(chunks("abc", "def", "ghi"));
+        assertThat(stream.skip(4)).isEqualTo(4);
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("efghi");
+        assertThat(stream.skip(1)).isZero();
+    }
+
+    @Test
+    public void reset_returnsToMarkInEarlierChunk() throws IOException {
+        ByteBuffersInputStream stream = ByteBuffersInputStream.create(chunks("abc", "def", "ghi"));
+        assertThat(stream.skip(1)).isEqualTo(1);
+        stream.mark(Integer.MAX_VALUE);
+        byte[] read = new byte[6];
+        assertThat(stream.read(read, 0, read.length)).isEqualTo(6);
+        assertThat(new String(read, StandardCharsets.UTF_8)).isEqualTo("bcdefg");
+
+        stream.reset();
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("bcdefghi");
+    }
+
+    @Test
+    public void reset_withoutMark_returnsToStart() throws IOException {
+        ByteBuffersInputStream stream = ByteBuffersInputStream.create(chunks("abc", "def"));
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("abcdef");
+        stream.reset();
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("abcdef");
+    }
+
+    private static List<ByteBuffer> chunks(String... chunks) {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (String chunk : chunks) {
+            buffers.add(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        }
+        return buffers;
+    }
+}
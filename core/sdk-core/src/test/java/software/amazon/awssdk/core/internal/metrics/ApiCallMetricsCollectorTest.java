@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+
+public class ApiCallMetricsCollectorTest {
+    @Test
+    public void noPublisher_collectorIsNotCreated() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        assertThat(ApiCallMetricsCollector.startIfEnabled(null, attributes)).isNull();
+        assertThat(ApiCallMetricsCollector.forCall(attributes)).isNull();
+    }
+
+    @Test
+    public void publish_includesEveryAttemptInOrder() {
+        List<ApiCallMetrics> published = new ArrayList<>();
+        ExecutionAttributes attributes = new ExecutionAttributes()
+            .putAttribute(SdkExecutionAttribute.SERVICE_NAME, "Service")
+            .putAttribute(SdkExecutionAttribute.OPERATION_NAME, "Operation");
+
+        ApiCallMetricsCollector collector = ApiCallMetricsCollector.startIfEnabled(published::add, attributes);
+        assertThat(ApiCallMetricsCollector.forCall(attributes)).isSameAs(collector);
+
+        collector.marshallingDuration(Duration.ofMillis(1));
+        collector.startAttempt(Duration.ZERO).httpStatusCode(500);
+        collector.currentAttempt().retryBudgetAvailableCapacity(-1);
+        ApiCallMetricsCollector.AttemptCollector retry = collector.startAttempt(Duration.ofMillis(100));
+        retry.retryBudgetAvailableCapacity(5);
+        retry.signingDuration(Duration.ofMillis(2));
+        retry.timeToFirstByte(Duration.ofMillis(3));
+        retry.unmarshallingDuration(Duration.ofMillis(4));
+        collector.currentAttempt().httpStatusCode(200);
+        collector.publish(attributes, true);
+
+        assertThat(published).hasSize(1);
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.serviceName()).hasValue("Service");
+        assertThat(metrics.operationName()).hasValue("Operation");
+        assertThat(metrics.successful()).isTrue();
+        assertThat(metrics.marshallingDuration()).hasValue(Duration.ofMillis(1));
+        assertThat(metrics.retryCount()).isEqualTo(1);
+
+        ApiCallAttemptMetrics first = metrics.attempts().get(0);
+        assertThat(first.backoffDelay()).isEqualTo(Duration.ZERO);
+        assertThat(first.httpStatusCode()).hasValue(500);
+        assertThat(first.signingDuration()).isEmpty();
+        assertThat(first.connectionAcquireDuration()).isEmpty();
+        assertThat(first.retryBudgetAvailableCapacity()).isEmpty();
+
+        ApiCallAttemptMetrics second = metrics.attempts().get(1);
+        assertThat(second.backoffDelay()).isEqualTo(Duration.ofMillis(100));
+        assertThat(second.signingDuration()).hasValue(Duration.ofMillis(2));
+        assertThat(second.timeToFirstByte()).hasValue(Duration.ofMillis(3));
+        assertThat(second.unmarshallingDuration()).hasValue(Duration.ofMillis(4));
+        assertThat(second.httpStatusCode()).hasValue(200);
+        assertThat(second.retryBudgetAvailableCapacity()).hasValue(5);
+    }
+
+    @Test
+    public void timeToFirstByte_connectionAcquireReported_excludesAcquireTime() {
+        List<ApiCallMetrics> published = new ArrayList<>();
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        ApiCallMetricsCollector collector = ApiCallMetricsCollector.startIfEnabled(published::add, attributes);
+
+        ApiCallMetricsCollector.AttemptCollector attempt = collector.startAttempt(Duration.ZERO);
+        attempt.connectionAcquireDuration(Duration.ofMillis(30));
+        attempt.timeToFirstByte(Duration.ofMillis(100));
+        collector.publish(attributes, true);
+
+        ApiCallAttemptMetrics attemptMetrics = published.get(0).attempts().get(0);
+        assertThat(attemptMetrics.connectionAcquireDuration()).hasValue(Duration.ofMillis(30));
+        assertThat(attemptMetrics.timeToFirstByte()).hasValue(Duration.ofMillis(70));
+    }
+
+    @Test
+    public void currentAttempt_withoutStartedAttempt_startsOne() {
+        List<ApiCallMetrics> published = new ArrayList<>();
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        ApiCallMetricsCollector collector = ApiCallMetricsCollector.startIfEnabled(published::add, attributes);
+
+        collector.currentAttempt().httpStatusCode(200);
+        collector.publish(attributes, false);
+
+        assertThat(published.get(0).successful()).isFalse();
+        assertThat(published.get(0).attempts()).hasSize(1);
+        assertThat(published.get(0).serviceName()).isEmpty();
+    }
+}
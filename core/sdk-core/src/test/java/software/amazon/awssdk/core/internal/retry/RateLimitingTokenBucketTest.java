@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class RateLimitingTokenBucketTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(nanoTime::get);
+
+    @Test
+    public void notThrottled_requestsAreNotDelayed() {
+        sendSuccessfully(10, Duration.ofSeconds(5));
+
+        assertThat(bucket.isEnabled()).isFalse();
+        for (int i = 0; i < 100; i++) {
+            assertThat(bucket.acquire()).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void throttled_fillRateIsReducedAndRequestsAreDelayed() {
+        sendSuccessfully(10, Duration.ofSeconds(5));
+        bucket.updateSendingRate(true);
+
+        assertThat(bucket.isEnabled()).isTrue();
+        assertThat(bucket.fillRate()).isBetween(0.5, 10 * 0.7);
+
+        Duration delay = Duration.ZERO;
+        for (int i = 0; i < 20; i++) {
+            delay = bucket.acquire();
+        }
+        assertThat(delay).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    public void successesAfterThrottling_fillRateRecovers() {
+        sendSuccessfully(10, Duration.ofSeconds(5));
+        bucket.updateSendingRate(true);
+        double throttledRate = bucket.fillRate();
+
+        sendSuccessfully(10, Duration.ofSeconds(10));
+
+        assertThat(bucket.fillRate()).isGreaterThan(throttledRate);
+    }
+
+    private void sendSuccessfully(int requestsPerSecond, Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        for (long elapsed = 0; elapsed < duration.toNanos(); elapsed += intervalNanos) {
+            nanoTime.addAndGet(intervalNanos);
+            bucket.updateSendingRate(false);
+        }
+    }
+}
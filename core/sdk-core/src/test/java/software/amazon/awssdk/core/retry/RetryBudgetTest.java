@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+/**
+ * Tests the behavior of the {@link RetryBudget}
+ */
+public class RetryBudgetTest {
+
+    /**
+     * Tests that capacity can be acquired when available and can not be
+     * once exhausted.
+     */
+    @Test
+    public void acquire() {
+        RetryBudget budget = RetryBudget.builder().maxCapacity(10).build();
+        assertThat(budget.tryAcquire(1)).isTrue();
+        assertThat(budget.availableCapacity()).isEqualTo(9);
+        assertThat(budget.consumedCapacity()).isEqualTo(1);
+        assertThat(budget.tryAcquire(9)).isTrue();
+        assertThat(budget.availableCapacity()).isEqualTo(0);
+        assertThat(budget.consumedCapacity()).isEqualTo(10);
+        assertThat(budget.tryAcquire(1)).isFalse();
+    }
+
+    /**
+     * Tests that capacity can be properly released, making additional capacity
+     * available to be acquired.
+     */
+    @Test
+    public void release() {
+        RetryBudget budget = RetryBudget.builder().maxCapacity(10).build();
+        budget.tryAcquire(10);
+        budget.release(1);
+        assertThat(budget.availableCapacity()).isEqualTo(1);
+        assertThat(budget.consumedCapacity()).isEqualTo(9);
+        budget.release(50);
+        assertThat(budget.availableCapacity()).isEqualTo(10);
+        assertThat(budget.consumedCapacity()).isEqualTo(0);
+    }
+
+    /**
+     * Tests that an unlimited budget never runs out.
+     */
+    @Test
+    public void unlimited() {
+        RetryBudget budget = RetryBudget.unlimited();
+        assertThat(budget.tryAcquire(1)).isTrue();
+        budget.release(1);
+        assertThat(budget.tryAcquire(Integer.MAX_VALUE)).isTrue();
+        assertThat(budget.availableCapacity()).isEqualTo(-1);
+        assertThat(budget.consumedCapacity()).isEqualTo(0);
+    }
+
+    @Test
+    public void retryCost_dependsOnErrorClass() {
+        RetryBudget budget = RetryBudget.builder()
+                                        .retryCost(5)
+                                        .timeoutRetryCost(10)
+                                        .throttlingRetryCost(1)
+                                        .build();
+
+        assertThat(budget.retryCost(SdkClientException.builder().message("boom").build())).isEqualTo(5);
+        assertThat(budget.retryCost(ApiCallAttemptTimeoutException.create(100))).isEqualTo(10);
+        assertThat(budget.retryCost(SdkServiceException.builder().statusCode(429).build())).isEqualTo(1);
+    }
+
+    @Test
+    public void sharedBudget_isDrainedByEveryPolicyUsingIt() {
+        RetryBudget budget = RetryBudget.builder().maxCapacity(10).build();
+        RetryPolicy first = RetryPolicy.builder().retryBudget(budget).build();
+        RetryPolicy second = RetryPolicy.builder().retryBudget(budget).build();
+
+        assertThat(first.retryBudget().tryAcquire(6)).isTrue();
+        assertThat(second.retryBudget().tryAcquire(6)).isFalse();
+        assertThat(budget.consumedCapacity()).isEqualTo(6);
+    }
+}
@@ -80,4 +80,13 @@ public class RetryPolicyTest {
         assertThat(noneRetry.backoffStrategy()).isEqualTo(BackoffStrategy.none());
         assertThat(noneRetry.throttlingBackoffStrategy()).isEqualTo(BackoffStrategy.none());
     }
+
+    @Test
+    public void retryMode_defaultsToDefaultAndSurvivesToBuilder() {
+        assertThat(RetryPolicy.defaultRetryPolicy().retryMode()).isEqualTo(RetryMode.DEFAULT);
+
+        RetryPolicy adaptive = RetryPolicy.builder().retryMode(RetryMode.ADAPTIVE).build();
+        assertThat(adaptive.toBuilder().build()).isEqualTo(adaptive);
+        assertThat(adaptive).isNotEqualTo(RetryPolicy.defaultRetryPolicy());
+    }
 }
@@ -17,7 +17,9 @@ package software.amazon.awssdk.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.SocketTimeoutException;
 import org.junit.Test;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.retry.RetryUtils;
@@ -54,4 +56,15 @@ public class RetryUtilsTest {
                                                            .build();
         assertThat(RetryUtils.isRequestEntityTooLargeException(exception)).isTrue();
     }
+
+    @Test
+    public void socketTimeoutCause_isTimeoutExceptionShouldReturnTrue() {
+        SdkClientException exception = SdkClientException.builder()
+                                                          .message("Unable to execute HTTP request")
+                                                          .cause(new SocketTimeoutException("Read timed out"))
+                                                          .build();
+        assertThat(RetryUtils.isTimeoutException(exception)).isTrue();
+        assertThat(RetryUtils.isTimeoutException(ApiCallAttemptTimeoutException.create(100))).isTrue();
+        assertThat(RetryUtils.isTimeoutException(SdkClientException.builder().message("exception").build())).isFalse();
+    }
 }
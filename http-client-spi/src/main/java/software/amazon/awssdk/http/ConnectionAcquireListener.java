@@ -0,0 +1,40 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+
+/**
+ * Notified by an HTTP client of the time it took to acquire the connection a request is sent over. Set on a request with
+ * {@link HttpExecuteRequest.Builder#connectionAcquireListener(ConnectionAcquireListener)} or
+ * {@link AsyncExecuteRequest.Builder#connectionAcquireListener(ConnectionAcquireListener)}.
+ *
+ * <p>HTTP clients that do not report the time never notify the listener.</p>
+ */
+@SdkPublicApi
+@FunctionalInterface
+public interface ConnectionAcquireListener {
+    /**
+     * Called once the connection is ready to send the request over, before the request is sent.
+     *
+     * @param acquireDuration The time from the HTTP client starting to execute the request until the connection was ready. This
+     * includes waiting for a connection from the pool, and opening the connection and completing its TLS handshake if a new
+     * one was needed.
+     */
+    void connectionAcquired(Duration acquireDuration);
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * A point-in-time snapshot of the state of an HTTP client's connection pool, summed across every endpoint the client has
+ * connected to. Retrieved with {@link SdkHttpClient#connectionPoolMetrics()} or
+ * {@link SdkAsyncHttpClient#connectionPoolMetrics()}.
+ *
+ * <p>The gauges ({@link #leasedConnections()}, {@link #availableConnections()}, {@link #pendingConnectionAcquires()} and
+ * {@link #concurrentStreamsPerConnection()}) describe the pool when the snapshot was taken. The counters, the
+ * {@link #totalConnectionAcquireTime()} and the {@link #acquireWaitTimeHistogram()} accumulate over the lifetime of the client.
+ */
+@Immutable
+@SdkPublicApi
+public final class ConnectionPoolMetrics {
+    private final int maxConnections;
+    private final int leasedConnections;
+    private final int availableConnections;
+    private final int pendingConnectionAcquires;
+    private final long connectionsOpened;
+    private final long connectionsClosed;
+    private final long tlsHandshakes;
+    private final long tlsSessionsResumed;
+    private final long connectionAcquires;
+    private final Duration totalConnectionAcquireTime;
+    private final List<Integer> concurrentStreamsPerConnection;
+    private final SortedMap<Duration, Long> acquireWaitTimeHistogram;
+
+    private ConnectionPoolMetrics(BuilderImpl builder) {
+        this.maxConnections = builder.maxConnections;
+        this.leasedConnections = builder.leasedConnections;
+        this.availableConnections = builder.availableConnections;
+        this.pendingConnectionAcquires = builder.pendingConnectionAcquires;
+        this.connectionsOpened = builder.connectionsOpened;
+        this.connectionsClosed = builder.connectionsClosed;
+        this.tlsHandshakes = builder.tlsHandshakes;
+        this.tlsSessionsResumed = builder.tlsSessionsResumed;
+        this.connectionAcquires = builder.connectionAcquires;
+        this.totalConnectionAcquireTime = builder.totalConnectionAcquireTime;
+        this.concurrentStreamsPerConnection =
+            Collections.unmodifiableList(new ArrayList<>(builder.concurrentStreamsPerConnection));
+        this.acquireWaitTimeHistogram = Collections.unmodifiableSortedMap(new TreeMap<>(builder.acquireWaitTimeHistogram));
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * The maximum number of connections the client will open to a single endpoint.
+     */
+    public int maxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * The number of connections currently in use. An HTTP/2 connection is in use while it is carrying at least one stream.
+     */
+    public int leasedConnections() {
+        return leasedConnections;
+    }
+
+    /**
+     * The number of open connections currently idle in the pool and available for reuse.
+     */
+    public int availableConnections() {
+        return availableConnections;
+    }
+
+    /**
+     * The number of requests currently waiting for a connection (or an HTTP/2 stream) to become available.
+     */
+    public int pendingConnectionAcquires() {
+        return pendingConnectionAcquires;
+    }
+
+    /**
+     * The number of connections opened by the client since it was created.
+     */
+    public long connectionsOpened() {
+        return connectionsOpened;
+    }
+
+    /**
+     * The number of connections opened by the client that have since been closed. Together with {@link #connectionsOpened()}
+     * this describes the connection churn of the client.
+     */
+    public long connectionsClosed() {
+        return connectionsClosed;
+    }
+
+    /**
+     * The number of TLS handshakes completed by the client since it was created, including those that resumed a cached
+     * session.
+     */
+    public long tlsHandshakes() {
+        return tlsHandshakes;
+    }
+
+    /**
+     * The number of {@link #tlsHandshakes()} that resumed a cached TLS session with an abbreviated handshake. Full handshakes
+     * are much more expensive, so a low ratio of resumed sessions to handshakes when connections churn may mean that the
+     * {@link SdkHttpConfigurationOption#TLS_SESSION_CACHE_SIZE} or {@link SdkHttpConfigurationOption#TLS_SESSION_TIMEOUT}
+     * is too small.
+     */
+    public long tlsSessionsResumed() {
+        return tlsSessionsResumed;
+    }
+
+    /**
+     * The number of connections (or HTTP/2 streams) acquired from the pool since the client was created.
+     */
+    public long connectionAcquires() {
+        return connectionAcquires;
+    }
+
+    /**
+     * The time spent acquiring the {@link #connectionAcquires()}, from the start of each acquisition to its completion, summed
+     * since the client was created. Divide it by the number of acquisitions for the average time to acquire a connection.
+     */
+    public Duration totalConnectionAcquireTime() {
+        return totalConnectionAcquireTime;
+    }
+
+    /**
+     * The number of streams currently open on each HTTP/2 connection, in no particular order. This is empty for clients that
+     * are not using HTTP/2.
+     */
+    public List<Integer> concurrentStreamsPerConnection() {
+        return concurrentStreamsPerConnection;
+    }
+
+    /**
+     * The time requests have waited to acquire a connection (or an HTTP/2 stream) from the pool since the client was created.
+     * Each key is the inclusive upper bound of a bucket, and its value is the number of acquisitions that took longer than the
+     * previous bucket's bound but no longer than this one. The last bucket is unbounded.
+     */
+    public SortedMap<Duration, Long> acquireWaitTimeHistogram() {
+        return acquireWaitTimeHistogram;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConnectionPoolMetrics")
+                       .add("maxConnections", maxConnections)
+                       .add("leasedConnections", leasedConnections)
+                       .add("availableConnections", availableConnections)
+                       .add("pendingConnectionAcquires", pendingConnectionAcquires)
+                       .add("connectionsOpened", connectionsOpened)
+                       .add("connectionsClosed", connectionsClosed)
+                       .add("tlsHandshakes", tlsHandshakes)
+                       .add("tlsSessionsResumed", tlsSessionsResumed)
+                       .add("connectionAcquires", connectionAcquires)
+                       .add("totalConnectionAcquireTime", totalConnectionAcquireTime)
+                       .add("concurrentStreamsPerConnection", concurrentStreamsPerConnection)
+                       .add("acquireWaitTimeHistogram", acquireWaitTimeHistogram)
+                       .build();
+    }
+
+    /**
+     * A builder for {@link ConnectionPoolMetrics}.
+     *
+     * <p>All implementations of this interface are mutable and not thread safe.</p>
+     */
+    public interface Builder extends SdkBuilder<Builder, ConnectionPoolMetrics> {
+        Builder maxConnections(int maxConnections);
+
+        Builder leasedConnections(int leasedConnections);
+
+        Builder availableConnections(int availableConnections);
+
+        Builder pendingConnectionAcquires(int pendingConnectionAcquires);
+
+        Builder connectionsOpened(long connectionsOpened);
+
+        Builder connectionsClosed(long connectionsClosed);
+
+        Builder tlsHandshakes(long tlsHandshakes);
+
+        Builder tlsSessionsResumed(long tlsSessionsResumed);
+
+        Builder connectionAcquires(long connectionAcquires);
+
+        Builder totalConnectionAcquireTime(Duration totalConnectionAcquireTime);
+
+        Builder concurrentStreamsPerConnection(List<Integer> concurrentStreamsPerConnection);
+
+        Builder acquireWaitTimeHistogram(SortedMap<Duration, Long> acquireWaitTimeHistogram);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private int maxConnections;
+        private int leasedConnections;
+        private int availableConnections;
+        private int pendingConnectionAcquires;
+        private long connectionsOpened;
+        private long connectionsClosed;
+        private long tlsHandshakes;
+        private long tlsSessionsResumed;
+        private long connectionAcquires;
+        private Duration totalConnectionAcquireTime = Duration.ZERO;
+        private List<Integer> concurrentStreamsPerConnection = Collections.emptyList();
+        private SortedMap<Duration, Long> acquireWaitTimeHistogram = Collections.emptySortedMap();
+
+        @Override
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        @Override
+        public Builder leasedConnections(int leasedConnections) {
+            this.leasedConnections = leasedConnections;
+            return this;
+        }
+
+        @Override
+        public Builder availableConnections(int availableConnections) {
+            this.availableConnections = availableConnections;
+            return this;
+        }
+
+        @Override
+        public Builder pendingConnectionAcquires(int pendingConnectionAcquires) {
+            this.pendingConnectionAcquires = pendingConnectionAcquires;
+            return this;
+        }
+
+        @Override
+        public Builder connectionsOpened(long connectionsOpened) {
+            this.connectionsOpened = connectionsOpened;
+            return this;
+        }
+
+        @Override
+        public Builder connectionsClosed(long connectionsClosed) {
+            this.connectionsClosed = connectionsClosed;
+            return this;
+        }
+
+        @Override
+        public Builder tlsHandshakes(long tlsHandshakes) {
+            this.tlsHandshakes = tlsHandshakes;
+            return this;
+        }
+
+        @Override
+        public Builder tlsSessionsResumed(long tlsSessionsResumed) {
+            this.tlsSessionsResumed = tlsSessionsResumed;
+            return this;
+        }
+
+        @Override
+        public Builder connectionAcquires(long connectionAcquires) {
+            this.connectionAcquires = connectionAcquires;
+            return this;
+        }
+
+        @Override
+        public Builder totalConnectionAcquireTime(Duration totalConnectionAcquireTime) {
+            this.totalConnectionAcquireTime = Validate.paramNotNull(totalConnectionAcquireTime, "totalConnectionAcquireTime");
+            return this;
+        }
+
+        @Override
+        public Builder concurrentStreamsPerConnection(List<Integer> concurrentStreamsPerConnection) {
+            this.concurrentStreamsPerConnection = Validate.paramNotNull(concurrentStreamsPerConnection,
+                                                                        "concurrentStreamsPerConnection");
+            return this;
+        }
+
+        @Override
+        public Builder acquireWaitTimeHistogram(SortedMap<Duration, Long> acquireWaitTimeHistogram) {
+            this.acquireWaitTimeHistogram = Validate.paramNotNull(acquireWaitTimeHistogram, "acquireWaitTimeHistogram");
+            return this;
+        }
+
+        @Override
+        public ConnectionPoolMetrics build() {
+            return new ConnectionPoolMetrics(this);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.net.ssl.SSLSession;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Accumulates the {@link ConnectionPoolMetrics} of an HTTP client. HTTP client implementations record into a collector from
+ * their connection pool and call {@link #metrics()} to build a snapshot.
+ *
+ * <p>Recording is lock-free so that it is cheap enough to do on every connection acquisition. Only TLS handshakes, which are
+ * far more expensive than the lock, take one to look up the sessions seen before.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class ConnectionPoolMetricsCollector {
+    /**
+     * The number of TLS sessions remembered to detect resumed sessions, the default size of the JDK's session cache.
+     */
+    private static final int MAX_TRACKED_SESSIONS = 20_480;
+
+    private static final Duration[] ACQUIRE_WAIT_TIME_BUCKETS = {
+        Duration.ofMillis(1),
+        Duration.ofMillis(5),
+        Duration.ofMillis(10),
+        Duration.ofMillis(50),
+        Duration.ofMillis(100),
+        Duration.ofMillis(500),
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(5),
+        Duration.ofSeconds(10),
+        ChronoUnit.FOREVER.getDuration()
+    };
+
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsClosed = new LongAdder();
+    private final LongAdder tlsHandshakes = new LongAdder();
+    private final LongAdder tlsSessionsResumed = new LongAdder();
+    private final LongAdder leasedConnections = new LongAdder();
+    private final LongAdder availableConnections = new LongAdder();
+    private final LongAdder pendingConnectionAcquires = new LongAdder();
+    private final LongAdder connectionAcquires = new LongAdder();
+    private final LongAdder connectionAcquireTimeNanos = new LongAdder();
+    private final LongAdder[] acquireWaitTimeCounts = new LongAdder[ACQUIRE_WAIT_TIME_BUCKETS.length];
+    private final Map<Object, LongSupplier> multiplexedConnections = new ConcurrentHashMap<>();
+    private final Map<Object, Boolean> seenTlsSessions = new LinkedHashMap<Object, Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+            return size() > MAX_TRACKED_SESSIONS;
+        }
+    };
+
+    public ConnectionPoolMetricsCollector() {
+        for (int i = 0; i < acquireWaitTimeCounts.length; i++) {
+            acquireWaitTimeCounts[i] = new LongAdder();
+        }
+    }
+
+    public void connectionOpened() {
+        connectionsOpened.increment();
+    }
+
+    public void connectionClosed() {
+        connectionsClosed.increment();
+    }
+
+    /**
+     * @return The number of connections opened so far, for pools that derive their closed connection count from it.
+     */
+    public long connectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    /**
+     * Record that a TLS handshake completed.
+     *
+     * <p>Resumed sessions are recognized by identity rather than by time. A TLS 1.2 handshake resumed a session when it
+     * negotiated a session ID that an earlier handshake negotiated. TLS 1.3 gives a resumed session a new ID, but keeps the peer
+     * and creation time of the session it resumes, so a handshake also resumed a session when its session was created before
+     * the handshake started, for the same peer and at the same time as a session an earlier handshake negotiated. The last
+     * {@value #MAX_TRACKED_SESSIONS} sessions are remembered.
+     *
+     * @param session The session negotiated by the handshake.
+     * @param handshakeStartTimeMillis The wall clock time, in milliseconds, when the handshake was started.
+     */
+    public void tlsHandshakeCompleted(SSLSession session, long handshakeStartTimeMillis) {
+        tlsHandshakes.increment();
+        byte[] id = session.getId();
+        Object sessionId = id == null || id.length == 0 ? null : ByteBuffer.wrap(id);
+        Object originalSession = session.getPeerHost() + ":" + session.getPeerPort() + "@" + session.getCreationTime();
+
+        boolean resumed;
+        synchronized (seenTlsSessions) {
+            boolean idSeen = sessionId != null && seenTlsSessions.put(sessionId, Boolean.TRUE) != null;
+            boolean originalSessionSeen = seenTlsSessions.put(originalSession, Boolean.TRUE) != null;
+            resumed = idSeen || originalSessionSeen && session.getCreationTime() < handshakeStartTimeMillis;
+        }
+        if (resumed) {
+            tlsSessionsResumed.increment();
+        }
+    }
+
+    /**
+     * Record that a connection (or HTTP/2 stream) was acquired from the pool after waiting for the given time, measured from
+     * the start of the acquisition to its completion.
+     */
+    public void connectionAcquired(Duration waitTime) {
+        connectionAcquires.increment();
+        connectionAcquireTimeNanos.add(waitTime.toNanos());
+        for (int i = 0; i < ACQUIRE_WAIT_TIME_BUCKETS.length; i++) {
+            if (waitTime.compareTo(ACQUIRE_WAIT_TIME_BUCKETS[i]) <= 0) {
+                acquireWaitTimeCounts[i].increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adjust the number of connections in use, for pools that do not track it themselves.
+     */
+    public void adjustLeasedConnections(int delta) {
+        leasedConnections.add(delta);
+    }
+
+    /**
+     * Adjust the number of idle connections in the pool, for pools that do not track it themselves.
+     */
+    public void adjustAvailableConnections(int delta) {
+        availableConnections.add(delta);
+    }
+
+    /**
+     * Adjust the number of requests waiting for a connection, for pools that do not track it themselves.
+     */
+    public void adjustPendingConnectionAcquires(int delta) {
+        pendingConnectionAcquires.add(delta);
+    }
+
+    /**
+     * Start reporting the number of open streams of an HTTP/2 connection in
+     * {@link ConnectionPoolMetrics#concurrentStreamsPerConnection()}.
+     *
+     * @param connection The connection, used as the key when it is closed.
+     * @param openStreams Supplies the number of streams currently open on the connection.
+     */
+    public void multiplexedConnectionOpened(Object connection, LongSupplier openStreams) {
+        multiplexedConnections.put(connection, openStreams);
+    }
+
+    /**
+     * Stop reporting a connection registered with {@link #multiplexedConnectionOpened(Object, LongSupplier)}.
+     */
+    public void multiplexedConnectionClosed(Object connection) {
+        multiplexedConnections.remove(connection);
+    }
+
+    /**
+     * Create a builder for a snapshot of the collected metrics. The gauges are populated from the values adjusted on this
+     * collector, and may be overridden by pools that track them themselves.
+     */
+    public ConnectionPoolMetrics.Builder metrics() {
+        List<Integer> streams = new ArrayList<>();
+        for (LongSupplier openStreams : multiplexedConnections.values()) {
+            streams.add(saturatedCast(openStreams.getAsLong()));
+        }
+
+        SortedMap<Duration, Long> histogram = new TreeMap<>();
+        for (int i = 0; i < ACQUIRE_WAIT_TIME_BUCKETS.length; i++) {
+            histogram.put(ACQUIRE_WAIT_TIME_BUCKETS[i], acquireWaitTimeCounts[i].sum());
+        }
+
+        return ConnectionPoolMetrics.builder()
+                                    .leasedConnections(saturatedCast(leasedConnections.sum()))
+                                    .availableConnections(saturatedCast(availableConnections.sum()))
+                                    .pendingConnectionAcquires(saturatedCast(pendingConnectionAcquires.sum()))
+                                    .connectionsOpened(connectionsOpened.sum())
+                                    .connectionsClosed(connectionsClosed.sum())
+                                    .tlsHandshakes(tlsHandshakes.sum())
+                                    .tlsSessionsResumed(tlsSessionsResumed.sum())
+                                    .connectionAcquires(connectionAcquires.sum())
+                                    .totalConnectionAcquireTime(Duration.ofNanos(connectionAcquireTimeNanos.sum()))
+                                    .concurrentStreamsPerConnection(streams)
+                                    .acquireWaitTimeHistogram(histogram);
+    }
+}
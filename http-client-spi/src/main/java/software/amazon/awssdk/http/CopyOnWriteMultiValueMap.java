@@ -0,0 +1,155 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.CollectionUtils;
+
+/**
+ * The mutable header or query parameter map of a request or response builder, which shares structure with the immutable
+ * map it was created from or last built.
+ *
+ * <p>Until the first modification the immutable map is used as-is. The first modification copies only the map itself: the
+ * unmodifiable value lists are kept until a particular name is changed. When the map is built again, value lists that were
+ * not changed are reused rather than copied. A pipeline stage that changes one header therefore copies one list instead of
+ * every header.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class CopyOnWriteMultiValueMap {
+    private final Supplier<Map<String, List<String>>> immutableMapConstructor;
+
+    /**
+     * The immutable map this one was created from or last built, or null if there is none.
+     */
+    private Map<String, List<String>> shared;
+
+    /**
+     * The modified map, or null if nothing has been modified since {@link #shared} was set. Its values are either lists
+     * from {@link #shared}, which must not be modified, or lists owned by this map.
+     */
+    private Map<String, List<String>> owned;
+
+    /**
+     * @param immutableMapConstructor Creates the (empty) map that {@link #build()} populates.
+     */
+    CopyOnWriteMultiValueMap(Supplier<Map<String, List<String>>> immutableMapConstructor) {
+        this.immutableMapConstructor = immutableMapConstructor;
+        this.owned = new LinkedHashMap<>();
+    }
+
+    /**
+     * @param immutableMap A map previously returned by {@link #build()} of a map created with the same constructor.
+     */
+    CopyOnWriteMultiValueMap(Map<String, List<String>> immutableMap,
+                             Supplier<Map<String, List<String>>> immutableMapConstructor) {
+        this.immutableMapConstructor = immutableMapConstructor;
+        this.shared = immutableMap;
+    }
+
+    void put(String name, List<String> values) {
+        mutableMap().put(name, new ArrayList<>(values));
+    }
+
+    void append(String name, String value) {
+        Map<String, List<String>> map = mutableMap();
+        List<String> values = map.get(name);
+        if (values == null) {
+            values = new ArrayList<>();
+            map.put(name, values);
+        } else if (isShared(name, values)) {
+            values = new ArrayList<>(values);
+            map.put(name, values);
+        }
+        values.add(value);
+    }
+
+    void remove(String name) {
+        mutableMap().remove(name);
+    }
+
+    void clear() {
+        shared = null;
+        owned = new LinkedHashMap<>();
+    }
+
+    void setAll(Map<String, List<String>> map) {
+        shared = null;
+        owned = CollectionUtils.deepCopyMap(map, () -> new LinkedHashMap<>());
+    }
+
+    /**
+     * @return The current contents, without copying them if possible. This is not a snapshot: it must not be retained
+     * across modifications.
+     */
+    Map<String, List<String>> current() {
+        return owned == null ? shared : owned;
+    }
+
+    /**
+     * @return An unmodifiable snapshot of the current contents.
+     */
+    Map<String, List<String>> snapshot() {
+        return owned == null ? shared : CollectionUtils.deepUnmodifiableMap(owned, () -> new LinkedHashMap<>());
+    }
+
+    /**
+     * @return The current contents as an immutable map created with the immutable map constructor. Subsequent builds
+     * without modifications in between return the same map.
+     * @throws IllegalStateException If two names are equal according to the immutable map's key ordering.
+     */
+    Map<String, List<String>> build() {
+        if (owned == null) {
+            return shared;
+        }
+
+        Map<String, List<String>> result = immutableMapConstructor.get();
+        for (Map.Entry<String, List<String>> entry : owned.entrySet()) {
+            String name = entry.getKey();
+            List<String> values = entry.getValue();
+            if (!isShared(name, values)) {
+                values = unmodifiableList(new ArrayList<>(values));
+            }
+            if (result.put(name, values) != null) {
+                throw new IllegalStateException("Duplicate key: " + name);
+            }
+        }
+
+        shared = unmodifiableMap(result);
+        owned = null;
+        return shared;
+    }
+
+    private Map<String, List<String>> mutableMap() {
+        if (owned == null) {
+            owned = new LinkedHashMap<>(shared);
+        }
+        return owned;
+    }
+
+    private boolean isShared(String name, List<String> values) {
+        return shared != null && shared.get(name) == values;
+    }
+}
@@ -15,18 +15,15 @@
 
 package software.amazon.awssdk.http;
 
-import static software.amazon.awssdk.utils.CollectionUtils.deepUnmodifiableMap;
-
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -39,6 +36,10 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 @SdkInternalApi
 @Immutable
 final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
+    private static final Supplier<Map<String, List<String>>> QUERY_PARAMETERS_CONSTRUCTOR = LinkedHashMap::new;
+    private static final Supplier<Map<String, List<String>>> HEADERS_CONSTRUCTOR =
+        () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
     private final String protocol;
     private final String host;
     private final Integer port;
@@ -53,9 +54,9 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         this.host = Validate.paramNotNull(builder.host, "host");
         this.port = standardizePort(builder.port);
         this.path = standardizePath(builder.path);
-        this.queryParameters = deepUnmodifiableMap(builder.queryParameters, () -> new LinkedHashMap<>());
+        this.queryParameters = builder.queryParameters.build();
         this.httpMethod = Validate.paramNotNull(builder.httpMethod, "method");
-        this.headers = deepUnmodifiableMap(builder.headers, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        this.headers = builder.headers.build();
         this.contentStreamProvider = builder.contentStreamProvider;
     }
 
@@ -117,6 +118,13 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         return headers;
     }
 
+    @Override
+    public Optional<String> firstMatchingHeader(String header) {
+        // The headers are keyed case-insensitively, so a direct lookup replaces the scan in the default implementation.
+        List<String> values = header == null ? null : headers.get(header);
+        return values == null || values.isEmpty() ? Optional.empty() : Optional.ofNullable(values.get(0));
+    }
+
     @Override
     public String encodedPath() {
         return path;
@@ -139,16 +147,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
     @Override
     public SdkHttpFullRequest.Builder toBuilder() {
-        return new Builder()
-                .contentStreamProvider(contentStreamProvider)
-                .protocol(protocol)
-                .host(host)
-                .port(port)
-                .encodedPath(path)
-                .rawQueryParameters(queryParameters)
-                .method(httpMethod)
-                .headers(headers)
-            ;
+        return new Builder(this);
     }
 
     @Override
@@ -172,12 +171,25 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         private String host;
         private Integer port;
         private String path;
-        private Map<String, List<String>> queryParameters = new LinkedHashMap<>();
+        private final CopyOnWriteMultiValueMap queryParameters;
         private SdkHttpMethod httpMethod;
-        private Map<String, List<String>> headers = new LinkedHashMap<>();
+        private final CopyOnWriteMultiValueMap headers;
         private ContentStreamProvider contentStreamProvider;
 
         Builder() {
+            this.queryParameters = new CopyOnWriteMultiValueMap(QUERY_PARAMETERS_CONSTRUCTOR);
+            this.headers = new CopyOnWriteMultiValueMap(HEADERS_CONSTRUCTOR);
+        }
+
+        private Builder(DefaultSdkHttpFullRequest request) {
+            this.protocol = request.protocol;
+            this.host = request.host;
+            this.port = request.port;
+            this.path = request.path;
+            this.queryParameters = new CopyOnWriteMultiValueMap(request.queryParameters, QUERY_PARAMETERS_CONSTRUCTOR);
+            this.httpMethod = request.httpMethod;
+            this.headers = new CopyOnWriteMultiValueMap(request.headers, HEADERS_CONSTRUCTOR);
+            this.contentStreamProvider = request.contentStreamProvider;
         }
 
         @Override
@@ -226,19 +238,19 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public DefaultSdkHttpFullRequest.Builder putRawQueryParameter(String paramName, List<String> paramValues) {
-            this.queryParameters.put(paramName, new ArrayList<>(paramValues));
+            this.queryParameters.put(paramName, paramValues);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder appendRawQueryParameter(String paramName, String paramValue) {
-            this.queryParameters.computeIfAbsent(paramName, k -> new ArrayList<>()).add(paramValue);
+            this.queryParameters.append(paramName, paramValue);
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder rawQueryParameters(Map<String, List<String>> queryParameters) {
-            this.queryParameters = CollectionUtils.deepCopyMap(queryParameters, () -> new LinkedHashMap<>());
+            this.queryParameters.setAll(queryParameters);
             return this;
         }
 
@@ -256,7 +268,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public Map<String, List<String>> rawQueryParameters() {
-            return CollectionUtils.deepUnmodifiableMap(this.queryParameters, () -> new LinkedHashMap<>());
+            return this.queryParameters.snapshot();
         }
 
         @Override
@@ -272,19 +284,19 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public DefaultSdkHttpFullRequest.Builder putHeader(String headerName, List<String> headerValues) {
-            this.headers.put(headerName, new ArrayList<>(headerValues));
+            this.headers.put(headerName, headerValues);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder appendHeader(String headerName, String headerValue) {
-            this.headers.computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            this.headers.append(headerName, headerValue);
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder headers(Map<String, List<String>> headers) {
-            this.headers = CollectionUtils.deepCopyMap(headers);
+            this.headers.setAll(headers);
             return this;
         }
 
@@ -302,7 +314,13 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public Map<String, List<String>> headers() {
-            return CollectionUtils.deepUnmodifiableMap(this.headers);
+            return this.headers.snapshot();
+        }
+
+        @Override
+        public Optional<String> firstMatchingHeader(String header) {
+            // Search the builder's own map rather than the defensive copy returned by headers().
+            return SdkHttpUtils.firstMatchingHeader(this.headers.current(), header);
         }
 
         @Override
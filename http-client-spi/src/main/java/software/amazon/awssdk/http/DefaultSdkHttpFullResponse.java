@@ -15,19 +15,16 @@
 
 package software.amazon.awssdk.http;
 
-import static software.amazon.awssdk.utils.CollectionUtils.deepUnmodifiableMap;
-
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * Internal implementation of {@link SdkHttpFullResponse}, buildable via {@link SdkHttpFullResponse#builder()}. Returned by HTTP
@@ -38,6 +35,8 @@ import software.amazon.awssdk.utils.Validate;
 class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
 
     private static final long serialVersionUID = 1L;
+    private static final Supplier<Map<String, List<String>>> HEADERS_CONSTRUCTOR =
+        () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
     private final String statusText;
     private final int statusCode;
@@ -47,7 +46,7 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
     private DefaultSdkHttpFullResponse(Builder builder) {
         this.statusCode = Validate.isNotNegative(builder.statusCode, "Status code must not be negative.");
         this.statusText = builder.statusText;
-        this.headers = deepUnmodifiableMap(builder.headers, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        this.headers = builder.headers.build();
         this.content = builder.content;
     }
 
@@ -56,6 +55,13 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         return headers;
     }
 
+    @Override
+    public Optional<String> firstMatchingHeader(String header) {
+        // The headers are keyed case-insensitively, so a direct lookup replaces the scan in the default implementation.
+        List<String> values = header == null ? null : headers.get(header);
+        return values == null || values.isEmpty() ? Optional.empty() : Optional.ofNullable(values.get(0));
+    }
+
     @Override
     public Optional<AbortableInputStream> content() {
         return Optional.ofNullable(content);
@@ -83,16 +89,17 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         private String statusText;
         private int statusCode;
         private AbortableInputStream content;
-        private Map<String, List<String>> headers = new LinkedHashMap<>();
+        private final CopyOnWriteMultiValueMap headers;
 
         Builder() {
+            this.headers = new CopyOnWriteMultiValueMap(HEADERS_CONSTRUCTOR);
         }
 
         private Builder(DefaultSdkHttpFullResponse defaultSdkHttpFullResponse) {
             this.statusText = defaultSdkHttpFullResponse.statusText;
             this.statusCode = defaultSdkHttpFullResponse.statusCode;
             this.content = defaultSdkHttpFullResponse.content;
-            this.headers = CollectionUtils.deepCopyMap(defaultSdkHttpFullResponse.headers);
+            this.headers = new CopyOnWriteMultiValueMap(defaultSdkHttpFullResponse.headers, HEADERS_CONSTRUCTOR);
         }
 
         @Override
@@ -132,7 +139,7 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         public Builder putHeader(String headerName, List<String> headerValues) {
             Validate.paramNotNull(headerName, "headerName");
             Validate.paramNotNull(headerValues, "headerValues");
-            this.headers.put(headerName, new ArrayList<>(headerValues));
+            this.headers.put(headerName, headerValues);
             return this;
         }
 
@@ -140,14 +147,14 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         public SdkHttpFullResponse.Builder appendHeader(String headerName, String headerValue) {
             Validate.paramNotNull(headerName, "headerName");
             Validate.paramNotNull(headerValue, "headerValue");
-            this.headers.computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            this.headers.append(headerName, headerValue);
             return this;
         }
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
             Validate.paramNotNull(headers, "headers");
-            this.headers = CollectionUtils.deepCopyMap(headers);
+            this.headers.setAll(headers);
             return this;
         }
 
@@ -165,7 +172,13 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
 
         @Override
         public Map<String, List<String>> headers() {
-            return deepUnmodifiableMap(this.headers);
+            return this.headers.snapshot();
+        }
+
+        @Override
+        public Optional<String> firstMatchingHeader(String header) {
+            // Search the builder's own map rather than the defensive copy returned by headers().
+            return SdkHttpUtils.firstMatchingHeader(this.headers.current(), header);
         }
 
         /**
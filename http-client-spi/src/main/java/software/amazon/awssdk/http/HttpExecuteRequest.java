@@ -28,10 +28,12 @@ public final class HttpExecuteRequest {
 
     private final SdkHttpRequest request;
     private final Optional<ContentStreamProvider> contentStreamProvider;
+    private final Optional<ConnectionAcquireListener> connectionAcquireListener;
 
     private HttpExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.contentStreamProvider = builder.contentStreamProvider;
+        this.connectionAcquireListener = builder.connectionAcquireListener;
     }
 
     /**
@@ -48,6 +50,13 @@ public final class HttpExecuteRequest {
         return contentStreamProvider;
     }
 
+    /**
+     * @return The listener to notify of the time taken to acquire a connection for the request.
+     */
+    public Optional<ConnectionAcquireListener> connectionAcquireListener() {
+        return connectionAcquireListener;
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -68,12 +77,21 @@ public final class HttpExecuteRequest {
          */
         Builder contentStreamProvider(ContentStreamProvider contentStreamProvider);
 
+        /**
+         * Set the listener to notify of the time taken to acquire a connection for the request.
+         *
+         * @param connectionAcquireListener The listener.
+         * @return This builder for method chaining.
+         */
+        Builder connectionAcquireListener(ConnectionAcquireListener connectionAcquireListener);
+
         HttpExecuteRequest build();
     }
 
     private static class BuilderImpl implements Builder {
         private SdkHttpRequest request;
         private Optional<ContentStreamProvider> contentStreamProvider = Optional.empty();
+        private Optional<ConnectionAcquireListener> connectionAcquireListener = Optional.empty();
 
         @Override
         public Builder request(SdkHttpRequest request) {
@@ -87,6 +105,12 @@ public final class HttpExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder connectionAcquireListener(ConnectionAcquireListener connectionAcquireListener) {
+            this.connectionAcquireListener = Optional.ofNullable(connectionAcquireListener);
+            return this;
+        }
+
         @Override
         public HttpExecuteRequest build() {
             return new HttpExecuteRequest(this);
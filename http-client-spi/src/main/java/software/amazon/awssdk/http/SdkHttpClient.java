@@ -15,6 +15,9 @@
 
 package software.amazon.awssdk.http;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -55,6 +58,32 @@ public interface SdkHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * A snapshot of the state of this client's connection pool, for sizing its maximum concurrency and pending acquisitions.
+     *
+     * @return The connection pool metrics, or empty if this implementation does not pool connections or does not report
+     * metrics about them.
+     */
+    default Optional<ConnectionPoolMetrics> connectionPoolMetrics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Open up to the given number of connections to the given endpoint in the background, and complete their TLS handshakes
+     * if it is an HTTPS endpoint, so that the first requests made to it do not have to pay for establishing them. Connections
+     * that are already open count towards the number, and no more connections are opened than the pool has room for beyond
+     * the connections in use, so warming up never waits for the pool or makes requests wait for it. Each connection is
+     * returned to the pool as soon as it is established, where it is subject to the usual idle and time to live limits.
+     *
+     * @param endpoint The endpoint to connect to. Only its scheme, host and port are used.
+     * @param connections The number of connections to have open to the endpoint.
+     * @return A future that completes once the connections are established. It completes exceptionally if a connection
+     * could not be established. Implementations that do not pool connections complete it immediately.
+     */
+    default CompletableFuture<Void> warmUp(URI endpoint, int connections) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Interface for creating an {@link SdkHttpClient} with service specific defaults applied.
      */
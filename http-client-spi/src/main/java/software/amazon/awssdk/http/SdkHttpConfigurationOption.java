@@ -104,6 +104,23 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final SdkHttpConfigurationOption<TlsKeyManagersProvider> TLS_KEY_MANAGERS_PROVIDER =
             new SdkHttpConfigurationOption<>("TlsKeyManagersProvider", TlsKeyManagersProvider.class);
 
+    /**
+     * The maximum number of TLS sessions the HTTP client caches so that new connections to a host it has already connected to
+     * can resume a session with an abbreviated handshake, instead of doing a full handshake. If not set, the TLS provider's
+     * default is used. Zero means no limit.
+     */
+    public static final SdkHttpConfigurationOption<Integer> TLS_SESSION_CACHE_SIZE =
+            new SdkHttpConfigurationOption<>("TlsSessionCacheSize", Integer.class);
+
+    /**
+     * How long a cached TLS session can be resumed for after it was established. If not set, the TLS provider's default is
+     * used. Zero means no limit.
+     *
+     * @see #TLS_SESSION_CACHE_SIZE
+     */
+    public static final SdkHttpConfigurationOption<Duration> TLS_SESSION_TIMEOUT =
+            new SdkHttpConfigurationOption<>("TlsSessionTimeout", Duration.class);
+
     private static final Duration DEFAULT_SOCKET_READ_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_SOCKET_WRITE_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.ConnectionAcquireListener;
 import software.amazon.awssdk.http.SdkHttpRequest;
 
 /**
@@ -29,12 +31,14 @@ public final class AsyncExecuteRequest {
     private final SdkHttpContentPublisher requestContentPublisher;
     private final SdkAsyncHttpResponseHandler responseHandler;
     private final boolean isFullDuplex;
+    private final ConnectionAcquireListener connectionAcquireListener;
 
     private AsyncExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.requestContentPublisher = builder.requestContentPublisher;
         this.responseHandler = builder.responseHandler;
         this.isFullDuplex = builder.isFullDuplex;
+        this.connectionAcquireListener = builder.connectionAcquireListener;
     }
 
     /**
@@ -65,6 +69,13 @@ public final class AsyncExecuteRequest {
         return isFullDuplex;
     }
 
+    /**
+     * @return The listener to notify of the time taken to acquire a connection for the request.
+     */
+    public Optional<ConnectionAcquireListener> connectionAcquireListener() {
+        return Optional.ofNullable(connectionAcquireListener);
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -105,6 +116,14 @@ public final class AsyncExecuteRequest {
          */
         Builder fullDuplex(boolean fullDuplex);
 
+        /**
+         * Set the listener to notify of the time taken to acquire a connection for the request.
+         *
+         * @param connectionAcquireListener The listener.
+         * @return This builder for method chaining.
+         */
+        Builder connectionAcquireListener(ConnectionAcquireListener connectionAcquireListener);
+
         AsyncExecuteRequest build();
     }
 
@@ -113,6 +132,7 @@ public final class AsyncExecuteRequest {
         private SdkHttpContentPublisher requestContentPublisher;
         private SdkAsyncHttpResponseHandler responseHandler;
         private boolean isFullDuplex;
+        private ConnectionAcquireListener connectionAcquireListener;
 
         @Override
         public Builder request(SdkHttpRequest request) {
@@ -138,6 +158,12 @@ public final class AsyncExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder connectionAcquireListener(ConnectionAcquireListener connectionAcquireListener) {
+            this.connectionAcquireListener = connectionAcquireListener;
+            return this;
+        }
+
         @Override
         public AsyncExecuteRequest build() {
             return new AsyncExecuteRequest(this);
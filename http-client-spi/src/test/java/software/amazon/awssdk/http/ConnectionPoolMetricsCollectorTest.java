@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLSession;
+import org.junit.Test;
+
+public class ConnectionPoolMetricsCollectorTest {
+    @Test
+    public void connectionAcquired_countsIntoSmallestBucketThatFits() {
+        ConnectionPoolMetricsCollector collector = new ConnectionPoolMetricsCollector();
+        collector.connectionAcquired(Duration.ZERO);
+        collector.connectionAcquired(Duration.ofMillis(1));
+        collector.connectionAcquired(Duration.ofMillis(7));
+        collector.connectionAcquired(Duration.ofMinutes(1));
+
+        ConnectionPoolMetrics metrics = collector.metrics().build();
+        assertThat(metrics.acquireWaitTimeHistogram().get(Duration.ofMillis(1))).isEqualTo(2);
+        assertThat(metrics.acquireWaitTimeHistogram().get(Duration.ofMillis(5))).isEqualTo(0);
+        assertThat(metrics.acquireWaitTimeHistogram().get(Duration.ofMillis(10))).isEqualTo(1);
+        assertThat(metrics.acquireWaitTimeHistogram().get(ChronoUnit.FOREVER.getDuration())).isEqualTo(1);
+    }
+
+    @Test
+    public void connectionAcquired_sumsAcquireTimes() {
+        ConnectionPoolMetricsCollector collector = new ConnectionPoolMetricsCollector();
+        collector.connectionAcquired(Duration.ofMillis(3));
+        collector.connectionAcquired(Duration.ofMillis(7));
+
+        ConnectionPoolMetrics metrics = collector.metrics().build();
+        assertThat(metrics.connectionAcquires()).isEqualTo(2);
+        assertThat(metrics.totalConnectionAcquireTime()).isEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    public void gaugesAndCounters_reflectAdjustments() {
+        ConnectionPoolMetricsCollector collector = new ConnectionPoolMetricsCollector();
+        collector.connectionOpened();
+        collector.connectionOpened();
+        collector.connectionClosed();
+        collector.adjustLeasedConnections(2);
+        collector.adjustLeasedConnections(-1);
+        collector.adjustAvailableConnections(1);
+        collector.adjustPendingConnectionAcquires(3);
+
+        ConnectionPoolMetrics metrics = collector.metrics().maxConnections(10).build();
+        assertThat(metrics.maxConnections()).isEqualTo(10);
+        assertThat(metrics.connectionsOpened()).isEqualTo(2);
+        assertThat(metrics.connectionsClosed()).isEqualTo(1);
+        assertThat(metrics.leasedConnections()).isEqualTo(1);
+        assertThat(metrics.availableConnections()).isEqualTo(1);
+        assertThat(metrics.pendingConnectionAcquires()).isEqualTo(3);
+    }
+
+    @Test
+    public void multiplexedConnections_reportOpenStreamsUntilClosed() {
+        ConnectionPoolMetricsCollector collector = new ConnectionPoolMetricsCollector();
+        Object connection = new Object();
+        AtomicLong openStreams = new AtomicLong(3);
+        collector.multiplexedConnectionOpened(connection, openStreams::get);
+
+        assertThat(collector.metrics().build().concurrentStreamsPerConnection()).containsExactly(3);
+        openStreams.set(5);
+        assertThat(collector.metrics().build().concurrentStreamsPerConnection()).containsExactly(5);
+
+        collector.multiplexedConnectionClosed(connection);
+        assertThat(collector.metrics().build().concurrentStreamsPerConnection()).isEmpty();
+    }
+
+    @Test
+    public void tlsHandshakeCompleted_sessionIdSeenBefore_isResumed() {
+        ConnectionPoolMetricsCollector collector = new ConnectionPoolMetricsCollector();
+        long now = 1_000_000_000L;
+        collector.tlsHandshakeCompleted(session(new byte[] {1}, now), now);
+        collector.tlsHandshakeCompleted(session(new byte[] {1}, now), now + 5);
+        collector.tlsHandshakeCompleted(session(new byte[] {2}, now + 10), now + 10);
+
+        ConnectionPoolMetrics metrics = collector.metrics().build();
+        assertThat(metrics.tlsHandshakes()).isEqualTo(3);
+        assertThat(metrics.tlsSessionsResumed()).isEqualTo(1);
+    }
+
+    @Test
+    public void tlsHandshakeCompleted_newIdForSessionSeenBefore_isResumed() {
+        ConnectionPoolMetricsCollector collector = new ConnectionPoolMetricsCollector();
+        long now = 1_000_000_000L;
+        collector.tlsHandshakeCompleted(session(new byte[] {1}, now), now);
+        // Within the same second, which times truncated to seconds could not tell apart
+        collector.tlsHandshakeCompleted(session(new byte[] {2}, now), now + 1);
+        collector.tlsHandshakeCompleted(session(new byte[0], now), now + 2);
+
+        ConnectionPoolMetrics metrics = collector.metrics().build();
+        assertThat(metrics.tlsHandshakes()).isEqualTo(3);
+        assertThat(metrics.tlsSessionsResumed()).isEqualTo(2);
+    }
+
+    @Test
+    public void tlsHandshakeCompleted_concurrentFullHandshakesCreatedAtSameTime_areNotResumed() {
+        ConnectionPoolMetricsCollector collector = new ConnectionPoolMetricsCollector();
+        long now = 1_000_000_000L;
+        collector.tlsHandshakeCompleted(session(new byte[] {1}, now), now);
+        collector.tlsHandshakeCompleted(session(new byte[] {2}, now), now);
+
+        ConnectionPoolMetrics metrics = collector.metrics().build();
+        assertThat(metrics.tlsHandshakes()).isEqualTo(2);
+        assertThat(metrics.tlsSessionsResumed()).isEqualTo(0);
+    }
+
+    private static SSLSession session(byte[] id, long creationTimeMillis) {
+        return (SSLSession) Proxy.newProxyInstance(SSLSession.class.getClassLoader(),
+                                                   new Class<?>[] {SSLSession.class},
+                                                   (proxy, method, args) -> {
+                                                       switch (method.getName()) {
+                                                           case "getId":
+                                                               return id.clone();
+                                                           case "getCreationTime":
+                                                               return creationTimeMillis;
+                                                           case "getPeerHost":
+                                                               return "localhost";
+                                                           case "getPeerPort":
+                                                               return 443;
+                                                           default:
+                                                               throw new UnsupportedOperationException(method.getName());
+                                                       }
+                                                   });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.junit.Test;
+
+public class CopyOnWriteMultiValueMapTest {
+    private static final Supplier<Map<String, List<String>>> CONSTRUCTOR = () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    @Test
+    public void unmodifiedMap_buildsSameInstance() {
+        Map<String, List<String>> original = initialMap();
+        CopyOnWriteMultiValueMap map = new CopyOnWriteMultiValueMap(original, CONSTRUCTOR);
+        assertThat(map.build()).isSameAs(original);
+        assertThat(map.snapshot()).isSameAs(original);
+    }
+
+    @Test
+    public void changingOneName_reusesValuesOfOtherNames() {
+        Map<String, List<String>> original = initialMap();
+        CopyOnWriteMultiValueMap map = new CopyOnWriteMultiValueMap(original, CONSTRUCTOR);
+        map.put("Foo", singletonList("Changed"));
+
+        Map<String, List<String>> result = map.build();
+        assertThat(result.get("Foo")).containsExactly("Changed");
+        assertThat(result.get("Bar")).isSameAs(original.get("Bar"));
+        assertThat(original.get("Foo")).containsExactly("Foo1");
+        assertThat(map.build()).isSameAs(result);
+    }
+
+    @Test
+    public void appendingToSharedValues_doesNotModifyOriginal() {
+        Map<String, List<String>> original = initialMap();
+        CopyOnWriteMultiValueMap map = new CopyOnWriteMultiValueMap(original, CONSTRUCTOR);
+        map.append("Foo", "Foo2");
+        map.append("Foo", "Foo3");
+        map.remove("Bar");
+
+        Map<String, List<String>> result = map.build();
+        assertThat(result).containsOnlyKeys("Foo");
+        assertThat(result.get("Foo")).containsExactly("Foo1", "Foo2", "Foo3");
+        assertThat(original).containsOnlyKeys("Foo", "Bar");
+        assertThat(original.get("Foo")).containsExactly("Foo1");
+    }
+
+    @Test
+    public void builtMap_isUnmodifiable() {
+        CopyOnWriteMultiValueMap map = new CopyOnWriteMultiValueMap(CONSTRUCTOR);
+        map.append("Foo", "Foo1");
+        Map<String, List<String>> result = map.build();
+
+        assertThatThrownBy(() -> result.put("Bar", singletonList("Bar1"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> result.get("Foo").add("Foo2")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void namesEqualUnderImmutableOrdering_failToBuild() {
+        CopyOnWriteMultiValueMap map = new CopyOnWriteMultiValueMap(CONSTRUCTOR);
+        map.put("Foo", singletonList("Foo1"));
+        map.put("foo", singletonList("Foo2"));
+
+        assertThatThrownBy(map::build).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Map<String, List<String>> initialMap() {
+        CopyOnWriteMultiValueMap map = new CopyOnWriteMultiValueMap(CONSTRUCTOR);
+        map.put("Foo", singletonList("Foo1"));
+        map.put("Bar", Arrays.asList("Bar1", "Bar2"));
+        return map.build();
+    }
+}
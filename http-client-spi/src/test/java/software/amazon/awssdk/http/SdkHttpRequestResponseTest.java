@@ -297,6 +297,56 @@ public class SdkHttpRequestResponseTest {
         });
     }
 
+    @Test
+    public void unmodifiedRequestBuilderSharesMapsWithOriginal() {
+        SdkHttpFullRequest request = validRequestBuilder().putHeader("Foo", "Bar").putRawQueryParameter("Baz", "Qux").build();
+        SdkHttpFullRequest copy = request.toBuilder().build();
+
+        assertThat(copy.headers()).isSameAs(request.headers());
+        assertThat(copy.rawQueryParameters()).isSameAs(request.rawQueryParameters());
+    }
+
+    @Test
+    public void modifyingRequestBuilderDoesNotAffectOriginal() {
+        SdkHttpFullRequest request = validRequestBuilder().putHeader("Foo", "Bar").putRawQueryParameter("Baz", "Qux").build();
+        SdkHttpFullRequest modified = request.toBuilder()
+                                             .appendHeader("Foo", "Bar2")
+                                             .putHeader("Foo2", "Bar")
+                                             .removeQueryParameter("Baz")
+                                             .build();
+
+        assertThat(request.headers()).containsOnlyKeys("Foo");
+        assertThat(request.headers().get("Foo")).containsExactly("Bar");
+        assertThat(request.rawQueryParameters()).containsOnlyKeys("Baz");
+        assertThat(modified.headers()).containsOnlyKeys("Foo", "Foo2");
+        assertThat(modified.headers().get("Foo")).containsExactly("Bar", "Bar2");
+        assertThat(modified.rawQueryParameters()).isEmpty();
+    }
+
+    @Test
+    public void unmodifiedResponseBuilderSharesHeadersWithOriginal() {
+        SdkHttpFullResponse response = validResponseBuilder().putHeader("Foo", "Bar").build();
+        assertThat(response.toBuilder().statusCode(200).build().headers()).isSameAs(response.headers());
+
+        SdkHttpFullResponse modified = response.toBuilder().clearHeaders().build();
+        assertThat(response.headers()).containsOnlyKeys("Foo");
+        assertThat(modified.headers()).isEmpty();
+    }
+
+    @Test
+    public void firstMatchingHeaderIsCaseInsensitive() {
+        SdkHttpFullRequest.Builder requestBuilder = validRequestBuilder().putHeader("Content-Type", Arrays.asList("a", "b"));
+        assertThat(requestBuilder.firstMatchingHeader("content-type")).hasValue("a");
+        assertThat(requestBuilder.build().firstMatchingHeader("CONTENT-TYPE")).hasValue("a");
+        assertThat(requestBuilder.build().toBuilder().firstMatchingHeader("content-TYPE")).hasValue("a");
+        assertThat(requestBuilder.build().firstMatchingHeader("Content-Length")).isNotPresent();
+
+        SdkHttpFullResponse.Builder responseBuilder = validResponseBuilder().putHeader("Content-Type", "a");
+        assertThat(responseBuilder.firstMatchingHeader("content-type")).hasValue("a");
+        assertThat(responseBuilder.build().firstMatchingHeader("CONTENT-TYPE")).hasValue("a");
+        assertThat(responseBuilder.build().firstMatchingHeader("Content-Length")).isNotPresent();
+    }
+
     private interface BuilderProxy {
         BuilderProxy setValue(String key, String value);
         BuilderProxy appendValue(String key, String value);
@@ -27,23 +27,29 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_CONNECT
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.READ_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
@@ -56,6 +62,9 @@ import org.apache.http.config.RegistryBuilder;
 import org.apache.http.config.SocketConfig;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
@@ -64,12 +73,17 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-import org.apache.http.protocol.HttpRequestExecutor;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
@@ -82,12 +96,14 @@ import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPoolWarmer;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
+import software.amazon.awssdk.http.apache.internal.impl.SdkHttpRequestExecutor;
 import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Logger;
@@ -113,6 +129,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final HttpRoutePlanner routePlanner;
+    private final ConnectionPoolMetricsCollector poolMetrics = new ConnectionPoolMetricsCollector();
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -121,9 +139,11 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
+        this.routePlanner = resolveRoutePlanner(builder);
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
@@ -141,16 +161,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
         // Note that it is important we register the original connection manager with the
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
-        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
+        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions, poolMetrics);
 
-        builder.setRequestExecutor(new HttpRequestExecutor())
+        builder.setRequestExecutor(new SdkHttpRequestExecutor())
                // SDK handles decompression
                .disableContentCompression()
                .setKeepAliveStrategy(buildKeepAliveStrategy(standardOptions))
                .disableRedirectHandling()
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
-               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
+               .setConnectionManager(ClientConnectionManagerFactory.wrap(cm, poolMetrics));
 
         addProxyConfig(builder, configuration);
 
@@ -166,34 +186,46 @@ public final class ApacheHttpClient implements SdkHttpClient {
                                 DefaultBuilder configuration) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
 
-        Validate.isTrue(configuration.httpRoutePlanner == null || !isProxyEnabled(proxyConfiguration),
-                        "The httpRoutePlanner and proxyConfiguration can't both be configured.");
         Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
                         "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
-        if (isProxyEnabled(proxyConfiguration)) {
-            log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
-        }
-
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
             credentialsProvider = ApacheUtils.newProxyCredentialsProvider(proxyConfiguration);
         }
 
-        if (routePlanner != null) {
-            builder.setRoutePlanner(routePlanner);
-        }
+        builder.setRoutePlanner(routePlanner);
 
         if (credentialsProvider != null) {
             builder.setDefaultCredentialsProvider(credentialsProvider);
         }
     }
 
+    /**
+     * Resolve the route planner used both by the client and when warming up connections, so that warm up opens connections
+     * along the same routes as requests.
+     */
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+
+        Validate.isTrue(configuration.httpRoutePlanner == null || !isProxyEnabled(proxyConfiguration),
+                        "The httpRoutePlanner and proxyConfiguration can't both be configured.");
+
+        if (configuration.httpRoutePlanner != null) {
+            return configuration.httpRoutePlanner;
+        }
+
+        if (isProxyEnabled(proxyConfiguration)) {
+            log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+
+        return new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+    }
+
     private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
         return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
@@ -218,7 +250,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ExecutableHttpRequest() {
             @Override
             public HttpExecuteResponse call() throws IOException {
-                return execute(apacheRequest);
+                return execute(apacheRequest, request);
             }
 
             @Override
@@ -228,6 +260,13 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    @Override
+    public CompletableFuture<Void> warmUp(URI endpoint, int connections) {
+        int maxConnections = resolvedOptions.get(MAX_CONNECTIONS);
+        return new ConnectionPoolWarmer(httpClient.getHttpClientConnectionManager(), routePlanner, requestConfig)
+            .warmUp(endpoint, Math.min(connections, maxConnections));
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -235,8 +274,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
         cm.shutdown();
     }
 
-    private HttpExecuteResponse execute(HttpRequestBase apacheRequest) throws IOException {
+    private HttpExecuteResponse execute(HttpRequestBase apacheRequest, HttpExecuteRequest request) throws IOException {
         HttpClientContext localRequestContext = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+        request.connectionAcquireListener()
+               .ifPresent(listener -> SdkHttpRequestExecutor.listenForConnectionAcquire(localRequestContext, listener));
         HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
         return createResponse(httpResponse, apacheRequest);
     }
@@ -295,6 +336,25 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return CLIENT_NAME;
     }
 
+    @Override
+    public Optional<ConnectionPoolMetrics> connectionPoolMetrics() {
+        HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
+        if (!(cm instanceof ConnPoolControl)) {
+            return Optional.empty();
+        }
+
+        // The pool tracks its own gauges. Every connection it opened is either still pooled or has been closed.
+        PoolStats stats = ((ConnPoolControl<?>) cm).getTotalStats();
+        long pooledConnections = (long) stats.getLeased() + stats.getAvailable();
+        return Optional.of(poolMetrics.metrics()
+                                      .maxConnections(stats.getMax())
+                                      .leasedConnections(stats.getLeased())
+                                      .availableConnections(stats.getAvailable())
+                                      .pendingConnectionAcquires(stats.getPending())
+                                      .connectionsClosed(Math.max(0, poolMetrics.connectionsOpened() - pooledConnections))
+                                      .build());
+    }
+
     /**
      * Builder for creating an instance of {@link SdkHttpClient}. The factory can be configured through the builder {@link
      * #builder()}, once built it can create a {@link SdkHttpClient} via {@link #build()} or can be passed to the SDK
@@ -388,6 +448,36 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * {@link TlsKeyManagersProvider} to override it.
          */
         Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions cached by the client, so that new connections to a host can resume a
+         * session instead of doing a full handshake. If not set, the JDK's default is used. Zero means no limit.
+         *
+         * <p>Resuming sessions is most valuable when connections are closed and reopened frequently, for example because of
+         * a short {@link #connectionTimeToLive(Duration)}. The number of resumed sessions is reported by
+         * {@link ConnectionPoolMetrics#tlsSessionsResumed()}.
+         *
+         * @see SdkHttpConfigurationOption#TLS_SESSION_CACHE_SIZE
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure how long a cached TLS session can be resumed for after it was established. If not set, the JDK's default
+         * is used. Zero means no limit.
+         *
+         * @see SdkHttpConfigurationOption#TLS_SESSION_TIMEOUT
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure the JCA {@link Provider} used to create the client's {@link SSLContext}. If not set, the highest priority
+         * installed provider of TLS is used, which is usually the JDK's own implementation.
+         *
+         * <p>Handshakes and record encryption account for much of the CPU cost of TLS connections. A provider backed by
+         * OpenSSL or BoringSSL, such as Conscrypt's, can reduce it considerably compared to the JDK's implementation. The
+         * asynchronous Netty client can use the same provider, or its own OpenSSL support.
+         */
+        Builder sslContextProvider(Provider sslContextProvider);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -397,6 +487,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private Boolean expectContinueEnabled;
         private HttpRoutePlanner httpRoutePlanner;
         private CredentialsProvider credentialsProvider;
+        private Provider sslContextProvider;
 
         private DefaultBuilder() {
         }
@@ -537,6 +628,36 @@ public final class ApacheHttpClient implements SdkHttpClient {
             credentialsProvider(credentialsProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            standardOptions.put(TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            standardOptions.put(TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder sslContextProvider(Provider sslContextProvider) {
+            this.sslContextProvider = sslContextProvider;
+            return this;
+        }
+
+        public void setSslContextProvider(Provider sslContextProvider) {
+            sslContextProvider(sslContextProvider);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(GLOBAL_HTTP_DEFAULTS);
@@ -547,13 +668,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private static class ApacheConnectionManagerFactory {
 
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
-                                                  AttributeMap standardOptions) {
-            ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+                                                  AttributeMap standardOptions,
+                                                  ConnectionPoolMetricsCollector poolMetrics) {
+            ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions, poolMetrics);
+
+            HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory = (route, config) -> {
+                poolMetrics.connectionOpened();
+                return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config);
+            };
 
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
                     createSocketFactoryRegistry(sslsf),
-                    null,
+                    connectionFactory,
                     DefaultSchemePortResolver.INSTANCE,
                     null,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
@@ -567,10 +694,12 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
 
         private ConnectionSocketFactory getPreferredSocketFactory(ApacheHttpClient.DefaultBuilder configuration,
-                                                                  AttributeMap standardOptions) {
+                                                                  AttributeMap standardOptions,
+                                                                  ConnectionPoolMetricsCollector poolMetrics) {
             // TODO v2 custom socket factory
-            return new SdkTlsSocketFactory(getSslContext(standardOptions),
-                                           getHostNameVerifier(standardOptions));
+            return new SdkTlsSocketFactory(getSslContext(configuration, standardOptions),
+                                           getHostNameVerifier(standardOptions),
+                                           poolMetrics);
         }
 
         private HostnameVerifier getHostNameVerifier(AttributeMap standardOptions) {
@@ -579,7 +708,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
                    : SSLConnectionSocketFactory.getDefaultHostnameVerifier();
         }
 
-        private SSLContext getSslContext(AttributeMap standardOptions) {
+        private SSLContext getSslContext(ApacheHttpClient.DefaultBuilder configuration, AttributeMap standardOptions) {
             TrustManager[] trustManagers = null;
             if (standardOptions.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES)) {
                 log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
@@ -591,15 +720,31 @@ public final class ApacheHttpClient implements SdkHttpClient {
             KeyManager[] keyManagers = provider.keyManagers();
 
             try {
-                SSLContext sslcontext = SSLContext.getInstance("TLS");
+                SSLContext sslcontext = configuration.sslContextProvider == null
+                                        ? SSLContext.getInstance("TLS")
+                                        : SSLContext.getInstance("TLS", configuration.sslContextProvider);
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
                 sslcontext.init(keyManagers, trustManagers, null);
+                configureSessionCache(sslcontext.getClientSessionContext(), standardOptions);
                 return sslcontext;
             } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
                 throw new SSLInitializationException(ex.getMessage(), ex);
             }
         }
 
+        private void configureSessionCache(SSLSessionContext sessionContext, AttributeMap standardOptions) {
+            Integer cacheSize = standardOptions.get(TLS_SESSION_CACHE_SIZE);
+            if (cacheSize != null) {
+                sessionContext.setSessionCacheSize(Validate.isNotNegative(cacheSize, "tlsSessionCacheSize"));
+            }
+
+            Duration timeout = standardOptions.get(TLS_SESSION_TIMEOUT);
+            if (timeout != null) {
+                Validate.isNotNegative(timeout, "tlsSessionTimeout");
+                sessionContext.setSessionTimeout(saturatedCast(timeout.getSeconds()));
+            }
+        }
+
         /**
          * Insecure trust manager to trust all certs. Should only be used for testing.
          */
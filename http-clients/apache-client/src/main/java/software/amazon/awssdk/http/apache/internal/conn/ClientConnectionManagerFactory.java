@@ -25,6 +25,7 @@ import org.apache.http.pool.ConnPoolControl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 
 @SdkInternalApi
 public final class ClientConnectionManagerFactory {
@@ -38,8 +39,10 @@ public final class ClientConnectionManagerFactory {
      * to capture the necessary performance metrics.
      *
      * @param orig the target instance to be wrapped
+     * @param poolMetrics the collector to record connection acquisition times into
      */
-    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig) {
+    public static HttpClientConnectionManager wrap(HttpClientConnectionManager orig,
+                                                   ConnectionPoolMetricsCollector poolMetrics) {
         if (orig instanceof Wrapped) {
             throw new IllegalArgumentException();
         }
@@ -59,7 +62,7 @@ public final class ClientConnectionManagerFactory {
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionManagerFactory.class.getClassLoader(),
                 interfaces,
-                new Handler(orig));
+                new Handler(orig, poolMetrics));
     }
 
     /**
@@ -69,9 +72,11 @@ public final class ClientConnectionManagerFactory {
      */
     private static class Handler implements InvocationHandler {
         private final HttpClientConnectionManager orig;
+        private final ConnectionPoolMetricsCollector poolMetrics;
 
-        Handler(HttpClientConnectionManager real) {
+        Handler(HttpClientConnectionManager real, ConnectionPoolMetricsCollector poolMetrics) {
             this.orig = real;
+            this.poolMetrics = poolMetrics;
         }
 
         @Override
@@ -79,7 +84,7 @@ public final class ClientConnectionManagerFactory {
             try {
                 Object ret = method.invoke(orig, args);
                 return ret instanceof ConnectionRequest
-                        ? ClientConnectionRequestFactory.wrap((ConnectionRequest) ret)
+                        ? ClientConnectionRequestFactory.wrap((ConnectionRequest) ret, poolMetrics)
                         : ret
                         ;
             } catch (InvocationTargetException e) {
@@ -20,10 +20,12 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import org.apache.http.conn.ConnectionRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 
 @SdkInternalApi
 final class ClientConnectionRequestFactory {
@@ -41,8 +43,9 @@ final class ClientConnectionRequestFactory {
      * to capture the necessary performance metrics.
      *
      * @param orig the target instance to be wrapped
+     * @param poolMetrics the collector to record the acquisition time into
      */
-    static ConnectionRequest wrap(ConnectionRequest orig) {
+    static ConnectionRequest wrap(ConnectionRequest orig, ConnectionPoolMetricsCollector poolMetrics) {
         if (orig instanceof Wrapped) {
             throw new IllegalArgumentException();
         }
@@ -50,7 +53,7 @@ final class ClientConnectionRequestFactory {
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionRequestFactory.class.getClassLoader(),
                 INTERFACES,
-                new Handler(orig));
+                new Handler(orig, poolMetrics));
     }
 
     /**
@@ -61,25 +64,22 @@ final class ClientConnectionRequestFactory {
      */
     private static class Handler implements InvocationHandler {
         private final ConnectionRequest orig;
+        private final ConnectionPoolMetricsCollector poolMetrics;
 
-        Handler(ConnectionRequest orig) {
+        Handler(ConnectionRequest orig, ConnectionPoolMetricsCollector poolMetrics) {
             this.orig = orig;
+            this.poolMetrics = poolMetrics;
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
-                // TODO v2 service metrics
-                //                if ("get".equals(method.getName())) {
-                //                    ServiceLatencyProvider latencyProvider = new ServiceLatencyProvider(
-                //                            AWSServiceMetrics.HttpClientGetConnectionTime);
-                //                    try {
-                //                        return method.invoke(orig, args);
-                //                    } finally {
-                //                        AwsSdkMetrics.getServiceMetricCollector()
-                //                                .collectLatency(latencyProvider.endTiming());
-                //                    }
-                //                }
+                if ("get".equals(method.getName())) {
+                    long startNanos = System.nanoTime();
+                    Object connection = method.invoke(orig, args);
+                    poolMetrics.connectionAcquired(Duration.ofNanos(System.nanoTime() - startNanos));
+                    return connection;
+                }
                 return method.invoke(orig, args);
             } catch (InvocationTargetException e) {
                 log.debug("", e);
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Opens connections to an endpoint ahead of the requests that need them. The connections are leased from the pool first, so
+ * that each one is a connection of its own, then they are connected (including the TLS handshake for HTTPS) in parallel and
+ * each one is released back to the pool as soon as it is connected. The work runs on a small pool of background threads
+ * shared by every client of the JVM, whose threads exit when there is nothing to warm up.
+ *
+ * <p>Warming up never waits for the pool: no more connections are leased than the pool has room for beyond the connections
+ * already in use, and leasing stops as soon as the pool has no more, so requests are never queued behind the warm up.
+ *
+ * <p>Only direct routes are warmed up. Connections through a proxy are left to the requests that need them, as the tunnel
+ * through the proxy is established as part of the request.
+ */
+@SdkInternalApi
+public final class ConnectionPoolWarmer {
+    private static final Logger log = Logger.loggerFor(ConnectionPoolWarmer.class);
+    private static final int MAX_THREADS = 8;
+    /**
+     * The pool treats a lease timeout of zero as no timeout, so the shortest possible wait is used instead.
+     */
+    private static final long LEASE_TIMEOUT_MILLIS = 1;
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private final HttpClientConnectionManager connectionManager;
+    private final HttpRoutePlanner routePlanner;
+    private final ApacheHttpRequestConfig requestConfig;
+
+    public ConnectionPoolWarmer(HttpClientConnectionManager connectionManager,
+                                HttpRoutePlanner routePlanner,
+                                ApacheHttpRequestConfig requestConfig) {
+        this.connectionManager = connectionManager;
+        this.routePlanner = routePlanner;
+        this.requestConfig = requestConfig;
+    }
+
+    /**
+     * Open up to the given number of connections to the endpoint, capped at the number of connections the pool can hold in
+     * addition to the ones in use.
+     */
+    public CompletableFuture<Void> warmUp(URI endpoint, int connections) {
+        if (connections <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom().setLocalAddress(requestConfig.localAddress()).build());
+        HttpRoute route;
+        try {
+            HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+            route = routePlanner.determineRoute(target, new BasicHttpRequest("GET", "/"), context);
+        } catch (HttpException e) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        if (route.getHopCount() > 1) {
+            log.debug(() -> "Not warming up connections to " + endpoint + " as they are made through a proxy.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.supplyAsync(() -> leaseConnections(route, connections), EXECUTOR)
+                                .thenCompose(leased -> CompletableFuture.allOf(
+                                    leased.stream()
+                                          .map(c -> CompletableFuture.runAsync(() -> connect(c, route, context), EXECUTOR))
+                                          .toArray(CompletableFuture[]::new)));
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder().threadNamePrefix("sdk-apache-warm-up")
+                                                                                       .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private List<HttpClientConnection> leaseConnections(HttpRoute route, int connections) {
+        int count = Math.min(connections, idleCapacity(route));
+        List<HttpClientConnection> leased = new ArrayList<>(Math.max(count, 0));
+        try {
+            for (int i = 0; i < count; i++) {
+                leased.add(connectionManager.requestConnection(route, null)
+                                            .get(LEASE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            }
+        } catch (ConnectionPoolTimeoutException e) {
+            // Requests took the rest of the pool in the meantime, and their connections are already warm
+            log.debug(() -> "Warming up " + leased.size() + " connections to " + route + " as the pool has no more.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseAll(leased);
+            throw new CompletionException(e);
+        } catch (ExecutionException | RuntimeException e) {
+            releaseAll(leased);
+            throw new CompletionException(e);
+        }
+        return leased;
+    }
+
+    /**
+     * The number of connections the pool can hold to the route in addition to the ones leased by requests, both within the
+     * limit for the route and the limit for the whole pool.
+     */
+    @SuppressWarnings("unchecked")
+    private int idleCapacity(HttpRoute route) {
+        if (!(connectionManager instanceof ConnPoolControl)) {
+            return Integer.MAX_VALUE;
+        }
+        ConnPoolControl<HttpRoute> pool = (ConnPoolControl<HttpRoute>) connectionManager;
+        PoolStats routeStats = pool.getStats(route);
+        PoolStats totalStats = pool.getTotalStats();
+        return Math.min(routeStats.getMax() - routeStats.getLeased(), totalStats.getMax() - totalStats.getLeased());
+    }
+
+    private void connect(HttpClientConnection connection, HttpRoute route, HttpClientContext context) {
+        try {
+            // Connections that were already pooled are open, only new ones need connecting
+            if (!connection.isOpen()) {
+                connectionManager.connect(connection, route, (int) requestConfig.connectionTimeout().toMillis(), context);
+                connectionManager.routeComplete(connection, route, context);
+            }
+        } catch (IOException | RuntimeException e) {
+            shutdown(connection);
+            throw new CompletionException(e);
+        } finally {
+            connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void releaseAll(List<HttpClientConnection> leased) {
+        leased.forEach(c -> connectionManager.releaseConnection(c, null, 0, TimeUnit.MILLISECONDS));
+    }
+
+    private static void shutdown(HttpClientConnection connection) {
+        try {
+            connection.shutdown();
+        } catch (IOException e) {
+            log.debug(() -> "Unable to shut down connection.", e);
+        }
+    }
+
+}
@@ -28,6 +28,7 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
 import software.amazon.awssdk.utils.Logger;
@@ -40,14 +41,22 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
     private final SSLContext sslContext;
+    private final ConnectionPoolMetricsCollector poolMetrics;
 
     public SdkTlsSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
+        this(sslContext, hostnameVerifier, new ConnectionPoolMetricsCollector());
+    }
+
+    public SdkTlsSocketFactory(final SSLContext sslContext,
+                               final HostnameVerifier hostnameVerifier,
+                               final ConnectionPoolMetricsCollector poolMetrics) {
         super(sslContext, hostnameVerifier);
         if (sslContext == null) {
             throw new IllegalArgumentException(
                     "sslContext must not be null. " + "Use SSLContext.getDefault() if you are unsure.");
         }
         this.sslContext = sslContext;
+        this.poolMetrics = poolMetrics;
     }
 
     /**
@@ -110,9 +119,12 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
             final HttpContext context) throws IOException {
         log.trace(() -> String.format("Connecting to %s:%s", remoteAddress.getAddress(), remoteAddress.getPort()));
 
+        long handshakeStartTime = System.currentTimeMillis();
         Socket connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
 
         if (connectedSocket instanceof SSLSocket) {
+            // The handshake has completed by the time the socket is connected.
+            poolMetrics.tlsHandshakeCompleted(((SSLSocket) connectedSocket).getSession(), handshakeStartTime);
             return new SdkSslSocket((SSLSocket) connectedSocket);
         }
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionAcquireListener;
+
+/**
+ * An {@link HttpRequestExecutor} that notifies the request's {@link ConnectionAcquireListener} once Apache has leased and
+ * connected the connection the request will be sent on.
+ */
+@SdkInternalApi
+public final class SdkHttpRequestExecutor extends HttpRequestExecutor {
+    private static final String ACQUIRE_LISTENER = SdkHttpRequestExecutor.class.getName() + ".acquireListener";
+    private static final String ACQUIRE_START_NANOS = SdkHttpRequestExecutor.class.getName() + ".acquireStartNanos";
+
+    /**
+     * Registers the listener to notify when the request executed with the given context has its connection, measuring the
+     * acquire time from now.
+     */
+    public static void listenForConnectionAcquire(HttpContext context, ConnectionAcquireListener listener) {
+        context.setAttribute(ACQUIRE_START_NANOS, System.nanoTime());
+        context.setAttribute(ACQUIRE_LISTENER, listener);
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context)
+            throws IOException, HttpException {
+        // Tunnelling through a proxy sends a CONNECT on the same connection first; it is part of acquiring the connection.
+        if (!"CONNECT".equalsIgnoreCase(request.getRequestLine().getMethod())) {
+            notifyConnectionAcquired(context);
+        }
+        return super.execute(request, conn, context);
+    }
+
+    private static void notifyConnectionAcquired(HttpContext context) {
+        ConnectionAcquireListener listener = (ConnectionAcquireListener) context.removeAttribute(ACQUIRE_LISTENER);
+        Long startNanos = (Long) context.removeAttribute(ACQUIRE_START_NANOS);
+        if (listener != null && startNanos != null) {
+            listener.connectionAcquired(Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+}
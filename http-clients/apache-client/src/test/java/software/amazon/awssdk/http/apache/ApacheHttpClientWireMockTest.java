@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.apache;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
@@ -26,6 +27,15 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import java.net.HttpURLConnection;
+import java.net.URI;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
@@ -38,11 +48,17 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
@@ -79,6 +95,137 @@ public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
         verify(connectionManager).shutdown();
     }
 
+    @Test
+    public void connectionPoolMetrics_reflectCompletedRequest() throws Exception {
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+
+        testForResponseCodeUsingHttps(client, HttpURLConnection.HTTP_OK);
+
+        ConnectionPoolMetrics metrics = client.connectionPoolMetrics().get();
+        assertThat(metrics.connectionsOpened()).isEqualTo(1);
+        assertThat(metrics.connectionsClosed()).isZero();
+        assertThat(metrics.leasedConnections()).isZero();
+        assertThat(metrics.availableConnections()).isEqualTo(1);
+        assertThat(metrics.pendingConnectionAcquires()).isZero();
+        assertThat(metrics.acquireWaitTimeHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(1);
+        client.close();
+    }
+
+    @Test
+    public void connectionAcquireListener_isNotifiedOnceBeforeTheRequestIsSent() throws Exception {
+        mockServer.stubFor(WireMock.any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+        List<Duration> acquireDurations = new CopyOnWriteArrayList<>();
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://localhost:" + mockServer.httpsPort()))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                                .request(request)
+                                                                                .connectionAcquireListener(acquireDurations::add)
+                                                                                .build())
+                                             .call();
+        IoUtils.drainInputStream(response.responseBody().get());
+
+        assertThat(acquireDurations).hasSize(1);
+        assertThat(acquireDurations.get(0)).isGreaterThan(Duration.ZERO);
+        client.close();
+    }
+
+    @Test
+    public void warmUp_opensConnectionsUpToMaxConnections() throws Exception {
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .maxConnections(2)
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+
+        URI endpoint = URI.create("https://localhost:" + mockServer.httpsPort());
+        client.warmUp(endpoint, 3).get(10, TimeUnit.SECONDS);
+        assertThat(client.connectionPoolMetrics().get().availableConnections()).isEqualTo(2);
+
+        client.warmUp(endpoint, 2).get(10, TimeUnit.SECONDS);
+        assertThat(client.connectionPoolMetrics().get().availableConnections()).isEqualTo(2);
+
+        testForResponseCodeUsingHttps(client, HttpURLConnection.HTTP_OK);
+        assertThat(client.connectionPoolMetrics().get().availableConnections()).isEqualTo(2);
+        client.close();
+    }
+
+    @Test
+    public void warmUp_poolInUse_doesNotWaitForIt() throws Exception {
+        mockServer.stubFor(WireMock.any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .maxConnections(1)
+                                               .connectionAcquisitionTimeout(Duration.ofSeconds(30))
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+
+        URI endpoint = URI.create("https://localhost:" + mockServer.httpsPort());
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder().uri(endpoint).method(SdkHttpMethod.GET).build();
+        // The unread response body holds on to the only connection of the pool
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        try {
+            client.warmUp(endpoint, 1).get(5, TimeUnit.SECONDS);
+
+            ConnectionPoolMetrics metrics = client.connectionPoolMetrics().get();
+            assertThat(metrics.connectionsOpened()).isEqualTo(1);
+            assertThat(metrics.pendingConnectionAcquires()).isZero();
+        } finally {
+            IoUtils.drainInputStream(response.responseBody().get());
+            client.close();
+        }
+    }
+
+    @Test
+    public void newConnectionsToSameHost_resumeTlsSession() throws Exception {
+        // Each response closes its connection, so that each request opens a new one
+        mockServer.stubFor(WireMock.any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close")
+                                                                                    .withBody("hello")));
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .tlsSessionCacheSize(10)
+                                               .tlsSessionTimeout(Duration.ofMinutes(5))
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+
+        for (int i = 0; i < 3; i++) {
+            SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                           .uri(URI.create("https://localhost:" + mockServer.httpsPort()))
+                                                           .method(SdkHttpMethod.GET)
+                                                           .build();
+            HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+            assertThat(IoUtils.toUtf8String(response.responseBody().get())).isEqualTo("hello");
+        }
+
+        ConnectionPoolMetrics metrics = client.connectionPoolMetrics().get();
+        assertThat(metrics.tlsHandshakes()).isEqualTo(3);
+        assertThat(metrics.tlsSessionsResumed()).isEqualTo(2);
+        client.close();
+    }
+
+    @Test
+    public void sslContextProviderConfigured_isUsedForTls() throws Exception {
+        RecordingSslContextProvider sslContextProvider = new RecordingSslContextProvider();
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .sslContextProvider(sslContextProvider)
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+
+        assertThat(sslContextProvider.sslContextsCreated.get()).isEqualTo(1);
+        testForResponseCodeUsingHttps(client, HttpURLConnection.HTTP_OK);
+        client.close();
+    }
+
     @Test
     public void routePlannerIsInvoked() throws Exception {
         mockProxyServer.resetToDefaultMappings();
@@ -146,4 +293,23 @@ public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
 
         mockProxyServer.verify(2, RequestPatternBuilder.allRequests());
     }
+
+    /**
+     * Delegates to the default JSSE provider, recording each {@code SSLContext} it creates.
+     */
+    private static final class RecordingSslContextProvider extends Provider {
+        private final AtomicInteger sslContextsCreated = new AtomicInteger();
+
+        private RecordingSslContextProvider() {
+            super("RecordingSslContextProvider", 1.0, "Records the SSLContexts created by the default JSSE provider");
+            Provider.Service delegate = Security.getProvider("SunJSSE").getService("SSLContext", "TLS");
+            putService(new Provider.Service(this, "SSLContext", "TLS", delegate.getClassName(), null, null) {
+                @Override
+                public Object newInstance(Object constructorParameter) throws NoSuchAlgorithmException {
+                    sslContextsCreated.incrementAndGet();
+                    return delegate.newInstance(constructorParameter);
+                }
+            });
+        }
+    }
 }
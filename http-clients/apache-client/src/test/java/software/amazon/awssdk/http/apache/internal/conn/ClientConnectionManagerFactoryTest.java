@@ -25,6 +25,7 @@ import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.protocol.HttpContext;
 import org.junit.Test;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 
 public class ClientConnectionManagerFactoryTest {
     HttpClientConnectionManager noop = new HttpClientConnectionManager() {
@@ -72,13 +73,13 @@ public class ClientConnectionManagerFactoryTest {
 
     @Test
     public void wrapOnce() {
-        HttpClientConnectionManager wrapped = ClientConnectionManagerFactory.wrap(noop);
+        HttpClientConnectionManager wrapped = ClientConnectionManagerFactory.wrap(noop, new ConnectionPoolMetricsCollector());
         assertTrue(wrapped instanceof Wrapped);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void wrapTwice() {
-        HttpClientConnectionManager wrapped = ClientConnectionManagerFactory.wrap(noop);
-        ClientConnectionManagerFactory.wrap(wrapped);
+        HttpClientConnectionManager wrapped = ClientConnectionManagerFactory.wrap(noop, new ConnectionPoolMetricsCollector());
+        ClientConnectionManagerFactory.wrap(wrapped, new ConnectionPoolMetricsCollector());
     }
 }
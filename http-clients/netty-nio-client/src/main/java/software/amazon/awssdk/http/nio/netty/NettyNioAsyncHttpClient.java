@@ -24,6 +24,8 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.READ_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.WRITE_TIMEOUT;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.EVENTLOOP_SHUTDOWN_QUIET_PERIOD_SECONDS;
@@ -31,13 +33,21 @@ import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslProvider;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
 import java.net.URI;
+import java.security.Provider;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +56,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -55,15 +67,18 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
+import software.amazon.awssdk.http.nio.netty.internal.NettyConfigurationOption;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.RequestContext;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelOptions;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.SimpleChannelPoolAwareChannelPool;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
@@ -81,9 +96,22 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final SdkChannelPoolMap<URI, ? extends ChannelPool> pools;
     private final NettyConfiguration configuration;
+    private final ConnectionPoolMetricsCollector poolMetrics = new ConnectionPoolMetricsCollector();
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        Validate.isPositive(configuration.http2MinConnections(), "minHttp2Connections");
+        Validate.isPositive(configuration.http2MaxConnections(), "maxHttp2Connections");
+        Validate.isTrue(configuration.http2MinConnections() <= configuration.http2MaxConnections(),
+                        "minHttp2Connections (%s) must not be greater than maxHttp2Connections (%s)",
+                        configuration.http2MinConnections(), configuration.http2MaxConnections());
+        if (configuration.tlsSessionCacheSize() != null) {
+            Validate.isNotNegative(configuration.tlsSessionCacheSize(), "tlsSessionCacheSize");
+        }
+        Validate.isTrue(builder.sslContextProvider == null
+                        || builder.sslProvider == null
+                        || builder.sslProvider == SslProvider.JDK,
+                        "The sslContextProvider can only be used with the %s SslProvider.", SslProvider.JDK);
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         long maxStreams = builder.maxHttp2Streams == null ? MAX_STREAMS_ALLOWED : builder.maxHttp2Streams;
         this.sdkEventLoopGroup = eventLoopGroup(builder);
@@ -94,7 +122,9 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .maxStreams(maxStreams)
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
+                                             .sslContextProvider(builder.sslContextProvider)
                                              .proxyConfiguration(builder.proxyConfiguration)
+                                             .poolMetrics(poolMetrics)
                                              .build();
     }
 
@@ -119,7 +149,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         ChannelPool pool = pools.get(poolKey(request.request()));
-        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration);
+        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration, poolMetrics);
     }
 
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
@@ -135,7 +165,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                           sdkRequest.port(), null, null, null));
     }
 
+    private static URI poolKey(URI endpoint) {
+        int port = endpoint.getPort() != -1 ? endpoint.getPort() : SdkHttpUtils.standardPort(endpoint.getScheme());
+        return invokeSafely(() -> new URI(endpoint.getScheme(), null, endpoint.getHost(), port, null, null, null));
+    }
+
     private SslProvider resolveSslProvider(DefaultBuilder builder) {
+        if (builder.sslContextProvider != null) {
+            return SslProvider.JDK;
+        }
+
         if (builder.sslProvider != null) {
             return builder.sslProvider;
         }
@@ -175,6 +214,81 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return CLIENT_NAME;
     }
 
+    @Override
+    public Optional<ConnectionPoolMetrics> connectionPoolMetrics() {
+        return Optional.of(poolMetrics.metrics()
+                                      .maxConnections(configuration.maxConnections())
+                                      .build());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For HTTP/2, requests are multiplexed onto as few connections as {@link Builder#minHttp2Connections(Integer)} allows,
+     * so no more connections than that are opened.</p>
+     *
+     * <p>The connections in use by requests to the endpoint count against {@link Builder#maxConcurrency(Integer)} when
+     * working out how many connections the pool has room for.</p>
+     */
+    @Override
+    public CompletableFuture<Void> warmUp(URI endpoint, int connections) {
+        ChannelPool pool = pools.get(poolKey(endpoint));
+        // Only use the room the pool has beyond the connections in use, so that no acquire is queued behind requests and no
+        // request is queued behind the warm up
+        int idleCapacity = configuration.maxConnections() - leasedConnections(pool);
+        int count = Math.min(connections, idleCapacity);
+        List<CompletableFuture<Void>> channels = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            // The acquires are all made up front, before any channel is established and released, so that each one is a
+            // connection of its own. Each channel is released as soon as it is established.
+            channels.add(acquireEstablishedChannel(pool).thenAccept(pool::release));
+        }
+        return CompletableFuture.allOf(channels.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * The number of connections in use from the given endpoint's pool. The limit on connections applies to each endpoint, so
+     * the connections in use to other endpoints do not count.
+     */
+    private static int leasedConnections(ChannelPool pool) {
+        if (pool instanceof SimpleChannelPoolAwareChannelPool) {
+            return ((SimpleChannelPoolAwareChannelPool) pool).underlyingSimpleChannelPool().leasedConnections();
+        }
+        return 0;
+    }
+
+    /**
+     * Acquire a channel from the pool, and wait for its TLS handshake to complete if it has one.
+     */
+    private static CompletableFuture<Channel> acquireEstablishedChannel(ChannelPool pool) {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        pool.acquire().addListener((GenericFutureListener<Future<Channel>>) acquire -> {
+            if (!acquire.isSuccess()) {
+                result.completeExceptionally(acquire.cause());
+                return;
+            }
+
+            Channel channel = acquire.getNow();
+            // HTTP/2 pools hand out streams, the connection is their parent
+            Channel connection = channel.parent() != null ? channel.parent() : channel;
+            SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+            if (sslHandler == null) {
+                result.complete(channel);
+                return;
+            }
+
+            sslHandler.handshakeFuture().addListener(handshake -> {
+                if (handshake.isSuccess()) {
+                    result.complete(channel);
+                } else {
+                    pool.release(channel);
+                    result.completeExceptionally(handshake.cause());
+                }
+            });
+        });
+        return result;
+    }
+
     /**
      * Builder that allows configuration of the Netty NIO HTTP implementation. Use {@link #builder()} to configure and construct
      * a Netty HTTP client.
@@ -335,6 +449,59 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder maxHttp2Streams(Integer maxHttp2Streams);
 
+        /**
+         * Sets how often each HTTP/2 connection is checked for liveness by sending it a PING frame. A connection whose PING
+         * is not acknowledged within the {@link #http2HealthCheckPingTimeout(Duration)} is closed and removed from the pool,
+         * and requests in flight on it fail with a retryable error instead of stalling. This detects connections that were
+         * silently dropped by the network, e.g. by a NAT gateway, long before the operating system would. This setting is
+         * only respected when the HTTP/2 protocol is used.
+         *
+         * <p>Defaults to 5 seconds. A zero duration disables the health check.</p>
+         *
+         * @param http2HealthCheckPingPeriod The interval between PINGs on each HTTP/2 connection.
+         * @return This builder for method chaining.
+         */
+        Builder http2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod);
+
+        /**
+         * Sets how long to wait for a health check PING to be acknowledged before the HTTP/2 connection it was sent on is
+         * considered dead. See {@link #http2HealthCheckPingPeriod(Duration)}.
+         *
+         * <p>Defaults to 5 seconds.</p>
+         *
+         * @param http2HealthCheckPingTimeout The maximum time to wait for the acknowledgement of a PING.
+         * @return This builder for method chaining.
+         */
+        Builder http2HealthCheckPingTimeout(Duration http2HealthCheckPingTimeout);
+
+        /**
+         * Sets the number of HTTP/2 connections to each host that concurrent streams are spread across. Until this many
+         * connections are open, a new connection is opened for a stream rather than multiplexing it onto an existing one.
+         * Spreading streams across several connections gives each of them its own flow control window, which otherwise
+         * becomes the bottleneck for high throughput streaming. This setting is only respected when the HTTP/2 protocol is
+         * used.
+         *
+         * <p>Regardless of this setting, streams are always assigned to the least loaded of the open connections.</p>
+         *
+         * <p>Defaults to 1.</p>
+         *
+         * @param minHttp2Connections Number of HTTP/2 connections per host to spread streams across.
+         * @return This builder for method chaining.
+         */
+        Builder minHttp2Connections(Integer minHttp2Connections);
+
+        /**
+         * Sets the maximum number of HTTP/2 connections to each host. Once this many connections are open and all of their
+         * streams are in use, further requests wait for a stream to be released, as they do when
+         * {@link #maxConcurrency(Integer)} is reached. This setting is only respected when the HTTP/2 protocol is used.
+         *
+         * <p>By default the number of HTTP/2 connections is only limited by {@link #maxConcurrency(Integer)}.</p>
+         *
+         * @param maxHttp2Connections Maximum number of HTTP/2 connections per host.
+         * @return This builder for method chaining.
+         */
+        Builder maxHttp2Connections(Integer maxHttp2Connections);
+
         /**
          * Sets the {@link SslProvider} to be used in the Netty client.
          *
@@ -348,6 +515,18 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder sslProvider(SslProvider sslProvider);
 
+        /**
+         * Sets the JCA {@link Provider} used to create the client's {@code SSLContext}, such as Conscrypt's OpenSSL-backed
+         * provider. Setting it implies the {@link SslProvider#JDK} {@link #sslProvider(SslProvider)}, which delegates to
+         * whichever provider is configured here. This lets the same provider be used with the synchronous Apache client.
+         *
+         * <p>If not configured, the highest priority installed provider of TLS is used.
+         *
+         * @param sslContextProvider the JCA provider of the {@code SSLContext}
+         * @return the builder of the method chaining.
+         */
+        Builder sslContextProvider(Provider sslContextProvider);
+
         /**
          * Set the proxy configuration for this client. The configured proxy will be used to proxy any HTTP request
          * destined for any host that does not match any of the hosts in configured non proxy hosts.
@@ -369,6 +548,52 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return The builder for method chaining.
          */
         Builder tlsKeyManagersProvider(TlsKeyManagersProvider keyManagersProvider);
+
+        /**
+         * Sets the maximum number of TLS sessions cached for each host, so that new connections to the host can resume a
+         * session instead of doing a full handshake. Resuming sessions is most valuable when connections are closed and
+         * reopened frequently, for example because of a short {@link #connectionTimeToLive(Duration)}. The number of resumed
+         * sessions is reported by {@link ConnectionPoolMetrics#tlsSessionsResumed()}.
+         *
+         * <p>Client sessions are only resumed with {@link SslProvider#JDK}, as the OpenSSL providers do not cache client
+         * sessions.</p>
+         *
+         * <p>If not set, the default of the {@link #sslProvider(SslProvider)} is used. Zero means no limit.</p>
+         *
+         * @param tlsSessionCacheSize Maximum number of cached TLS sessions per host.
+         * @return The builder for method chaining.
+         * @see SdkHttpConfigurationOption#TLS_SESSION_CACHE_SIZE
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Sets how long a cached TLS session can be resumed for after it was established.
+         *
+         * <p>If not set, the default of the {@link #sslProvider(SslProvider)} is used. Zero means no limit.</p>
+         *
+         * @param tlsSessionTimeout How long a cached TLS session can be resumed for.
+         * @return The builder for method chaining.
+         * @see SdkHttpConfigurationOption#TLS_SESSION_TIMEOUT
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure whether response content is handed to the response publisher without being copied. By default each
+         * chunk of response content is copied out of Netty's (possibly pooled and direct) buffers into a new heap
+         * {@link java.nio.ByteBuffer} before it is published, so subscribers may hold on to it for as long as they like.
+         *
+         * <p>When enabled, subscribers instead receive a read-only view over Netty's buffer, which is released back to the
+         * pool as soon as {@code Subscriber#onNext} returns. Subscribers must finish with, or copy, every buffer before
+         * returning from {@code onNext}; subscribers that hold on to buffers after that must not be used
+         * with this mode. {@code AsyncResponseTransformer.toFile} copies every chunk, whatever its size, before
+         * returning and is safe. This avoids a copy and an allocation per chunk for high throughput streaming responses.
+         *
+         * <p>Defaults to false.
+         *
+         * @param useZeroCopyResponseContent Whether to publish response content without copying it.
+         * @return The builder for method chaining.
+         */
+        Builder useZeroCopyResponseContent(Boolean useZeroCopyResponseContent);
     }
 
     /**
@@ -384,6 +609,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
         private Integer maxHttp2Streams;
         private SslProvider sslProvider;
+        private Provider sslContextProvider;
         private ProxyConfiguration proxyConfiguration;
 
         private DefaultBuilder() {
@@ -531,6 +757,48 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             maxHttp2Streams(maxHttp2Streams);
         }
 
+        @Override
+        public Builder http2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod) {
+            Validate.isNotNegative(http2HealthCheckPingPeriod, "http2HealthCheckPingPeriod");
+            standardOptions.put(NettyConfigurationOption.HTTP2_HEALTH_CHECK_PING_PERIOD, http2HealthCheckPingPeriod);
+            return this;
+        }
+
+        public void setHttp2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod) {
+            http2HealthCheckPingPeriod(http2HealthCheckPingPeriod);
+        }
+
+        @Override
+        public Builder http2HealthCheckPingTimeout(Duration http2HealthCheckPingTimeout) {
+            Validate.isPositive(http2HealthCheckPingTimeout, "http2HealthCheckPingTimeout");
+            standardOptions.put(NettyConfigurationOption.HTTP2_HEALTH_CHECK_PING_TIMEOUT, http2HealthCheckPingTimeout);
+            return this;
+        }
+
+        public void setHttp2HealthCheckPingTimeout(Duration http2HealthCheckPingTimeout) {
+            http2HealthCheckPingTimeout(http2HealthCheckPingTimeout);
+        }
+
+        @Override
+        public Builder minHttp2Connections(Integer minHttp2Connections) {
+            standardOptions.put(NettyConfigurationOption.HTTP2_MIN_CONNECTIONS, minHttp2Connections);
+            return this;
+        }
+
+        public void setMinHttp2Connections(Integer minHttp2Connections) {
+            minHttp2Connections(minHttp2Connections);
+        }
+
+        @Override
+        public Builder maxHttp2Connections(Integer maxHttp2Connections) {
+            standardOptions.put(NettyConfigurationOption.HTTP2_MAX_CONNECTIONS, maxHttp2Connections);
+            return this;
+        }
+
+        public void setMaxHttp2Connections(Integer maxHttp2Connections) {
+            maxHttp2Connections(maxHttp2Connections);
+        }
+
         @Override
         public Builder sslProvider(SslProvider sslProvider) {
             this.sslProvider = sslProvider;
@@ -541,6 +809,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             sslProvider(sslProvider);
         }
 
+        @Override
+        public Builder sslContextProvider(Provider sslContextProvider) {
+            this.sslContextProvider = sslContextProvider;
+            return this;
+        }
+
+        public void setSslContextProvider(Provider sslContextProvider) {
+            sslContextProvider(sslContextProvider);
+        }
+
         @Override
         public Builder proxyConfiguration(ProxyConfiguration proxyConfiguration) {
             this.proxyConfiguration = proxyConfiguration;
@@ -557,6 +835,37 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             return this;
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            standardOptions.put(TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isNotNegative(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder useZeroCopyResponseContent(Boolean useZeroCopyResponseContent) {
+            this.standardOptions.put(NettyConfigurationOption.ZERO_COPY_RESPONSE_CONTENT, useZeroCopyResponseContent);
+            return this;
+        }
+
+        public void setUseZeroCopyResponseContent(Boolean useZeroCopyResponseContent) {
+            useZeroCopyResponseContent(useZeroCopyResponseContent);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             return new NettyNioAsyncHttpClient(this, standardOptions.build()
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.CHANNEL_POOL_CLOSE_TIMEOUT_SECONDS;
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
@@ -32,6 +33,8 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.security.Provider;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -43,9 +46,11 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManagerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
@@ -83,7 +88,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final Protocol protocol;
     private final long maxStreams;
     private final SslProvider sslProvider;
+    private final Provider sslContextProvider;
     private final ProxyConfiguration proxyConfiguration;
+    private final ConnectionPoolMetricsCollector poolMetrics;
 
     private AwaitCloseChannelPoolMap(Builder builder) {
         this.sdkChannelOptions = builder.sdkChannelOptions;
@@ -92,7 +99,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.protocol = builder.protocol;
         this.maxStreams = builder.maxStreams;
         this.sslProvider = builder.sslProvider;
+        this.sslContextProvider = builder.sslContextProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
+        this.poolMetrics = builder.poolMetrics;
     }
 
     @SdkTestInternalApi
@@ -114,16 +123,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
 
         ChannelPipelineInitializer pipelineInitializer =
-            new ChannelPipelineInitializer(protocol, sslContext, maxStreams, channelPoolRef, configuration, key);
+            new ChannelPipelineInitializer(protocol, sslContext, maxStreams, channelPoolRef, configuration, key, poolMetrics);
 
         BetterSimpleChannelPool tcpChannelPool;
         ChannelPool baseChannelPool;
         if (shouldUseProxyForHost(key)) {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER, poolMetrics);
             baseChannelPool = new Http1TunnelConnectionPool(bootstrap.config().group().next(), tcpChannelPool,
                                                             sslContext, proxyAddress(key), key, pipelineInitializer);
         } else {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer, poolMetrics);
             baseChannelPool = tcpChannelPool;
         }
 
@@ -227,7 +236,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         channelPool = new HttpOrHttp2ChannelPool(channelPool,
                                                  bootstrap.config().group(),
                                                  configuration.maxConnections(),
-                                                 configuration);
+                                                 configuration,
+                                                 poolMetrics);
 
 
         // Wrap the channel pool such that we remove request-specific handlers with each request.
@@ -258,17 +268,36 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
 
         try {
-            return SslContextBuilder.forClient()
-                                    .sslProvider(sslProvider)
-                                    .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
-                                    .trustManager(getTrustManager())
-                                    .keyManager(getKeyManager())
-                                    .build();
+            SslContext sslContext = SslContextBuilder.forClient()
+                                                     .sslProvider(sslProvider)
+                                                     .sslContextProvider(sslContextProvider)
+                                                     .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                                                     .trustManager(getTrustManager())
+                                                     .keyManager(getKeyManager())
+                                                     .build();
+            configureSessionCache(sslContext.sessionContext());
+            return sslContext;
         } catch (SSLException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Configure the session cache directly rather than through the {@link SslContextBuilder}, which treats zero as the
+     * provider's default rather than as no limit.
+     */
+    private void configureSessionCache(SSLSessionContext sessionContext) {
+        Integer cacheSize = configuration.tlsSessionCacheSize();
+        if (cacheSize != null) {
+            sessionContext.setSessionCacheSize(cacheSize);
+        }
+
+        Duration timeout = configuration.tlsSessionTimeout();
+        if (timeout != null) {
+            sessionContext.setSessionTimeout(saturatedCast(timeout.getSeconds()));
+        }
+    }
+
     private TrustManagerFactory getTrustManager() {
         return configuration.trustAllCertificates() ? InsecureTrustManagerFactory.INSTANCE : null;
     }
@@ -291,7 +320,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private Protocol protocol;
         private long maxStreams;
         private SslProvider sslProvider;
+        private Provider sslContextProvider;
         private ProxyConfiguration proxyConfiguration;
+        private ConnectionPoolMetricsCollector poolMetrics = new ConnectionPoolMetricsCollector();
 
         private Builder() {
         }
@@ -326,11 +357,21 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder sslContextProvider(Provider sslContextProvider) {
+            this.sslContextProvider = sslContextProvider;
+            return this;
+        }
+
         public Builder proxyConfiguration(ProxyConfiguration proxyConfiguration) {
             this.proxyConfiguration = proxyConfiguration;
             return this;
         }
 
+        public Builder poolMetrics(ConnectionPoolMetricsCollector poolMetrics) {
+            this.poolMetrics = poolMetrics;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
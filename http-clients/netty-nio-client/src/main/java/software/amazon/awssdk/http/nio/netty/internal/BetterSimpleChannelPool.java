@@ -16,21 +16,82 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 
 /**
- * Extension of {@link SimpleChannelPool} to add an asynchronous close method
+ * Extension of {@link SimpleChannelPool} to add an asynchronous close method and to record the connections it opens, leases
+ * and keeps idle into a {@link ConnectionPoolMetricsCollector}.
  */
 @SdkInternalApi
 public final class BetterSimpleChannelPool extends SimpleChannelPool {
     private final CompletableFuture<Boolean> closeFuture;
+    private final ConnectionPoolMetricsCollector poolMetrics;
+    private final AtomicInteger leasedConnections = new AtomicInteger();
 
-    BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler) {
+    BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler, ConnectionPoolMetricsCollector poolMetrics) {
         super(bootstrap, handler);
-        closeFuture = new CompletableFuture<>();
+        this.closeFuture = new CompletableFuture<>();
+        this.poolMetrics = poolMetrics;
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        return super.acquire(promise).addListener(f -> {
+            if (f.isSuccess()) {
+                leasedConnections.incrementAndGet();
+                poolMetrics.adjustLeasedConnections(1);
+            }
+        });
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        // A release fails for a channel that was not leased from this pool, including one that was already released.
+        return super.release(channel, promise).addListener(f -> {
+            if (f.isSuccess()) {
+                leasedConnections.decrementAndGet();
+                poolMetrics.adjustLeasedConnections(-1);
+            }
+        });
+    }
+
+    @Override
+    protected ChannelFuture connectChannel(Bootstrap bs) {
+        ChannelFuture connectFuture = super.connectChannel(bs);
+        connectFuture.addListener(f -> {
+            if (f.isSuccess()) {
+                poolMetrics.connectionOpened();
+                connectFuture.channel().closeFuture().addListener(c -> poolMetrics.connectionClosed());
+            }
+        });
+        return connectFuture;
+    }
+
+    @Override
+    protected Channel pollChannel() {
+        Channel channel = super.pollChannel();
+        if (channel != null) {
+            poolMetrics.adjustAvailableConnections(-1);
+        }
+        return channel;
+    }
+
+    @Override
+    protected boolean offerChannel(Channel channel) {
+        boolean offered = super.offerChannel(channel);
+        if (offered) {
+            poolMetrics.adjustAvailableConnections(1);
+        }
+        return offered;
     }
 
     @Override
@@ -39,6 +100,14 @@ public final class BetterSimpleChannelPool extends SimpleChannelPool {
         closeFuture.complete(true);
     }
 
+    /**
+     * @return The number of connections of this pool currently in use. The {@link ConnectionPoolMetricsCollector} only
+     * reports the sum across all pools.
+     */
+    public int leasedConnections() {
+        return leasedConnections.get();
+    }
+
     CompletableFuture<Boolean> closeFuture() {
         return closeFuture;
     }
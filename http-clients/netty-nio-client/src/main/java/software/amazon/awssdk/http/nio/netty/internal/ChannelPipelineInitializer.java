@@ -38,7 +38,9 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
 
 /**
@@ -52,19 +54,22 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
     private final URI poolKey;
+    private final ConnectionPoolMetricsCollector poolMetrics;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
                                       long clientMaxStreams,
                                       AtomicReference<ChannelPool> channelPoolRef,
                                       NettyConfiguration configuration,
-                                      URI poolKey) {
+                                      URI poolKey,
+                                      ConnectionPoolMetricsCollector poolMetrics) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
         this.clientMaxStreams = clientMaxStreams;
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
         this.poolKey = poolKey;
+        this.poolMetrics = poolMetrics;
     }
 
     @Override
@@ -75,8 +80,10 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
 
             // Need to provide host and port to enable SNI
             // https://github.com/netty/netty/issues/3801#issuecomment-104274440
+            // The host and port are also the key the TLS session is cached under, which lets new connections resume it.
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), poolKey.getHost(), poolKey.getPort());
             configureSslEngine(sslHandler.engine());
+            recordHandshake(sslHandler);
 
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
@@ -115,6 +122,15 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         sslEngine.setSSLParameters(sslParameters);
     }
 
+    private void recordHandshake(SslHandler sslHandler) {
+        long handshakeStartTime = System.currentTimeMillis();
+        sslHandler.handshakeFuture().addListener(f -> {
+            if (f.isSuccess()) {
+                poolMetrics.tlsHandshakeCompleted(sslHandler.engine().getSession(), handshakeStartTime);
+            }
+        });
+    }
+
     private void configureHttp2(Channel ch, ChannelPipeline pipeline) {
         // Using Http2FrameCodecBuilder and Http2MultiplexHandler based on 4.1.37 release notes
         // https://netty.io/news/2019/06/28/4-1-37-Final.html
@@ -127,6 +143,11 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
 
         pipeline.addLast(new Http2MultiplexHandler(new NoOpChannelInitializer()));
 
+        long pingPeriodMillis = configuration.http2HealthCheckPingPeriodMillis();
+        if (pingPeriodMillis > 0) {
+            pipeline.addLast(new Http2PingHandler(pingPeriodMillis, configuration.http2HealthCheckPingTimeoutMillis()));
+        }
+
         pipeline.addLast(new Http2SettingsFrameHandler(ch, clientMaxStreams, channelPoolRef));
     }
 
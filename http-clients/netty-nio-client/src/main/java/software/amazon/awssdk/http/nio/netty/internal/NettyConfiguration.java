@@ -22,6 +22,7 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
@@ -37,6 +38,8 @@ public final class NettyConfiguration {
     public static final int EVENTLOOP_SHUTDOWN_QUIET_PERIOD_SECONDS = 2;
     public static final int EVENTLOOP_SHUTDOWN_TIMEOUT_SECONDS = 15;
     public static final int EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS = 16;
+    public static final Duration HTTP2_HEALTH_CHECK_PING_PERIOD_DEFAULT = Duration.ofSeconds(5);
+    public static final Duration HTTP2_HEALTH_CHECK_PING_TIMEOUT_DEFAULT = Duration.ofSeconds(5);
 
     private final AttributeMap configuration;
 
@@ -91,4 +94,36 @@ public final class NettyConfiguration {
     public TlsKeyManagersProvider tlsKeyManagersProvider() {
         return configuration.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
     }
+
+    public Integer tlsSessionCacheSize() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+    }
+
+    public Duration tlsSessionTimeout() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+    }
+
+    public boolean zeroCopyResponseContent() {
+        return Boolean.TRUE.equals(configuration.get(NettyConfigurationOption.ZERO_COPY_RESPONSE_CONTENT));
+    }
+
+    public long http2HealthCheckPingPeriodMillis() {
+        Duration period = configuration.get(NettyConfigurationOption.HTTP2_HEALTH_CHECK_PING_PERIOD);
+        return (period == null ? HTTP2_HEALTH_CHECK_PING_PERIOD_DEFAULT : period).toMillis();
+    }
+
+    public long http2HealthCheckPingTimeoutMillis() {
+        Duration timeout = configuration.get(NettyConfigurationOption.HTTP2_HEALTH_CHECK_PING_TIMEOUT);
+        return (timeout == null ? HTTP2_HEALTH_CHECK_PING_TIMEOUT_DEFAULT : timeout).toMillis();
+    }
+
+    public int http2MinConnections() {
+        Integer minConnections = configuration.get(NettyConfigurationOption.HTTP2_MIN_CONNECTIONS);
+        return minConnections == null ? 1 : minConnections;
+    }
+
+    public int http2MaxConnections() {
+        Integer maxConnections = configuration.get(NettyConfigurationOption.HTTP2_MAX_CONNECTIONS);
+        return maxConnections == null ? Integer.MAX_VALUE : maxConnections;
+    }
 }
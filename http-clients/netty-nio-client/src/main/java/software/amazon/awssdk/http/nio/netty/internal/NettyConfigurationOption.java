@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Type safe key for configuration options that are specific to the Netty client and therefore have no equivalent in
+ * {@link software.amazon.awssdk.http.SdkHttpConfigurationOption}. These are stored alongside the standard options in the
+ * {@link AttributeMap} backing {@link NettyConfiguration}. Options that are not set resolve to {@code null}.
+ *
+ * @param <T> Type of option
+ */
+@SdkInternalApi
+public final class NettyConfigurationOption<T> extends AttributeMap.Key<T> {
+
+    /**
+     * Whether response content is delivered as read-only views over Netty's buffers instead of being copied.
+     */
+    public static final NettyConfigurationOption<Boolean> ZERO_COPY_RESPONSE_CONTENT =
+        new NettyConfigurationOption<>("ZeroCopyResponseContent", Boolean.class);
+
+    /**
+     * How often HTTP/2 connections are checked for liveness with a PING frame. A zero duration disables the health check.
+     */
+    public static final NettyConfigurationOption<Duration> HTTP2_HEALTH_CHECK_PING_PERIOD =
+        new NettyConfigurationOption<>("Http2HealthCheckPingPeriod", Duration.class);
+
+    /**
+     * How long to wait for the acknowledgement of a health check PING before the HTTP/2 connection is considered dead.
+     */
+    public static final NettyConfigurationOption<Duration> HTTP2_HEALTH_CHECK_PING_TIMEOUT =
+        new NettyConfigurationOption<>("Http2HealthCheckPingTimeout", Duration.class);
+
+    /**
+     * The number of HTTP/2 connections per host that streams are spread across before any connection is given a second one.
+     */
+    public static final NettyConfigurationOption<Integer> HTTP2_MIN_CONNECTIONS =
+        new NettyConfigurationOption<>("Http2MinConnections", Integer.class);
+
+    /**
+     * The maximum number of HTTP/2 connections opened to a host.
+     */
+    public static final NettyConfigurationOption<Integer> HTTP2_MAX_CONNECTIONS =
+        new NettyConfigurationOption<>("Http2MaxConnections", Integer.class);
+
+    private final String name;
+
+    private NettyConfigurationOption(String name, Class<T> clzz) {
+        super(clzz);
+        this.name = name;
+    }
+
+    /**
+     * Note that the name is mainly used for debugging purposes. Two option key objects with the same name do not represent
+     * the same option. Option keys are compared by reference when obtaining a value from an {@link AttributeMap}.
+     *
+     * @return Name of this option key.
+     */
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -45,6 +45,7 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
@@ -54,6 +55,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import org.reactivestreams.Publisher;
@@ -62,6 +64,8 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.ConnectionAcquireListener;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpToHttp2OutboundAdapter;
@@ -74,22 +78,48 @@ public final class NettyRequestExecutor {
     private static final AtomicLong EXECUTION_COUNTER = new AtomicLong(0L);
     private final long executionId = EXECUTION_COUNTER.incrementAndGet();
     private final RequestContext context;
+    private final LongSupplier nanoTime;
     private CompletableFuture<Void> executeFuture;
     private Channel channel;
 
     public NettyRequestExecutor(RequestContext context) {
+        this(context, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    NettyRequestExecutor(RequestContext context, LongSupplier nanoTime) {
         this.context = context;
+        this.nanoTime = nanoTime;
     }
 
     @SuppressWarnings("unchecked")
     public CompletableFuture<Void> execute() {
         Promise<Channel> channelFuture = context.eventLoopGroup().next().newPromise();
+        recordAcquireTime(channelFuture);
         context.channelPool().acquire(channelFuture);
         executeFuture = createExecuteFuture(channelFuture);
         channelFuture.addListener((GenericFutureListener) this::makeRequestListener);
         return executeFuture;
     }
 
+    /**
+     * Record the time from the start of the acquisition to the channel being handed to this request in the pool metrics, and
+     * report it to the request's {@link ConnectionAcquireListener}. This includes the wait for protocol negotiation and any
+     * channels discarded by the health check on the way. The listener is added before the one that makes the request, so it
+     * is notified before the request is sent.
+     */
+    private void recordAcquireTime(Promise<Channel> channelFuture) {
+        long acquireStartNanos = nanoTime.getAsLong();
+        Optional<ConnectionAcquireListener> acquireListener = context.executeRequest().connectionAcquireListener();
+        channelFuture.addListener(f -> {
+            if (f.isSuccess()) {
+                Duration acquireDuration = Duration.ofNanos(nanoTime.getAsLong() - acquireStartNanos);
+                context.poolMetrics().connectionAcquired(acquireDuration);
+                acquireListener.ifPresent(l -> l.connectionAcquired(acquireDuration));
+            }
+        });
+    }
+
     /**
      * Convenience method to create the execution future and set up the cancellation logic.
      *
@@ -260,9 +290,9 @@ public final class NettyRequestExecutor {
         } else if (isTooManyPendingAcquiresException(originalCause)) {
             return new Throwable(getMessageForTooManyAcquireOperationsError(), originalCause);
         } else if (originalCause instanceof ReadTimeoutException) {
-            return new IOException("Read timed out", originalCause);
+            return socketTimeoutException("Read timed out", originalCause);
         } else if (originalCause instanceof WriteTimeoutException) {
-            return new IOException("Write timed out", originalCause);
+            return socketTimeoutException("Write timed out", originalCause);
         } else if (originalCause instanceof ClosedChannelException) {
             return new IOException(getMessageForClosedChannel(), originalCause);
         }
@@ -270,6 +300,12 @@ public final class NettyRequestExecutor {
         return originalCause;
     }
 
+    private SocketTimeoutException socketTimeoutException(String message, Throwable cause) {
+        SocketTimeoutException exception = new SocketTimeoutException(message);
+        exception.initCause(cause);
+        return exception;
+    }
+
     private boolean isAcquireTimeoutException(Throwable originalCause) {
         String message = originalCause.getMessage();
         return originalCause instanceof TimeoutException &&
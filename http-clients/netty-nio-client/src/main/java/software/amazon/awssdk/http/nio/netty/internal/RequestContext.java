@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 
@@ -28,15 +29,18 @@ public final class RequestContext {
     private final EventLoopGroup eventLoopGroup;
     private final AsyncExecuteRequest executeRequest;
     private final NettyConfiguration configuration;
+    private final ConnectionPoolMetricsCollector poolMetrics;
 
     public RequestContext(ChannelPool channelPool,
                           EventLoopGroup eventLoopGroup,
                           AsyncExecuteRequest executeRequest,
-                          NettyConfiguration configuration) {
+                          NettyConfiguration configuration,
+                          ConnectionPoolMetricsCollector poolMetrics) {
         this.channelPool = channelPool;
         this.eventLoopGroup = eventLoopGroup;
         this.executeRequest = executeRequest;
         this.configuration = configuration;
+        this.poolMetrics = poolMetrics;
     }
 
     public ChannelPool channelPool() {
@@ -64,4 +68,8 @@ public final class RequestContext {
     public NettyConfiguration configuration() {
         return configuration;
     }
+
+    public ConnectionPoolMetricsCollector poolMetrics() {
+        return poolMetrics;
+    }
 }
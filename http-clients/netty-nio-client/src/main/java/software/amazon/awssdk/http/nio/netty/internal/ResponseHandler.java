@@ -97,7 +97,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         CompletableFuture<Void> ef = executeFuture(channelContext);
         if (msg instanceof StreamedHttpResponse) {
             requestContext.handler().onStream(
-                    new PublisherAdapter((StreamedHttpResponse) msg, channelContext, requestContext, ef));
+                    new PublisherAdapter((StreamedHttpResponse) msg, channelContext, requestContext, ef,
+                                         requestContext.configuration().zeroCopyResponseContent()));
         } else if (msg instanceof FullHttpResponse) {
             ByteBuf fullContent = null;
             try {
@@ -205,14 +206,25 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final ChannelHandlerContext channelContext;
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
+        private final boolean zeroCopyContent;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
                          RequestContext requestContext, CompletableFuture<Void> executeFuture) {
+            this(response, channelContext, requestContext, executeFuture, false);
+        }
+
+        /**
+         * @param zeroCopyContent If true, subscribers are given read-only views over the content {@link ByteBuf}s, which are
+         * released as soon as {@link Subscriber#onNext} returns. Otherwise the content is copied into a new buffer first.
+         */
+        PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
+                         RequestContext requestContext, CompletableFuture<Void> executeFuture, boolean zeroCopyContent) {
             this.response = response;
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.zeroCopyContent = zeroCopyContent;
         }
 
         @Override
@@ -255,6 +267,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (zeroCopyContent) {
+                        publishView(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -270,6 +287,28 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publishes a read-only view over the content, which is only valid until the subscriber's onNext returns
+                 * and the buffer is released back to the allocator.
+                 */
+                private void publishView(HttpContent httpContent) {
+                    try {
+                        ByteBuffer byteBuffer;
+                        try {
+                            byteBuffer = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                        } catch (Throwable t) {
+                            onError(t);
+                            return;
+                        }
+                        //As per reactive-streams rule 2.13, we should not call subscriber#onError when
+                        //exception is thrown from subscriber#onNext
+                        tryCatch(() -> subscriber.onNext(byteBuffer),
+                                 this::notifyError);
+                    } finally {
+                        httpContent.release();
+                    }
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
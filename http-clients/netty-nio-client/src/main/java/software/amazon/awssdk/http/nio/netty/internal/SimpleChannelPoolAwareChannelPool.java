@@ -22,7 +22,7 @@ import io.netty.util.concurrent.Promise;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 @SdkInternalApi
-final class SimpleChannelPoolAwareChannelPool implements ChannelPool {
+public final class SimpleChannelPoolAwareChannelPool implements ChannelPool {
     private final ChannelPool delegate;
     private final BetterSimpleChannelPool simpleChannelPool;
 
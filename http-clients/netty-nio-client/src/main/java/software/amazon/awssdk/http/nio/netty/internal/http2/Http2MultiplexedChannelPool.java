@@ -27,17 +27,20 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.util.ArrayList;
 import java.util.Collection;
-
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 
 /**
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Streams are spread across at least the minimum number of connections, each
+ * being assigned to the less loaded of two connections picked at random, and a new connection is opened,
+ * up to the maximum number of connections, when no connection has a stream available.
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -50,20 +53,32 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     private final EventLoop eventLoop;
     private final ChannelPool connectionPool;
     private final long maxConcurrencyPerConnection;
+    private final int minConnections;
+    private final int maxConnections;
     private final ArrayList<MultiplexedChannelRecord> connections;
+    private final ConnectionPoolMetricsCollector poolMetrics;
     private boolean closed = false;
 
     /**
      * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
      * @param eventLoop Event loop to run all tasks in.
      * @param maxConcurrencyPerConnection Max concurrent streams per HTTP/2 connection.
+     * @param minConnections Number of connections to spread streams across before multiplexing them.
+     * @param maxConnections Max number of connections to open.
+     * @param poolMetrics Collector to report the open streams of each connection to.
      */
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoop eventLoop,
-                                long maxConcurrencyPerConnection) {
+                                long maxConcurrencyPerConnection,
+                                int minConnections,
+                                int maxConnections,
+                                ConnectionPoolMetricsCollector poolMetrics) {
         this.connectionPool = connectionPool;
         this.eventLoop = eventLoop;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
+        this.minConnections = minConnections;
+        this.maxConnections = maxConnections;
+        this.poolMetrics = poolMetrics;
         // Customers that want an unbounded connection pool may set max concurrency to something like
         // Long.MAX_VALUE so we just stick with the initial ArrayList capacity and grow from there.
         this.connections = new ArrayList<>();
@@ -73,11 +88,16 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoop eventLoop,
                                 long maxConcurrencyPerConnection,
+                                int minConnections,
+                                int maxConnections,
                                 Collection<MultiplexedChannelRecord> connections) {
         this.connectionPool = connectionPool;
         this.eventLoop = eventLoop;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
+        this.minConnections = minConnections;
+        this.maxConnections = maxConnections;
         this.connections = new ArrayList<>(connections);
+        this.poolMetrics = new ConnectionPoolMetricsCollector();
     }
 
     @Override
@@ -96,20 +116,78 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
             return promise.setFailure(new IllegalStateException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord connection : connections) {
-            if (connection.availableStreams() > 0) {
+        if (connections.size() >= minConnections) {
+            MultiplexedChannelRecord connection = leastLoadedConnection();
+            if (connection != null) {
                 connection.acquire(promise);
                 return promise;
             }
         }
-        // No available streams, establish new connection and add it to list
-        connections.add(new MultiplexedChannelRecord(connectionPool.acquire(),
-                                                     maxConcurrencyPerConnection,
-                                                     this::releaseParentChannel)
-                            .acquire(promise));
+
+        if (connections.size() >= maxConnections) {
+            // Not expected, as the wrapping pool does not let more streams be acquired than the connections can carry
+            return promise.setFailure(new IllegalStateException("All " + maxConnections + " connections are at their max "
+                                                                + "concurrency of " + maxConcurrencyPerConnection));
+        }
+
+        // Establish new connection and add it to list
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(connectionPool.acquire(),
+                                                                       maxConcurrencyPerConnection,
+                                                                       this::releaseParentChannel);
+        connections.add(record.acquire(promise));
+        poolMetrics.multiplexedConnectionOpened(record, record::openStreams);
         return promise;
     }
 
+    /**
+     * Picks the connection to assign a new stream to. Of two connections picked at random, the one with the most available
+     * streams is taken, which spreads streams nearly as evenly as always taking the least loaded connection without
+     * scanning all of them on the event loop. Only when neither has a stream available are all connections scanned, which
+     * also drops the ones that are no longer usable.
+     *
+     * @return The connection to assign the stream to, or null if no connection has a stream available.
+     */
+    private MultiplexedChannelRecord leastLoadedConnection() {
+        int size = connections.size();
+        if (size > 0) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            MultiplexedChannelRecord candidate = connections.get(first);
+            if (size > 1) {
+                int second = random.nextInt(size - 1);
+                if (second >= first) {
+                    second++;
+                }
+                MultiplexedChannelRecord other = connections.get(second);
+                if (availableStreams(other) > availableStreams(candidate)) {
+                    candidate = other;
+                }
+            }
+            if (availableStreams(candidate) > 0) {
+                return candidate;
+            }
+        }
+
+        MultiplexedChannelRecord leastLoaded = null;
+        Iterator<MultiplexedChannelRecord> iterator = connections.iterator();
+        while (iterator.hasNext()) {
+            MultiplexedChannelRecord connection = iterator.next();
+            if (!connection.isHealthy()) {
+                // Drop dead connections here rather than assigning them streams that are bound to fail
+                iterator.remove();
+                closeConnection(connection.getConnectionFuture().getNow(), connection);
+            } else if (availableStreams(connection) > 0 &&
+                       (leastLoaded == null || availableStreams(connection) > availableStreams(leastLoaded))) {
+                leastLoaded = connection;
+            }
+        }
+        return leastLoaded;
+    }
+
+    private static long availableStreams(MultiplexedChannelRecord connection) {
+        return connection.isHealthy() ? connection.availableStreams() : 0;
+    }
+
     /**
      * Releases parent channel on failure and cleans up record from connections list.
      *
@@ -121,6 +199,13 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     }
 
     private void releaseParentChannel0(Channel parentChannel, MultiplexedChannelRecord record) {
+        // The connection may already have been dropped, e.g. by acquire after it failed a health check
+        if (connections.remove(record)) {
+            closeConnection(parentChannel, record);
+        }
+    }
+
+    private void closeConnection(Channel parentChannel, MultiplexedChannelRecord record) {
         if (parentChannel != null) {
             try {
                 parentChannel.close();
@@ -128,7 +213,7 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
                 connectionPool.release(parentChannel);
             }
         }
-        connections.remove(record);
+        poolMetrics.multiplexedConnectionClosed(record);
     }
 
     @Override
@@ -162,7 +247,13 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
 
     private void releaseParentChannel(Channel parentChannel) {
         MultiplexedChannelRecord channelRecord = parentChannel.attr(CHANNEL_POOL_RECORD).get();
-        connections.remove(channelRecord);
+        if (channelRecord != null) {
+            if (!connections.remove(channelRecord)) {
+                // Already closed and released when the connection was dropped from the pool
+                return;
+            }
+            poolMetrics.multiplexedConnectionClosed(channelRecord);
+        }
         parentChannel.close();
         connectionPool.release(parentChannel);
     }
@@ -172,6 +263,7 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
         try {
             setClosedFlag().await();
             for (MultiplexedChannelRecord c : connections) {
+                poolMetrics.multiplexedConnectionClosed(c);
                 Future<Channel> f = c.getConnectionFuture();
                 f.await();
                 if (f.isSuccess()) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Periodically sends a PING frame on an HTTP/2 connection and fails the connection if the server does not acknowledge it
+ * within the configured timeout. Without this, a connection that was silently dropped by the network (e.g. by a NAT gateway
+ * that expired its mapping) looks healthy until the TCP retransmission timeout fires, and requests assigned to it stall.
+ *
+ * <p>A failed health check is raised as a {@link PingFailedException} through the pipeline, which delivers it to the
+ * streams open on the connection and releases the connection from the pool, and the connection is closed so that no new
+ * streams are assigned to it. All state is only accessed from the channel's event loop.
+ */
+@SdkInternalApi
+public final class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame> {
+
+    private final long pingPeriodMillis;
+    private final long pingTimeoutMillis;
+
+    private ScheduledFuture<?> periodicPing;
+    private ScheduledFuture<?> pingTimeout;
+    private long outstandingPingPayload;
+    private long nextPingPayload;
+
+    public Http2PingHandler(long pingPeriodMillis, long pingTimeoutMillis) {
+        this.pingPeriodMillis = pingPeriodMillis;
+        this.pingTimeoutMillis = pingTimeoutMillis;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive()) {
+            start(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stop();
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        start(ctx);
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        stop();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, Http2PingFrame frame) {
+        // PINGs sent by the server are acknowledged by the frame codec, only acknowledgements of our own are of interest
+        if (frame.ack() && pingTimeout != null && frame.content() == outstandingPingPayload) {
+            pingTimeout.cancel(false);
+            pingTimeout = null;
+        }
+    }
+
+    private void start(ChannelHandlerContext ctx) {
+        if (periodicPing == null) {
+            periodicPing = ctx.executor().scheduleAtFixedRate(() -> sendPing(ctx), pingPeriodMillis, pingPeriodMillis,
+                                                              TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stop() {
+        if (periodicPing != null) {
+            periodicPing.cancel(false);
+            periodicPing = null;
+        }
+        if (pingTimeout != null) {
+            pingTimeout.cancel(false);
+            pingTimeout = null;
+        }
+    }
+
+    private void sendPing(ChannelHandlerContext ctx) {
+        if (pingTimeout != null) {
+            // The previous PING is still awaiting its acknowledgement and has its own timeout running
+            return;
+        }
+
+        outstandingPingPayload = nextPingPayload++;
+        pingTimeout = ctx.executor().schedule(
+            () -> fail(ctx, new PingFailedException("Server did not acknowledge a PING within " + pingTimeoutMillis + " ms")),
+            pingTimeoutMillis, TimeUnit.MILLISECONDS);
+        ctx.writeAndFlush(new DefaultHttp2PingFrame(outstandingPingPayload)).addListener(f -> {
+            if (!f.isSuccess()) {
+                fail(ctx, new PingFailedException("Failed to write a PING to the server", f.cause()));
+            }
+        });
+    }
+
+    private void fail(ChannelHandlerContext ctx, PingFailedException cause) {
+        if (periodicPing == null) {
+            // Already failed, or the connection was closed in the meantime
+            return;
+        }
+        stop();
+        ctx.fireExceptionCaught(cause);
+        ctx.close();
+    }
+}
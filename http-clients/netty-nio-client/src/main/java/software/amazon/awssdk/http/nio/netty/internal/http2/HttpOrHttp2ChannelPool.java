@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal.http2;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.MAX_CONCURRENT_STREAMS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
+import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
@@ -27,6 +28,7 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
@@ -42,6 +44,7 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
     private final int maxConcurrency;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
+    private final ConnectionPoolMetricsCollector poolMetrics;
 
     private Promise<ChannelPool> protocolImplPromise;
     private ChannelPool protocolImpl;
@@ -50,11 +53,13 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
     public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
                                   EventLoopGroup group,
                                   int maxConcurrency,
-                                  NettyConfiguration configuration) {
+                                  NettyConfiguration configuration,
+                                  ConnectionPoolMetricsCollector poolMetrics) {
         this.delegatePool = delegatePool;
         this.maxConcurrency = maxConcurrency;
         this.eventLoop = group.next();
         this.configuration = configuration;
+        this.poolMetrics = poolMetrics;
     }
 
     @Override
@@ -147,17 +152,27 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .poolMetrics(poolMetrics)
                                                  .build();
         } else {
-            ChannelPool h2Pool = new Http2MultiplexedChannelPool(
-                    delegatePool, eventLoop, newChannel.attr(MAX_CONCURRENT_STREAMS).get());
+            long maxStreamsPerConnection = newChannel.attr(MAX_CONCURRENT_STREAMS).get();
+            ChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool,
+                                                                 eventLoop,
+                                                                 maxStreamsPerConnection,
+                                                                 configuration.http2MinConnections(),
+                                                                 configuration.http2MaxConnections(),
+                                                                 poolMetrics);
+            // Streams beyond what the maximum number of connections can carry wait for a stream to be released
+            int maxStreams = saturatedCast(Math.min(maxConcurrency,
+                                                    maxStreamsPerConnection * configuration.http2MaxConnections()));
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
                                                  .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
+                                                 .maxConnections(maxStreams)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .poolMetrics(poolMetrics)
                                                  .build();
         }
         // Give the channel back so it can be acquired again by protocolImpl
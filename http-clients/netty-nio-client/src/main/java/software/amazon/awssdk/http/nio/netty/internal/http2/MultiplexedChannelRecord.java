@@ -157,8 +157,21 @@ public final class MultiplexedChannelRecord {
         return connectionFuture;
     }
 
+    /**
+     * @return False if the connection was established and has since been closed, e.g. because it failed an HTTP/2 health
+     * check, in which case no more streams should be assigned to it.
+     */
+    boolean isHealthy() {
+        Channel ch = connection;
+        return ch == null || ch.isActive();
+    }
+
     long availableStreams() {
         return availableStreams.get();
     }
 
+    long openStreams() {
+        return childChannels.size();
+    }
+
 }
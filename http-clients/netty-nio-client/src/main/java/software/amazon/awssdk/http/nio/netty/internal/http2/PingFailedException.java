@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.io.IOException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Raised on an HTTP/2 connection, and delivered to every stream open on it, when the server does not acknowledge a health
+ * check PING in time. The connection is closed, as it is most likely dead or half-open.
+ */
+@SdkInternalApi
+public final class PingFailedException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    PingFailedException(String message) {
+        super(message);
+    }
+
+    PingFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
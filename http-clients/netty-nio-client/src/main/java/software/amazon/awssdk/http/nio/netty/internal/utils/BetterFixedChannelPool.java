@@ -31,6 +31,7 @@ import java.util.Queue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 
 /**
  * {@link ChannelPool} implementation that takes another {@link ChannelPool} implementation and enforce a maximum
@@ -73,6 +74,7 @@ public class BetterFixedChannelPool implements ChannelPool {
     private final Queue<AcquireTask> pendingAcquireQueue = new ArrayDeque<AcquireTask>();
     private final int maxConnections;
     private final int maxPendingAcquires;
+    private final ConnectionPoolMetricsCollector poolMetrics;
     private int acquiredChannelCount;
     private int pendingAcquireCount;
     private boolean closed;
@@ -124,6 +126,7 @@ public class BetterFixedChannelPool implements ChannelPool {
         }
         this.maxConnections = builder.maxConnections;
         this.maxPendingAcquires = builder.maxPendingAcquires;
+        this.poolMetrics = builder.poolMetrics;
     }
 
     @Override
@@ -174,6 +177,7 @@ public class BetterFixedChannelPool implements ChannelPool {
                 AcquireTask task = new AcquireTask(promise);
                 if (pendingAcquireQueue.offer(task)) {
                     ++pendingAcquireCount;
+                    poolMetrics.adjustPendingConnectionAcquires(1);
 
                     if (timeoutTask != null) {
                         task.timeoutFuture = executor.schedule(timeoutTask, acquireTimeoutNanos, TimeUnit.NANOSECONDS);
@@ -252,6 +256,7 @@ public class BetterFixedChannelPool implements ChannelPool {
             }
 
             --pendingAcquireCount;
+            poolMetrics.adjustPendingConnectionAcquires(-1);
             task.acquired();
 
             delegateChannelPool.acquire(task.promise);
@@ -293,6 +298,7 @@ public class BetterFixedChannelPool implements ChannelPool {
                 pendingAcquireQueue.remove();
 
                 --pendingAcquireCount;
+                poolMetrics.adjustPendingConnectionAcquires(-1);
                 onTimeout(task);
             }
         }
@@ -372,6 +378,7 @@ public class BetterFixedChannelPool implements ChannelPool {
                 task.promise.setFailure(new ClosedChannelException());
             }
             acquiredChannelCount = 0;
+            poolMetrics.adjustPendingConnectionAcquires(-pendingAcquireCount);
             pendingAcquireCount = 0;
 
             // Ensure we dispatch this on another Thread as close0 will be called from the EventExecutor and we need
@@ -397,6 +404,7 @@ public class BetterFixedChannelPool implements ChannelPool {
         private long acquireTimeoutMillis;
         private int maxConnections;
         private int maxPendingAcquires;
+        private ConnectionPoolMetricsCollector poolMetrics = new ConnectionPoolMetricsCollector();
 
         private Builder() {
         }
@@ -431,6 +439,11 @@ public class BetterFixedChannelPool implements ChannelPool {
             return this;
         }
 
+        public Builder poolMetrics(ConnectionPoolMetricsCollector poolMetrics) {
+            this.poolMetrics = poolMetrics;
+            return this;
+        }
+
         public BetterFixedChannelPool build() {
             return new BetterFixedChannelPool(this);
         }
@@ -55,6 +55,9 @@ import io.netty.util.AttributeKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -67,6 +70,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.assertj.core.api.Condition;
 import org.junit.AfterClass;
@@ -79,6 +83,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -441,6 +446,148 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(wiremockTrafficListener.requests().toString()).endsWith(content);
     }
 
+    @Test
+    public void warmUp_opensConnectionsOnce() throws Exception {
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(2)
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        try {
+            // Limited by the max concurrency. The connection used to determine the protocol may be opened in addition.
+            customClient.warmUp(uri, 3).get(5, TimeUnit.SECONDS);
+            long connectionsOpened = customClient.connectionPoolMetrics().get().connectionsOpened();
+            assertThat(connectionsOpened).isBetween(2L, 3L);
+
+            // Connections that are already open are reused
+            customClient.warmUp(uri, 2).get(5, TimeUnit.SECONDS);
+            assertThat(customClient.connectionPoolMetrics().get().connectionsOpened()).isEqualTo(connectionsOpened);
+        } finally {
+            customClient.close();
+        }
+    }
+
+    @Test
+    public void warmUp_poolInUse_doesNotWaitForIt() throws Exception {
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello").withFixedDelay(3000)));
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(1)
+                                                                 .connectionAcquisitionTimeout(Duration.ofSeconds(30))
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        try {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(createRequest(uri))
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .build());
+            // The slow request holds on to the only connection of the pool
+            while (customClient.connectionPoolMetrics().get().leasedConnections() == 0) {
+                Thread.sleep(10);
+            }
+
+            customClient.warmUp(uri, 1).get(1, TimeUnit.SECONDS);
+            assertThat(recorder.completeFuture).isNotDone();
+            assertThat(customClient.connectionPoolMetrics().get().connectionsOpened()).isEqualTo(1);
+
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+        } finally {
+            customClient.close();
+        }
+    }
+
+    @Test
+    public void warmUp_otherEndpointInUse_opensConnections() throws Exception {
+        URI busyUri = URI.create("http://localhost:" + mockServer.port());
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello").withFixedDelay(3000)));
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(1)
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        try {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(createRequest(busyUri))
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .build());
+            // The slow request holds on to the only connection of the other endpoint's pool
+            while (customClient.connectionPoolMetrics().get().leasedConnections() == 0) {
+                Thread.sleep(10);
+            }
+
+            // The connection used to determine the protocol may be opened in addition
+            customClient.warmUp(uri, 1).get(5, TimeUnit.SECONDS);
+            assertThat(customClient.connectionPoolMetrics().get().connectionsOpened()).isBetween(2L, 3L);
+
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+        } finally {
+            customClient.close();
+        }
+    }
+
+    @Test
+    public void newConnectionsToSameHost_resumeTlsSession() throws Exception {
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        // Each response closes its connection, so that each request opens a new one
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close").withBody("hello")));
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .sslProvider(SslProvider.JDK)
+                                                                 .tlsSessionCacheSize(10)
+                                                                 .tlsSessionTimeout(Duration.ofMinutes(5))
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        try {
+            for (int i = 0; i < 3; i++) {
+                RecordingResponseHandler recorder = new RecordingResponseHandler();
+                customClient.execute(AsyncExecuteRequest.builder()
+                                                        .request(createRequest(uri))
+                                                        .requestContentPublisher(createProvider(""))
+                                                        .responseHandler(recorder)
+                                                        .build());
+                recorder.completeFuture.get(5, TimeUnit.SECONDS);
+            }
+
+            ConnectionPoolMetrics metrics = customClient.connectionPoolMetrics().get();
+            assertThat(metrics.tlsHandshakes()).isGreaterThanOrEqualTo(3);
+            assertThat(metrics.tlsSessionsResumed()).isEqualTo(metrics.tlsHandshakes() - 1);
+        } finally {
+            customClient.close();
+        }
+    }
+
+    @Test
+    public void sslContextProviderConfigured_isUsedForTls() throws Exception {
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        RecordingSslContextProvider sslContextProvider = new RecordingSslContextProvider();
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .sslContextProvider(sslContextProvider)
+                                                                 .buildWithDefaults(mapWithTrustAllCerts());
+        try {
+            stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(createRequest(uri))
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .build());
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+            assertThat(recorder.fullResponseAsString()).isEqualTo("hello");
+            assertThat(sslContextProvider.sslContextsCreated.get()).isGreaterThan(0);
+        } finally {
+            customClient.close();
+        }
+    }
+
+    @Test
+    public void sslContextProviderWithOpenSslProvider_throwsException() {
+        assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder()
+                                                        .sslProvider(SslProvider.OPENSSL)
+                                                        .sslContextProvider(Security.getProvider("SunJSSE"))
+                                                        .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sslContextProvider");
+    }
+
     @Test
     public void closeMethodClosesOpenedChannels() throws InterruptedException, TimeoutException, ExecutionException {
         String body = randomAlphabetic(10);
@@ -651,4 +798,23 @@ public class NettyNioAsyncHttpClientWireMockTest {
                            .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
                            .build();
     }
+
+    /**
+     * Delegates to the default JSSE provider, recording each {@code SSLContext} it creates.
+     */
+    private static final class RecordingSslContextProvider extends Provider {
+        private final AtomicInteger sslContextsCreated = new AtomicInteger();
+
+        private RecordingSslContextProvider() {
+            super("RecordingSslContextProvider", 1.0, "Records the SSLContexts created by the default JSSE provider");
+            Provider.Service delegate = Security.getProvider("SunJSSE").getService("SSLContext", "TLS");
+            putService(new Provider.Service(this, "SSLContext", "TLS", delegate.getClassName(), null, null) {
+                @Override
+                public Object newInstance(Object constructorParameter) throws NoSuchAlgorithmException {
+                    sslContextsCreated.incrementAndGet();
+                    return delegate.newInstance(constructorParameter);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
+
+public class BetterSimpleChannelPoolTest {
+
+    private final ConnectionPoolMetricsCollector poolMetrics = new ConnectionPoolMetricsCollector();
+
+    private EventLoopGroup group;
+    private Channel serverChannel;
+    private BetterSimpleChannelPool pool;
+
+    @Before
+    public void setup() throws InterruptedException {
+        group = new DefaultEventLoopGroup(1);
+        LocalAddress address = new LocalAddress("BetterSimpleChannelPoolTest");
+        serverChannel = new ServerBootstrap().group(group)
+                                             .channel(LocalServerChannel.class)
+                                             .childHandler(new ChannelInboundHandlerAdapter())
+                                             .bind(address)
+                                             .sync()
+                                             .channel();
+        Bootstrap bootstrap = new Bootstrap().group(group).channel(LocalChannel.class).remoteAddress(address);
+        pool = new BetterSimpleChannelPool(bootstrap, new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(Channel ch) {
+            }
+        }, poolMetrics);
+    }
+
+    @After
+    public void teardown() throws InterruptedException {
+        pool.close();
+        serverChannel.close().sync();
+        group.shutdownGracefully().sync();
+    }
+
+    @Test
+    public void acquireAndRelease_adjustLeasedAndAvailableConnections() throws InterruptedException {
+        Channel channel = pool.acquire().sync().getNow();
+        awaitPoolListeners();
+        assertThat(poolMetrics.metrics().build().leasedConnections()).isEqualTo(1);
+
+        pool.release(channel).sync();
+        awaitPoolListeners();
+        assertThat(poolMetrics.metrics().build().leasedConnections()).isEqualTo(0);
+        assertThat(poolMetrics.metrics().build().availableConnections()).isEqualTo(1);
+    }
+
+    @Test
+    public void failedRelease_doesNotAdjustLeasedConnections() throws InterruptedException {
+        Channel channel = pool.acquire().sync().getNow();
+        pool.release(channel).sync();
+
+        Future<Void> secondRelease = pool.release(channel).await();
+        awaitPoolListeners();
+
+        assertThat(secondRelease.isSuccess()).isFalse();
+        assertThat(poolMetrics.metrics().build().leasedConnections()).isEqualTo(0);
+        assertThat(poolMetrics.metrics().build().availableConnections()).isEqualTo(1);
+    }
+
+    /**
+     * Waiters on a future can wake up before the listeners the pool added to it have run on the event loop. The event loop has
+     * a single thread, so once a task submitted after the future completed has run, those listeners have run too.
+     */
+    private void awaitPoolListeners() throws InterruptedException {
+        group.submit(() -> { }).sync();
+    }
+}
@@ -68,6 +68,7 @@ public class FutureCancelHandlerTest {
         requestContext = new RequestContext(channelPool,
                                             eventLoopGroup,
                                             AsyncExecuteRequest.builder().responseHandler(responseHandler).build(),
+                                            null,
                                             null);
 
         DefaultAttributeMap attrMap = new DefaultAttributeMap();
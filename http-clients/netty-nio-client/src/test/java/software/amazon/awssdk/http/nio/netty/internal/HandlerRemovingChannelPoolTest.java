@@ -62,6 +62,7 @@ public class HandlerRemovingChannelPoolTest {
         RequestContext requestContext = new RequestContext(channelPool,
                                                            nioEventLoopGroup,
                                                            AsyncExecuteRequest.builder().responseHandler(responseHandler).build(),
+                                                           null,
                                                            null);
 
         mockChannel.attr(IN_USE).set(true);
@@ -11,10 +11,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
+import software.amazon.awssdk.http.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.utils.AttributeMap;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
@@ -32,16 +37,21 @@ public class NettyRequestExecutorTest {
 
     private RequestContext requestContext;
 
+    private ConnectionPoolMetricsCollector poolMetrics;
+
     @Before
     public void setup() {
         mockChannelPool = mock(ChannelPool.class);
 
         eventLoopGroup = new NioEventLoopGroup();
 
+        poolMetrics = new ConnectionPoolMetricsCollector();
+
         requestContext = new RequestContext(mockChannelPool,
                                             eventLoopGroup,
                                             AsyncExecuteRequest.builder().build(),
-                                            new NettyConfiguration(AttributeMap.empty()));
+                                            new NettyConfiguration(AttributeMap.empty()),
+                                            poolMetrics);
         nettyRequestExecutor = new NettyRequestExecutor(requestContext);
     }
 
@@ -83,4 +93,55 @@ public class NettyRequestExecutorTest {
 
         verify(mockEventLoop).submit(any(Runnable.class));
     }
+
+    @Test
+    public void channelAcquired_acquireTimeIsRecordedAndReportedToListener() throws Exception {
+        AtomicLong nanoTime = new AtomicLong(0);
+        CompletableFuture<Duration> reportedAcquireDuration = new CompletableFuture<>();
+        RequestContext context = new RequestContext(mockChannelPool,
+                                                    eventLoopGroup,
+                                                    AsyncExecuteRequest.builder()
+                                                                       .connectionAcquireListener(
+                                                                           reportedAcquireDuration::complete)
+                                                                       .build(),
+                                                    new NettyConfiguration(AttributeMap.empty()),
+                                                    poolMetrics);
+        ArgumentCaptor<Promise> acquireCaptor = ArgumentCaptor.forClass(Promise.class);
+        when(mockChannelPool.acquire(acquireCaptor.capture())).thenAnswer((Answer<Promise>) invocationOnMock -> {
+            return invocationOnMock.getArgumentAt(0, Promise.class);
+        });
+
+        new NettyRequestExecutor(context, nanoTime::get).execute();
+        Promise<Channel> acquirePromise = acquireCaptor.getValue();
+        // Listeners are notified in the order they were added, so this one runs after the acquire time is recorded
+        CompletableFuture<Void> listenersNotified = new CompletableFuture<>();
+        acquirePromise.addListener(f -> listenersNotified.complete(null));
+
+        nanoTime.addAndGet(Duration.ofMillis(50).toNanos());
+        acquirePromise.setSuccess(mock(Channel.class));
+        listenersNotified.get(5, TimeUnit.SECONDS);
+
+        ConnectionPoolMetrics metrics = poolMetrics.metrics().build();
+        assertThat(metrics.connectionAcquires()).isEqualTo(1);
+        assertThat(metrics.totalConnectionAcquireTime()).isEqualTo(Duration.ofMillis(50));
+        assertThat(reportedAcquireDuration.getNow(null)).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void channelAcquireFails_acquireTimeIsNotRecorded() throws Exception {
+        ArgumentCaptor<Promise> acquireCaptor = ArgumentCaptor.forClass(Promise.class);
+        when(mockChannelPool.acquire(acquireCaptor.capture())).thenAnswer((Answer<Promise>) invocationOnMock -> {
+            return invocationOnMock.getArgumentAt(0, Promise.class);
+        });
+
+        nettyRequestExecutor.execute();
+        Promise<Channel> acquirePromise = acquireCaptor.getValue();
+        CompletableFuture<Void> listenersNotified = new CompletableFuture<>();
+        acquirePromise.addListener(f -> listenersNotified.complete(null));
+
+        acquirePromise.setFailure(new IllegalStateException("Pool is closed"));
+        listenersNotified.get(5, TimeUnit.SECONDS);
+
+        assertThat(poolMetrics.metrics().build().connectionAcquires()).isEqualTo(0);
+    }
 }
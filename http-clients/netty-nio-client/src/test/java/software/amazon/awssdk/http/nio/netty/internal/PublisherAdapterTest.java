@@ -27,8 +27,10 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 
 import com.typesafe.netty.http.DefaultStreamedHttpResponse;
 import com.typesafe.netty.http.StreamedHttpResponse;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
@@ -43,6 +45,9 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.AttributeKey;
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -88,6 +93,7 @@ public class PublisherAdapterTest {
         requestContext = new RequestContext(channelPool,
                                             eventLoopGroup,
                                             AsyncExecuteRequest.builder().responseHandler(responseHandler).build(),
+                                            null,
                                             null);
 
         channel = new MockChannel();
@@ -159,7 +165,44 @@ public class PublisherAdapterTest {
         verify(responseHandler).onError(exception);
     }
 
-    static final class TestSubscriber implements Subscriber<ByteBuffer> {
+    @Test
+    public void zeroCopyContent_publishesReadOnlyViewAndReleasesAfterOnNext() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        Flowable<HttpContent> testPublisher = Flowable.just(new DefaultHttpContent(content));
+
+        StreamedHttpResponse streamedHttpResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                    HttpResponseStatus.ACCEPTED,
+                                                                                    testPublisher);
+
+        ResponseHandler.PublisherAdapter publisherAdapter = new ResponseHandler.PublisherAdapter(streamedHttpResponse,
+                                                                                                 ctx,
+                                                                                                 requestContext,
+                                                                                                 executeFuture,
+                                                                                                 true);
+        List<String> received = new ArrayList<>();
+        List<Integer> refCntsDuringOnNext = new ArrayList<>();
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                assertThat(byteBuffer.isReadOnly()).isTrue();
+                refCntsDuringOnNext.add(content.refCnt());
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                received.add(new String(bytes, StandardCharsets.UTF_8));
+                super.onNext(byteBuffer);
+            }
+        };
+
+        publisherAdapter.subscribe(subscriber);
+
+        assertThat(received).containsExactly("hello");
+        assertThat(refCntsDuringOnNext).containsExactly(1);
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isEqualTo(true);
+        verify(channelPool).release(channel);
+    }
+
+    static class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
         private boolean isCompleted = false;
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
@@ -29,6 +30,7 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
@@ -68,7 +70,7 @@ public class Http2MultiplexedChannelPoolTest {
                                                                            channel,
                                                                            8,
                                                                            (ch, rec) -> {});
-            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, Collections.singletonList(record));
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 1, Integer.MAX_VALUE, Collections.singletonList(record));
 
             h2Pool.close();
 
@@ -84,13 +86,94 @@ public class Http2MultiplexedChannelPoolTest {
     public void acquireAfterCloseFails() throws InterruptedException {
         ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
 
-        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, Collections.emptyList());
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 1, Integer.MAX_VALUE, Collections.emptyList());
 
         h2Pool.close();
 
         assertThat(h2Pool.acquire().await().isSuccess()).isFalse();
     }
 
+    @Test
+    public void acquireDropsConnectionThatIsNoLongerActive() throws InterruptedException {
+        SocketChannel channel = new NioSocketChannel();
+        try {
+            // Registered but never connected, so the channel is not active
+            loopGroup.register(channel).awaitUninterruptibly();
+            Promise<Channel> channelPromise = new DefaultPromise<>(loopGroup.next());
+            channelPromise.setSuccess(channel);
+
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Promise<Channel> newConnectionPromise = new DefaultPromise<>(loopGroup.next());
+            newConnectionPromise.setFailure(new RuntimeException("Connection refused"));
+            Mockito.when(connectionPool.acquire()).thenReturn(newConnectionPromise);
+
+            MultiplexedChannelRecord record = new MultiplexedChannelRecord(channelPromise,
+                                                                           channel,
+                                                                           8,
+                                                                           (ch, rec) -> {});
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 1, Integer.MAX_VALUE, Collections.singletonList(record));
+
+            // No stream may be assigned to the dead connection, so a new connection is attempted instead
+            assertThat(h2Pool.acquire().await().cause()).hasMessage("Connection refused");
+            Mockito.verify(connectionPool).release(channel);
+            Mockito.verify(connectionPool).acquire();
+        } finally {
+            channel.close().awaitUninterruptibly();
+        }
+    }
+
+    @Test
+    public void acquireAssignsStreamsToLeastLoadedConnection() throws InterruptedException {
+        ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+        MultiplexedChannelRecord busy = pendingConnection(8);
+        MultiplexedChannelRecord idle = pendingConnection(8);
+        for (int i = 0; i < 6; i++) {
+            busy.acquire(new DefaultPromise<>(loopGroup.next()));
+        }
+
+        EventLoop eventLoop = loopGroup.next();
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, eventLoop, 8, 1,
+                                                                             Integer.MAX_VALUE, Arrays.asList(busy, idle));
+        for (int i = 0; i < 4; i++) {
+            h2Pool.acquire();
+        }
+        awaitEventLoop(eventLoop);
+
+        assertThat(busy.availableStreams()).isEqualTo(2);
+        assertThat(idle.availableStreams()).isEqualTo(4);
+        Mockito.verify(connectionPool, Mockito.never()).acquire();
+    }
+
+    @Test
+    public void acquireOpensNewConnectionUntilMinConnectionsAreOpen() throws InterruptedException {
+        ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+        Mockito.when(connectionPool.acquire()).thenReturn(new DefaultPromise<>(loopGroup.next()));
+        MultiplexedChannelRecord existing = pendingConnection(8);
+
+        EventLoop eventLoop = loopGroup.next();
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, eventLoop, 8, 2,
+                                                                             Integer.MAX_VALUE, Collections.singletonList(existing));
+        h2Pool.acquire();
+        h2Pool.acquire();
+        awaitEventLoop(eventLoop);
+
+        Mockito.verify(connectionPool, Mockito.times(1)).acquire();
+        assertThat(existing.availableStreams()).isEqualTo(7);
+    }
+
+    @Test
+    public void acquireDoesNotOpenMoreThanMaxConnections() throws InterruptedException {
+        ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+        MultiplexedChannelRecord existing = pendingConnection(1);
+
+        Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 1, 1, 1,
+                                                                             Collections.singletonList(existing));
+        h2Pool.acquire();
+
+        assertThat(h2Pool.acquire().await().cause()).isInstanceOf(IllegalStateException.class);
+        Mockito.verify(connectionPool, Mockito.never()).acquire();
+    }
+
     @Test(timeout = 5_000)
     public void interruptDuringClosePreservesFlag() throws InterruptedException {
         SocketChannel channel = new NioSocketChannel();
@@ -109,7 +192,7 @@ public class Http2MultiplexedChannelPoolTest {
                     8,
                     (ch, rec) -> {
                     });
-            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, Collections.singletonList(record));
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup.next(), 2, 1, Integer.MAX_VALUE, Collections.singletonList(record));
 
             CompletableFuture<Boolean> interrupteFlagPreserved = new CompletableFuture<>();
 
@@ -131,4 +214,16 @@ public class Http2MultiplexedChannelPoolTest {
             channel.close().awaitUninterruptibly();
         }
     }
+
+    /**
+     * A connection that is still being established, so streams acquired on it are counted but never opened.
+     */
+    private static MultiplexedChannelRecord pendingConnection(long maxStreams) {
+        return new MultiplexedChannelRecord(new DefaultPromise<>(loopGroup.next()), null, maxStreams, (ch, rec) -> {});
+    }
+
+    private static void awaitEventLoop(EventLoop eventLoop) throws InterruptedException {
+        // Acquires are run on the pool's event loop in order, so once a later task has run the acquires have too
+        eventLoop.submit(() -> { }).await();
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Http2PingHandler}.
+ */
+public class Http2PingHandlerTest {
+    private static final int PING_PERIOD_MILLIS = 20;
+
+    private final List<Throwable> exceptions = new ArrayList<>();
+
+    @Test
+    public void acknowledgedPings_keepConnectionOpen() throws InterruptedException {
+        EmbeddedChannel channel = channel(new Http2PingHandler(PING_PERIOD_MILLIS, 50));
+
+        // Spans several timeouts, so the connection would have been failed if the acknowledgements were not honoured
+        for (int i = 0; i < 10; i++) {
+            Http2PingFrame ping = awaitPing(channel);
+            assertThat(ping.ack()).isFalse();
+            channel.writeInbound(new DefaultHttp2PingFrame(ping.content(), true));
+        }
+
+        assertThat(channel.isOpen()).isTrue();
+        assertThat(exceptions).isEmpty();
+    }
+
+    @Test
+    public void unacknowledgedPing_failsAndClosesConnection() throws InterruptedException {
+        EmbeddedChannel channel = channel(new Http2PingHandler(PING_PERIOD_MILLIS, 50));
+
+        awaitPing(channel);
+        Thread.sleep(100);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(exceptions).hasSize(1);
+        assertThat(exceptions.get(0)).isInstanceOf(PingFailedException.class);
+    }
+
+    @Test
+    public void acknowledgementOfOtherPing_doesNotCountAsAcknowledgement() throws InterruptedException {
+        EmbeddedChannel channel = channel(new Http2PingHandler(PING_PERIOD_MILLIS, 50));
+
+        Http2PingFrame ping = awaitPing(channel);
+        channel.writeInbound(new DefaultHttp2PingFrame(ping.content() + 1, true));
+        Thread.sleep(100);
+        channel.runScheduledPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void closedConnection_stopsSendingPings() throws InterruptedException {
+        EmbeddedChannel channel = channel(new Http2PingHandler(PING_PERIOD_MILLIS, 50));
+        channel.close();
+
+        Thread.sleep(100);
+        channel.runScheduledPendingTasks();
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(exceptions).isEmpty();
+    }
+
+    private EmbeddedChannel channel(Http2PingHandler handler) {
+        return new EmbeddedChannel(handler, new ChannelInboundHandlerAdapter() {
+            @Override
+            public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                exceptions.add(cause);
+            }
+        });
+    }
+
+    private static Http2PingFrame awaitPing(EmbeddedChannel channel) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Thread.sleep(PING_PERIOD_MILLIS);
+            channel.runScheduledPendingTasks();
+            Object frame = channel.readOutbound();
+            if (frame != null) {
+                return (Http2PingFrame) frame;
+            }
+        }
+        throw new AssertionError("No PING was sent");
+    }
+}
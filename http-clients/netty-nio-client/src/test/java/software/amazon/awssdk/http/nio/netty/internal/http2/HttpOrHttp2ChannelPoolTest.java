@@ -29,6 +29,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.http.ConnectionPoolMetricsCollector;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -74,7 +75,8 @@ public class HttpOrHttp2ChannelPoolTest {
                                                             new NettyConfiguration(AttributeMap.builder()
                                                                     .put(CONNECTION_ACQUIRE_TIMEOUT, Duration.ofSeconds(1))
                                                                     .put(MAX_PENDING_CONNECTION_ACQUIRES, 5)
-                                                                    .build()));
+                                                                    .build()),
+                                                            new ConnectionPoolMetricsCollector());
     }
 
     @Test
@@ -20,6 +20,7 @@ import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.ServiceConfiguration;
+import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.services.s3.model.PutBucketAccelerateConfigurationRequest;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -60,6 +61,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
     private final boolean dualstackEnabled;
     private final boolean checksumValidationEnabled;
     private final boolean chunkedEncodingEnabled;
+    private final Algorithm trailingChecksumAlgorithm;
 
     private S3Configuration(DefaultS3ServiceConfigurationBuilder builder) {
         this.dualstackEnabled = resolveBoolean(builder.dualstackEnabled, DEFAULT_DUALSTACK_ENABLED);
@@ -70,6 +72,10 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
             throw new IllegalArgumentException("Accelerate mode cannot be used with path style addressing");
         }
         this.chunkedEncodingEnabled = resolveBoolean(builder.chunkedEncodingEnabled, DEFAULT_CHUNKED_ENCODING_ENABLED);
+        this.trailingChecksumAlgorithm = builder.trailingChecksumAlgorithm;
+        if (trailingChecksumAlgorithm == Algorithm.MD5) {
+            throw new IllegalArgumentException("MD5 cannot be used as the trailing checksum algorithm");
+        }
     }
 
     /**
@@ -153,6 +159,20 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         return chunkedEncodingEnabled;
     }
 
+    /**
+     * Returns the algorithm of the checksum the client sends in a trailer after the unsigned payload of an upload, if any.
+     * <p>
+     * This option only currently applies to {@link
+     * software.amazon.awssdk.services.s3.model.PutObjectRequest} and {@link
+     * software.amazon.awssdk.services.s3.model.UploadPartRequest} made with the asynchronous client, with a request body of a
+     * known length, when the payload is not signed.
+     *
+     * @return The algorithm of the trailing checksum, or null if no trailing checksum is sent.
+     */
+    public Algorithm trailingChecksumAlgorithm() {
+        return trailingChecksumAlgorithm;
+    }
+
     private boolean resolveBoolean(Boolean customerSuppliedValue, boolean defaultValue) {
         return customerSuppliedValue == null ? defaultValue : customerSuppliedValue;
     }
@@ -162,7 +182,8 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         return builder()
                 .dualstackEnabled(dualstackEnabled)
                 .accelerateModeEnabled(accelerateModeEnabled)
-                .pathStyleAccessEnabled(pathStyleAccessEnabled);
+                .pathStyleAccessEnabled(pathStyleAccessEnabled)
+                .trailingChecksumAlgorithm(trailingChecksumAlgorithm);
     }
 
     @NotThreadSafe
@@ -226,6 +247,22 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
          * @see S3Configuration#chunkedEncodingEnabled()
          */
         Builder chunkedEncodingEnabled(Boolean chunkedEncodingEnabled);
+
+        /**
+         * Option to send a checksum of the payload, calculated with the given algorithm as the payload is streamed, in a
+         * trailer after the payload of {@link
+         * software.amazon.awssdk.services.s3.model.PutObjectRequest} and {@link
+         * software.amazon.awssdk.services.s3.model.UploadPartRequest} when it is not signed. The payload is then sent in
+         * aws-chunked encoding.
+         *
+         * <p>
+         * No trailing checksum is sent by default. CRC32C, CRC32 and SHA256 can be used; building the configuration with MD5
+         * fails with an {@link IllegalArgumentException}.
+         * </p>
+         *
+         * @see S3Configuration#trailingChecksumAlgorithm()
+         */
+        Builder trailingChecksumAlgorithm(Algorithm trailingChecksumAlgorithm);
     }
 
     private static final class DefaultS3ServiceConfigurationBuilder implements Builder {
@@ -235,6 +272,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         private Boolean pathStyleAccessEnabled;
         private Boolean checksumValidationEnabled;
         private Boolean chunkedEncodingEnabled;
+        private Algorithm trailingChecksumAlgorithm;
 
         public Builder dualstackEnabled(Boolean dualstackEnabled) {
             this.dualstackEnabled = dualstackEnabled;
@@ -281,6 +319,15 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
             chunkedEncodingEnabled(chunkedEncodingEnabled);
         }
 
+        public Builder trailingChecksumAlgorithm(Algorithm trailingChecksumAlgorithm) {
+            this.trailingChecksumAlgorithm = trailingChecksumAlgorithm;
+            return this;
+        }
+
+        public void setTrailingChecksumAlgorithm(Algorithm trailingChecksumAlgorithm) {
+            trailingChecksumAlgorithm(trailingChecksumAlgorithm);
+        }
+
         public S3Configuration build() {
             return new S3Configuration(this);
         }
@@ -22,7 +22,6 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 @SdkInternalApi
 public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
@@ -63,8 +62,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
-            checksum.update(buf, 0, buf.length);
+            checksum.update(byteBuffer.duplicate());
             wrapped.onNext(byteBuffer);
         }
 
@@ -78,16 +78,21 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
+            int bufferLength = byteBuffer.remaining();
 
             if (lengthRead < strippedLength) {
-                int toUpdate = (int) Math.min(strippedLength - lengthRead, buf.length);
+                int toUpdate = (int) Math.min(strippedLength - lengthRead, bufferLength);
 
-                sdkChecksum.update(buf, 0, toUpdate);
+                ByteBuffer data = byteBuffer.duplicate();
+                data.limit(data.position() + toUpdate);
+                sdkChecksum.update(data);
             }
-            lengthRead += buf.length;
+            lengthRead += bufferLength;
 
             if (lengthRead >= strippedLength) {
+                // Only the buffers holding some of the checksum are copied
+                byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
+
                 // Incoming buffer contains at least a bit of the checksum
                 // Code below covers both cases of the incoming buffer relative to checksum border
                 // a) buffer starts before checksum border and extends into checksum
@@ -27,7 +27,8 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 /**
- * Interceptor to enable chunked encoding on specific upload operations if the option does not already have a value.
+ * Interceptor to enable chunked encoding on specific upload operations if the option does not already have a value, and to
+ * set the algorithm of the trailing checksum of their unsigned payloads if one is configured.
  * <p>
  * This affects the following requests:
  * <ul>
@@ -54,6 +55,11 @@ public final class EnableChunkedEncodingInterceptor implements ExecutionIntercep
             }
 
             executionAttributes.putAttributeIfAbsent(S3SignerExecutionAttribute.ENABLE_CHUNKED_ENCODING, enableChunkedEncoding);
+
+            if (serviceConfiguration != null && serviceConfiguration.trailingChecksumAlgorithm() != null) {
+                executionAttributes.putAttributeIfAbsent(S3SignerExecutionAttribute.TRAILING_CHECKSUM_ALGORITHM,
+                                                         serviceConfiguration.trailingChecksumAlgorithm());
+            }
         }
 
         return sdkRequest;
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.transfer.DirectoryTransferResult;
+import software.amazon.awssdk.services.s3.transfer.DownloadDirectoryRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Downloads the objects under a prefix of a bucket to a directory tree. The objects are listed one page at a time as they are
+ * downloaded, so that the next page is only requested once the objects of the previous one have been started. An object
+ * that fits in a single part is downloaded with a single GetObject request; larger objects are downloaded with concurrent
+ * byte-range GETs.
+ */
+@SdkInternalApi
+public final class DirectoryDownloader {
+    private final S3AsyncClient s3;
+    private final MultipartDownloader multipartDownloader;
+    private final long multipartThresholdInBytes;
+    private final int maxConcurrentTransfers;
+    private final long maxInFlightBytes;
+
+    public DirectoryDownloader(S3AsyncClient s3, MultipartDownloader multipartDownloader, long multipartThresholdInBytes,
+                               int maxConcurrentTransfers, long maxInFlightBytes) {
+        this.s3 = s3;
+        this.multipartDownloader = multipartDownloader;
+        this.multipartThresholdInBytes = multipartThresholdInBytes;
+        this.maxConcurrentTransfers = maxConcurrentTransfers;
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    public CompletableFuture<DirectoryTransferResult> download(DownloadDirectoryRequest request) {
+        String prefix = DirectoryTransfer.directoryPrefix(request.prefix());
+        Path destinationDirectory = request.destinationDirectory().toAbsolutePath().normalize();
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder().bucket(request.bucket()).prefix(prefix).build();
+
+        SdkPublisher<DirectoryTransfer.FileTransfer> fileTransfers =
+            s3.listObjectsV2Paginator(listRequest)
+              .contents()
+              .filter(o -> !o.key().endsWith("/"))
+              .map(o -> fileTransfer(request.bucket(), o, destinationDirectory, o.key().substring(prefix.length())));
+
+        return new DirectoryTransfer(maxConcurrentTransfers, maxInFlightBytes, request.progressListener())
+            .transfer(fileTransfers);
+    }
+
+    private DirectoryTransfer.FileTransfer fileTransfer(String bucket, S3Object object, Path destinationDirectory,
+                                                        String relativeKey) {
+        String key = object.key();
+        long size = object.size() != null ? object.size() : 0;
+        Path destination = destination(destinationDirectory, relativeKey);
+        if (destination == null) {
+            SdkClientException failure = SdkClientException.create("The object " + key + " can't be downloaded to a file in "
+                                                                   + destinationDirectory);
+            return new DirectoryTransfer.FileTransfer(key, size, () -> CompletableFutureUtils.failedFuture(failure));
+        }
+        return new DirectoryTransfer.FileTransfer(key, size, () -> download(bucket, key, size, destination));
+    }
+
+    /**
+     * Resolve each '/'-separated element of the key as a name in the destination directory, or return null if the key would
+     * resolve to a file outside of it, such as a key with ".." elements.
+     */
+    private static Path destination(Path destinationDirectory, String relativeKey) {
+        Path destination = destinationDirectory;
+        for (String name : relativeKey.split("/")) {
+            destination = destination.resolve(name);
+        }
+        destination = destination.normalize();
+        return destination.startsWith(destinationDirectory) && !destination.equals(destinationDirectory) ? destination : null;
+    }
+
+    private CompletableFuture<?> download(String bucket, String key, long size, Path destination) {
+        try {
+            Files.createDirectories(destination.getParent());
+        } catch (IOException e) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("Unable to create the directory " + destination.getParent(), e));
+        }
+
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(key).build();
+        if (size > multipartThresholdInBytes) {
+            return multipartDownloader.download(request, destination);
+        }
+        return s3.getObject(request, destination);
+    }
+}
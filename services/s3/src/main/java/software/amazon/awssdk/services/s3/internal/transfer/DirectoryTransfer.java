@@ -0,0 +1,280 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.transfer.DirectoryTransferProgress;
+import software.amazon.awssdk.services.s3.transfer.DirectoryTransferResult;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Transfers the files published by a lazy source, such as a file tree walk or an object listing, as they are published. The
+ * next file is only requested from the source once there is room to start transferring it, so that listing is pipelined
+ * with the transfers without ever holding more than one file that is not being transferred.
+ * <p>
+ * The transfers in flight are bounded both in number and in total size. Each file counts for its size, up to the in-flight
+ * byte limit, against that limit, so that a file that is large enough to be transferred in parts, which takes up to the
+ * whole limit on its own, is transferred alone. A file that fails is recorded in the result and does not stop the others.
+ */
+@SdkInternalApi
+final class DirectoryTransfer implements Subscriber<DirectoryTransfer.FileTransfer> {
+    private static final Logger log = Logger.loggerFor(DirectoryTransfer.class);
+
+    private final int maxConcurrentTransfers;
+    private final long maxInFlightBytes;
+    private final Consumer<DirectoryTransferProgress> progressListener;
+    private final CompletableFuture<DirectoryTransferResult> result = new CompletableFuture<>();
+
+    private volatile Subscription subscription;
+
+    // Guarded by this
+    private final Set<CompletableFuture<?>> inFlightTransfers = new HashSet<>();
+    private final Map<String, Throwable> failedTransfers = new LinkedHashMap<>();
+    private FileTransfer pending;
+    private int outstandingTransfers;
+    private long inFlightBytes;
+    private long filesTransferred;
+    private long bytesTransferred;
+    private boolean demanded;
+    private boolean sourceComplete;
+    private Throwable sourceFailure;
+    private boolean finished;
+
+    DirectoryTransfer(int maxConcurrentTransfers, long maxInFlightBytes,
+                      Consumer<DirectoryTransferProgress> progressListener) {
+        this.maxConcurrentTransfers = maxConcurrentTransfers;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.progressListener = progressListener;
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                cancel();
+            }
+        });
+    }
+
+    /**
+     * Subscribe to the source and transfer every file it publishes.
+     *
+     * @return A future that completes once all the files have been transferred or have failed, and which cancels the
+     * transfers in flight when it is cancelled.
+     */
+    CompletableFuture<DirectoryTransferResult> transfer(Publisher<FileTransfer> source) {
+        source.subscribe(this);
+        return result;
+    }
+
+    /**
+     * Make a prefix that is not empty end with '/', so that it matches a directory rather than any key starting with it.
+     */
+    static String directoryPrefix(String prefix) {
+        return prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription != null || result.isDone()) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        drain();
+    }
+
+    @Override
+    public void onNext(FileTransfer fileTransfer) {
+        synchronized (this) {
+            pending = fileTransfer;
+            demanded = false;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        synchronized (this) {
+            sourceFailure = t;
+            sourceComplete = true;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            sourceComplete = true;
+        }
+        drain();
+    }
+
+    /**
+     * Start the pending file if there is room for it, request the next one if there is room for another, and finish the
+     * transfer once the source is exhausted and nothing is in flight.
+     */
+    private void drain() {
+        List<FileTransfer> toStart = new ArrayList<>();
+        boolean request = false;
+        boolean finish = false;
+        synchronized (this) {
+            if (result.isDone()) {
+                return;
+            }
+
+            while (pending != null && sourceFailure == null && hasCapacity(pending)) {
+                inFlightBytes += weight(pending);
+                outstandingTransfers++;
+                toStart.add(pending);
+                pending = null;
+            }
+
+            if (pending == null && !sourceComplete && !demanded && outstandingTransfers < maxConcurrentTransfers) {
+                demanded = true;
+                request = true;
+            }
+
+            if (!finished && sourceComplete && (pending == null || sourceFailure != null) && outstandingTransfers == 0) {
+                finished = true;
+                finish = true;
+            }
+        }
+
+        toStart.forEach(this::start);
+        if (request) {
+            subscription.request(1);
+        }
+        if (finish) {
+            finish();
+        }
+    }
+
+    private boolean hasCapacity(FileTransfer fileTransfer) {
+        return outstandingTransfers < maxConcurrentTransfers
+               && (inFlightBytes == 0 || inFlightBytes + weight(fileTransfer) <= maxInFlightBytes);
+    }
+
+    private long weight(FileTransfer fileTransfer) {
+        return Math.min(fileTransfer.sizeInBytes, maxInFlightBytes);
+    }
+
+    private void start(FileTransfer fileTransfer) {
+        CompletableFuture<?> transfer;
+        try {
+            transfer = fileTransfer.transfer.get();
+        } catch (RuntimeException e) {
+            transfer = CompletableFutureUtils.failedFuture(e);
+        }
+
+        synchronized (this) {
+            inFlightTransfers.add(transfer);
+        }
+        if (result.isCancelled()) {
+            transfer.cancel(true);
+        }
+
+        CompletableFuture<?> startedTransfer = transfer;
+        transfer.whenComplete((r, t) -> transferCompleted(fileTransfer, startedTransfer, t));
+    }
+
+    private void transferCompleted(FileTransfer fileTransfer, CompletableFuture<?> transfer, Throwable t) {
+        DirectoryTransferProgress progress;
+        synchronized (this) {
+            inFlightTransfers.remove(transfer);
+            outstandingTransfers--;
+            inFlightBytes -= weight(fileTransfer);
+            if (t == null) {
+                filesTransferred++;
+                bytesTransferred += fileTransfer.sizeInBytes;
+            } else {
+                failedTransfers.put(fileTransfer.key, t instanceof CompletionException && t.getCause() != null ? t.getCause()
+                                                                                                              : t);
+            }
+            progress = DirectoryTransferProgress.create(filesTransferred, bytesTransferred, failedTransfers.size());
+        }
+
+        if (t != null) {
+            log.debug(() -> "Unable to transfer " + fileTransfer.key, t);
+        }
+        if (progressListener != null && !result.isDone()) {
+            try {
+                progressListener.accept(progress);
+            } catch (RuntimeException e) {
+                log.warn(() -> "The progress listener of a directory transfer failed.", e);
+            }
+        }
+        drain();
+    }
+
+    private void cancel() {
+        List<CompletableFuture<?>> transfers;
+        synchronized (this) {
+            transfers = new ArrayList<>(inFlightTransfers);
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        transfers.forEach(t -> t.cancel(true));
+    }
+
+    private void finish() {
+        DirectoryTransferResult transferResult;
+        Throwable failure;
+        synchronized (this) {
+            transferResult = DirectoryTransferResult.create(filesTransferred, bytesTransferred, failedTransfers);
+            failure = sourceFailure;
+        }
+
+        if (failure == null) {
+            result.complete(transferResult);
+            return;
+        }
+        result.completeExceptionally(SdkClientException.create("Unable to list the files to transfer after transferring "
+                                                               + transferResult.filesTransferred() + " of them.", failure));
+    }
+
+    /**
+     * A file of a directory transfer, which is only transferred once it is started.
+     */
+    static final class FileTransfer {
+        private final String key;
+        private final long sizeInBytes;
+        private final Supplier<CompletableFuture<?>> transfer;
+
+        /**
+         * @param key The key of the object the file is transferred to or from, which identifies it in the result.
+         * @param sizeInBytes The size of the file.
+         * @param transfer Starts the transfer of the file.
+         */
+        FileTransfer(String key, long sizeInBytes, Supplier<CompletableFuture<?>> transfer) {
+            this.key = key;
+            this.sizeInBytes = sizeInBytes;
+            this.transfer = transfer;
+        }
+    }
+}
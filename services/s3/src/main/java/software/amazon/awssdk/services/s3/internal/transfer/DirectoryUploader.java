@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.transfer.DirectoryTransferResult;
+import software.amazon.awssdk.services.s3.transfer.UploadDirectoryRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Uploads the files of a directory tree to S3. The tree is walked lazily as files are uploaded, so that only the files in
+ * flight are held in memory however large the tree is. A file that fits in a single part is uploaded with a single PutObject
+ * request, streamed from disk; larger files are uploaded as multipart uploads.
+ */
+@SdkInternalApi
+public final class DirectoryUploader {
+    private final S3AsyncClient s3;
+    private final MultipartUploader multipartUploader;
+    private final long multipartThresholdInBytes;
+    private final int maxConcurrentTransfers;
+    private final long maxInFlightBytes;
+
+    public DirectoryUploader(S3AsyncClient s3, MultipartUploader multipartUploader, long multipartThresholdInBytes,
+                             int maxConcurrentTransfers, long maxInFlightBytes) {
+        this.s3 = s3;
+        this.multipartUploader = multipartUploader;
+        this.multipartThresholdInBytes = multipartThresholdInBytes;
+        this.maxConcurrentTransfers = maxConcurrentTransfers;
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    public CompletableFuture<DirectoryTransferResult> upload(UploadDirectoryRequest request) {
+        Path sourceDirectory = request.sourceDirectory();
+        Stream<Path> files;
+        try {
+            files = Files.walk(sourceDirectory);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(SdkClientException.create("Unable to walk " + sourceDirectory, e));
+        }
+
+        String prefix = DirectoryTransfer.directoryPrefix(request.prefix());
+        SdkPublisher<DirectoryTransfer.FileTransfer> fileTransfers =
+            new StreamPublisher<>(files.filter(Files::isRegularFile))
+                .map(file -> fileTransfer(request.bucket(), key(prefix, sourceDirectory.relativize(file)), file));
+
+        return new DirectoryTransfer(maxConcurrentTransfers, maxInFlightBytes, request.progressListener())
+            .transfer(fileTransfers);
+    }
+
+    /**
+     * Join the name elements of the relative path with '/', whatever the separator of the file system.
+     */
+    private static String key(String prefix, Path relativePath) {
+        StringBuilder key = new StringBuilder(prefix);
+        for (Path name : relativePath) {
+            if (key.length() > prefix.length()) {
+                key.append('/');
+            }
+            key.append(name);
+        }
+        return key.toString();
+    }
+
+    private DirectoryTransfer.FileTransfer fileTransfer(String bucket, String key, Path file) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            SdkClientException failure = SdkClientException.create("Unable to read the size of " + file, e);
+            return new DirectoryTransfer.FileTransfer(key, 0, () -> CompletableFutureUtils.failedFuture(failure));
+        }
+        return new DirectoryTransfer.FileTransfer(key, size, () -> upload(bucket, key, file, size));
+    }
+
+    private CompletableFuture<?> upload(String bucket, String key, Path file, long size) {
+        if (size > multipartThresholdInBytes) {
+            CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build();
+            return multipartUploader.upload(request, AsyncRequestBody.fromFile(file));
+        }
+        return s3.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), AsyncRequestBody.fromFile(file));
+    }
+}
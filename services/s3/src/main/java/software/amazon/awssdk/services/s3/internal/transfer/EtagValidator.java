@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ServerSideEncryption;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Checks a downloaded file against the ETag of the object it was downloaded from.
+ *
+ * <p>The ETag of an object that was uploaded in a single request and is not encrypted with SSE-KMS or SSE-C is the MD5 digest
+ * of its content. S3 does not return a checksum for a byte range, so the ranges of such an object are validated together once
+ * they have all been written, by reading the file back. The ETag of any other object, such as one uploaded in multiple parts,
+ * is not a digest of its content and the file can not be validated.
+ */
+@SdkInternalApi
+final class EtagValidator {
+    private static final Pattern MD5_ETAG = Pattern.compile("[0-9a-f]{32}");
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    private EtagValidator() {
+    }
+
+    /**
+     * @return True if the ETag of the object is the MD5 digest of its content.
+     */
+    static boolean canValidate(HeadObjectResponse head) {
+        return head.eTag() != null
+               && MD5_ETAG.matcher(unquote(head.eTag())).matches()
+               && head.serverSideEncryption() != ServerSideEncryption.AWS_KMS
+               && head.sseCustomerAlgorithm() == null;
+    }
+
+    /**
+     * Compute the MD5 digest of the first {@code size} bytes of a file and compare it to an ETag. The returned future
+     * completes with false if the file does not match. Cancelling it stops reading the file.
+     *
+     * @param fileChannel A channel of the file that was opened for reading.
+     * @param size The number of bytes of the object.
+     * @param eTag The ETag of the object, for which {@link #canValidate(HeadObjectResponse)} returned true.
+     */
+    static CompletableFuture<Boolean> validate(AsynchronousFileChannel fileChannel, long size, String eTag) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            result.completeExceptionally(SdkClientException.create("Unable to validate the downloaded object.", e));
+            return result;
+        }
+
+        new Reader(fileChannel, size, digest, unquote(eTag), result).read(0);
+        return result;
+    }
+
+    private static String unquote(String eTag) {
+        String unquoted = eTag.startsWith("\"") && eTag.endsWith("\"") && eTag.length() > 1
+                          ? eTag.substring(1, eTag.length() - 1)
+                          : eTag;
+        return unquoted.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Reads the file one buffer at a time, so that a large file is digested without blocking a thread on the reads.
+     */
+    private static final class Reader implements CompletionHandler<Integer, Long> {
+        private final AsynchronousFileChannel fileChannel;
+        private final long size;
+        private final MessageDigest digest;
+        private final String expectedDigest;
+        private final CompletableFuture<Boolean> result;
+        private final ByteBuffer buffer;
+
+        private Reader(AsynchronousFileChannel fileChannel, long size, MessageDigest digest, String expectedDigest,
+                       CompletableFuture<Boolean> result) {
+            this.fileChannel = fileChannel;
+            this.size = size;
+            this.digest = digest;
+            this.expectedDigest = expectedDigest;
+            this.result = result;
+            this.buffer = ByteBuffer.allocateDirect((int) Math.max(1, Math.min(READ_BUFFER_SIZE, size)));
+        }
+
+        private void read(long position) {
+            if (result.isDone()) {
+                return;
+            }
+            if (position == size) {
+                result.complete(BinaryUtils.toHex(digest.digest()).equals(expectedDigest));
+                return;
+            }
+
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), size - position));
+            fileChannel.read(buffer, position, position, this);
+        }
+
+        @Override
+        public void completed(Integer bytesRead, Long position) {
+            if (bytesRead < 0) {
+                result.completeExceptionally(SdkClientException.create("The downloaded file is shorter than the "
+                                                                       + size + " bytes of the object."));
+                return;
+            }
+            buffer.flip();
+            digest.update(buffer);
+            read(position + bytesRead);
+        }
+
+        @Override
+        public void failed(Throwable exc, Long position) {
+            result.completeExceptionally(SdkClientException.create("Unable to read the downloaded file.", exc));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * {@link AsyncResponseTransformer} that writes a range of an object into a file channel shared with the other ranges of the
+ * same download, starting at the offset of the range. Unlike {@link AsyncResponseTransformer#toFile(java.nio.file.Path)},
+ * the channel is neither created nor closed by this transformer, and the file is left in place on failure so that the
+ * ranges that were written can be kept.
+ *
+ * <p>Only a partial content (206) response is accepted, and no byte is written past the end of the range, so that a
+ * response for more than the range, such as the whole object from a server that ignored the range, cannot overwrite the
+ * neighbouring ranges.
+ *
+ * @param <ResponseT> Response POJO type.
+ */
+@SdkInternalApi
+public final class FileRangeAsyncResponseTransformer<ResponseT extends SdkResponse>
+    implements AsyncResponseTransformer<ResponseT, ResponseT> {
+    private static final int PARTIAL_CONTENT = 206;
+
+    private final AsynchronousFileChannel fileChannel;
+    private final long position;
+    private final long length;
+    private volatile CompletableFuture<Void> cf;
+    private volatile ResponseT response;
+
+    /**
+     * @param fileChannel The channel of the file the range is written to.
+     * @param position The offset of the range in the file.
+     * @param length The number of bytes of the range. A response with a different number of bytes fails the transfer.
+     */
+    public FileRangeAsyncResponseTransformer(AsynchronousFileChannel fileChannel, long position, long length) {
+        this.fileChannel = fileChannel;
+        this.position = position;
+        this.length = length;
+    }
+
+    @Override
+    public CompletableFuture<ResponseT> prepare() {
+        cf = new CompletableFuture<>();
+        return cf.thenApply(ignored -> response);
+    }
+
+    @Override
+    public void onResponse(ResponseT response) {
+        this.response = response;
+        int statusCode = response.sdkHttpResponse().statusCode();
+        if (statusCode != PARTIAL_CONTENT) {
+            cf.completeExceptionally(SdkClientException.create("Expected a partial content (206) response for a range of "
+                                                               + length + " bytes, but received status " + statusCode + "."));
+        }
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        // onStream may be called multiple times, every time starting over from the beginning of the range.
+        publisher.subscribe(new RangeSubscriber(cf));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable throwable) {
+        cf.completeExceptionally(throwable);
+    }
+
+    /**
+     * {@link Subscriber} implementation that writes chunks at consecutive positions of the file, one at a time.
+     */
+    private final class RangeSubscriber implements Subscriber<ByteBuffer> {
+        private final CompletableFuture<Void> future;
+
+        private long written;
+        private boolean writeInProgress;
+        private boolean completeOnLastWrite;
+        private Subscription subscription;
+
+        private RangeSubscriber(CompletableFuture<Void> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (this.subscription != null) {
+                s.cancel();
+                return;
+            }
+            this.subscription = s;
+            if (future.isDone()) {
+                // The response was rejected, or an earlier attempt already failed the range
+                s.cancel();
+                return;
+            }
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (byteBuffer == null) {
+                throw new NullPointerException("Element must not be null");
+            }
+
+            synchronized (this) {
+                if (written + byteBuffer.remaining() > length) {
+                    subscription.cancel();
+                    future.completeExceptionally(SdkClientException.create("Received more than the " + length
+                                                                           + " bytes of the range."));
+                    return;
+                }
+                writeInProgress = true;
+            }
+            performWrite(ownedBuffer(byteBuffer));
+        }
+
+        /**
+         * Chunks are written as they were received, as they are no longer used by the publisher once they are delivered.
+         * The exception are read-only chunks, which is how the Netty client lends out its pooled buffers when zero-copy
+         * response content is enabled. Those are released as soon as onNext returns, so they are copied into a direct
+         * buffer, which the file channel would otherwise have copied them into anyway.
+         */
+        private ByteBuffer ownedBuffer(ByteBuffer byteBuffer) {
+            if (!byteBuffer.isReadOnly()) {
+                return byteBuffer;
+            }
+            ByteBuffer copy = ByteBuffer.allocateDirect(byteBuffer.remaining());
+            copy.put(byteBuffer);
+            copy.flip();
+            return copy;
+        }
+
+        private void performWrite(ByteBuffer byteBuffer) {
+            fileChannel.write(byteBuffer, position + written, byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
+                @Override
+                public void completed(Integer result, ByteBuffer attachment) {
+                    boolean complete;
+                    synchronized (RangeSubscriber.this) {
+                        written += result;
+                        if (byteBuffer.hasRemaining()) {
+                            complete = false;
+                        } else {
+                            writeInProgress = false;
+                            complete = completeOnLastWrite;
+                        }
+                    }
+
+                    if (byteBuffer.hasRemaining()) {
+                        performWrite(byteBuffer);
+                    } else if (complete) {
+                        complete();
+                    } else {
+                        subscription.request(1);
+                    }
+                }
+
+                @Override
+                public void failed(Throwable exc, ByteBuffer attachment) {
+                    subscription.cancel();
+                    future.completeExceptionally(exc);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            future.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (writeInProgress) {
+                    completeOnLastWrite = true;
+                    return;
+                }
+            }
+            complete();
+        }
+
+        private synchronized void complete() {
+            if (written != length) {
+                // The connection was most likely closed early, so trying again may succeed.
+                future.completeExceptionally(RetryableException.create("Received " + written + " bytes of a range of "
+                                                                       + length + " bytes."));
+            } else {
+                future.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.transfer.IncompleteDownloadException;
+import software.amazon.awssdk.services.s3.transfer.ResumableDownload;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Downloads an object from S3 to a file with concurrent byte-range GETs. Every range is written at its offset in the file as
+ * it is received, so nothing but the chunks being written is held in memory.
+ * <p>
+ * The size and ETag of the object are read with a HEAD request first, and every range is requested only if the object still
+ * has that ETag, so that the parts of different versions of an object are never mixed in the file. Every range must be a
+ * partial content response of exactly the requested length. A range that fails with a retryable error is requested again on
+ * its own; if it still fails, the download fails with an {@link IncompleteDownloadException} once the ranges in flight have
+ * settled, recording the ranges that were written so that the download can be resumed.
+ * <p>
+ * S3 does not return a checksum for a range, so once every range has been written the file is checked against the ETag of
+ * the object where the ETag is the MD5 digest of the content (see {@link EtagValidator}). If it does not match, the download
+ * fails and none of its ranges are recorded as written, as there is no telling which of them is corrupt. Cancelling the
+ * returned future cancels the range requests in flight.
+ */
+@SdkInternalApi
+public final class MultipartDownloader {
+    private static final Logger log = Logger.loggerFor(MultipartDownloader.class);
+
+    private final S3AsyncClient s3;
+    private final long partSizeInBytes;
+    private final int maxConcurrentParts;
+    private final PartRetryCondition partRetryCondition;
+
+    public MultipartDownloader(S3AsyncClient s3, long partSizeInBytes, long maxInFlightBytes, int maxPartRetries) {
+        this.s3 = s3;
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxConcurrentParts = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxInFlightBytes / partSizeInBytes));
+        this.partRetryCondition = new PartRetryCondition(maxPartRetries);
+    }
+
+    public CompletableFuture<HeadObjectResponse> download(GetObjectRequest request, Path destination) {
+        CompletableFuture<HeadObjectResponse> result = new CompletableFuture<>();
+        s3.headObject(headObjectRequest(request)).whenComplete((head, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+                return;
+            }
+
+            GetObjectRequest pinnedRequest = request.toBuilder().ifMatch(head.eTag()).build();
+            ResumableDownload download = ResumableDownload.create(pinnedRequest, destination, head.contentLength(),
+                                                                  partSizeInBytes, Collections.emptySet());
+            new Transfer(download, head, result).start(StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                                       StandardOpenOption.CREATE_NEW);
+        });
+        return result;
+    }
+
+    public CompletableFuture<HeadObjectResponse> resume(ResumableDownload download) {
+        CompletableFuture<HeadObjectResponse> result = new CompletableFuture<>();
+        s3.headObject(headObjectRequest(download.getObjectRequest())).whenComplete((head, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+                return;
+            }
+            if (head.contentLength() != download.sizeInBytes()) {
+                result.completeExceptionally(SdkClientException.create("The size of the object changed from "
+                                                                       + download.sizeInBytes() + " to "
+                                                                       + head.contentLength() + " bytes."));
+                return;
+            }
+
+            new Transfer(download, head, result).start(StandardOpenOption.READ, StandardOpenOption.WRITE);
+        });
+        return result;
+    }
+
+    private static HeadObjectRequest headObjectRequest(GetObjectRequest request) {
+        return HeadObjectRequest.builder()
+                                .bucket(request.bucket())
+                                .key(request.key())
+                                .versionId(request.versionId())
+                                .ifMatch(request.ifMatch())
+                                .ifNoneMatch(request.ifNoneMatch())
+                                .ifModifiedSince(request.ifModifiedSince())
+                                .ifUnmodifiedSince(request.ifUnmodifiedSince())
+                                .sseCustomerAlgorithm(request.sseCustomerAlgorithm())
+                                .sseCustomerKey(request.sseCustomerKey())
+                                .sseCustomerKeyMD5(request.sseCustomerKeyMD5())
+                                .requestPayer(request.requestPayerAsString())
+                                .build();
+    }
+
+    private final class Transfer {
+        private final ResumableDownload download;
+        private final HeadObjectResponse head;
+        private final CompletableFuture<HeadObjectResponse> result;
+        private final int partCount;
+
+        private AsynchronousFileChannel fileChannel;
+
+        // Guarded by this
+        private final Set<Integer> completedParts;
+        private final Set<CompletableFuture<?>> inFlightRequests = new HashSet<>();
+        private int nextPartNumber = 1;
+        private int outstandingParts;
+        private Throwable failure;
+        private boolean finished;
+
+        private Transfer(ResumableDownload download, HeadObjectResponse head, CompletableFuture<HeadObjectResponse> result) {
+            this.download = download;
+            this.head = head;
+            this.result = result;
+            this.partCount = download.partCount();
+            this.completedParts = new TreeSet<>(download.completedParts());
+        }
+
+        private void start(OpenOption... options) {
+            try {
+                fileChannel = AsynchronousFileChannel.open(download.destination(), options);
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(SdkClientException.create("Unable to open " + download.destination(), e));
+                return;
+            }
+
+            result.whenComplete((r, t) -> {
+                if (result.isCancelled()) {
+                    fail(t);
+                    cancelInFlightRequests();
+                }
+            });
+            startParts();
+        }
+
+        /**
+         * Request as many of the missing parts as the concurrency allows, or finish the download if there is nothing left
+         * to wait for.
+         */
+        private void startParts() {
+            List<Integer> parts = new ArrayList<>();
+            boolean finish = false;
+            synchronized (this) {
+                while (failure == null && outstandingParts < maxConcurrentParts && nextPartNumber <= partCount) {
+                    int partNumber = nextPartNumber++;
+                    if (!completedParts.contains(partNumber)) {
+                        outstandingParts++;
+                        parts.add(partNumber);
+                    }
+                }
+                if (!finished && outstandingParts == 0 && (failure != null || nextPartNumber > partCount)) {
+                    finished = true;
+                    finish = true;
+                }
+            }
+
+            parts.forEach(p -> downloadPart(p, 0));
+            if (finish) {
+                finish();
+            }
+        }
+
+        private void downloadPart(int partNumber, int retriesAttempted) {
+            long position = (partNumber - 1) * download.partSizeInBytes();
+            long length = Math.min(download.partSizeInBytes(), download.sizeInBytes() - position);
+            GetObjectRequest rangeRequest = download.getObjectRequest()
+                                                    .toBuilder()
+                                                    .range("bytes=" + position + "-" + (position + length - 1))
+                                                    .build();
+
+            FileRangeAsyncResponseTransformer<GetObjectResponse> transformer =
+                new FileRangeAsyncResponseTransformer<>(fileChannel, position, length);
+            CompletableFuture<GetObjectResponse> rangeFuture = s3.getObject(rangeRequest, transformer);
+            track(rangeFuture);
+            rangeFuture.whenComplete((r, t) -> {
+                untrack(rangeFuture);
+                if (t == null) {
+                    partCompleted(partNumber);
+                } else if (!isFailed() && partRetryCondition.shouldRetry(t, retriesAttempted)) {
+                    log.debug(() -> "Retrying part " + partNumber + " of " + download.getObjectRequest().key(), t);
+                    downloadPart(partNumber, retriesAttempted + 1);
+                } else {
+                    partFailed(t);
+                }
+            });
+        }
+
+        /**
+         * Keep a request in flight so that it is cancelled along with the download. A request started after the download
+         * was cancelled is cancelled right away.
+         */
+        private void track(CompletableFuture<?> request) {
+            synchronized (this) {
+                inFlightRequests.add(request);
+            }
+            if (result.isCancelled()) {
+                request.cancel(true);
+            }
+        }
+
+        private synchronized void untrack(CompletableFuture<?> request) {
+            inFlightRequests.remove(request);
+        }
+
+        private void cancelInFlightRequests() {
+            List<CompletableFuture<?>> requests;
+            synchronized (this) {
+                requests = new ArrayList<>(inFlightRequests);
+            }
+            requests.forEach(r -> r.cancel(true));
+        }
+
+        private void partCompleted(int partNumber) {
+            synchronized (this) {
+                completedParts.add(partNumber);
+                outstandingParts--;
+            }
+            startParts();
+        }
+
+        private void partFailed(Throwable t) {
+            synchronized (this) {
+                outstandingParts--;
+            }
+            fail(t);
+        }
+
+        private synchronized boolean isFailed() {
+            return failure != null;
+        }
+
+        /**
+         * Stop requesting parts. The download fails once the parts in flight have settled, so that the ranges recorded as
+         * written are the ones actually in the file.
+         */
+        private void fail(Throwable t) {
+            synchronized (this) {
+                if (failure == null) {
+                    failure = t;
+                }
+            }
+            startParts();
+        }
+
+        /**
+         * Validate the file if every range was written, then close it and complete the download.
+         */
+        private void finish() {
+            boolean validate;
+            synchronized (this) {
+                validate = failure == null && EtagValidator.canValidate(head);
+            }
+            if (!validate) {
+                close();
+                return;
+            }
+
+            CompletableFuture<Boolean> validation = EtagValidator.validate(fileChannel, download.sizeInBytes(), head.eTag());
+            track(validation);
+            validation.whenComplete((matches, t) -> {
+                untrack(validation);
+                synchronized (this) {
+                    if (t != null) {
+                        // The ranges were written, they just could not be checked. A resumed download checks them again.
+                        failure = failure != null ? failure : t;
+                    } else if (!matches) {
+                        failure = SdkClientException.create("The MD5 digest of the downloaded content of "
+                                                            + download.getObjectRequest().key()
+                                                            + " does not match its ETag " + head.eTag() + ".");
+                        completedParts.clear();
+                    }
+                }
+                close();
+            });
+        }
+
+        private void close() {
+            Throwable closeFailure = null;
+            try {
+                fileChannel.close();
+            } catch (IOException e) {
+                closeFailure = e;
+            }
+
+            Throwable cause;
+            ResumableDownload resumableDownload;
+            synchronized (this) {
+                cause = failure != null ? failure : closeFailure;
+                resumableDownload = ResumableDownload.create(download.getObjectRequest(), download.destination(),
+                                                             download.sizeInBytes(), download.partSizeInBytes(),
+                                                             completedParts);
+            }
+
+            if (cause == null) {
+                result.complete(head);
+                return;
+            }
+
+            String message = String.format("Downloaded %s of %s bytes of %s.", resumableDownload.bytesTransferred(),
+                                           download.sizeInBytes(), download.getObjectRequest().key());
+            result.completeExceptionally(IncompleteDownloadException.builder()
+                                                                    .message(message)
+                                                                    .cause(cause)
+                                                                    .resumableDownload(resumableDownload)
+                                                                    .build());
+        }
+    }
+}
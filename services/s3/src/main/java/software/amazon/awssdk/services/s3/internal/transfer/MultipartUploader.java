@@ -0,0 +1,372 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Uploads an {@link AsyncRequestBody} to S3 as a multipart upload. The body is split into parts as it is read, and each part
+ * is uploaded as soon as it is full, so that many parts are in flight at once. Reading from the body is paused while the
+ * parts that are buffered or being uploaded add up to the in-flight byte limit.
+ */
+@SdkInternalApi
+public final class MultipartUploader {
+    /**
+     * The maximum number of parts S3 accepts in a multipart upload.
+     */
+    public static final int MAX_PARTS = 10_000;
+
+    private static final Logger log = Logger.loggerFor(MultipartUploader.class);
+
+    private final S3AsyncClient s3;
+    private final long minimumPartSizeInBytes;
+    private final long maxInFlightBytes;
+    private final PartRetryCondition partRetryCondition;
+
+    public MultipartUploader(S3AsyncClient s3, long minimumPartSizeInBytes, long maxInFlightBytes, int maxPartRetries) {
+        this.s3 = s3;
+        this.minimumPartSizeInBytes = minimumPartSizeInBytes;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.partRetryCondition = new PartRetryCondition(maxPartRetries);
+    }
+
+    public CompletableFuture<CompleteMultipartUploadResponse> upload(CreateMultipartUploadRequest request,
+                                                                     AsyncRequestBody requestBody) {
+        long partSize = partSize(requestBody.contentLength());
+        if (partSize > Integer.MAX_VALUE) {
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.builder()
+                                  .message("The request body is too large to be uploaded in " + MAX_PARTS + " parts.")
+                                  .build());
+        }
+
+        CompletableFuture<CompleteMultipartUploadResponse> result = new CompletableFuture<>();
+
+        s3.createMultipartUpload(request).whenComplete((response, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+                return;
+            }
+
+            // If the result was cancelled before the upload was created, the subscriber aborts the upload right away.
+            UploadSubscriber subscriber = new UploadSubscriber(request, response.uploadId(), (int) partSize, result);
+            if (!result.isDone()) {
+                requestBody.subscribe(subscriber);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Use the minimum part size unless the body is too large to fit in {@link #MAX_PARTS} parts of that size.
+     */
+    private long partSize(Optional<Long> contentLength) {
+        return contentLength.map(l -> Math.max(minimumPartSizeInBytes, (l + MAX_PARTS - 1) / MAX_PARTS))
+                            .orElse(minimumPartSizeInBytes);
+    }
+
+    private final class UploadSubscriber implements Subscriber<ByteBuffer> {
+        private final CreateMultipartUploadRequest request;
+        private final String uploadId;
+        private final int partSize;
+        private final CompletableFuture<CompleteMultipartUploadResponse> result;
+        private final AtomicBoolean failed = new AtomicBoolean(false);
+
+        private volatile Subscription subscription;
+
+        // Guarded by this
+        private final List<CompletedPart> completedParts = new ArrayList<>();
+        private ByteBuffer pending;
+        private byte[] currentPart;
+        private int currentPartPosition;
+        private int nextPartNumber = 1;
+        private long inFlightBytes;
+        private int outstandingParts;
+        private boolean demanded;
+        private boolean bodyComplete;
+        private boolean completing;
+
+        private UploadSubscriber(CreateMultipartUploadRequest request, String uploadId, int partSize,
+                                 CompletableFuture<CompleteMultipartUploadResponse> result) {
+            this.request = request;
+            this.uploadId = uploadId;
+            this.partSize = partSize;
+            this.result = result;
+            result.whenComplete((r, t) -> {
+                if (result.isCancelled()) {
+                    fail(t);
+                }
+            });
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            if (failed.get()) {
+                s.cancel();
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            synchronized (this) {
+                pending = buffer;
+                demanded = false;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                bodyComplete = true;
+            }
+            drain();
+        }
+
+        /**
+         * Cut as many parts from the body as the in-flight byte limit allows, then request more of the body, upload the last
+         * part or complete the upload, depending on how far the body has been read. This is called whenever the body
+         * signals and whenever a part has been uploaded, and does its work outside of the lock.
+         */
+        private void drain() {
+            if (failed.get()) {
+                return;
+            }
+
+            List<Part> parts = new ArrayList<>();
+            boolean tooManyParts = false;
+            boolean requestMore = false;
+            boolean completeUpload = false;
+
+            synchronized (this) {
+                while (pending != null && pending.hasRemaining()) {
+                    if (currentPart == null) {
+                        if (!hasCapacity()) {
+                            break;
+                        }
+                        if (nextPartNumber > MAX_PARTS) {
+                            tooManyParts = true;
+                            break;
+                        }
+                        inFlightBytes += partSize;
+                        currentPart = new byte[partSize];
+                    }
+
+                    int length = Math.min(pending.remaining(), currentPart.length - currentPartPosition);
+                    pending.get(currentPart, currentPartPosition, length);
+                    currentPartPosition += length;
+
+                    if (currentPartPosition == currentPart.length) {
+                        parts.add(takeCurrentPart());
+                    }
+                }
+
+                boolean pendingConsumed = pending == null || !pending.hasRemaining();
+                if (pendingConsumed && !bodyComplete && !demanded) {
+                    pending = null;
+                    demanded = true;
+                    requestMore = true;
+                } else if (pendingConsumed && bodyComplete && !tooManyParts) {
+                    if (currentPart == null && nextPartNumber == 1) {
+                        // S3 needs at least one part, even if it is empty.
+                        inFlightBytes += partSize;
+                        currentPart = new byte[0];
+                    }
+                    if (currentPart != null) {
+                        parts.add(takeCurrentPart());
+                    }
+                    if (outstandingParts == 0 && !completing) {
+                        completing = true;
+                        completeUpload = true;
+                    }
+                }
+            }
+
+            if (tooManyParts) {
+                fail(SdkClientException.builder()
+                                       .message("The request body does not fit in " + MAX_PARTS + " parts of " + partSize
+                                                + " bytes. Configure a larger minimum part size.")
+                                       .build());
+                return;
+            }
+
+            parts.forEach(this::uploadPart);
+            if (requestMore) {
+                subscription.request(1);
+            }
+            if (completeUpload) {
+                completeUpload();
+            }
+        }
+
+        /**
+         * Whether another part may be buffered without exceeding the in-flight byte limit. At least one part is always
+         * allowed, so that a limit smaller than the part size can't stall the upload.
+         */
+        private boolean hasCapacity() {
+            return inFlightBytes == 0 || inFlightBytes + partSize <= maxInFlightBytes;
+        }
+
+        private Part takeCurrentPart() {
+            Part part = new Part(nextPartNumber++, currentPart, currentPartPosition);
+            currentPart = null;
+            currentPartPosition = 0;
+            outstandingParts++;
+            return part;
+        }
+
+        private void uploadPart(Part part) {
+            UploadPartRequest partRequest = UploadPartRequest.builder()
+                                                             .bucket(request.bucket())
+                                                             .key(request.key())
+                                                             .uploadId(uploadId)
+                                                             .partNumber(part.partNumber)
+                                                             .contentLength((long) part.length)
+                                                             .sseCustomerAlgorithm(request.sseCustomerAlgorithm())
+                                                             .sseCustomerKey(request.sseCustomerKey())
+                                                             .sseCustomerKeyMD5(request.sseCustomerKeyMD5())
+                                                             .requestPayer(request.requestPayerAsString())
+                                                             .build();
+            // The body is created once and reused for retries of the part. It publishes the part's buffer without copying it.
+            AsyncRequestBody body = new PartAsyncRequestBody(part.data, part.length);
+            uploadPart(partRequest, body, 0);
+        }
+
+        private void uploadPart(UploadPartRequest partRequest, AsyncRequestBody body, int retriesAttempted) {
+            s3.uploadPart(partRequest, body).whenComplete((response, t) -> {
+                if (t == null) {
+                    partCompleted(CompletedPart.builder()
+                                               .partNumber(partRequest.partNumber())
+                                               .eTag(response.eTag())
+                                               .build());
+                } else if (!failed.get() && partRetryCondition.shouldRetry(t, retriesAttempted)) {
+                    log.debug(() -> "Retrying part " + partRequest.partNumber() + " of upload " + uploadId, t);
+                    uploadPart(partRequest, body, retriesAttempted + 1);
+                } else {
+                    fail(t);
+                }
+            });
+        }
+
+        private void partCompleted(CompletedPart part) {
+            synchronized (this) {
+                completedParts.add(part);
+                outstandingParts--;
+                inFlightBytes -= partSize;
+            }
+            drain();
+        }
+
+        private void completeUpload() {
+            List<CompletedPart> parts;
+            synchronized (this) {
+                parts = new ArrayList<>(completedParts);
+            }
+            parts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+            CompleteMultipartUploadRequest completeRequest =
+                CompleteMultipartUploadRequest.builder()
+                                              .bucket(request.bucket())
+                                              .key(request.key())
+                                              .uploadId(uploadId)
+                                              .requestPayer(request.requestPayerAsString())
+                                              .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                                              .build();
+
+            s3.completeMultipartUpload(completeRequest).whenComplete((response, t) -> {
+                if (t != null) {
+                    fail(t);
+                } else {
+                    result.complete(response);
+                }
+            });
+        }
+
+        /**
+         * Stop reading the body and abort the upload, so that the parts that were already uploaded are not left behind.
+         * The result is only completed once the abort has been attempted.
+         */
+        private void fail(Throwable t) {
+            if (!failed.compareAndSet(false, true)) {
+                return;
+            }
+
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+
+            AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+                                                                                  .bucket(request.bucket())
+                                                                                  .key(request.key())
+                                                                                  .uploadId(uploadId)
+                                                                                  .requestPayer(request.requestPayerAsString())
+                                                                                  .build();
+            s3.abortMultipartUpload(abortRequest).whenComplete((r, abortError) -> {
+                if (abortError != null) {
+                    log.warn(() -> "Failed to abort multipart upload " + uploadId + " of " + request.key(), abortError);
+                }
+                result.completeExceptionally(t);
+            });
+        }
+    }
+
+    private static final class Part {
+        private final int partNumber;
+        private final byte[] data;
+        private final int length;
+
+        private Part(int partNumber, byte[] data, int length) {
+            this.partNumber = partNumber;
+            this.data = data;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+/**
+ * Publishes the buffered content of a part without copying it, unlike {@link AsyncRequestBody#fromByteBuffer(ByteBuffer)}.
+ * The uploader owns the part's buffer and does not modify it once the part is full, so the only copy of the content held
+ * while the part is in flight is the buffer itself. Every subscription, such as the one made by a retry of the part, is given
+ * a new view of the whole content.
+ */
+@SdkInternalApi
+final class PartAsyncRequestBody implements AsyncRequestBody {
+    private final byte[] data;
+    private final int length;
+
+    PartAsyncRequestBody(byte[] data, int length) {
+        this.data = data;
+        this.length = length;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of((long) length);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new Subscription() {
+            private boolean done = false;
+
+            @Override
+            public void request(long n) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (n > 0) {
+                    subscriber.onNext(ByteBuffer.wrap(data, 0, length));
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(new IllegalArgumentException("Rule 3.9: non-positive requests are not allowed"));
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+}
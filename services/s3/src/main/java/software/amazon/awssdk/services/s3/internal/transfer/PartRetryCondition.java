@@ -0,0 +1,54 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+/**
+ * Decides whether a part of a transfer that failed is transferred again. Parts are retried on the errors the default retry
+ * condition of the SDK retries, up to a maximum number of times.
+ */
+@SdkInternalApi
+final class PartRetryCondition {
+    private static final RetryCondition DEFAULT_RETRY_CONDITION = RetryCondition.defaultRetryCondition();
+
+    private final int maxPartRetries;
+
+    PartRetryCondition(int maxPartRetries) {
+        this.maxPartRetries = maxPartRetries;
+    }
+
+    boolean shouldRetry(Throwable t, int retriesAttempted) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        if (retriesAttempted >= maxPartRetries || !(cause instanceof SdkException)) {
+            return false;
+        }
+
+        SdkException exception = (SdkException) cause;
+        Integer statusCode = exception instanceof SdkServiceException ? ((SdkServiceException) exception).statusCode()
+                                                                      : null;
+        return DEFAULT_RETRY_CONDITION.shouldRetry(RetryPolicyContext.builder()
+                                                                     .exception(exception)
+                                                                     .httpStatusCode(statusCode)
+                                                                     .retriesAttempted(retriesAttempted)
+                                                                     .build());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+/**
+ * Publishes the elements of a {@link Stream} as they are requested, so that a lazy stream such as a file tree walk is only
+ * evaluated as far as the subscriber has asked for. The stream is closed once it is exhausted, fails or the subscription is
+ * cancelled. It can only be subscribed to once.
+ */
+@SdkInternalApi
+final class StreamPublisher<T> implements SdkPublisher<T> {
+    private final Stream<T> stream;
+
+    StreamPublisher(Stream<T> stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new StreamSubscription(subscriber, stream.iterator()));
+    }
+
+    private final class StreamSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final Iterator<T> iterator;
+
+        // Guarded by this
+        private long demand;
+        private boolean emitting;
+        private boolean done;
+
+        private StreamSubscription(Subscriber<? super T> subscriber, Iterator<T> iterator) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (terminate()) {
+                    subscriber.onError(new IllegalArgumentException("Non-positive request signals are illegal"));
+                }
+                return;
+            }
+
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                if (emitting) {
+                    return;
+                }
+                emitting = true;
+            }
+            emit();
+        }
+
+        /**
+         * Deliver elements while there is demand. Only one thread emits at a time, and a request made from within onNext only
+         * adds to the demand, so that the subscriber is never called recursively.
+         */
+        private void emit() {
+            while (true) {
+                synchronized (this) {
+                    if (done || demand == 0) {
+                        emitting = false;
+                        return;
+                    }
+                    demand--;
+                }
+
+                T next;
+                try {
+                    next = iterator.hasNext() ? iterator.next() : null;
+                } catch (RuntimeException e) {
+                    if (terminate()) {
+                        subscriber.onError(e);
+                    }
+                    return;
+                }
+
+                if (next == null) {
+                    if (terminate()) {
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                subscriber.onNext(next);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            terminate();
+        }
+
+        private boolean terminate() {
+            synchronized (this) {
+                if (done) {
+                    return false;
+                }
+                done = true;
+            }
+            stream.close();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The aggregate progress of a directory transfer made by {@link S3TransferManager}, as of the moment a file of the transfer
+ * finished. It is passed to the progress listener of an {@link UploadDirectoryRequest} or a {@link DownloadDirectoryRequest}.
+ */
+@Immutable
+@SdkPublicApi
+public final class DirectoryTransferProgress {
+    private final long filesTransferred;
+    private final long bytesTransferred;
+    private final long filesFailed;
+
+    private DirectoryTransferProgress(long filesTransferred, long bytesTransferred, long filesFailed) {
+        this.filesTransferred = filesTransferred;
+        this.bytesTransferred = bytesTransferred;
+        this.filesFailed = filesFailed;
+    }
+
+    @SdkInternalApi
+    public static DirectoryTransferProgress create(long filesTransferred, long bytesTransferred, long filesFailed) {
+        return new DirectoryTransferProgress(filesTransferred, bytesTransferred, filesFailed);
+    }
+
+    /**
+     * The number of files that have been transferred.
+     */
+    public long filesTransferred() {
+        return filesTransferred;
+    }
+
+    /**
+     * The total size of the files that have been transferred.
+     */
+    public long bytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * The number of files that could not be transferred.
+     */
+    public long filesFailed() {
+        return filesFailed;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectoryTransferProgress")
+                       .add("filesTransferred", filesTransferred)
+                       .add("bytesTransferred", bytesTransferred)
+                       .add("filesFailed", filesFailed)
+                       .build();
+    }
+}
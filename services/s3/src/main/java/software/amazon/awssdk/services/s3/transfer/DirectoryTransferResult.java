@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The outcome of a directory transfer made by {@link S3TransferManager}. A directory transfer carries on when some of its
+ * files can't be transferred, and reports them here once all the other files have been transferred.
+ */
+@Immutable
+@SdkPublicApi
+public final class DirectoryTransferResult {
+    private final long filesTransferred;
+    private final long bytesTransferred;
+    private final Map<String, Throwable> failedTransfers;
+
+    private DirectoryTransferResult(long filesTransferred, long bytesTransferred, Map<String, Throwable> failedTransfers) {
+        this.filesTransferred = filesTransferred;
+        this.bytesTransferred = bytesTransferred;
+        this.failedTransfers = Collections.unmodifiableMap(new LinkedHashMap<>(failedTransfers));
+    }
+
+    @SdkInternalApi
+    public static DirectoryTransferResult create(long filesTransferred, long bytesTransferred,
+                                                 Map<String, Throwable> failedTransfers) {
+        return new DirectoryTransferResult(filesTransferred, bytesTransferred, failedTransfers);
+    }
+
+    /**
+     * The number of files that have been transferred.
+     */
+    public long filesTransferred() {
+        return filesTransferred;
+    }
+
+    /**
+     * The total size of the files that have been transferred.
+     */
+    public long bytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * The files that could not be transferred, by the key of their object, with the error their transfer failed with.
+     */
+    public Map<String, Throwable> failedTransfers() {
+        return failedTransfers;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectoryTransferResult")
+                       .add("filesTransferred", filesTransferred)
+                       .add("bytesTransferred", bytesTransferred)
+                       .add("filesFailed", failedTransfers.size())
+                       .build();
+    }
+}
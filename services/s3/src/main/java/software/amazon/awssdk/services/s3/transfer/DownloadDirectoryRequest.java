@@ -0,0 +1,187 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Request to download the objects under a prefix of an S3 bucket to a local directory tree with
+ * {@link S3TransferManager#downloadDirectory(DownloadDirectoryRequest)}.
+ */
+@Immutable
+@SdkPublicApi
+public final class DownloadDirectoryRequest
+    implements ToCopyableBuilder<DownloadDirectoryRequest.Builder, DownloadDirectoryRequest> {
+    private final String bucket;
+
+    private final String prefix;
+
+    private final Path destinationDirectory;
+
+    private final Consumer<DirectoryTransferProgress> progressListener;
+
+    private DownloadDirectoryRequest(BuilderImpl builder) {
+        this.bucket = Validate.paramNotBlank(builder.bucket, "bucket");
+        this.prefix = builder.prefix != null ? builder.prefix : "";
+        this.destinationDirectory = Validate.paramNotNull(builder.destinationDirectory, "destinationDirectory");
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * @return The name of the bucket the objects are downloaded from.
+     */
+    public String bucket() {
+        return bucket;
+    }
+
+    /**
+     * @return The prefix of the keys of the objects that are downloaded, or an empty string.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * @return The directory the objects are downloaded to.
+     */
+    public Path destinationDirectory() {
+        return destinationDirectory;
+    }
+
+    /**
+     * @return The listener notified of the progress of the download, or null.
+     */
+    public Consumer<DirectoryTransferProgress> progressListener() {
+        return progressListener;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DownloadDirectoryRequest")
+                       .add("bucket", bucket)
+                       .add("prefix", prefix)
+                       .add("destinationDirectory", destinationDirectory)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, DownloadDirectoryRequest> {
+        /**
+         * Sets the name of the bucket the objects are downloaded from. This is required.
+         *
+         * @param bucket
+         *        The name of the bucket.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder bucket(String bucket);
+
+        /**
+         * Sets the prefix of the keys of the objects that are downloaded. A '/' is added to the prefix if it does not end with
+         * one, so that only the objects "under" it are downloaded. Defaults to no prefix, which downloads the whole bucket.
+         *
+         * @param prefix
+         *        The prefix of the keys.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder prefix(String prefix);
+
+        /**
+         * Sets the directory the objects are downloaded to. Each object is downloaded to the path made of the part of its key
+         * after the prefix, with each '/' starting a subdirectory. Keys ending with '/' are skipped, and the files must not
+         * exist yet. This is required.
+         *
+         * @param destinationDirectory
+         *        The directory to download to.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder destinationDirectory(Path destinationDirectory);
+
+        /**
+         * Sets the listener notified of the progress of the download each time one of its objects has been downloaded or has
+         * failed. It is called from the threads that complete the downloads, possibly concurrently, so it must be thread safe
+         * and return quickly.
+         *
+         * @param progressListener
+         *        The listener of the progress of the download.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder progressListener(Consumer<DirectoryTransferProgress> progressListener);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private String bucket;
+
+        private String prefix;
+
+        private Path destinationDirectory;
+
+        private Consumer<DirectoryTransferProgress> progressListener;
+
+        private BuilderImpl() {
+        }
+
+        private BuilderImpl(DownloadDirectoryRequest request) {
+            bucket(request.bucket);
+            prefix(request.prefix);
+            destinationDirectory(request.destinationDirectory);
+            progressListener(request.progressListener);
+        }
+
+        @Override
+        public Builder bucket(String bucket) {
+            this.bucket = bucket;
+            return this;
+        }
+
+        @Override
+        public Builder prefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        @Override
+        public Builder destinationDirectory(Path destinationDirectory) {
+            this.destinationDirectory = destinationDirectory;
+            return this;
+        }
+
+        @Override
+        public Builder progressListener(Consumer<DirectoryTransferProgress> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        @Override
+        public DownloadDirectoryRequest build() {
+            return new DownloadDirectoryRequest(this);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Extension of {@link SdkClientException} that a download made by {@link S3TransferManager} fails with when some of its parts
+ * could not be downloaded. The parts that were downloaded are kept in the destination file, and the download can be
+ * continued from them with {@link S3TransferManager#resumeDownload(ResumableDownload)}. The cause is the error that stopped
+ * the download.
+ */
+@SdkPublicApi
+public final class IncompleteDownloadException extends SdkClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ResumableDownload resumableDownload;
+
+    private IncompleteDownloadException(BuilderImpl b) {
+        super(b);
+        this.resumableDownload = b.resumableDownload;
+    }
+
+    /**
+     * The state of the download, to resume it with.
+     */
+    public ResumableDownload resumableDownload() {
+        return resumableDownload;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    public interface Builder extends SdkClientException.Builder {
+        @Override
+        Builder message(String message);
+
+        @Override
+        Builder cause(Throwable cause);
+
+        Builder resumableDownload(ResumableDownload resumableDownload);
+
+        @Override
+        IncompleteDownloadException build();
+    }
+
+    private static final class BuilderImpl extends SdkClientException.BuilderImpl implements Builder {
+        private ResumableDownload resumableDownload;
+
+        private BuilderImpl() {
+        }
+
+        private BuilderImpl(IncompleteDownloadException ex) {
+            super(ex);
+            this.resumableDownload = ex.resumableDownload;
+        }
+
+        @Override
+        public Builder message(String message) {
+            this.message = message;
+            return this;
+        }
+
+        @Override
+        public Builder cause(Throwable cause) {
+            this.cause = cause;
+            return this;
+        }
+
+        @Override
+        public Builder resumableDownload(ResumableDownload resumableDownload) {
+            this.resumableDownload = resumableDownload;
+            return this;
+        }
+
+        @Override
+        public IncompleteDownloadException build() {
+            return new IncompleteDownloadException(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The state of a download made by {@link S3TransferManager} that did not complete, which records the parts of the object
+ * that were already written to the destination file. It is obtained from the {@link IncompleteDownloadException} the
+ * download failed with, and passed to {@link S3TransferManager#resumeDownload(ResumableDownload)} to download only the
+ * parts that are missing.
+ */
+@Immutable
+@SdkPublicApi
+public final class ResumableDownload {
+    private final GetObjectRequest getObjectRequest;
+    private final Path destination;
+    private final long sizeInBytes;
+    private final long partSizeInBytes;
+    private final SortedSet<Integer> completedParts;
+
+    private ResumableDownload(GetObjectRequest getObjectRequest, Path destination, long sizeInBytes, long partSizeInBytes,
+                              Collection<Integer> completedParts) {
+        this.getObjectRequest = getObjectRequest;
+        this.destination = destination;
+        this.sizeInBytes = sizeInBytes;
+        this.partSizeInBytes = partSizeInBytes;
+        this.completedParts = Collections.unmodifiableSortedSet(new TreeSet<>(completedParts));
+    }
+
+    @SdkInternalApi
+    public static ResumableDownload create(GetObjectRequest getObjectRequest, Path destination, long sizeInBytes,
+                                           long partSizeInBytes, Collection<Integer> completedParts) {
+        return new ResumableDownload(getObjectRequest, destination, sizeInBytes, partSizeInBytes, completedParts);
+    }
+
+    /**
+     * The request the parts of the object are downloaded with. It only matches the version of the object the download was
+     * started with, so that a download is never resumed with the parts of an object that has since been replaced.
+     */
+    public GetObjectRequest getObjectRequest() {
+        return getObjectRequest;
+    }
+
+    /**
+     * The file the object is downloaded to.
+     */
+    public Path destination() {
+        return destination;
+    }
+
+    /**
+     * The size of the object.
+     */
+    public long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * The size of the parts the object is downloaded in. Every part but the last one is of this size.
+     */
+    public long partSizeInBytes() {
+        return partSizeInBytes;
+    }
+
+    /**
+     * The numbers of the parts that have been written to the destination file, starting from 1.
+     */
+    public SortedSet<Integer> completedParts() {
+        return completedParts;
+    }
+
+    /**
+     * The number of bytes of the object that have been written to the destination file.
+     */
+    public long bytesTransferred() {
+        long lastPartSize = sizeInBytes - (partCount() - 1) * partSizeInBytes;
+        boolean lastPartCompleted = !completedParts.isEmpty() && completedParts.last() == partCount();
+        return lastPartCompleted ? (completedParts.size() - 1) * partSizeInBytes + lastPartSize
+                                 : completedParts.size() * partSizeInBytes;
+    }
+
+    /**
+     * The number of parts the object is downloaded in.
+     */
+    public int partCount() {
+        return (int) ((sizeInBytes + partSizeInBytes - 1) / partSizeInBytes);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ResumableDownload")
+                       .add("bucket", getObjectRequest.bucket())
+                       .add("key", getObjectRequest.key())
+                       .add("destination", destination)
+                       .add("sizeInBytes", sizeInBytes)
+                       .add("bytesTransferred", bytesTransferred())
+                       .build();
+    }
+}
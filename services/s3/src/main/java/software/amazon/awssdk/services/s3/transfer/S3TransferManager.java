@@ -0,0 +1,361 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.transfer.DirectoryDownloader;
+import software.amazon.awssdk.services.s3.internal.transfer.DirectoryUploader;
+import software.amazon.awssdk.services.s3.internal.transfer.MultipartDownloader;
+import software.amazon.awssdk.services.s3.internal.transfer.MultipartUploader;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Transfers large objects to and from Amazon S3 by splitting them into parts that are transferred concurrently over an
+ * {@link S3AsyncClient}, so that a single transfer is not limited by the throughput of a single connection.
+ * <p>
+ * Uploads are made as multipart uploads. The body is split into parts as it is read and each part is uploaded as soon as it
+ * is full, while reading from the body is paused whenever the parts that are buffered in memory or being uploaded reach
+ * {@link Builder#maxInFlightBytes(Long)}. A part that fails with a retryable error is retried on its own, and if the upload
+ * can't be completed it is aborted so that the uploaded parts are not left behind.
+ * <p>
+ * Downloads are made with byte-range GETs of the part size, as many at a time as fit in
+ * {@link Builder#maxInFlightBytes(Long)}, and each range is written at its offset in the destination file as it is received.
+ * A range that fails with a retryable error is requested again on its own, and if the download can't be completed the ranges
+ * that were written are kept so that it can be resumed with {@link #resumeDownload(ResumableDownload)}.
+ * <p>
+ * Directory transfers upload the files of a local directory tree to the objects under a prefix, or download those objects
+ * back to a directory tree. The tree is walked, or the objects are listed, lazily as the files are transferred, up to
+ * {@link Builder#maxConcurrentFileTransfers(Integer)} files at a time and as many as fit in
+ * {@link Builder#maxInFlightBytes(Long)}. Files that fit in a single part are transferred with a single request each, and
+ * larger files are transferred in parts as above.
+ *
+ * <pre>
+ * S3TransferManager transferManager = S3TransferManager.builder().s3AsyncClient(s3AsyncClient).build();
+ * transferManager.upload(b -> b.bucket("bucket").key("key"), Paths.get("artifact.tar")).join();
+ * transferManager.download(b -> b.bucket("bucket").key("key"), Paths.get("restored.tar")).join();
+ * </pre>
+ *
+ * <p>
+ * The number of parts that can actually be transferred at the same time is also limited by the maximum number of connections
+ * of the HTTP client of the {@link S3AsyncClient}. The transfer manager does not close the client, which remains owned by the
+ * caller.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class S3TransferManager {
+    /**
+     * The smallest part size S3 accepts for any part but the last one of a multipart upload.
+     */
+    public static final long MIN_PART_SIZE_IN_BYTES = 5L * 1024 * 1024;
+
+    private static final long DEFAULT_MINIMUM_PART_SIZE_IN_BYTES = 8L * 1024 * 1024;
+    private static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 128L * 1024 * 1024;
+    private static final int DEFAULT_MAX_PART_RETRIES = 3;
+    private static final int DEFAULT_MAX_CONCURRENT_FILE_TRANSFERS = 50;
+
+    private final MultipartUploader uploader;
+    private final MultipartDownloader downloader;
+    private final DirectoryUploader directoryUploader;
+    private final DirectoryDownloader directoryDownloader;
+
+    private S3TransferManager(Builder builder) {
+        S3AsyncClient s3AsyncClient = Validate.paramNotNull(builder.s3AsyncClient, "s3AsyncClient");
+        long minimumPartSizeInBytes = builder.minimumPartSizeInBytes != null ? builder.minimumPartSizeInBytes
+                                                                              : DEFAULT_MINIMUM_PART_SIZE_IN_BYTES;
+        long maxInFlightBytes = builder.maxInFlightBytes != null ? builder.maxInFlightBytes : DEFAULT_MAX_IN_FLIGHT_BYTES;
+        int maxPartRetries = builder.maxPartRetries != null ? builder.maxPartRetries : DEFAULT_MAX_PART_RETRIES;
+        int maxConcurrentFileTransfers = builder.maxConcurrentFileTransfers != null ? builder.maxConcurrentFileTransfers
+                                                                                    : DEFAULT_MAX_CONCURRENT_FILE_TRANSFERS;
+
+        Validate.isTrue(minimumPartSizeInBytes >= MIN_PART_SIZE_IN_BYTES && minimumPartSizeInBytes <= Integer.MAX_VALUE,
+                        "minimumPartSizeInBytes must be between %s and %s bytes.", MIN_PART_SIZE_IN_BYTES, Integer.MAX_VALUE);
+        Validate.isPositive(maxInFlightBytes, "maxInFlightBytes");
+        Validate.isNotNegative(maxPartRetries, "maxPartRetries");
+        Validate.isPositive(maxConcurrentFileTransfers, "maxConcurrentFileTransfers");
+
+        this.uploader = new MultipartUploader(s3AsyncClient, minimumPartSizeInBytes, maxInFlightBytes, maxPartRetries);
+        this.downloader = new MultipartDownloader(s3AsyncClient, minimumPartSizeInBytes, maxInFlightBytes, maxPartRetries);
+        this.directoryUploader = new DirectoryUploader(s3AsyncClient, uploader, minimumPartSizeInBytes,
+                                                       maxConcurrentFileTransfers, maxInFlightBytes);
+        this.directoryDownloader = new DirectoryDownloader(s3AsyncClient, downloader, minimumPartSizeInBytes,
+                                                           maxConcurrentFileTransfers, maxInFlightBytes);
+    }
+
+    /**
+     * Creates a builder for {@link S3TransferManager}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Upload an object to S3 as a multipart upload, reading its content from the given {@link AsyncRequestBody}.
+     * <p>
+     * If the body reports its content length, the parts are made large enough for the whole body to fit in the 10,000 parts
+     * S3 allows. Otherwise the parts are of the minimum part size, and the upload fails if the body does not fit in 10,000
+     * of them.
+     *
+     * @param createMultipartUploadRequest The request used to create the multipart upload, which holds the bucket, key and
+     * any metadata of the object.
+     * @param requestBody The content of the object.
+     * @return A future that completes with the response of the completed upload, or exceptionally once the upload has been
+     * aborted. Cancelling it aborts the upload.
+     */
+    public CompletableFuture<CompleteMultipartUploadResponse> upload(CreateMultipartUploadRequest createMultipartUploadRequest,
+                                                                     AsyncRequestBody requestBody) {
+        Validate.paramNotNull(createMultipartUploadRequest, "createMultipartUploadRequest");
+        Validate.paramNotNull(requestBody, "requestBody");
+        return uploader.upload(createMultipartUploadRequest, requestBody);
+    }
+
+    /**
+     * Upload an object to S3 as a multipart upload, reading its content from the given {@link AsyncRequestBody}.
+     * <p>
+     * This is a convenience which creates an instance of the {@link CreateMultipartUploadRequest.Builder} avoiding the need
+     * to create one manually via {@link CreateMultipartUploadRequest#builder()}.
+     *
+     * @see #upload(CreateMultipartUploadRequest, AsyncRequestBody)
+     */
+    public CompletableFuture<CompleteMultipartUploadResponse> upload(
+        Consumer<CreateMultipartUploadRequest.Builder> createMultipartUploadRequest, AsyncRequestBody requestBody) {
+        return upload(CreateMultipartUploadRequest.builder().applyMutation(createMultipartUploadRequest).build(), requestBody);
+    }
+
+    /**
+     * Upload a file to S3 as a multipart upload.
+     *
+     * @see #upload(CreateMultipartUploadRequest, AsyncRequestBody)
+     */
+    public CompletableFuture<CompleteMultipartUploadResponse> upload(CreateMultipartUploadRequest createMultipartUploadRequest,
+                                                                     Path source) {
+        Validate.paramNotNull(source, "source");
+        return upload(createMultipartUploadRequest, AsyncRequestBody.fromFile(source));
+    }
+
+    /**
+     * Upload a file to S3 as a multipart upload.
+     * <p>
+     * This is a convenience which creates an instance of the {@link CreateMultipartUploadRequest.Builder} avoiding the need
+     * to create one manually via {@link CreateMultipartUploadRequest#builder()}.
+     *
+     * @see #upload(CreateMultipartUploadRequest, AsyncRequestBody)
+     */
+    public CompletableFuture<CompleteMultipartUploadResponse> upload(
+        Consumer<CreateMultipartUploadRequest.Builder> createMultipartUploadRequest, Path source) {
+        return upload(CreateMultipartUploadRequest.builder().applyMutation(createMultipartUploadRequest).build(), source);
+    }
+
+    /**
+     * Download an object from S3 to a file with concurrent byte-range GETs of the minimum part size.
+     * <p>
+     * The object is only downloaded if it keeps the ETag it has when the download starts, so that the file never mixes
+     * parts of different versions of the object. Each range must be exactly as long as requested, but its content is only
+     * validated against a checksum if S3 returns one with the response, which is not guaranteed for a range.
+     *
+     * @param getObjectRequest The request to download the object with. It must not specify a range or part number.
+     * @param destination The file to download the object to. It must not exist yet.
+     * @return A future that completes with the metadata of the downloaded object. If some ranges could not be downloaded,
+     * it completes exceptionally with an {@link IncompleteDownloadException} once the other ranges have been written.
+     * Cancelling it stops the download, which then can't be resumed.
+     */
+    public CompletableFuture<HeadObjectResponse> download(GetObjectRequest getObjectRequest, Path destination) {
+        Validate.paramNotNull(getObjectRequest, "getObjectRequest");
+        Validate.paramNotNull(destination, "destination");
+        Validate.isTrue(getObjectRequest.range() == null && getObjectRequest.partNumber() == null,
+                        "A download can't be made with a range or a part number.");
+        return downloader.download(getObjectRequest, destination);
+    }
+
+    /**
+     * Download an object from S3 to a file with concurrent byte-range GETs of the minimum part size.
+     * <p>
+     * This is a convenience which creates an instance of the {@link GetObjectRequest.Builder} avoiding the need to create
+     * one manually via {@link GetObjectRequest#builder()}.
+     *
+     * @see #download(GetObjectRequest, Path)
+     */
+    public CompletableFuture<HeadObjectResponse> download(Consumer<GetObjectRequest.Builder> getObjectRequest,
+                                                          Path destination) {
+        return download(GetObjectRequest.builder().applyMutation(getObjectRequest).build(), destination);
+    }
+
+    /**
+     * Continue a download that failed with an {@link IncompleteDownloadException}, downloading only the ranges that are
+     * missing from the destination file. The download fails if the object has been replaced since it was started.
+     *
+     * @param resumableDownload The state of the download, from {@link IncompleteDownloadException#resumableDownload()}.
+     * @return A future that completes like the one returned by {@link #download(GetObjectRequest, Path)}.
+     */
+    public CompletableFuture<HeadObjectResponse> resumeDownload(ResumableDownload resumableDownload) {
+        Validate.paramNotNull(resumableDownload, "resumableDownload");
+        return downloader.resume(resumableDownload);
+    }
+
+    /**
+     * Upload every regular file of a directory tree to S3, each to a key made of the prefix of the request and the path of
+     * the file relative to the directory.
+     * <p>
+     * A file that can't be uploaded does not stop the upload of the other files. It is reported in the
+     * {@link DirectoryTransferResult#failedTransfers()} of the result instead.
+     *
+     * @param uploadDirectoryRequest The directory to upload and where to upload it to.
+     * @return A future that completes once every file has been uploaded or has failed. It completes exceptionally if the
+     * directory tree can't be walked, once the files in flight have settled. Cancelling it cancels the uploads in flight,
+     * which aborts the multipart ones.
+     */
+    public CompletableFuture<DirectoryTransferResult> uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
+        Validate.paramNotNull(uploadDirectoryRequest, "uploadDirectoryRequest");
+        Validate.isTrue(Files.isDirectory(uploadDirectoryRequest.sourceDirectory()), "%s is not a directory.",
+                        uploadDirectoryRequest.sourceDirectory());
+        return directoryUploader.upload(uploadDirectoryRequest);
+    }
+
+    /**
+     * Upload every regular file of a directory tree to S3.
+     * <p>
+     * This is a convenience which creates an instance of the {@link UploadDirectoryRequest.Builder} avoiding the need to
+     * create one manually via {@link UploadDirectoryRequest#builder()}.
+     *
+     * @see #uploadDirectory(UploadDirectoryRequest)
+     */
+    public CompletableFuture<DirectoryTransferResult> uploadDirectory(
+        Consumer<UploadDirectoryRequest.Builder> uploadDirectoryRequest) {
+        return uploadDirectory(UploadDirectoryRequest.builder().applyMutation(uploadDirectoryRequest).build());
+    }
+
+    /**
+     * Download every object under a prefix of a bucket to a directory tree, each to the path made of the part of its key
+     * after the prefix.
+     * <p>
+     * An object that can't be downloaded, for example because its file already exists, does not stop the download of the
+     * other objects. It is reported in the {@link DirectoryTransferResult#failedTransfers()} of the result instead.
+     *
+     * @param downloadDirectoryRequest The objects to download and where to download them to.
+     * @return A future that completes once every object has been downloaded or has failed. It completes exceptionally if
+     * the objects can't be listed, once the objects in flight have settled. Cancelling it cancels the downloads in flight.
+     */
+    public CompletableFuture<DirectoryTransferResult> downloadDirectory(DownloadDirectoryRequest downloadDirectoryRequest) {
+        Validate.paramNotNull(downloadDirectoryRequest, "downloadDirectoryRequest");
+        return directoryDownloader.download(downloadDirectoryRequest);
+    }
+
+    /**
+     * Download every object under a prefix of a bucket to a directory tree.
+     * <p>
+     * This is a convenience which creates an instance of the {@link DownloadDirectoryRequest.Builder} avoiding the need to
+     * create one manually via {@link DownloadDirectoryRequest#builder()}.
+     *
+     * @see #downloadDirectory(DownloadDirectoryRequest)
+     */
+    public CompletableFuture<DirectoryTransferResult> downloadDirectory(
+        Consumer<DownloadDirectoryRequest.Builder> downloadDirectoryRequest) {
+        return downloadDirectory(DownloadDirectoryRequest.builder().applyMutation(downloadDirectoryRequest).build());
+    }
+
+    /**
+     * Builder class to construct {@link S3TransferManager} object
+     */
+    public static final class Builder {
+        private S3AsyncClient s3AsyncClient;
+
+        private Long minimumPartSizeInBytes;
+
+        private Long maxInFlightBytes;
+
+        private Integer maxPartRetries;
+
+        private Integer maxConcurrentFileTransfers;
+
+        private Builder() {
+        }
+
+        /**
+         * The client used to make the requests of the transfers. This is required.
+         *
+         * @return This object for method chaining
+         */
+        public Builder s3AsyncClient(S3AsyncClient s3AsyncClient) {
+            this.s3AsyncClient = s3AsyncClient;
+            return this;
+        }
+
+        /**
+         * The size of the parts an object is split into, unless the object is too large to be uploaded in 10,000 parts of this
+         * size. Downloads always use this size. It must be at least {@link #MIN_PART_SIZE_IN_BYTES}. Defaults to 8 MiB.
+         *
+         * @return This object for method chaining
+         */
+        public Builder minimumPartSizeInBytes(Long minimumPartSizeInBytes) {
+            this.minimumPartSizeInBytes = minimumPartSizeInBytes;
+            return this;
+        }
+
+        /**
+         * The maximum number of bytes of a single transfer that are buffered in memory or being transferred at the same
+         * time. Together with the part size, this bounds the number of parts transferred concurrently and the memory a
+         * transfer uses. At least one part is always allowed. Directory transfers also start a file only while the sizes of
+         * the files in flight, each counted as at most this value, add up to no more than it. A file at least this large is
+         * therefore transferred alone, while smaller files share the budget, including those large enough to be transferred
+         * in parts. Defaults to 128 MiB.
+         *
+         * @return This object for method chaining
+         */
+        public Builder maxInFlightBytes(Long maxInFlightBytes) {
+            this.maxInFlightBytes = maxInFlightBytes;
+            return this;
+        }
+
+        /**
+         * The maximum number of times a part that failed with a retryable error is transferred again before the transfer is
+         * failed. These retries are made in addition to the ones made by the retry policy of the client. Defaults to 3.
+         *
+         * @return This object for method chaining
+         */
+        public Builder maxPartRetries(Integer maxPartRetries) {
+            this.maxPartRetries = maxPartRetries;
+            return this;
+        }
+
+        /**
+         * The maximum number of files a directory transfer transfers at the same time. Defaults to 50, the default maximum
+         * number of connections of the HTTP clients of the SDK.
+         *
+         * @return This object for method chaining
+         */
+        public Builder maxConcurrentFileTransfers(Integer maxConcurrentFileTransfers) {
+            this.maxConcurrentFileTransfers = maxConcurrentFileTransfers;
+            return this;
+        }
+
+        /**
+         * Construct a {@link S3TransferManager} object.
+         */
+        public S3TransferManager build() {
+            return new S3TransferManager(this);
+        }
+    }
+}
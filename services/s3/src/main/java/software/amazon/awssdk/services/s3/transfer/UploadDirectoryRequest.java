@@ -0,0 +1,185 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Request to upload the files of a local directory tree to the objects under a prefix of an S3 bucket with
+ * {@link S3TransferManager#uploadDirectory(UploadDirectoryRequest)}.
+ */
+@Immutable
+@SdkPublicApi
+public final class UploadDirectoryRequest implements ToCopyableBuilder<UploadDirectoryRequest.Builder, UploadDirectoryRequest> {
+    private final Path sourceDirectory;
+
+    private final String bucket;
+
+    private final String prefix;
+
+    private final Consumer<DirectoryTransferProgress> progressListener;
+
+    private UploadDirectoryRequest(BuilderImpl builder) {
+        this.sourceDirectory = Validate.paramNotNull(builder.sourceDirectory, "sourceDirectory");
+        this.bucket = Validate.paramNotBlank(builder.bucket, "bucket");
+        this.prefix = builder.prefix != null ? builder.prefix : "";
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * @return The directory whose files are uploaded, including the files of its subdirectories.
+     */
+    public Path sourceDirectory() {
+        return sourceDirectory;
+    }
+
+    /**
+     * @return The name of the bucket the files are uploaded to.
+     */
+    public String bucket() {
+        return bucket;
+    }
+
+    /**
+     * @return The prefix of the keys the files are uploaded to, or an empty string.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * @return The listener notified of the progress of the upload, or null.
+     */
+    public Consumer<DirectoryTransferProgress> progressListener() {
+        return progressListener;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("UploadDirectoryRequest")
+                       .add("sourceDirectory", sourceDirectory)
+                       .add("bucket", bucket)
+                       .add("prefix", prefix)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, UploadDirectoryRequest> {
+        /**
+         * Sets the directory whose files are uploaded. Every regular file under it is uploaded, to a key made of the prefix
+         * and the path of the file relative to this directory, with its name elements separated by '/'. This is required.
+         *
+         * @param sourceDirectory
+         *        The directory to upload.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder sourceDirectory(Path sourceDirectory);
+
+        /**
+         * Sets the name of the bucket the files are uploaded to. This is required.
+         *
+         * @param bucket
+         *        The name of the bucket.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder bucket(String bucket);
+
+        /**
+         * Sets the prefix of the keys the files are uploaded to. A '/' is added between the prefix and the relative path of
+         * the files if the prefix does not end with one. Defaults to no prefix.
+         *
+         * @param prefix
+         *        The prefix of the keys.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder prefix(String prefix);
+
+        /**
+         * Sets the listener notified of the progress of the upload each time one of its files has been uploaded or has
+         * failed. It is called from the threads that complete the uploads, possibly concurrently, so it must be thread safe
+         * and return quickly.
+         *
+         * @param progressListener
+         *        The listener of the progress of the upload.
+         * @return Returns a reference to this object so that method calls can be chained together.
+         */
+        Builder progressListener(Consumer<DirectoryTransferProgress> progressListener);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private Path sourceDirectory;
+
+        private String bucket;
+
+        private String prefix;
+
+        private Consumer<DirectoryTransferProgress> progressListener;
+
+        private BuilderImpl() {
+        }
+
+        private BuilderImpl(UploadDirectoryRequest request) {
+            sourceDirectory(request.sourceDirectory);
+            bucket(request.bucket);
+            prefix(request.prefix);
+            progressListener(request.progressListener);
+        }
+
+        @Override
+        public Builder sourceDirectory(Path sourceDirectory) {
+            this.sourceDirectory = sourceDirectory;
+            return this;
+        }
+
+        @Override
+        public Builder bucket(String bucket) {
+            this.bucket = bucket;
+            return this;
+        }
+
+        @Override
+        public Builder prefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        @Override
+        public Builder progressListener(Consumer<DirectoryTransferProgress> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        @Override
+        public UploadDirectoryRequest build() {
+            return new UploadDirectoryRequest(this);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Verifies the aws-chunked encoding of the request body of {@link S3AsyncClient#putObject}, as it is sent over the wire.
+ */
+public class AsyncPutObjectChunkedEncodingTest {
+
+    private static final Pattern SIGNED_CHUNK_HEADER = Pattern.compile("([0-9a-f]+);chunk-signature=([0-9a-f]{64})");
+    private static final Pattern UNSIGNED_CHUNK_HEADER = Pattern.compile("[0-9a-f]+");
+    private static final int CONTENT_LENGTH = 300_000;
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    private final byte[] content = randomBytes(CONTENT_LENGTH);
+
+    private SdkAsyncHttpClient httpClient;
+
+    @Before
+    public void setup() {
+        httpClient = NettyNioAsyncHttpClient.builder()
+                                            .buildWithDefaults(AttributeMap.builder()
+                                                                           .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES,
+                                                                                Boolean.TRUE)
+                                                                           .build());
+        stubFor(any(urlMatching(".*")).willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+    }
+
+    @After
+    public void tearDown() {
+        httpClient.close();
+    }
+
+    @Test
+    public void putObjectOverHttps_withTrailingChecksum_isSentInUnsignedChunksWithTrailer() {
+        try (S3AsyncClient s3 = s3AsyncClient("https://localhost:" + mockServer.httpsPort(), Algorithm.CRC32C)) {
+            s3.putObject(r -> r.bucket("bucket").key("key"), AsyncRequestBody.fromBytes(content)).join();
+        }
+
+        LoggedRequest request = singlePutRequest();
+        assertThat(request.getHeader("x-amz-content-sha256")).isEqualTo("STREAMING-UNSIGNED-PAYLOAD-TRAILER");
+        assertThat(request.getHeader("Content-Encoding")).isEqualTo("aws-chunked");
+        assertThat(request.getHeader("x-amz-trailer")).isEqualTo("x-amz-checksum-crc32c");
+        assertThat(request.getHeader("x-amz-decoded-content-length")).isEqualTo(Integer.toString(CONTENT_LENGTH));
+        assertThat(request.getHeader("Content-Length")).isEqualTo(Integer.toString(request.getBody().length));
+
+        SdkChecksum crc32c = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+        crc32c.update(content, 0, content.length);
+        String body = new String(request.getBody(), StandardCharsets.ISO_8859_1);
+        assertThat(body).endsWith("\r\n0\r\nx-amz-checksum-crc32c:" + BinaryUtils.toBase64(crc32c.getChecksumBytes())
+                                  + "\r\n\r\n");
+        assertThat(decodeChunks(request.getBody(), UNSIGNED_CHUNK_HEADER)).isEqualTo(content);
+    }
+
+    @Test
+    public void putObjectOverHttp_isSentInSignedChunks() {
+        try (S3AsyncClient s3 = s3AsyncClient("http://localhost:" + mockServer.port(), Algorithm.CRC32C)) {
+            s3.putObject(r -> r.bucket("bucket").key("key"), AsyncRequestBody.fromBytes(content)).join();
+        }
+
+        LoggedRequest request = singlePutRequest();
+        assertThat(request.getHeader("x-amz-content-sha256")).isEqualTo("STREAMING-AWS4-HMAC-SHA256-PAYLOAD");
+        assertThat(request.containsHeader("x-amz-trailer")).isFalse();
+        assertThat(request.getHeader("x-amz-decoded-content-length")).isEqualTo(Integer.toString(CONTENT_LENGTH));
+        assertThat(request.getHeader("Content-Length")).isEqualTo(Integer.toString(request.getBody().length));
+
+        String body = new String(request.getBody(), StandardCharsets.ISO_8859_1);
+        assertThat(body).matches("(?s).*\r\n0;chunk-signature=[0-9a-f]{64}\r\n\r\n");
+        assertThat(decodeChunks(request.getBody(), SIGNED_CHUNK_HEADER)).isEqualTo(content);
+    }
+
+    @Test
+    public void md5TrailingChecksum_isRejectedByConfiguration() {
+        assertThatThrownBy(() -> S3Configuration.builder().trailingChecksumAlgorithm(Algorithm.MD5).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private S3AsyncClient s3AsyncClient(String endpoint, Algorithm trailingChecksumAlgorithm) {
+        return S3AsyncClient.builder()
+                            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                            .region(Region.US_WEST_2)
+                            .endpointOverride(URI.create(endpoint))
+                            .httpClient(httpClient)
+                            .serviceConfiguration(S3Configuration.builder()
+                                                                 .pathStyleAccessEnabled(true)
+                                                                 .checksumValidationEnabled(false)
+                                                                 .trailingChecksumAlgorithm(trailingChecksumAlgorithm)
+                                                                 .build())
+                            .build();
+    }
+
+    private static LoggedRequest singlePutRequest() {
+        List<LoggedRequest> requests = findAll(putRequestedFor(anyUrl()));
+        assertThat(requests).hasSize(1);
+        return requests.get(0);
+    }
+
+    /**
+     * Decode a body in aws-chunked encoding, checking that every chunk starts with a header that matches the given pattern,
+     * whose first group, if any, is the size of the chunk in hexadecimal.
+     */
+    private static byte[] decodeChunks(byte[] encoded, Pattern chunkHeader) {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        String encodedString = new String(encoded, StandardCharsets.ISO_8859_1);
+        int offset = 0;
+        while (true) {
+            int headerEnd = encodedString.indexOf("\r\n", offset);
+            Matcher header = chunkHeader.matcher(encodedString.substring(offset, headerEnd));
+            assertThat(header.matches()).as("chunk header at offset " + offset).isTrue();
+            int chunkSize = Integer.parseInt(header.groupCount() > 0 ? header.group(1) : header.group(), 16);
+            if (chunkSize == 0) {
+                return decoded.toByteArray();
+            }
+            decoded.write(encoded, headerEnd + 2, chunkSize);
+            offset = headerEnd + 2 + chunkSize;
+            assertThat(encodedString.substring(offset, offset + 2)).isEqualTo("\r\n");
+            offset += 2;
+        }
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(1).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.s3.internal.handlers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.auth.signer.S3SignerExecutionAttribute.ENABLE_CHUNKED_ENCODING;
+import static software.amazon.awssdk.auth.signer.S3SignerExecutionAttribute.TRAILING_CHECKSUM_ALGORITHM;
 import static software.amazon.awssdk.core.interceptor.SdkExecutionAttribute.SERVICE_CONFIG;
 
 import java.net.URI;
@@ -24,6 +25,7 @@ import java.util.Optional;
 import org.junit.Test;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -118,6 +120,21 @@ public class EnableChunkedEncodingInterceptorTest {
         assertThat(executionAttributes.getAttribute(ENABLE_CHUNKED_ENCODING)).isEqualTo(!configValue);
     }
 
+    @Test
+    public void modifyRequest_trailingChecksumAlgorithmOnServiceConfig_IsSetForPutObjectRequest() {
+        S3Configuration config = S3Configuration.builder()
+                .trailingChecksumAlgorithm(Algorithm.CRC32C)
+                .build();
+
+        ExecutionAttributes putObjectAttributes = new ExecutionAttributes().putAttribute(SERVICE_CONFIG, config);
+        interceptor.modifyRequest(context(PutObjectRequest.builder().build()), putObjectAttributes);
+        ExecutionAttributes getObjectAttributes = new ExecutionAttributes().putAttribute(SERVICE_CONFIG, config);
+        interceptor.modifyRequest(context(GetObjectRequest.builder().build()), getObjectAttributes);
+
+        assertThat(putObjectAttributes.getAttribute(TRAILING_CHECKSUM_ALGORITHM)).isEqualTo(Algorithm.CRC32C);
+        assertThat(getObjectAttributes.getAttribute(TRAILING_CHECKSUM_ALGORITHM)).isNull();
+    }
+
     private Context.ModifyHttpRequest context(SdkRequest request) {
         return new Context.ModifyHttpRequest() {
             @Override
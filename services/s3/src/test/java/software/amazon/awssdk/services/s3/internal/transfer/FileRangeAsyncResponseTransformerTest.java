@@ -0,0 +1,251 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * Tests for {@link FileRangeAsyncResponseTransformer}.
+ */
+public class FileRangeAsyncResponseTransformerTest {
+    private static final int FILE_SIZE = 300;
+    private static final int POSITION = 100;
+    private static final int LENGTH = 100;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path file;
+    private AsynchronousFileChannel fileChannel;
+    private byte[] initialContent;
+    private byte[] range;
+
+    @Before
+    public void setup() throws IOException {
+        Random random = new Random(1);
+        initialContent = new byte[FILE_SIZE];
+        random.nextBytes(initialContent);
+        range = new byte[LENGTH];
+        random.nextBytes(range);
+
+        file = temporaryFolder.newFile().toPath();
+        Files.write(file, initialContent);
+        fileChannel = AsynchronousFileChannel.open(file, StandardOpenOption.WRITE);
+    }
+
+    @After
+    public void teardown() throws IOException {
+        fileChannel.close();
+    }
+
+    @Test
+    public void range_isWrittenAtItsPosition() throws Exception {
+        FileRangeAsyncResponseTransformer<GetObjectResponse> transformer = transformer();
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+
+        transformer.onResponse(response(206));
+        transformer.onStream(publisher(Arrays.copyOfRange(range, 0, 30), Arrays.copyOfRange(range, 30, LENGTH)));
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(Files.readAllBytes(file)).isEqualTo(expectedContent());
+    }
+
+    @Test
+    public void retriedRange_isWrittenAgainFromItsStart() throws Exception {
+        FileRangeAsyncResponseTransformer<GetObjectResponse> transformer = transformer();
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+
+        // The first attempt stalls after part of the range, and is abandoned for a retry of the whole range
+        CompletableFuture<Void> firstChunkWritten = new CompletableFuture<>();
+        transformer.onResponse(response(206));
+        transformer.onStream(stalledPublisher(new byte[LENGTH / 2], firstChunkWritten));
+        firstChunkWritten.get(10, TimeUnit.SECONDS);
+        transformer.onResponse(response(206));
+        transformer.onStream(publisher(range));
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(Files.readAllBytes(file)).isEqualTo(expectedContent());
+    }
+
+    @Test
+    public void responseLongerThanRange_failsWithoutWritingPastTheRange() throws Exception {
+        FileRangeAsyncResponseTransformer<GetObjectResponse> transformer = transformer();
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+
+        byte[] tooLong = Arrays.copyOf(range, LENGTH + 10);
+        transformer.onResponse(response(206));
+        transformer.onStream(publisher(Arrays.copyOf(tooLong, LENGTH), Arrays.copyOfRange(tooLong, LENGTH, tooLong.length)));
+
+        assertThat(failure(future)).isInstanceOf(SdkClientException.class)
+                                   .isNotInstanceOf(RetryableException.class);
+        assertThat(Files.readAllBytes(file)).isEqualTo(expectedContent());
+    }
+
+    @Test
+    public void responseShorterThanRange_failsWithRetryableException() throws Exception {
+        FileRangeAsyncResponseTransformer<GetObjectResponse> transformer = transformer();
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+
+        transformer.onResponse(response(206));
+        transformer.onStream(publisher(Arrays.copyOf(range, LENGTH - 1)));
+
+        assertThat(failure(future)).isInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    public void fullObjectResponse_failsWithoutWriting() throws Exception {
+        FileRangeAsyncResponseTransformer<GetObjectResponse> transformer = transformer();
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+
+        // A server that ignores the range returns the whole object
+        transformer.onResponse(response(200));
+        transformer.onStream(publisher(new byte[FILE_SIZE]));
+
+        assertThat(failure(future)).isInstanceOf(SdkClientException.class);
+        assertThat(Files.readAllBytes(file)).isEqualTo(initialContent);
+    }
+
+    @Test
+    public void publisherLendsReadOnlyBufferUntilOnNextReturns_rangeIsWritten() throws Exception {
+        FileRangeAsyncResponseTransformer<GetObjectResponse> transformer = transformer();
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+
+        ByteBuffer reused = ByteBuffer.allocate(LENGTH);
+        transformer.onResponse(response(206));
+        transformer.onStream(subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean sent = false;
+
+            @Override
+            public void request(long n) {
+                if (!sent) {
+                    sent = true;
+                    reused.put(range);
+                    reused.flip();
+                    // Like the Netty client with zero-copy response content enabled
+                    subscriber.onNext(reused.asReadOnlyBuffer());
+                    // The publisher owns the buffer again as soon as onNext returns
+                    reused.clear();
+                    reused.put(new byte[LENGTH]);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        }));
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(Files.readAllBytes(file)).isEqualTo(expectedContent());
+    }
+
+    private FileRangeAsyncResponseTransformer<GetObjectResponse> transformer() {
+        return new FileRangeAsyncResponseTransformer<>(fileChannel, POSITION, LENGTH);
+    }
+
+    private byte[] expectedContent() {
+        byte[] expected = initialContent.clone();
+        System.arraycopy(range, 0, expected, POSITION, LENGTH);
+        return expected;
+    }
+
+    private static GetObjectResponse response(int statusCode) {
+        return (GetObjectResponse) GetObjectResponse.builder()
+                                                    .sdkHttpResponse(SdkHttpResponse.builder().statusCode(statusCode).build())
+                                                    .build();
+    }
+
+    private static Throwable failure(CompletableFuture<?> future) {
+        Throwable failure = catchThrowable(() -> future.get(10, TimeUnit.SECONDS));
+        assertThat(failure).isInstanceOf(ExecutionException.class);
+        return failure.getCause();
+    }
+
+    /**
+     * Publishes the chunks one by one as they are requested, and then completes.
+     */
+    private static SdkPublisher<ByteBuffer> publisher(byte[]... chunks) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int next = 0;
+            private boolean cancelled = false;
+
+            @Override
+            public void request(long n) {
+                if (cancelled) {
+                    return;
+                }
+                if (next < chunks.length) {
+                    subscriber.onNext(ByteBuffer.wrap(chunks[next++]));
+                } else if (next++ == chunks.length) {
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
+    }
+
+    /**
+     * Publishes the chunk, and then nothing more. The future completes when the next chunk is requested, that is once the
+     * chunk has been written.
+     */
+    private static SdkPublisher<ByteBuffer> stalledPublisher(byte[] chunk, CompletableFuture<Void> written) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean sent = false;
+
+            @Override
+            public void request(long n) {
+                if (!sent) {
+                    sent = true;
+                    subscriber.onNext(ByteBuffer.wrap(chunk));
+                } else {
+                    written.complete(null);
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Publisher;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+public class S3TransferManagerDirectoryTest {
+    private static final int PART_SIZE = (int) S3TransferManager.MIN_PART_SIZE_IN_BYTES;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<PutObjectRequest> putObjectRequests = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<CompletableFuture<PutObjectResponse>> putObjectFutures = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<DirectoryTransferProgress> progress = Collections.synchronizedList(new ArrayList<>());
+
+    private S3AsyncClient s3;
+
+    @Before
+    public void setup() {
+        s3 = mock(S3AsyncClient.class);
+        when(s3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            putObjectRequests.add((PutObjectRequest) i.getArguments()[0]);
+            return CompletableFuture.completedFuture(PutObjectResponse.builder().build());
+        });
+        when(s3.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+            .thenAnswer(i -> new ListObjectsV2Publisher(s3, (ListObjectsV2Request) i.getArguments()[0]));
+    }
+
+    @Test
+    public void uploadDirectory_uploadsEveryFileUnderThePrefix() throws IOException {
+        Path source = temporaryFolder.newFolder().toPath();
+        write(source.resolve("a.txt"), "a");
+        write(source.resolve("sub").resolve("b.txt"), "bb");
+        write(source.resolve("sub").resolve("deeper").resolve("c.txt"), "ccc");
+
+        DirectoryTransferResult result = transferManager(10).uploadDirectory(b -> b.sourceDirectory(source)
+                                                                                   .bucket("bucket")
+                                                                                   .prefix("backup")
+                                                                                   .progressListener(progress::add))
+                                                            .join();
+
+        assertThat(putObjectRequests).extracting(PutObjectRequest::key)
+                                     .containsExactlyInAnyOrder("backup/a.txt", "backup/sub/b.txt", "backup/sub/deeper/c.txt");
+        assertThat(putObjectRequests).extracting(PutObjectRequest::bucket).containsOnly("bucket");
+        assertThat(result.filesTransferred()).isEqualTo(3);
+        assertThat(result.bytesTransferred()).isEqualTo(6);
+        assertThat(result.failedTransfers()).isEmpty();
+        assertThat(progress).extracting(DirectoryTransferProgress::filesTransferred).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    public void uploadDirectory_concurrentFilesAreBounded() throws IOException {
+        Path source = temporaryFolder.newFolder().toPath();
+        for (int i = 0; i < 5; i++) {
+            write(source.resolve(i + ".txt"), "file");
+        }
+        when(s3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            CompletableFuture<PutObjectResponse> future = new CompletableFuture<>();
+            putObjectFutures.add(future);
+            return future;
+        });
+
+        CompletableFuture<DirectoryTransferResult> result =
+            transferManager(2).uploadDirectory(b -> b.sourceDirectory(source).bucket("bucket"));
+
+        assertThat(putObjectFutures).hasSize(2);
+
+        putObjectFutures.get(0).complete(PutObjectResponse.builder().build());
+        assertThat(putObjectFutures).hasSize(3);
+
+        for (int i = 1; i < 5; i++) {
+            putObjectFutures.get(i).complete(PutObjectResponse.builder().build());
+        }
+        assertThat(result.join().filesTransferred()).isEqualTo(5);
+    }
+
+    @Test
+    public void uploadDirectory_fileFails_otherFilesAreUploaded() throws IOException {
+        Path source = temporaryFolder.newFolder().toPath();
+        write(source.resolve("good.txt"), "good");
+        write(source.resolve("bad.txt"), "bad");
+        SdkServiceException failure = SdkServiceException.builder().message("Access Denied").statusCode(403).build();
+        when(s3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            PutObjectRequest request = (PutObjectRequest) i.getArguments()[0];
+            return request.key().equals("bad.txt") ? CompletableFutureUtils.failedFuture(failure)
+                                                   : CompletableFuture.completedFuture(PutObjectResponse.builder().build());
+        });
+
+        DirectoryTransferResult result = transferManager(10).uploadDirectory(b -> b.sourceDirectory(source).bucket("bucket"))
+                                                            .join();
+
+        assertThat(result.filesTransferred()).isEqualTo(1);
+        assertThat(result.failedTransfers()).containsOnlyKeys("bad.txt");
+        assertThat(result.failedTransfers().get("bad.txt")).isSameAs(failure);
+    }
+
+    @Test
+    public void uploadDirectory_largeFile_isUploadedInParts() throws IOException {
+        Path source = temporaryFolder.newFolder().toPath();
+        Files.write(source.resolve("large.bin"), new byte[PART_SIZE + 1]);
+        when(s3.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload").build()));
+        when(s3.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("part").build()));
+        when(s3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        DirectoryTransferResult result = transferManager(10).uploadDirectory(b -> b.sourceDirectory(source).bucket("bucket"))
+                                                            .join();
+
+        ArgumentCaptor<CreateMultipartUploadRequest> create = ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3).createMultipartUpload(create.capture());
+        assertThat(create.getValue().key()).isEqualTo("large.bin");
+        assertThat(putObjectRequests).isEmpty();
+        assertThat(result.bytesTransferred()).isEqualTo(PART_SIZE + 1);
+    }
+
+    @Test
+    public void downloadDirectory_downloadsEveryListedObject() throws IOException {
+        stubListing(Arrays.asList(object("logs/a.txt"), object("logs/sub/")),
+                    Arrays.asList(object("logs/sub/b.txt")));
+        stubGetObject();
+        Path destination = temporaryFolder.newFolder().toPath();
+
+        DirectoryTransferResult result = transferManager(10).downloadDirectory(b -> b.bucket("bucket")
+                                                                                     .prefix("logs")
+                                                                                     .destinationDirectory(destination)
+                                                                                     .progressListener(progress::add))
+                                                            .join();
+
+        assertThat(new String(Files.readAllBytes(destination.resolve("a.txt")), StandardCharsets.UTF_8))
+            .isEqualTo("logs/a.txt");
+        assertThat(new String(Files.readAllBytes(destination.resolve("sub").resolve("b.txt")), StandardCharsets.UTF_8))
+            .isEqualTo("logs/sub/b.txt");
+        assertThat(result.filesTransferred()).isEqualTo(2);
+        assertThat(result.failedTransfers()).isEmpty();
+        assertThat(progress).hasSize(2);
+
+        ArgumentCaptor<ListObjectsV2Request> listRequests = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(s3, times(2)).listObjectsV2(listRequests.capture());
+        assertThat(listRequests.getAllValues()).extracting(ListObjectsV2Request::prefix).containsOnly("logs/");
+        assertThat(listRequests.getAllValues()).extracting(ListObjectsV2Request::continuationToken)
+                                               .containsExactly(null, "page2");
+    }
+
+    @Test
+    public void downloadDirectory_keyOutsideDestination_isReportedAsFailed() throws IOException {
+        stubListing(Collections.singletonList(object("logs/../../escaped.txt")));
+        stubGetObject();
+        Path destination = temporaryFolder.newFolder().toPath();
+
+        DirectoryTransferResult result = transferManager(10).downloadDirectory(b -> b.bucket("bucket")
+                                                                                     .prefix("logs/")
+                                                                                     .destinationDirectory(destination))
+                                                            .join();
+
+        assertThat(result.failedTransfers()).containsOnlyKeys("logs/../../escaped.txt");
+        verify(s3, never()).getObject(any(GetObjectRequest.class), any(Path.class));
+    }
+
+    private S3TransferManager transferManager(int maxConcurrentFileTransfers) {
+        return S3TransferManager.builder()
+                                .s3AsyncClient(s3)
+                                .minimumPartSizeInBytes((long) PART_SIZE)
+                                .maxConcurrentFileTransfers(maxConcurrentFileTransfers)
+                                .build();
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static S3Object object(String key) {
+        return S3Object.builder().key(key).size((long) key.length()).build();
+    }
+
+    @SafeVarargs
+    private final void stubListing(List<S3Object>... pages) {
+        when(s3.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(i -> {
+            ListObjectsV2Request request = (ListObjectsV2Request) i.getArguments()[0];
+            int page = request.continuationToken() == null ? 0 : Integer.parseInt(request.continuationToken().substring(4)) - 1;
+            boolean truncated = page + 1 < pages.length;
+            return CompletableFuture.completedFuture(ListObjectsV2Response.builder()
+                                                                          .contents(pages[page])
+                                                                          .isTruncated(truncated)
+                                                                          .nextContinuationToken(truncated ? "page" + (page + 2)
+                                                                                                           : null)
+                                                                          .build());
+        });
+    }
+
+    /**
+     * Write the key of the requested object as its content.
+     */
+    private void stubGetObject() {
+        when(s3.getObject(any(GetObjectRequest.class), any(Path.class))).thenAnswer(i -> {
+            GetObjectRequest request = (GetObjectRequest) i.getArguments()[0];
+            Files.write((Path) i.getArguments()[1], request.key().getBytes(StandardCharsets.UTF_8));
+            return CompletableFuture.completedFuture(GetObjectResponse.builder().build());
+        });
+    }
+}
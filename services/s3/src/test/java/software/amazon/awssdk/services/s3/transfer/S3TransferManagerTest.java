@@ -0,0 +1,357 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.transfer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.RetryableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class S3TransferManagerTest {
+    private static final int PART_SIZE = (int) S3TransferManager.MIN_PART_SIZE_IN_BYTES;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<CompletableFuture<UploadPartResponse>> partFutures = new ArrayList<>();
+
+    private final List<GetObjectRequest> getObjectRequests = Collections.synchronizedList(new ArrayList<>());
+
+    private final Set<String> failedRanges = Collections.synchronizedSet(new HashSet<>());
+
+    private S3AsyncClient s3;
+
+    @Before
+    public void setup() {
+        s3 = mock(S3AsyncClient.class);
+        when(s3.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload").build()));
+        when(s3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().eTag("object").build()));
+        when(s3.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+        when(s3.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            UploadPartRequest request = (UploadPartRequest) i.getArguments()[0];
+            return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("part" + request.partNumber()).build());
+        });
+    }
+
+    @Test
+    public void upload_splitsBodyIntoPartsAndCompletesUpload() {
+        CompleteMultipartUploadResponse response = transferManager(Long.MAX_VALUE)
+            .upload(b -> b.bucket("bucket").key("key"), AsyncRequestBody.fromBytes(new byte[2 * PART_SIZE + 100]))
+            .join();
+
+        assertThat(response.eTag()).isEqualTo("object");
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3, times(3)).uploadPart(parts.capture(), any(AsyncRequestBody.class));
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::partNumber).containsExactly(1, 2, 3);
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::contentLength)
+                                        .containsExactly((long) PART_SIZE, (long) PART_SIZE, 100L);
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::uploadId).containsOnly("upload");
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().uploadId()).isEqualTo("upload");
+        assertThat(complete.getValue().multipartUpload().parts()).extracting(CompletedPart::eTag)
+                                                                 .containsExactly("part1", "part2", "part3");
+    }
+
+    @Test
+    public void upload_emptyBody_uploadsOneEmptyPart() {
+        transferManager(Long.MAX_VALUE).upload(b -> b.bucket("bucket").key("key"), AsyncRequestBody.empty()).join();
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3).uploadPart(parts.capture(), any(AsyncRequestBody.class));
+        assertThat(parts.getValue().contentLength()).isZero();
+        verify(s3).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    public void upload_inFlightBytesAreBounded() {
+        stubPendingParts();
+
+        CompletableFuture<CompleteMultipartUploadResponse> result =
+            transferManager(2L * PART_SIZE).upload(b -> b.bucket("bucket").key("key"),
+                                                   AsyncRequestBody.fromBytes(new byte[4 * PART_SIZE]));
+
+        assertThat(partFutures).hasSize(2);
+
+        partFutures.get(0).complete(UploadPartResponse.builder().eTag("part1").build());
+        assertThat(partFutures).hasSize(3);
+
+        for (int i = 1; i < 4; i++) {
+            partFutures.get(i).complete(UploadPartResponse.builder().eTag("part" + (i + 1)).build());
+        }
+        assertThat(partFutures).hasSize(4);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    public void upload_partFailsWithRetryableError_partIsRetried() {
+        stubPendingParts();
+
+        CompletableFuture<CompleteMultipartUploadResponse> result =
+            transferManager(Long.MAX_VALUE).upload(b -> b.bucket("bucket").key("key"), AsyncRequestBody.fromBytes(new byte[10]));
+
+        partFutures.get(0).completeExceptionally(RetryableException.create("boom"));
+        partFutures.get(1).complete(UploadPartResponse.builder().eTag("part1").build());
+
+        assertThat(result.join()).isNotNull();
+        verify(s3, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        verify(s3, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    public void upload_partFailsWithNonRetryableError_uploadIsAborted() {
+        SdkServiceException exception = SdkServiceException.builder().statusCode(400).build();
+        doReturn(CompletableFutureUtils.failedFuture(exception))
+            .when(s3).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        CompletableFuture<CompleteMultipartUploadResponse> result =
+            transferManager(Long.MAX_VALUE).upload(b -> b.bucket("bucket").key("key"), AsyncRequestBody.fromBytes(new byte[10]));
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(SdkServiceException.class);
+        verify(s3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    public void upload_cancelled_uploadIsAborted() {
+        stubPendingParts();
+
+        CompletableFuture<CompleteMultipartUploadResponse> result =
+            transferManager(Long.MAX_VALUE).upload(b -> b.bucket("bucket").key("key"), AsyncRequestBody.fromBytes(new byte[10]));
+        result.cancel(true);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().uploadId()).isEqualTo("upload");
+    }
+
+    @Test
+    public void download_writesRangesAtTheirOffsets() throws IOException {
+        byte[] content = stubObject(2 * PART_SIZE + 100);
+        Path destination = temporaryFolder.getRoot().toPath().resolve("object");
+
+        HeadObjectResponse response = transferManager(Long.MAX_VALUE)
+            .download(b -> b.bucket("bucket").key("key"), destination)
+            .join();
+
+        assertThat(response.eTag()).isEqualTo("etag");
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(getObjectRequests).extracting(GetObjectRequest::range)
+                                     .containsExactlyInAnyOrder("bytes=0-" + (PART_SIZE - 1),
+                                                                "bytes=" + PART_SIZE + "-" + (2 * PART_SIZE - 1),
+                                                                "bytes=" + 2 * PART_SIZE + "-" + (2 * PART_SIZE + 99));
+        assertThat(getObjectRequests).extracting(GetObjectRequest::ifMatch).containsOnly("etag");
+    }
+
+    @Test
+    public void download_rangeFails_downloadCanBeResumed() throws IOException {
+        byte[] content = stubObject(2 * PART_SIZE + 100);
+        Path destination = temporaryFolder.getRoot().toPath().resolve("object");
+        failedRanges.add("bytes=" + PART_SIZE + "-" + (2 * PART_SIZE - 1));
+
+        CompletableFuture<HeadObjectResponse> result = transferManager(Long.MAX_VALUE)
+            .download(b -> b.bucket("bucket").key("key"), destination);
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IncompleteDownloadException.class);
+        ResumableDownload resumableDownload = ((IncompleteDownloadException) catchThrowable(result::join).getCause())
+            .resumableDownload();
+        assertThat(resumableDownload.completedParts()).containsExactly(1, 3);
+        assertThat(resumableDownload.bytesTransferred()).isEqualTo(PART_SIZE + 100);
+
+        getObjectRequests.clear();
+        transferManager(Long.MAX_VALUE).resumeDownload(resumableDownload).join();
+
+        assertThat(getObjectRequests).extracting(GetObjectRequest::range)
+                                     .containsExactly("bytes=" + PART_SIZE + "-" + (2 * PART_SIZE - 1));
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+    }
+
+    @Test
+    public void download_contentMatchesMd5Etag_succeeds() throws IOException {
+        byte[] content = randomBytes(2 * PART_SIZE + 100);
+        String eTag = "\"" + BinaryUtils.toHex(Md5Utils.computeMD5Hash(content)) + "\"";
+        stubObject(content, eTag);
+        Path destination = temporaryFolder.getRoot().toPath().resolve("object");
+
+        HeadObjectResponse response = transferManager(Long.MAX_VALUE)
+            .download(b -> b.bucket("bucket").key("key"), destination)
+            .join();
+
+        assertThat(response.eTag()).isEqualTo(eTag);
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+    }
+
+    @Test
+    public void download_contentDoesNotMatchMd5Etag_failsWithNoCompletedParts() {
+        byte[] content = randomBytes(2 * PART_SIZE + 100);
+        stubObject(content, BinaryUtils.toHex(Md5Utils.computeMD5Hash(randomBytes(10))));
+
+        CompletableFuture<HeadObjectResponse> result = transferManager(Long.MAX_VALUE)
+            .download(b -> b.bucket("bucket").key("key"), temporaryFolder.getRoot().toPath().resolve("object"));
+
+        Throwable failure = catchThrowable(result::join).getCause();
+        assertThat(failure).isInstanceOf(IncompleteDownloadException.class);
+        assertThat(failure.getCause()).isInstanceOf(SdkClientException.class).hasMessageContaining("does not match its ETag");
+        assertThat(((IncompleteDownloadException) failure).resumableDownload().completedParts()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void download_cancelled_rangeRequestsInFlightAreCancelled() {
+        stubObject(2 * PART_SIZE + 100);
+        List<CompletableFuture<GetObjectResponse>> rangeFutures = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(i -> {
+            CompletableFuture<GetObjectResponse> future = new CompletableFuture<>();
+            rangeFutures.add(future);
+            return future;
+        }).when(s3).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+
+        CompletableFuture<HeadObjectResponse> result = transferManager(Long.MAX_VALUE)
+            .download(b -> b.bucket("bucket").key("key"), temporaryFolder.getRoot().toPath().resolve("object"));
+        assertThat(rangeFutures).hasSize(3);
+
+        result.cancel(true);
+
+        assertThat(rangeFutures).allMatch(CompletableFuture::isCancelled);
+    }
+
+    @Test
+    public void download_withRange_throwsException() {
+        assertThatThrownBy(() -> transferManager(Long.MAX_VALUE).download(b -> b.bucket("bucket").key("key").range("bytes=0-1"),
+                                                                          temporaryFolder.getRoot().toPath().resolve("object")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void minimumPartSizeBelowS3Minimum_throwsException() {
+        assertThatThrownBy(() -> S3TransferManager.builder().s3AsyncClient(s3).minimumPartSizeInBytes(1024L).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private S3TransferManager transferManager(long maxInFlightBytes) {
+        return S3TransferManager.builder()
+                                .s3AsyncClient(s3)
+                                .minimumPartSizeInBytes((long) PART_SIZE)
+                                .maxInFlightBytes(maxInFlightBytes)
+                                .build();
+    }
+
+    /**
+     * Make the client return an object of the given size with random content for HEAD and ranged GET requests. Requests for
+     * the ranges in {@link #failedRanges} fail once with a non-retryable error.
+     */
+    private byte[] stubObject(int size) {
+        byte[] content = randomBytes(size);
+        stubObject(content, "etag");
+        return content;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubObject(byte[] content, String eTag) {
+        when(s3.headObject(any(HeadObjectRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder()
+                                                                            .eTag(eTag)
+                                                                            .contentLength((long) content.length)
+                                                                            .build()));
+        doAnswer(i -> {
+            GetObjectRequest request = (GetObjectRequest) i.getArguments()[0];
+            AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer =
+                (AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>) i.getArguments()[1];
+            getObjectRequests.add(request);
+            if (failedRanges.remove(request.range())) {
+                return CompletableFutureUtils.failedFuture(SdkServiceException.builder().statusCode(400).build());
+            }
+
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            CompletableFuture<GetObjectResponse> future = transformer.prepare();
+            transformer.onResponse((GetObjectResponse) GetObjectResponse.builder()
+                                                                 .sdkHttpResponse(SdkHttpResponse.builder().statusCode(206).build())
+                                                                 .build());
+            transformer.onStream(AsyncRequestBody.fromBytes(Arrays.copyOfRange(content, Integer.parseInt(range[0]),
+                                                                               Integer.parseInt(range[1]) + 1)));
+            return future;
+        }).when(s3).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Make every part upload return a future that is only completed by the test.
+     */
+    private void stubPendingParts() {
+        doAnswer(i -> {
+            CompletableFuture<UploadPartResponse> future = new CompletableFuture<>();
+            partFutures.add(future);
+            return future;
+        }).when(s3).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+    }
+}
@@ -16,8 +16,10 @@
 package software.amazon.awssdk.benchmark.apicall.httpclient.sync;
 
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.CONCURRENT_CALLS;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.DEFAULT_JDK_SSL_PROVIDER;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.awaitCountdownLatchUninterruptibly;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.countDownUponCompletion;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.getSslContextProvider;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
 
 import java.util.Collection;
@@ -33,6 +35,7 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -52,6 +55,9 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 
 /**
  * Benchmarking for running with different http clients.
+ *
+ * <p>To compare the JDK's TLS implementation with an OpenSSL-backed one, add a provider such as Conscrypt to the classpath
+ * and run with {@code -p sslContextProviderValue=org.conscrypt.OpenSSLProvider}.
  */
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -65,11 +71,15 @@ public class ApacheHttpClientBenchmark implements SdkHttpClientBenchmark {
     private ProtocolRestJsonClient client;
     private ExecutorService executorService;
 
+    @Param({DEFAULT_JDK_SSL_PROVIDER})
+    private String sslContextProviderValue;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
         mockServer.start();
         sdkHttpClient = ApacheHttpClient.builder()
+                                        .sslContextProvider(getSslContextProvider(sslContextProviderValue))
                                         .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonClient.builder()
                                        .endpointOverride(mockServer.getHttpsUri())
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.tls;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.DEFAULT_JDK_SSL_PROVIDER;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.OPEN_SSL_PROVIDER;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.getSslProvider;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.util.ReferenceCountUtil;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.StackProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the CPU cost of a TLS handshake with the JDK and OpenSSL providers, which is what a client pays for every new
+ * connection. The client and server engines exchange handshake messages through memory, so the network is not measured.
+ *
+ * <p>When {@code resumeSession} is true, the client engines are created for the same peer so that every handshake after the
+ * first can resume the cached session. The OpenSSL provider does not cache client sessions, so it always does a full
+ * handshake.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2) // To reduce difference between each run
+public class TlsHandshakeBenchmark {
+    private static final int MAX_HANDSHAKE_ROUNDS = 100;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
+    private String sslProviderValue;
+
+    @Param({"false", "true"})
+    private boolean resumeSession;
+
+    private SelfSignedCertificate certificate;
+    private SslContext clientContext;
+    private SslContext serverContext;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        SslProvider sslProvider = getSslProvider(sslProviderValue);
+        certificate = new SelfSignedCertificate();
+        clientContext = SslContextBuilder.forClient()
+                                         .sslProvider(sslProvider)
+                                         .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                                         .build();
+        serverContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                                         .sslProvider(sslProvider)
+                                         .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReferenceCountUtil.release(clientContext);
+        ReferenceCountUtil.release(serverContext);
+        certificate.delete();
+    }
+
+    @Benchmark
+    public void handshake(Blackhole blackhole) throws SSLException {
+        SSLEngine client = resumeSession ? clientContext.newEngine(ByteBufAllocator.DEFAULT, "localhost", 443)
+                                         : clientContext.newEngine(ByteBufAllocator.DEFAULT);
+        SSLEngine server = serverContext.newEngine(ByteBufAllocator.DEFAULT);
+        try {
+            handshake(client, server);
+            blackhole.consume(client.getSession());
+        } finally {
+            ReferenceCountUtil.release(client);
+            ReferenceCountUtil.release(server);
+        }
+    }
+
+    /**
+     * Exchange messages between the engines until neither has handshake messages left to send, including any session
+     * tickets the server sends after the handshake has finished.
+     */
+    private static void handshake(SSLEngine client, SSLEngine server) throws SSLException {
+        ByteBuffer clientOut = ByteBuffer.allocate(client.getSession().getPacketBufferSize());
+        ByteBuffer serverOut = ByteBuffer.allocate(server.getSession().getPacketBufferSize());
+        ByteBuffer clientIn = ByteBuffer.allocate(client.getSession().getApplicationBufferSize());
+        ByteBuffer serverIn = ByteBuffer.allocate(server.getSession().getApplicationBufferSize());
+
+        client.beginHandshake();
+        server.beginHandshake();
+        for (int round = 0; round < MAX_HANDSHAKE_ROUNDS; round++) {
+            client.wrap(EMPTY, clientOut);
+            runDelegatedTasks(client);
+            server.wrap(EMPTY, serverOut);
+            runDelegatedTasks(server);
+
+            clientOut.flip();
+            serverOut.flip();
+            server.unwrap(clientOut, serverIn);
+            runDelegatedTasks(server);
+            client.unwrap(serverOut, clientIn);
+            runDelegatedTasks(client);
+            clientOut.compact();
+            serverOut.compact();
+
+            if (isDone(client) && isDone(server) && clientOut.position() == 0 && serverOut.position() == 0) {
+                return;
+            }
+        }
+        throw new IllegalStateException("The handshake did not complete within " + MAX_HANDSHAKE_ROUNDS + " rounds.");
+    }
+
+    private static boolean isDone(SSLEngine engine) {
+        HandshakeStatus status = engine.getHandshakeStatus();
+        return status == HandshakeStatus.NOT_HANDSHAKING || status == HandshakeStatus.FINISHED;
+    }
+
+    private static void runDelegatedTasks(SSLEngine engine) {
+        for (Runnable task = engine.getDelegatedTask(); task != null; task = engine.getDelegatedTask()) {
+            task.run();
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(TlsHandshakeBenchmark.class.getSimpleName())
+            .addProfiler(StackProfiler.class)
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
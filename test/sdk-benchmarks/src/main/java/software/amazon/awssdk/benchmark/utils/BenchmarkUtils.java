@@ -23,6 +23,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.security.Provider;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -68,6 +69,22 @@ public final class BenchmarkUtils {
         }
     }
 
+    /**
+     * Returns the JCA provider of the {@code SSLContext} for synchronous clients, or null to use the JDK's. Any other value is
+     * the class name of a {@link Provider} on the classpath, such as {@code org.conscrypt.OpenSSLProvider}.
+     */
+    public static Provider getSslContextProvider(String sslContextProviderValue) {
+        if (DEFAULT_JDK_SSL_PROVIDER.equals(sslContextProviderValue)) {
+            return null;
+        }
+
+        try {
+            return (Provider) Class.forName(sslContextProviderValue).newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to create the SSLContext provider " + sslContextProviderValue, e);
+        }
+    }
+
     public static void awaitCountdownLatchUninterruptibly(CountDownLatch countDownLatch, int timeout, TimeUnit unit) {
         try {
             countDownLatch.await(timeout, unit);
@@ -34,8 +34,10 @@ public class FilteringSubscriber<T> extends DelegatingSubscriber<T, T> {
 
     @Override
     public void onSubscribe(Subscription subscription) {
-        super.onSubscribe(subscription);
+        // Keep the subscription before passing it on, as the subscriber may request events that are then filtered out
+        // before onSubscribe returns.
         this.subscription = subscription;
+        super.onSubscribe(subscription);
     }
 
     @Override
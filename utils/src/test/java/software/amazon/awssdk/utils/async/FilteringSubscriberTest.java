@@ -0,0 +1,114 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class FilteringSubscriberTest {
+
+    @Test
+    public void itemsFilteredOutDuringOnSubscribe_areReplacedByTheNextOnes() {
+        RecordingSubscriber downstream = new RecordingSubscriber();
+
+        // The publisher delivers items synchronously from request, so the first ones are filtered out while the downstream
+        // subscriber is still in onSubscribe. Requesting replacements for them must not fail, or the stream stalls.
+        new SynchronousPublisher(10).subscribe(new FilteringSubscriber<>(downstream, i -> i % 3 == 0));
+
+        assertThat(downstream.items).containsExactly(3, 6, 9);
+        assertThat(downstream.error).isNull();
+        assertThat(downstream.completed).isTrue();
+    }
+
+    /**
+     * Publishes the integers from 1 to the given count, from within the request call, and then completes.
+     */
+    private static final class SynchronousPublisher {
+        private final int count;
+
+        private SynchronousPublisher(int count) {
+            this.count = count;
+        }
+
+        private void subscribe(Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private int next = 1;
+                private long demand;
+                private boolean emitting;
+                private boolean completed;
+
+                @Override
+                public void request(long n) {
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next <= count) {
+                        demand--;
+                        subscriber.onNext(next++);
+                    }
+                    if (next > count && !completed) {
+                        completed = true;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    /**
+     * Requests one item at a time, asking for the first one in onSubscribe.
+     */
+    private static final class RecordingSubscriber implements Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}